@@ -0,0 +1,110 @@
+package main;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * AttendanceAggregate를 행 단위로 고친 합계가 전체를 다시 만든 합계와 같은지 임의의 편집 순서로 확인합니다.
+ * 순서마다 빈 집계에서 시작해 행 추가·삭제·수정(형식 오류 행 포함)을 섞어 적용하고, 매 편집 뒤에
+ * AttendanceAggregate.of(현재 행 목록)와 모든 합계를 비교합니다.
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar main.AttendanceAggregateCheck [순서 수=200000] [시드=1]
+ * </pre>
+ * 다른 합계가 하나라도 있으면 종료 코드 1로 끝납니다.
+ */
+public final class AttendanceAggregateCheck {
+
+    private static final int MAX_EDITS = 40;
+    private static final AttendancePage.WorkStatus[] STATUSES = AttendancePage.WorkStatus.values();
+
+    private AttendanceAggregateCheck() {
+    }
+
+    public static void main(String[] args) {
+        int sequences = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        Random random = new Random(seed);
+        AppSettings settings = new AppSettings(Collections.emptyMap());
+
+        long edits = 0;
+        int mismatches = 0;
+        for (int s = 0; s < sequences; s++) {
+            YearMonth period = YearMonth.of(2024 + random.nextInt(3), 1 + random.nextInt(12));
+            Set<LocalDate> holidays = HolidayCalendarService.holidaysOf(period.getYear());
+            AttendanceAggregate incremental = new AttendanceAggregate(holidays, settings);
+            List<WorkRecord> rows = new ArrayList<>();
+            int editCount = 1 + random.nextInt(MAX_EDITS);
+            for (int e = 0; e < editCount; e++) {
+                int operation = rows.isEmpty() ? 0 : random.nextInt(3);
+                if (operation == 0) {
+                    int row = random.nextInt(rows.size() + 1);
+                    WorkRecord record = randomRecord(random, period, holidays);
+                    rows.add(row, record);
+                    incremental.insert(row, record);
+                } else if (operation == 1) {
+                    int row = random.nextInt(rows.size());
+                    rows.remove(row);
+                    incremental.remove(row);
+                } else {
+                    int row = random.nextInt(rows.size());
+                    WorkRecord record = randomRecord(random, period, holidays);
+                    rows.set(row, record);
+                    incremental.set(row, record);
+                }
+                edits++;
+                String difference = compare(incremental, AttendanceAggregate.of(rows, holidays, settings));
+                if (difference != null) {
+                    mismatches++;
+                    if (mismatches <= 10) {
+                        System.out.printf("순서 %d, 편집 %d: %s%n", s, e, difference);
+                    }
+                    break;
+                }
+            }
+        }
+        System.out.printf("편집 순서 %,d개 (편집 %,d번, 시드 %d): 합계가 다른 순서 %,d개%n", sequences, edits, seed, mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    // 형식 오류 행(null), 결근·무급휴일, 자정을 넘는 근무를 섞습니다.
+    private static WorkRecord randomRecord(Random random, YearMonth period, Set<LocalDate> holidays) {
+        if (random.nextInt(20) == 0) return null;
+        LocalDate date = period.atDay(1 + random.nextInt(period.lengthOfMonth()));
+        AttendancePage.WorkStatus status = STATUSES[random.nextInt(STATUSES.length)];
+        boolean restDay = date.getDayOfWeek().getValue() >= 6 || holidays.contains(date);
+        if (status == AttendancePage.WorkStatus.UNPAID_HOLIDAY || status == AttendancePage.WorkStatus.ABSENCE) {
+            return new WorkRecord(date, null, null, status, restDay, 0);
+        }
+        LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+        LocalTime end = start.plusMinutes(random.nextInt(16 * 60));
+        return new WorkRecord(date, start, end, status, restDay, WorkRecord.calculateNetWorkMinutes(start, end));
+    }
+
+    private static String compare(AttendanceAggregate actual, AttendanceAggregate expected) {
+        StringBuilder diff = new StringBuilder();
+        appendIfDifferent(diff, "부족 분", actual.getTotalShortfallMinutes(), expected.getTotalShortfallMinutes());
+        appendIfDifferent(diff, "연장 분", actual.getTotalOvertimeMinutes(), expected.getTotalOvertimeMinutes());
+        appendIfDifferent(diff, "휴일 분", actual.getTotalHolidayMinutes(), expected.getTotalHolidayMinutes());
+        appendIfDifferent(diff, "야간 분", actual.getTotalNightMinutes(), expected.getTotalNightMinutes());
+        appendIfDifferent(diff, "결근 주", actual.getWeeksWithAbsence(), expected.getWeeksWithAbsence());
+        appendIfDifferent(diff, "무급휴일", actual.getUnpaidHolidayDays(), expected.getUnpaidHolidayDays());
+        appendIfDifferent(diff, "결근일", actual.getAbsenceDays(), expected.getAbsenceDays());
+        appendIfDifferent(diff, "첫 오류 행", actual.firstInvalidRow(), expected.firstInvalidRow());
+        return diff.length() > 0 ? diff.toString() : null;
+    }
+
+    private static void appendIfDifferent(StringBuilder diff, String name, long actual, long expected) {
+        if (actual == expected) return;
+        if (diff.length() > 0) diff.append(", ");
+        diff.append(String.format("%s %,d ≠ %,d", name, actual, expected));
+    }
+}
@@ -0,0 +1,72 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 벤치마크용 임시 H2 파일 DB입니다. SyntheticDataGenerator로 직원 수만큼 직원·계약 급여·PERIOD 한 달치 확정 급여·
+ * LEAVE_YEAR 연차 발생과 사용 기록을 채우므로, 가상 데이터 도구로 만든 DB와 같은 모양의 데이터입니다.
+ * 근무 기록은 만들지 않습니다. 직원 ID는 1부터 employeeCount까지입니다. close()하면 DB 파일을 지웁니다.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    public static final YearMonth PERIOD = YearMonth.of(2025, 3);
+    public static final int LEAVE_YEAR = PERIOD.getYear();
+    private static final long SEED = 42L;
+
+    private final Path directory;
+    private final PayrollManager payrollManager;
+    private final int employeeCount;
+
+    private BenchmarkDatabase(Path directory, PayrollManager payrollManager, int employeeCount) {
+        this.directory = directory;
+        this.payrollManager = payrollManager;
+        this.employeeCount = employeeCount;
+    }
+
+    public static BenchmarkDatabase create(int employeeCount) throws IOException, SQLException {
+        Path directory = Files.createTempDirectory("hr-bench-");
+        SyntheticDataGenerator.Options options = new SyntheticDataGenerator.Options();
+        options.database = directory.resolve("payroll_hr_db");
+        options.employees = employeeCount;
+        options.months = 1;
+        options.workMonths = 0;
+        options.lastMonth = PERIOD;
+        options.seed = SEED;
+        PayrollManager payrollManager = new PayrollManager("jdbc:h2:file:" + options.database, "sa", "");
+        BenchmarkDatabase database = new BenchmarkDatabase(directory, payrollManager, employeeCount);
+        if (!new SyntheticDataGenerator(payrollManager, options).generate()) {
+            database.close();
+            throw new SQLException("벤치마크 DB를 채우지 못했습니다: " + options.database);
+        }
+        return database;
+    }
+
+    public PayrollManager getPayrollManager() {
+        return payrollManager;
+    }
+
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Connection conn = payrollManager.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        payrollManager.shutdown();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * benchmarks.jar 진입점입니다. JMH 명령줄 옵션을 그대로 넘기되, 호출당 할당량(gc.alloc.rate.norm)을
+ * 함께 보도록 -prof 옵션이 없으면 gc 프로파일러를 붙입니다.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-prof")) {
+            arguments.add("-prof");
+            arguments.add("gc");
+        }
+        org.openjdk.jmh.Main.main(arguments.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,53 @@
+package main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 4대보험·소득세 공제 계산 처리량입니다.
+ * 월 급여는 국민연금 기준소득월액 하한 근처, 일반 구간, 상한과 간이세액표 상단을 넘는 구간을 고릅니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DeductionCalculatorBenchmark {
+
+    private static final BigDecimal INDUSTRIAL_ACCIDENT_RATE = new BigDecimal("0.0147");
+
+    @Param({"420000", "3150000", "12000000"})
+    public String monthlyGrossSalary;
+
+    @Param({"1", "3"})
+    public int dependents;
+
+    private BigDecimal grossSalary;
+    private InsuranceRateSchedule rateSchedule;
+
+    @Setup
+    public void setUp() {
+        grossSalary = new BigDecimal(monthlyGrossSalary);
+        rateSchedule = InsuranceRateSchedule.defaults();
+        // 간이세액표는 처음 쓸 때 읽으므로 측정 전에 한 번 불러 둡니다.
+        DeductionCalculator.calculate(grossSalary, INDUSTRIAL_ACCIDENT_RATE, dependents, MonthScenario.PERIOD, rateSchedule);
+    }
+
+    @Benchmark
+    public DeductionResult calculate() {
+        return DeductionCalculator.calculate(grossSalary, INDUSTRIAL_ACCIDENT_RATE, dependents, MonthScenario.PERIOD, rateSchedule);
+    }
+}
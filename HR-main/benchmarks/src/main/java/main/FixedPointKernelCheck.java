@@ -0,0 +1,131 @@
+package main;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * FixedPointSalaryKernel과 SalaryCalculatorService(BigDecimal)의 결과를 임의 사례로 비교합니다.
+ * 설정(가산 수당 적용 여부, 기준 시간, 야간 시간대), 월 중 입사, 모든 근무 상태, 자정을 넘는 근무,
+ * 지급률과 추가 상여를 섞어 만들고, 항목별 원 단위 금액이 다른 사례를 셉니다.
+ * 0.5원 경계 근처로 표시된(isNearRoundingBoundary) 사례는 BigDecimal로 다시 계산하는 대상이므로 따로 셉니다.
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar main.FixedPointKernelCheck [사례 수=200000] [시드=1]
+ * </pre>
+ * 경계 표시 없이 원 단위가 다른 사례가 있으면 종료 코드 1로 끝납니다.
+ */
+public final class FixedPointKernelCheck {
+
+    private static final AttendancePage.WorkStatus[] STATUSES = AttendancePage.WorkStatus.values();
+
+    private FixedPointKernelCheck() {
+    }
+
+    public static void main(String[] args) {
+        int cases = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        Random random = new Random(seed);
+        SalaryCalculatorService bigDecimalService = new SalaryCalculatorService(null);
+
+        int flagged = 0;
+        int flaggedMismatches = 0;
+        int unflaggedMismatches = 0;
+        FixedPointSalaryKernel.Result fixed = new FixedPointSalaryKernel.Result();
+        for (int i = 0; i < cases; i++) {
+            AppSettings settings = randomSettings(random);
+            YearMonth period = YearMonth.of(2024 + random.nextInt(3), 1 + random.nextInt(12));
+            Set<LocalDate> holidays = HolidayCalendarService.holidaysOf(period.getYear());
+            Employee employee = randomEmployee(random, period);
+            Payroll contract = randomContract(random, employee);
+            List<WorkRecord> records = randomRecords(random, period, holidays);
+            BigDecimal percentage = BigDecimal.valueOf(random.nextInt(15_001), 2); // 0.00 ~ 150.00
+            BigDecimal adHocBonus = BigDecimal.valueOf(random.nextInt(200_000_000), 2); // 0.00 ~ 1,999,999.99원
+            boolean adHocApplied = random.nextBoolean();
+
+            CalculationResult expected = bigDecimalService.calculateSalary(records, contract, employee, period,
+                    percentage, adHocBonus, adHocApplied, holidays, settings);
+            new FixedPointSalaryKernel(settings).calculate(records, new FixedPointSalaryKernel.ContractTerms(contract, employee),
+                    period, FixedPointSalaryKernel.toUnits(percentage), FixedPointSalaryKernel.toUnits(adHocBonus),
+                    adHocApplied, holidays, fixed);
+
+            String difference = FixedPointSalaryKernel.compare(expected, fixed);
+            if (fixed.isNearRoundingBoundary()) {
+                flagged++;
+                if (difference != null) flaggedMismatches++;
+            } else if (difference != null) {
+                unflaggedMismatches++;
+                if (unflaggedMismatches <= 10) {
+                    System.out.printf("사례 %d (%s, 지급률 %s%%): %s%n", i, period, percentage.toPlainString(), difference);
+                }
+            }
+        }
+        System.out.printf("사례 %,d건 (시드 %d): 경계 표시 %,d건 (그중 원 단위 차이 %,d건), 경계 표시 없이 원 단위 차이 %,d건%n",
+                cases, seed, flagged, flaggedMismatches, unflaggedMismatches);
+        if (unflaggedMismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static AppSettings randomSettings(Random random) {
+        Map<String, String> values = new HashMap<>();
+        values.put("standardWorkHours", random.nextBoolean() ? "209.0" : String.valueOf(160 + random.nextInt(60)));
+        values.put("fixedOvertimeHours", String.valueOf(random.nextInt(30)));
+        values.put("nominalFixedOvertimeHours", random.nextInt(4) == 0 ? "0" : String.valueOf(random.nextInt(20)) + ".5");
+        values.put("applyOvertime", String.valueOf(random.nextInt(4) != 0));
+        values.put("applyNightWork", String.valueOf(random.nextInt(4) != 0));
+        values.put("applyHolidayWork", String.valueOf(random.nextInt(4) != 0));
+        if (random.nextBoolean()) {
+            values.put("nightWorkStart", String.format("%02d:%02d", 18 + random.nextInt(6), random.nextInt(2) * 30));
+            values.put("nightWorkEnd", String.format("%02d:00", 4 + random.nextInt(4)));
+        }
+        return new AppSettings(values);
+    }
+
+    private static Employee randomEmployee(Random random, YearMonth period) {
+        LocalDate hireDate = random.nextInt(3) == 0
+                ? period.atDay(1 + random.nextInt(period.lengthOfMonth()))
+                : LocalDate.of(2010, 1, 1).plusDays(random.nextInt(4000));
+        BigDecimal annualSalary = BigDecimal.valueOf(24_000_000L + random.nextInt(120_000_000));
+        return new Employee(1, "직원", "900101-1234567", "010-0000-0000", annualSalary, "-", hireDate, null, "-", "-", "-");
+    }
+
+    private static Payroll randomContract(Random random, Employee employee) {
+        return new Payroll(employee, won(random, 1_500_000, 9_000_000), won(random, 0, 1_000_000), won(random, 0, 800_000),
+                won(random, 0, 300_000), won(random, 0, 200_000), won(random, 0, 200_000), won(random, 0, 200_000),
+                won(random, 0, 200_000));
+    }
+
+    // 가끔 0.5원 단위가 들어간 금액도 만듭니다.
+    private static BigDecimal won(Random random, int min, int max) {
+        BigDecimal value = BigDecimal.valueOf(min + random.nextInt(max - min + 1));
+        return random.nextInt(10) == 0 ? value.add(new BigDecimal("0.5")) : value;
+    }
+
+    private static List<WorkRecord> randomRecords(Random random, YearMonth period, Set<LocalDate> holidays) {
+        List<WorkRecord> records = new ArrayList<>(period.lengthOfMonth());
+        for (int day = 1; day <= period.lengthOfMonth(); day++) {
+            LocalDate date = period.atDay(day);
+            boolean isHoliday = holidays.contains(date);
+            boolean restDay = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY || isHoliday;
+            AttendancePage.WorkStatus status = random.nextInt(4) == 0 ? STATUSES[random.nextInt(STATUSES.length)]
+                    : restDay ? AttendancePage.WorkStatus.UNPAID_HOLIDAY : AttendancePage.WorkStatus.NORMAL;
+            if (status == AttendancePage.WorkStatus.UNPAID_HOLIDAY || status == AttendancePage.WorkStatus.ABSENCE) {
+                records.add(new WorkRecord(date, null, null, status, isHoliday, 0));
+                continue;
+            }
+            LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(12) * 5);
+            LocalTime end = start.plusMinutes(2 * 60 + random.nextInt(14 * 60));
+            records.add(new WorkRecord(date, start, end, status, restDay, WorkRecord.calculateNetWorkMinutes(start, end)));
+        }
+        return records;
+    }
+}
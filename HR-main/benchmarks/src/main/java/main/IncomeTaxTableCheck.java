@@ -0,0 +1,155 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IncomeTaxTable.monthlyTax가 간이세액표 CSV의 칸 값을 그대로 돌려주는지 확인합니다.
+ * CSV를 따로 읽어 각 구간의 하한·중간·상한 직전 월급여와 공제대상가족 1~11명 칸을 비교하고,
+ * 첫 구간 미만(0원), 가족 수 범위 밖(1명·11명으로 맞춤), 1천만원, 1천만원 초과 계산식도 확인합니다.
+ * 또 각 구간 중간값의 세액을 IncomeTaxTableGenerator의 계산식과 비교해 1,000원 넘게 다른 칸(옮겨 적을 때의 오타)을 찾습니다.
+ * 국세청 표를 옮겨 적은 CSV를 넘기면 그 표를, 없으면 IncomeTaxTableGenerator가 만든 추정 표를 검사합니다.
+ * 끝으로 세액표가 없을 때의 단순화 계산이 공제대상가족 수를 반영하는지도 확인합니다.
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar main.IncomeTaxTableCheck [CSV 경로] [적용 연도=2024]
+ * </pre>
+ * 다른 값이 하나라도 있으면 종료 코드 1로 끝납니다.
+ */
+public final class IncomeTaxTableCheck {
+
+    private static final int MAX = IncomeTaxTable.MAX_DEPENDENTS;
+    private static final long ESTIMATE_TOLERANCE = 1_000L;
+
+    private IncomeTaxTableCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int year = args.length > 1 ? Integer.parseInt(args[1]) : IncomeTaxTableGenerator.EFFECTIVE_YEAR;
+        Path csv;
+        if (args.length > 0) {
+            csv = Paths.get(args[0]);
+        } else {
+            Path dir = Files.createTempDirectory("income-tax-check");
+            IncomeTaxTableGenerator.main(new String[]{dir.toString()});
+            csv = dir.resolve("income_tax_" + IncomeTaxTableGenerator.EFFECTIVE_YEAR + "_estimated.csv");
+        }
+
+        List<long[]> bands = new ArrayList<>();
+        List<long[]> rules = new ArrayList<>();
+        long[] base = null;
+        for (String line : Files.readAllLines(csv, StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] cols = line.split(",");
+            if ("base".equals(cols[0])) {
+                base = longs(cols, 2, MAX);
+            } else if ("over".equals(cols[0])) {
+                rules.add(longs(cols, 1, 5));
+            } else {
+                bands.add(longs(cols, 0, 2 + MAX));
+            }
+        }
+
+        IncomeTaxTable table;
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            table = IncomeTaxTable.parse(year, reader, csv.toString());
+        }
+
+        int checked = 0;
+        int mismatches = 0;
+        for (long[] band : bands) {
+            long lower = band[0] * 1000;
+            long upper = band[1] * 1000;
+            for (long salary : new long[]{lower, (lower + upper) / 2, upper - 1}) {
+                for (int dependents = 1; dependents <= MAX; dependents++) {
+                    checked++;
+                    mismatches += expect(table, salary, dependents, band[1 + dependents]);
+                }
+            }
+            long mid = (lower + upper) / 2;
+            for (int dependents = 1; dependents <= MAX; dependents++) {
+                long actual = table.monthlyTax(mid, dependents);
+                long estimate = IncomeTaxTableGenerator.monthlyTax(mid, dependents);
+                checked++;
+                if (Math.abs(actual - estimate) > ESTIMATE_TOLERANCE) {
+                    mismatches++;
+                    System.out.printf("추정치와 차이: 월급여 %,d원 가족 %d명 → %,d원 (추정: %,d원)%n", mid, dependents, actual, estimate);
+                }
+            }
+        }
+
+        long[] first = bands.get(0);
+        long firstMid = (first[0] + first[1]) * 500;
+        checked += 3;
+        mismatches += expect(table, first[0] * 1000 - 1, 1, 0);
+        mismatches += expect(table, firstMid, 0, first[2]);
+        mismatches += expect(table, firstMid, MAX + 5, first[1 + MAX]);
+
+        for (int dependents = 1; dependents <= MAX; dependents++) {
+            checked++;
+            mismatches += expect(table, 10_000_000L, dependents, base[dependents - 1]);
+            for (long[] rule : rules) {
+                long from = rule[0] * 1000;
+                long to = rule[1] == 0 ? from + 50_000_000L : rule[1] * 1000;
+                for (long salary : new long[]{from + 1, (from + to) / 2, to}) {
+                    checked++;
+                    mismatches += expect(table, salary, dependents, overTenMillion(base[dependents - 1], rule, salary));
+                }
+            }
+        }
+
+        // 세액표가 없을 때의 단순화 계산: 가족이 늘면 세액이 줄거나 같아야 합니다.
+        BigDecimal previous = null;
+        for (int dependents = 1; dependents <= MAX; dependents++) {
+            BigDecimal tax = DeductionCalculator.calculateSimplifiedIncomeTax(new BigDecimal("4200000"), dependents);
+            checked++;
+            if (previous != null && tax.compareTo(previous) > 0) {
+                mismatches++;
+                System.out.printf("단순화 계산 불일치: 가족 %d명 세액 %s > %d명 세액 %s%n", dependents, tax, dependents - 1, previous);
+            }
+            previous = tax;
+        }
+        if (previous.compareTo(DeductionCalculator.calculateSimplifiedIncomeTax(new BigDecimal("4200000"), 1)) >= 0) {
+            mismatches++;
+            System.out.println("단순화 계산 불일치: 공제대상가족 수가 세액에 반영되지 않습니다.");
+        }
+
+        System.out.printf("%s: 세액 구간 %d개, 확인 %,d건, 불일치 %d건%n", csv, bands.size(), checked, mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int expect(IncomeTaxTable table, long salary, int dependents, long expected) {
+        long actual = table.monthlyTax(salary, dependents);
+        if (actual == expected) return 0;
+        System.out.printf("불일치: 월급여 %,d원 가족 %d명 → %,d원 (표: %,d원)%n", salary, dependents, actual, expected);
+        return 1;
+    }
+
+    // 1천만원 세액 + 가산 세액 + (초과분 × 적용 비율 × 세율), 10원 미만 절사
+    private static long overTenMillion(long tenMillionTax, long[] rule, long salary) {
+        BigDecimal excess = BigDecimal.valueOf(salary - rule[0] * 1000)
+                .multiply(BigDecimal.valueOf(rule[3])).multiply(BigDecimal.valueOf(rule[4]))
+                .divide(BigDecimal.valueOf(10_000), 0, RoundingMode.FLOOR);
+        long total = tenMillionTax + rule[2] + excess.longValueExact();
+        return total / 10 * 10;
+    }
+
+    private static long[] longs(String[] cols, int offset, int count) {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = Long.parseLong(cols[offset + i].trim());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,146 @@
+package main;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 근로소득 간이세액표 형식의 추정 표를 만드는 도구입니다.
+ * 소득세법 시행령 별표 2의 작성 방법(월급여 구간 중간값 × 12를 연간 총급여로 보고 근로소득공제, 인적공제,
+ * 국민연금 보험료 공제, 특별소득공제 등을 빼서 산출한 결정세액 ÷ 12)을 따라 계산하지만 국세청 원본 표와 몇십 원씩
+ * 다른 칸이 있으므로 원천징수에 쓰면 안 됩니다. 국세청 표를 CSV로 옮겨 적은 뒤 크게 어긋난 칸(오타)을 찾는 대조용입니다.
+ *
+ * 실행: java -cp target/benchmarks.jar main.IncomeTaxTableGenerator [출력 디렉터리] (기본값 target/estimated-tax)
+ */
+public final class IncomeTaxTableGenerator {
+
+    static final int EFFECTIVE_YEAR = 2024;
+
+    // 과세표준 구간 (원)과 누진 세율 (%)
+    private static final long[] TAX_BRACKET_LIMITS = {14_000_000L, 50_000_000L, 88_000_000L, 150_000_000L, 300_000_000L, 500_000_000L, 1_000_000_000L, Long.MAX_VALUE};
+    private static final long[] TAX_BRACKET_RATES = {6, 15, 24, 35, 38, 40, 42, 45};
+
+    // 월급여 1천만원 초과분 계산식: 구간 시작(천원), 구간 끝(천원), 가산 세액(원), 적용 비율(%), 세율(%)
+    private static final long[][] OVER_TEN_MILLION_RULES = {
+            {10_000, 14_000, 25_000, 98, 35},
+            {14_000, 28_000, 1_397_000, 98, 38},
+            {28_000, 30_000, 6_610_600, 98, 40},
+            {30_000, 45_000, 7_394_600, 100, 40},
+            {45_000, 87_000, 13_394_600, 100, 42},
+            {87_000, 0, 31_034_600, 100, 45}
+    };
+
+    private IncomeTaxTableGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path outputDir = Paths.get(args.length > 0 ? args[0] : "target/estimated-tax");
+        Files.createDirectories(outputDir);
+        Path output = outputDir.resolve("income_tax_" + EFFECTIVE_YEAR + "_estimated.csv");
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+            out.println("# " + EFFECTIVE_YEAR + "년 근로소득 간이세액표 추정치 (IncomeTaxTableGenerator), 국세청 고시 표가 아니므로 원천징수에 쓰지 마세요");
+            out.println("# 행: 월급여 이상(천원),미만(천원),공제대상가족 1~" + IncomeTaxTable.MAX_DEPENDENTS + "명 월 세액(원)");
+            out.println("# base: 월급여 1천만원의 세액, over: 1천만원 초과 구간 시작(천원),끝(천원, 0=상한 없음),가산 세액(원),적용 비율(%),세율(%)");
+            long lower = 770;
+            while (lower < 10_000) {
+                long step = lower < 1_500 ? 5 : lower < 3_000 ? 10 : 20;
+                long upper = lower + step;
+                long midpoint = (lower + upper) * 1000 / 2;
+                out.println(lower + "," + upper + "," + joinTaxes(midpoint));
+                lower = upper;
+            }
+            out.println("base,10000," + joinTaxes(10_000_000L));
+            for (long[] rule : OVER_TEN_MILLION_RULES) {
+                out.println("over," + rule[0] + "," + rule[1] + "," + rule[2] + "," + rule[3] + "," + rule[4]);
+            }
+        }
+        System.out.println("생성 완료: " + output.toAbsolutePath());
+    }
+
+    private static String joinTaxes(long monthlySalary) {
+        StringBuilder sb = new StringBuilder();
+        for (int dependents = 1; dependents <= IncomeTaxTable.MAX_DEPENDENTS; dependents++) {
+            if (dependents > 1) sb.append(',');
+            sb.append(monthlyTax(monthlySalary, dependents));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 월급여(비과세 제외)와 공제대상가족 수(본인 포함)로 월 원천징수 세액을 계산합니다. 10원 미만은 버립니다.
+     */
+    static long monthlyTax(long monthlySalary, int dependents) {
+        long totalSalary = monthlySalary * 12;
+        long earnedIncome = totalSalary - earnedIncomeDeduction(totalSalary);
+        long personalDeduction = 1_500_000L * dependents;
+        long pensionBase = Math.min(Math.max(monthlySalary, 370_000L), 5_900_000L);
+        long pensionDeduction = pensionBase * 45 / 1000 * 12;
+        long specialDeduction = specialDeduction(totalSalary, dependents);
+
+        long taxBase = Math.max(0, earnedIncome - personalDeduction - pensionDeduction - specialDeduction);
+        long calculatedTax = progressiveTax(taxBase);
+        long decidedTax = Math.max(0, calculatedTax - earnedIncomeTaxCredit(calculatedTax, totalSalary));
+        return decidedTax / 12 / 10 * 10;
+    }
+
+    // 근로소득공제 (한도 2천만원)
+    private static long earnedIncomeDeduction(long total) {
+        long deduction;
+        if (total <= 5_000_000L) deduction = total * 70 / 100;
+        else if (total <= 15_000_000L) deduction = 3_500_000L + (total - 5_000_000L) * 40 / 100;
+        else if (total <= 45_000_000L) deduction = 7_500_000L + (total - 15_000_000L) * 15 / 100;
+        else if (total <= 100_000_000L) deduction = 12_000_000L + (total - 45_000_000L) * 5 / 100;
+        else deduction = 14_750_000L + (total - 100_000_000L) * 2 / 100;
+        return Math.min(deduction, 20_000_000L);
+    }
+
+    // 간이세액표 작성용 특별소득공제 및 특별세액공제 상당액
+    private static long specialDeduction(long total, int dependents) {
+        if (total > 120_000_000L) return 0;
+        long over40 = Math.max(0, total - 40_000_000L);
+        if (dependents == 1) {
+            if (total <= 30_000_000L) return 3_100_000L + total * 4 / 100;
+            if (total <= 45_000_000L) return 3_100_000L + total * 4 / 100 - (total - 30_000_000L) * 5 / 100;
+            if (total <= 70_000_000L) return 3_100_000L + total * 15 / 1000;
+            return 3_100_000L + total * 5 / 1000;
+        }
+        if (dependents == 2) {
+            if (total <= 30_000_000L) return 3_600_000L + total * 4 / 100;
+            if (total <= 45_000_000L) return 3_600_000L + total * 4 / 100 - (total - 30_000_000L) * 5 / 100;
+            if (total <= 70_000_000L) return 3_600_000L + total * 2 / 100;
+            return 3_600_000L + total * 5 / 1000;
+        }
+        if (total <= 30_000_000L) return 5_000_000L + total * 7 / 100 + over40 * 4 / 100;
+        if (total <= 45_000_000L) return 5_000_000L + total * 7 / 100 - (total - 30_000_000L) * 5 / 100 + over40 * 4 / 100;
+        if (total <= 70_000_000L) return 5_000_000L + total * 5 / 100 + over40 * 4 / 100;
+        return 5_000_000L + total * 3 / 100 + over40 * 4 / 100;
+    }
+
+    private static long progressiveTax(long taxBase) {
+        long tax = 0;
+        long previousLimit = 0;
+        for (int i = 0; i < TAX_BRACKET_LIMITS.length && taxBase > previousLimit; i++) {
+            long taxable = Math.min(taxBase, TAX_BRACKET_LIMITS[i]) - previousLimit;
+            tax += taxable * TAX_BRACKET_RATES[i] / 100;
+            previousLimit = TAX_BRACKET_LIMITS[i];
+        }
+        return tax;
+    }
+
+    // 근로소득세액공제와 총급여 구간별 한도
+    private static long earnedIncomeTaxCredit(long calculatedTax, long total) {
+        long credit = calculatedTax <= 1_300_000L
+                ? calculatedTax * 55 / 100
+                : 715_000L + (calculatedTax - 1_300_000L) * 30 / 100;
+        long limit;
+        if (total <= 33_000_000L) limit = 740_000L;
+        else if (total <= 70_000_000L) limit = Math.max(740_000L - (total - 33_000_000L) * 8 / 1000, 660_000L);
+        else if (total <= 120_000_000L) limit = Math.max(660_000L - (total - 70_000_000L) / 2, 500_000L);
+        else limit = Math.max(500_000L - (total - 120_000_000L) / 2, 200_000L);
+        return Math.min(credit, limit);
+    }
+}
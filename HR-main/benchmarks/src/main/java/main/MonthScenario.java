@@ -0,0 +1,89 @@
+package main;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 벤치마크에 넣을 합성 근무 월입니다. 같은 시나리오는 항상 같은 기록을 만듭니다.
+ * 기준 월은 공휴일과 대체공휴일이 있는 2025년 3월입니다.
+ */
+public enum MonthScenario {
+    /** 평일 모두 09:00~18:00 정상 근무, 주말·공휴일은 무급휴일 */
+    FULL_ATTENDANCE,
+    /** 평일 22:00~07:00 야간 근무, 토요일 야간 특근 */
+    NIGHT_SHIFTS,
+    /** 16일 입사(일할계산), 평일 연장근무 포함 */
+    MID_MONTH_HIRE,
+    /** 평일 이틀에 하루 결근, 금요일 무급휴일 */
+    HEAVY_ABSENCE;
+
+    public static final YearMonth PERIOD = YearMonth.of(2025, 3);
+
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime SIX_PM = LocalTime.of(18, 0);
+    private static final LocalTime NIGHT_START = LocalTime.of(22, 0);
+    private static final LocalTime NIGHT_END = LocalTime.of(7, 0);
+
+    public List<WorkRecord> records(Set<LocalDate> publicHolidays) {
+        List<WorkRecord> records = new ArrayList<>(PERIOD.lengthOfMonth());
+        int weekdayIndex = 0;
+        for (int day = 1; day <= PERIOD.lengthOfMonth(); day++) {
+            LocalDate date = PERIOD.atDay(day);
+            DayOfWeek dow = date.getDayOfWeek();
+            boolean isHoliday = publicHolidays.contains(date);
+            boolean restDay = dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY || isHoliday;
+            if (restDay) {
+                if (this == NIGHT_SHIFTS && dow == DayOfWeek.SATURDAY) {
+                    records.add(work(date, NIGHT_START, NIGHT_END, true));
+                } else {
+                    records.add(new WorkRecord(date, null, null, AttendancePage.WorkStatus.UNPAID_HOLIDAY, isHoliday, 0));
+                }
+                continue;
+            }
+            switch (this) {
+                case NIGHT_SHIFTS:
+                    records.add(work(date, NIGHT_START, NIGHT_END, false));
+                    break;
+                case MID_MONTH_HIRE:
+                    records.add(work(date, NINE, weekdayIndex % 3 == 0 ? LocalTime.of(21, 30) : SIX_PM, false));
+                    break;
+                case HEAVY_ABSENCE:
+                    if (dow == DayOfWeek.FRIDAY) {
+                        records.add(new WorkRecord(date, null, null, AttendancePage.WorkStatus.UNPAID_HOLIDAY, false, 0));
+                    } else if (weekdayIndex % 2 == 1) {
+                        records.add(new WorkRecord(date, null, null, AttendancePage.WorkStatus.ABSENCE, false, 0));
+                    } else {
+                        records.add(work(date, NINE, SIX_PM, false));
+                    }
+                    break;
+                default:
+                    records.add(work(date, NINE, SIX_PM, false));
+            }
+            weekdayIndex++;
+        }
+        return Collections.unmodifiableList(records);
+    }
+
+    public Employee employee() {
+        LocalDate hireDate = this == MID_MONTH_HIRE ? PERIOD.atDay(16) : LocalDate.of(2019, 4, 1);
+        return new Employee(1, "홍길동", "900101-1234567", "010-1234-5678", new BigDecimal("43200000"),
+                "서울특별시 중구", hireDate, null, "개발팀", "본사", "본사");
+    }
+
+    public Payroll contract(Employee employee) {
+        return new Payroll(employee, new BigDecimal("3000000"), BigDecimal.ZERO, new BigDecimal("300000"),
+                new BigDecimal("100000"), new BigDecimal("200000"), new BigDecimal("200000"), BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    private static WorkRecord work(LocalDate date, LocalTime start, LocalTime end, boolean originallyPublicHoliday) {
+        return new WorkRecord(date, start, end, AttendancePage.WorkStatus.NORMAL, originallyPublicHoliday,
+                WorkRecord.calculateNetWorkMinutes(start, end));
+    }
+}
@@ -0,0 +1,107 @@
+package main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 화면과 월 마감에서 실제로 쓰는 PayrollManager 조회·저장 경로의 지연 시간 분포(p50/p90/p99...)입니다.
+ * 직원 수별로 임시 H2 파일 DB를 새로 만들어 채우며, 직원 한 명 단위 호출은 매번 임의의 직원을 고릅니다.
+ *
+ * <p>직원 10만 명은 DB를 채우는 데 시간이 걸리므로 필요할 때만 {@code -p employees=100000}으로 실행하세요.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayrollManagerBenchmark {
+
+    private static final BigDecimal INDUSTRIAL_ACCIDENT_RATE = new BigDecimal("0.0147");
+
+    @Param({"1000", "10000", "100000"})
+    public int employees;
+
+    private BenchmarkDatabase database;
+    private PayrollManager payrollManager;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        database = BenchmarkDatabase.create(employees);
+        payrollManager = database.getPayrollManager();
+        payrollManager.getSettings();
+        payrollManager.getInsuranceRateSchedule();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        database.close();
+    }
+
+    /** 급여 대장 화면, 명세서 내보내기: 한 달치 확정 급여 전체 */
+    @Benchmark
+    public List<Payroll> getPayrollsForPeriod() {
+        return payrollManager.getPayrollsForPeriod(BenchmarkDatabase.PERIOD.getYear(), BenchmarkDatabase.PERIOD.getMonthValue());
+    }
+
+    /** 직원 목록 캐시를 채울 때의 전체 직원 조회 */
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return payrollManager.getAllEmployees();
+    }
+
+    /** 근태 화면에서 직원을 불러올 때의 계약 급여 조회 */
+    @Benchmark
+    public Optional<Payroll> getContractualPayroll() {
+        return payrollManager.getContractualPayroll(randomEmployeeId());
+    }
+
+    /** 연차 화면의 연차 요약 */
+    @Benchmark
+    public Map<String, BigDecimal> getAnnualLeaveSummary() {
+        return payrollManager.getAnnualLeaveSummary(randomEmployeeId(), BenchmarkDatabase.LEAVE_YEAR);
+    }
+
+    /** 연차 사용 등록 (같은 날짜는 MERGE로 덮어씁니다) */
+    @Benchmark
+    public boolean saveLeaveUsage() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate first = LocalDate.of(BenchmarkDatabase.LEAVE_YEAR, 1, 1).plusDays(random.nextInt(360));
+        return payrollManager.saveLeaveUsage(randomEmployeeId(), Arrays.asList(first, first.plusDays(1), first.plusDays(2)));
+    }
+
+    /** 근태 화면의 급여 확정: 공제 계산 후 한 명의 월 급여 MERGE */
+    @Benchmark
+    public void finalizeMonthlyPayAndDeductions() {
+        Payroll payroll = new Payroll(null, new BigDecimal("3000000"), BigDecimal.ZERO, new BigDecimal("300000"),
+                new BigDecimal("100000"), new BigDecimal("200000"), new BigDecimal("200000"), BigDecimal.ZERO, BigDecimal.ZERO);
+        payrollManager.finalizeMonthlyPayAndDeductions(randomEmployeeId(), BenchmarkDatabase.PERIOD, payroll,
+                INDUSTRIAL_ACCIDENT_RATE, 1);
+    }
+
+    private int randomEmployeeId() {
+        return ThreadLocalRandom.current().nextInt(1, employees + 1);
+    }
+}
@@ -0,0 +1,88 @@
+package main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직원 한 명의 한 달 급여 계산(월 마감의 직원별 경로) 처리량입니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SalaryCalculatorBenchmark {
+
+    private static final BigDecimal FULL_PERCENTAGE = new BigDecimal("100");
+
+    @Param({"FULL_ATTENDANCE", "NIGHT_SHIFTS", "MID_MONTH_HIRE", "HEAVY_ABSENCE"})
+    public MonthScenario scenario;
+
+    private final SalaryCalculatorService service = new SalaryCalculatorService(null); // 설정을 직접 넘기므로 DB 불필요
+    private AppSettings settings;
+    private Set<LocalDate> publicHolidays;
+    private List<WorkRecord> records;
+    private Employee employee;
+    private Payroll contract;
+    private AttendanceAggregate aggregate;
+    private FixedPointSalaryKernel fixedPointKernel;
+    private FixedPointSalaryKernel.ContractTerms terms;
+
+    @Setup
+    public void setUp() {
+        settings = new AppSettings(Collections.emptyMap());
+        publicHolidays = HolidayCalendarService.holidaysOf(MonthScenario.PERIOD.getYear());
+        records = scenario.records(publicHolidays);
+        employee = scenario.employee();
+        contract = scenario.contract(employee);
+        aggregate = AttendanceAggregate.of(records, publicHolidays, settings);
+        fixedPointKernel = new FixedPointSalaryKernel(settings);
+        terms = new FixedPointSalaryKernel.ContractTerms(contract, employee);
+    }
+
+    /** 근무 기록 목록부터 집계와 급여 계산까지 (급여 일괄 계산 경로) */
+    @Benchmark
+    public CalculationResult calculateSalary() {
+        return service.calculateSalary(records, contract, employee, MonthScenario.PERIOD, FULL_PERCENTAGE,
+                BigDecimal.ZERO, false, publicHolidays, settings);
+    }
+
+    /** 집계가 이미 있는 경우 (근태 화면에서 지급률·상여만 바뀐 재계산) */
+    @Benchmark
+    public CalculationResult calculateSalaryFromAggregate() {
+        return service.calculateSalary(aggregate, contract, employee, MonthScenario.PERIOD, FULL_PERCENTAGE,
+                BigDecimal.ZERO, false, settings);
+    }
+
+    /** 근무 기록 목록으로 집계만 만드는 비용 */
+    @Benchmark
+    public AttendanceAggregate buildAggregate() {
+        return AttendanceAggregate.of(records, publicHolidays, settings);
+    }
+
+    /** 같은 규칙의 고정소수점 커널 */
+    @Benchmark
+    public FixedPointSalaryKernel.Result fixedPointKernel() {
+        FixedPointSalaryKernel.Result out = new FixedPointSalaryKernel.Result();
+        fixedPointKernel.calculate(records, terms, MonthScenario.PERIOD, 100 * FixedPointSalaryKernel.SCALE,
+                0, false, publicHolidays, out);
+        return out;
+    }
+}
@@ -0,0 +1,72 @@
+package main;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하루 근무 구간의 실근무·야간근무 시간 계산 처리량입니다 (근무 기록 한 행당 한 번씩 호출됩니다).
+ * 출퇴근 시각은 고정 시드로 만든 임의 시각이며, 절반은 자정을 넘는 근무입니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ShiftIntervalsBenchmark {
+
+    private static final int SHIFTS = 1024;
+
+    private final LocalTime[] starts = new LocalTime[SHIFTS];
+    private final LocalTime[] ends = new LocalTime[SHIFTS];
+    private int nightStart;
+    private int nightEnd;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SHIFTS; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+            int lengthMinutes = 4 * 60 + random.nextInt(10 * 60);
+            starts[i] = start;
+            ends[i] = start.plusMinutes(lengthMinutes);
+        }
+        AppSettings settings = new AppSettings(Collections.emptyMap());
+        nightStart = ShiftIntervals.minuteOfDay(settings.getNightWorkStart());
+        nightEnd = ShiftIntervals.minuteOfDay(settings.getNightWorkEnd());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SHIFTS)
+    public long nightMinutes() {
+        long total = 0;
+        for (int i = 0; i < SHIFTS; i++) {
+            total += ShiftIntervals.nightMinutes(starts[i], ends[i], nightStart, nightEnd);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SHIFTS)
+    public long netWorkMinutes() {
+        long total = 0;
+        for (int i = 0; i < SHIFTS; i++) {
+            total += WorkRecord.calculateNetWorkMinutes(starts[i], ends[i]);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,78 @@
+package main;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * ShiftIntervals의 야간·휴일 겹침 계산을 1분씩 세는 방식과 임의의 근무로 비교합니다.
+ * 야간 시간대는 자정을 넘는 것, 넘지 않는 것, 없는 것(시작 = 끝)을 섞고, 근무는 출퇴근 시각으로 만든
+ * 근무 기록(24시간 미만, 자정을 넘는 근무 포함)을 날짜와 함께 만들어 WorkRecord.holidayMinutes까지 확인합니다.
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar main.ShiftIntervalsCheck [근무 수=200000] [시드=1]
+ * </pre>
+ * 다른 값이 하나라도 있으면 종료 코드 1로 끝납니다.
+ */
+public final class ShiftIntervalsCheck {
+
+    private ShiftIntervalsCheck() {
+    }
+
+    public static void main(String[] args) {
+        int shifts = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        Random random = new Random(seed);
+        LocalDate firstDate = LocalDate.of(2024, 1, 1);
+
+        int mismatches = 0;
+        for (int i = 0; i < shifts; i++) {
+            int nightStart = random.nextInt(ShiftIntervals.MINUTES_PER_DAY);
+            int nightEnd = random.nextInt(8) == 0 ? nightStart : random.nextInt(ShiftIntervals.MINUTES_PER_DAY);
+            LocalDate date = firstDate.plusDays(random.nextInt(3 * 366));
+            LocalTime start = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            LocalTime end = LocalTime.of(random.nextInt(24), random.nextInt(60));
+            Set<LocalDate> holidays = HolidayCalendarService.holidaysOf(date.getYear());
+            boolean originallyHoliday = isRestDay(date);
+            long net = WorkRecord.calculateNetWorkMinutes(start, end);
+            WorkRecord record = new WorkRecord(date, start, end, AttendancePage.WorkStatus.NORMAL, originallyHoliday, net);
+
+            int startMinute = ShiftIntervals.minuteOfDay(start);
+            int endMinute = ShiftIntervals.endMinute(start, end);
+            long night = 0;
+            long holidayGross = 0;
+            for (int minute = startMinute; minute < endMinute; minute++) {
+                if (inWindow(minute % ShiftIntervals.MINUTES_PER_DAY, nightStart, nightEnd)) night++;
+                if (isRestDay(date.plusDays(minute / ShiftIntervals.MINUTES_PER_DAY))) holidayGross++;
+            }
+            long expectedHoliday = Math.min(net, holidayGross);
+
+            long actualNight = ShiftIntervals.nightMinutes(start, end, nightStart, nightEnd);
+            long actualHoliday = record.holidayMinutes(holidays);
+            if (actualNight != night || actualHoliday != expectedHoliday) {
+                mismatches++;
+                if (mismatches <= 10) {
+                    System.out.printf("%s %s~%s, 야간 %s~%s: 야간 %d ≠ %d, 휴일 %d ≠ %d%n", date, start, end,
+                            LocalTime.ofSecondOfDay(nightStart * 60L), LocalTime.ofSecondOfDay(nightEnd * 60L),
+                            actualNight, night, actualHoliday, expectedHoliday);
+                }
+            }
+        }
+        System.out.printf("근무 %,d건 (시드 %d): 1분 단위 계산과 다른 근무 %,d건%n", shifts, seed, mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean inWindow(int minuteOfDay, int nightStart, int nightEnd) {
+        if (nightStart <= nightEnd) return minuteOfDay >= nightStart && minuteOfDay < nightEnd;
+        return minuteOfDay >= nightStart || minuteOfDay < nightEnd;
+    }
+
+    private static boolean isRestDay(LocalDate date) {
+        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY
+                || HolidayCalendarService.isHoliday(date);
+    }
+}
@@ -10,21 +10,21 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.time.temporal.ChronoUnit;
 
 public class AnnualLeavePage extends JPanel {
 
     private final PayrollManager payrollManager;
+    private final AsyncPayrollRepository asyncRepository;
     private Employee currentEmployee;
     private int selectedYear;
 
     // UI Components
-    private JComboBox<String> employeeComboBox;
+    private JComboBox<Employee> employeeComboBox;
+    private EmployeeComboBoxModel employeeComboBoxModel;
     private JComboBox<Integer> yearComboBox;
     private JButton loadButton;
 
@@ -44,6 +44,7 @@ public class AnnualLeavePage extends JPanel {
 
     public AnnualLeavePage(PayrollManager payrollManager) {
         this.payrollManager = payrollManager;
+        this.asyncRepository = new AsyncPayrollRepository(payrollManager);
         this.selectedYear = LocalDate.now().getYear();
 
         setLayout(new BorderLayout(10, 10));
@@ -59,13 +60,16 @@ public class AnnualLeavePage extends JPanel {
         add(createBottomPanel(), BorderLayout.SOUTH);
 
         addListeners();
-        refreshEmployeeComboBox();
+        // 연차 산정 기준이 바뀌면 표시 중인 연차 정보를 다시 불러옵니다.
+        payrollManager.addSettingsListener(settings -> SwingUtilities.invokeLater(this::loadAnnualLeaveData));
     }
 
     private JPanel createTopPanel() {
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         topPanel.add(new JLabel("직원 선택:"));
-        employeeComboBox = new JComboBox<>();
+        employeeComboBoxModel = new EmployeeComboBoxModel(payrollManager.getEmployeeDirectory(), asyncRepository);
+        employeeComboBox = new JComboBox<>(employeeComboBoxModel);
+        employeeComboBox.setRenderer(employeeComboBoxModel.createRenderer());
         topPanel.add(employeeComboBox);
 
         topPanel.add(Box.createHorizontalStrut(20));
@@ -234,9 +238,15 @@ public class AnnualLeavePage extends JPanel {
                         "총 부여 연차를 " + totalDays.toPlainString() + "일로 임의 설정하시겠습니까?\n(기존 자동계산 연차는 무시됩니다)", "임의 수정 확인", JOptionPane.YES_NO_OPTION);
                 if (confirm == JOptionPane.YES_OPTION) {
                     // [수정] BigDecimal 전달
-                    payrollManager.setTotalLeaveManually(currentEmployee.getId(), selectedYear, totalDays, "수동 설정");
-                    loadAnnualLeaveData();
-                    txtManualTotalLeave.setText("");
+                    int employeeId = currentEmployee.getId();
+                    int year = selectedYear;
+                    asyncRepository.execute(pm -> {
+                        pm.setTotalLeaveManually(employeeId, year, totalDays, "수동 설정");
+                        return null;
+                    }, this, ignored -> {
+                        loadAnnualLeaveData();
+                        txtManualTotalLeave.setText("");
+                    }, leaveEditControls());
                 }
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "숫자(일수)를 정확히 입력해주세요.", "입력 오류", JOptionPane.ERROR_MESSAGE);
@@ -253,9 +263,15 @@ public class AnnualLeavePage extends JPanel {
             try {
                 // [수정] BigDecimal로 파싱 및 전달
                 BigDecimal days = new BigDecimal(field.getText());
-                payrollManager.applyLeaveAdjustment(currentEmployee.getId(), selectedYear, days, type);
-                loadAnnualLeaveData();
-                field.setText("");
+                int employeeId = currentEmployee.getId();
+                int year = selectedYear;
+                asyncRepository.execute(pm -> {
+                    pm.applyLeaveAdjustment(employeeId, year, days, type);
+                    return null;
+                }, this, ignored -> {
+                    loadAnnualLeaveData();
+                    field.setText("");
+                }, leaveEditControls());
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "숫자(일수)를 정확히 입력해주세요.", "입력 오류", JOptionPane.ERROR_MESSAGE);
             }
@@ -268,10 +284,7 @@ public class AnnualLeavePage extends JPanel {
             return;
         }
 
-        List<LocalDate> selectedDates = calendarPanel.getSelectedDatesWithStatus().stream()
-                .filter(info -> (Boolean) info.get("isSelected"))
-                .map(info -> (LocalDate) info.get("date"))
-                .collect(Collectors.toList());
+        List<LocalDate> selectedDates = calendarPanel.getMonthState().selectedDates();
 
         if (selectedDates.isEmpty()) {
             JOptionPane.showMessageDialog(this, "달력에서 연차로 사용할 날짜를 선택해주세요.", "알림", JOptionPane.INFORMATION_MESSAGE);
@@ -282,36 +295,54 @@ public class AnnualLeavePage extends JPanel {
                 selectedDates.size() + "일의 연차를 사용처리 하시겠습니까?", "연차 사용 확인", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            boolean success = payrollManager.saveLeaveUsage(currentEmployee.getId(), selectedDates);
-            if (success) {
-                JOptionPane.showMessageDialog(this, "연차 사용이 기록되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
-                loadAnnualLeaveData();
-            } else {
-                JOptionPane.showMessageDialog(this, "연차 사용 기록 중 오류가 발생했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
-            }
+            int employeeId = currentEmployee.getId();
+            asyncRepository.execute(pm -> pm.saveLeaveUsage(employeeId, selectedDates), this, success -> {
+                if (success) {
+                    JOptionPane.showMessageDialog(this, "연차 사용이 기록되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+                    loadAnnualLeaveData();
+                } else {
+                    JOptionPane.showMessageDialog(this, "연차 사용 기록 중 오류가 발생했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+                }
+            }, leaveEditControls());
         }
     }
 
+    // 연차 기록을 바꾸는 동안 다시 누를 수 없게 할 버튼들
+    private JComponent[] leaveEditControls() {
+        return new JComponent[]{btnUseSelectedDays, btnApplyCompensatory, btnApplySpecial, btnApplyManual, loadButton};
+    }
+
     private void loadAnnualLeaveData() {
-        String selectedEmployeeName = (String) employeeComboBox.getSelectedItem();
-        if (selectedEmployeeName == null || selectedEmployeeName.equals("등록된 직원이 없습니다.")) {
+        Employee selected = employeeComboBoxModel.getSelectedEmployee();
+        if (selected == null) {
             clearDisplay();
             return;
         }
 
-        Optional<Employee> empOpt = payrollManager.getEmployeeByName(selectedEmployeeName);
-        if (!empOpt.isPresent()) {
+        int year = (Integer) yearComboBox.getSelectedItem();
+        asyncRepository.load("annualLeave", pm -> {
+            Optional<Employee> empOpt = pm.getEmployeeDirectory().findById(selected.getId());
+            if (!empOpt.isPresent()) {
+                return null;
+            }
+            Employee employee = empOpt.get();
+            pm.calculateAndGrantAnnualLeave(employee, year);
+            return new LeaveData(employee, year, pm.getAnnualLeaveSummary(employee.getId(), year),
+                    pm.getLeaveUsageRecords(employee.getId(), year));
+        }, this, this::applyAnnualLeaveData);
+    }
+
+    private void applyAnnualLeaveData(LeaveData data) {
+        if (data == null) {
             clearDisplay();
             return;
         }
 
-        this.currentEmployee = empOpt.get();
-        this.selectedYear = (Integer) yearComboBox.getSelectedItem();
-
-        payrollManager.calculateAndGrantAnnualLeave(currentEmployee, selectedYear);
+        this.currentEmployee = data.employee;
+        this.selectedYear = data.year;
 
         // [수정] double 대신 Map<String, BigDecimal>을 받음
-        Map<String, BigDecimal> summary = payrollManager.getAnnualLeaveSummary(currentEmployee.getId(), selectedYear);
+        Map<String, BigDecimal> summary = data.summary;
         BigDecimal generated = summary.getOrDefault("generated", BigDecimal.ZERO);
         BigDecimal adjustment = summary.getOrDefault("adjustment", BigDecimal.ZERO);
         BigDecimal used = summary.getOrDefault("used", BigDecimal.ZERO);
@@ -331,8 +362,7 @@ public class AnnualLeavePage extends JPanel {
             lblServiceYears.setText("-");
         }
 
-        String basis = payrollManager.loadSettings().getOrDefault("annualLeaveBasis", "FISCAL");
-        lblLeaveBasis.setText("HIRE_DATE".equals(basis) ? "입사일 기준" : "회계연도 기준");
+        lblLeaveBasis.setText(payrollManager.getSettings().isHireDateLeaveBasis() ? "입사일 기준" : "회계연도 기준");
 
         // [수정] BigDecimal 값을 포맷팅하여 표시
         lblGeneratedDays.setText(leaveDayFormat.format(generated) + " 일");
@@ -342,7 +372,7 @@ public class AnnualLeavePage extends JPanel {
         lblRemainingDays.setText(leaveDayFormat.format(remaining) + " 일");
 
         usedLeaveTableModel.setRowCount(0);
-        List<LocalDate> usedDates = payrollManager.getLeaveUsageRecords(currentEmployee.getId(), selectedYear);
+        List<LocalDate> usedDates = data.usedDates;
         DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd (E)");
         for (LocalDate date : usedDates) {
             usedLeaveTableModel.addRow(new Object[]{date.format(dtf)});
@@ -363,21 +393,6 @@ public class AnnualLeavePage extends JPanel {
         usedLeaveTableModel.setRowCount(0);
     }
 
-    public void refreshEmployeeComboBox() {
-        employeeComboBox.removeAllItems();
-        try {
-            List<Employee> employees = payrollManager.getAllEmployees();
-            if (employees.isEmpty()) {
-                employeeComboBox.addItem("등록된 직원이 없습니다.");
-            } else {
-                employees.sort(Comparator.comparing(Employee::getName));
-                employees.forEach(employee -> employeeComboBox.addItem(employee.getName()));
-            }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "직원 목록 로드 오류: " + e.getMessage(), "데이터 로드 오류", JOptionPane.ERROR_MESSAGE);
-        }
-    }
-
     private GridBagConstraints gbc(GridBagConstraints gbc, int x, int y) {
         gbc.gridx = x;
         gbc.gridy = y;
@@ -393,4 +408,21 @@ public class AnnualLeavePage extends JPanel {
         label.setFont(label.getFont().deriveFont(Font.BOLD));
         return label;
     }
-}
\ No newline at end of file
+
+    /**
+     * 연차 정보 조회 결과 (I/O 스레드에서 EDT로 전달)
+     */
+    private static class LeaveData {
+        final Employee employee;
+        final int year;
+        final Map<String, BigDecimal> summary;
+        final List<LocalDate> usedDates;
+
+        LeaveData(Employee employee, int year, Map<String, BigDecimal> summary, List<LocalDate> usedDates) {
+            this.employee = employee;
+            this.year = year;
+            this.summary = summary;
+            this.usedDates = usedDates;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package main;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * app_settings 테이블의 값을 한 번 읽어 파싱해 둔 변경 불가능한 설정 스냅샷입니다.
+ * 설정이 저장되면 PayrollManager가 새 스냅샷을 만들어 교체하므로, 한 번 얻은 인스턴스는
+ * 여러 스레드에서 잠금 없이 읽어도 됩니다.
+ */
+public final class AppSettings {
+
+    public static final String FISCAL_BASIS = "FISCAL";
+    public static final String HIRE_DATE_BASIS = "HIRE_DATE";
+
+    private final Map<String, String> values;
+
+    private final BigDecimal standardWorkHours;
+    private final BigDecimal fixedOvertimeHours;
+    private final BigDecimal nominalFixedOvertimeHours;
+    private final boolean applyOvertime;
+    private final boolean applyNightWork;
+    private final boolean applyHolidayWork;
+    private final BigDecimal defaultMealAllowance;
+    private final BigDecimal defaultChildcareAllowance;
+    private final BigDecimal defaultVehicleFee;
+    private final BigDecimal defaultRdExpense;
+    private final BigDecimal industrialAccidentRate;
+    private final LocalTime defaultStartTime;
+    private final LocalTime defaultEndTime;
+    private final LocalTime nightWorkStart;
+    private final LocalTime nightWorkEnd;
+    private final String annualLeaveBasis;
+    private final String companyName;
+    private final String defaultPayday;
+
+    /**
+     * @param rawSettings setting_key → setting_value 맵 (복사해서 보관합니다)
+     */
+    public AppSettings(Map<String, String> rawSettings) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(rawSettings));
+
+        this.standardWorkHours = parseDecimal("standardWorkHours", "209.0");
+        this.fixedOvertimeHours = parseDecimal("fixedOvertimeHours", "15.0");
+        this.nominalFixedOvertimeHours = parseDecimal("nominalFixedOvertimeHours", "10.0");
+        this.applyOvertime = Boolean.parseBoolean(get("applyOvertime", "true"));
+        this.applyNightWork = Boolean.parseBoolean(get("applyNightWork", "true"));
+        this.applyHolidayWork = Boolean.parseBoolean(get("applyHolidayWork", "true"));
+        this.defaultMealAllowance = parseDecimal("defaultMealAllowance", "200000");
+        this.defaultChildcareAllowance = parseDecimal("defaultChildcareAllowance", "0");
+        this.defaultVehicleFee = parseDecimal("defaultVehicleFee", "0");
+        this.defaultRdExpense = parseDecimal("defaultRdExpense", "0");
+        this.industrialAccidentRate = parseDecimal("industrialAccidentRate", "0.007");
+        this.defaultStartTime = parseTime("defaultStartTime", "09:00");
+        this.defaultEndTime = parseTime("defaultEndTime", "18:00");
+        this.nightWorkStart = parseTime("nightWorkStart", "22:00");
+        this.nightWorkEnd = parseTime("nightWorkEnd", "06:00");
+        this.annualLeaveBasis = HIRE_DATE_BASIS.equals(get("annualLeaveBasis", FISCAL_BASIS)) ? HIRE_DATE_BASIS : FISCAL_BASIS;
+        this.companyName = get("companyName", "[주식회사 OO회사]");
+        this.defaultPayday = get("defaultPayday", "매월 25일");
+    }
+
+    /**
+     * 원본 문자열 값을 반환합니다. 전용 getter가 없는 설정에 사용합니다.
+     */
+    public String get(String key, String defaultValue) {
+        String value = values.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * 원본 설정 맵 (읽기 전용)
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    public BigDecimal getStandardWorkHours() { return standardWorkHours; }
+    public BigDecimal getFixedOvertimeHours() { return fixedOvertimeHours; }
+    public BigDecimal getNominalFixedOvertimeHours() { return nominalFixedOvertimeHours; }
+    public boolean isApplyOvertime() { return applyOvertime; }
+    public boolean isApplyNightWork() { return applyNightWork; }
+    public boolean isApplyHolidayWork() { return applyHolidayWork; }
+    public BigDecimal getDefaultMealAllowance() { return defaultMealAllowance; }
+    public BigDecimal getDefaultChildcareAllowance() { return defaultChildcareAllowance; }
+    public BigDecimal getDefaultVehicleFee() { return defaultVehicleFee; }
+    public BigDecimal getDefaultRdExpense() { return defaultRdExpense; }
+    /** 급여 일괄 계산 등에 쓰는 사업장 산재보험 요율 (소수, 기본 0.007 = 0.7%) */
+    public BigDecimal getIndustrialAccidentRate() { return industrialAccidentRate; }
+    public LocalTime getDefaultStartTime() { return defaultStartTime; }
+    public LocalTime getDefaultEndTime() { return defaultEndTime; }
+    /** 야간근로 시간대 시작 (기본 22:00) */
+    public LocalTime getNightWorkStart() { return nightWorkStart; }
+    /** 야간근로 시간대 종료 (기본 06:00, 시작보다 이르면 다음 날) */
+    public LocalTime getNightWorkEnd() { return nightWorkEnd; }
+    public String getAnnualLeaveBasis() { return annualLeaveBasis; }
+    public boolean isHireDateLeaveBasis() { return HIRE_DATE_BASIS.equals(annualLeaveBasis); }
+    public String getCompanyName() { return companyName; }
+    public String getDefaultPayday() { return defaultPayday; }
+
+    // 저장된 값이 잘못된 형식이면 기본값을 사용합니다.
+    private BigDecimal parseDecimal(String key, String defaultValue) {
+        try {
+            return new BigDecimal(get(key, defaultValue).replace(",", "").trim());
+        } catch (NumberFormatException e) {
+            return new BigDecimal(defaultValue);
+        }
+    }
+
+    private LocalTime parseTime(String key, String defaultValue) {
+        try {
+            return LocalTime.parse(get(key, defaultValue).trim());
+        } catch (DateTimeParseException e) {
+            return LocalTime.parse(defaultValue);
+        }
+    }
+}
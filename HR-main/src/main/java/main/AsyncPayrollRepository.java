@@ -0,0 +1,168 @@
+package main;
+
+import javax.swing.JComponent;
+import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+import java.awt.Cursor;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * PayrollManager 호출을 Swing EDT 밖의 전용 I/O 스레드에서 실행하는 비동기 창구입니다.
+ * 조회 결과는 EDT에서 전달되며, 같은 키로 새 요청이 들어오면 이전 요청은 취소되어
+ * 가장 마지막 요청의 결과만 화면에 반영됩니다. 저장·삭제는 취소하지 않는 execute()로 실행합니다.
+ * 화면마다 하나씩 만들어 쓰고, I/O 스레드 풀은 모든 인스턴스가 함께 사용합니다.
+ */
+public class AsyncPayrollRepository {
+
+    private static final int IO_THREADS = Integer.getInteger("hr.db.ioThreads", 3);
+    private static final ExecutorService IO_EXECUTOR = Executors.newFixedThreadPool(IO_THREADS, new IoThreadFactory());
+    private static final String BUSY_COUNT_KEY = "hr.async.busyCount";
+
+    private final PayrollManager payrollManager;
+    private final Map<String, CompletableFuture<?>> latestRequests = new ConcurrentHashMap<>();
+
+    public AsyncPayrollRepository(PayrollManager payrollManager) {
+        this.payrollManager = payrollManager;
+    }
+
+    /**
+     * PayrollManager 호출을 I/O 스레드에서 실행합니다. 완료 콜백은 I/O 스레드에서 실행되므로
+     * 화면을 갱신하려면 load()를 사용하세요.
+     */
+    public <T> CompletableFuture<T> submit(Function<PayrollManager, T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        String caller = QueryMetrics.currentCaller(); // I/O 스레드의 쿼리를 요청한 화면으로 집계합니다.
+        IO_EXECUTOR.execute(() -> {
+            // 실행 전에 취소된 요청은 DB에 접근하지 않습니다.
+            if (future.isDone()) return;
+            try {
+                future.complete(QueryMetrics.callAs(caller, () -> call.apply(payrollManager)));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 조회를 I/O 스레드에서 실행하고 결과를 EDT에서 onResult로 전달합니다. EDT에서 호출해야 합니다.
+     * 같은 requestKey의 이전 요청이 아직 끝나지 않았으면 취소하고, 그 결과는 버립니다.
+     * 실행되는 동안 busyTarget에는 대기 커서가 표시됩니다.
+     * @param requestKey 요청 종류를 구분하는 키 (예: "payrollList")
+     * @param busyTarget 대기 커서를 표시할 컴포넌트, null이면 표시하지 않음
+     */
+    public <T> CompletableFuture<T> load(String requestKey, Function<PayrollManager, T> call,
+                                         JComponent busyTarget, Consumer<T> onResult) {
+        CompletableFuture<T> future = submit(call);
+        CompletableFuture<?> previous = latestRequests.put(requestKey, future);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        beginBusy(busyTarget);
+        future.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            endBusy(busyTarget);
+            if (!latestRequests.remove(requestKey, future)) {
+                return; // 더 최근 요청으로 대체됨
+            }
+            if (error == null) {
+                onResult.accept(result);
+            } else if (!(error instanceof CancellationException)) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                cause.printStackTrace();
+                JOptionPane.showMessageDialog(busyTarget, "데이터를 불러오는 중 오류가 발생했습니다: " + cause.getMessage(),
+                        "DB 오류", JOptionPane.ERROR_MESSAGE);
+            }
+        }));
+        return future;
+    }
+
+    /**
+     * 저장·삭제처럼 DB를 바꾸는 호출을 I/O 스레드에서 실행하고 결과를 EDT에서 onResult로 전달합니다. EDT에서 호출해야 합니다.
+     * 이미 시작한 쓰기는 되돌릴 수 없으므로 load()와 달리 이전 요청을 취소하지 않습니다.
+     * 실행되는 동안 busyTarget에는 대기 커서를 표시하고 controls는 비활성화했다가, 끝나면 실패하더라도
+     * 원래 상태로 되돌린 뒤 onResult를 호출합니다. 오류는 대화상자로 알리고 onResult는 호출하지 않습니다.
+     * @param busyTarget 대기 커서를 표시할 컴포넌트 (오류 대화상자의 부모), null 가능
+     * @param controls 실행 중 다시 누를 수 없게 할 버튼 등
+     */
+    public <T> CompletableFuture<T> execute(Function<PayrollManager, T> call, JComponent busyTarget, Consumer<T> onResult,
+                                            JComponent... controls) {
+        boolean[] wasEnabled = new boolean[controls.length];
+        for (int i = 0; i < controls.length; i++) {
+            wasEnabled[i] = controls[i].isEnabled();
+            controls[i].setEnabled(false);
+        }
+        beginBusy(busyTarget);
+        CompletableFuture<T> future = submit(call);
+        future.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            endBusy(busyTarget);
+            for (int i = 0; i < controls.length; i++) {
+                controls[i].setEnabled(wasEnabled[i]);
+            }
+            if (error == null) {
+                onResult.accept(result);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                cause.printStackTrace();
+                JOptionPane.showMessageDialog(busyTarget, "DB 작업 중 오류가 발생했습니다: " + cause.getMessage(),
+                        "DB 오류", JOptionPane.ERROR_MESSAGE);
+            }
+        }));
+        return future;
+    }
+
+    /**
+     * 진행 중인 requestKey 요청을 취소합니다. 결과는 화면에 반영되지 않습니다.
+     */
+    public void cancel(String requestKey) {
+        CompletableFuture<?> previous = latestRequests.remove(requestKey);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    public boolean isLoading(String requestKey) {
+        return latestRequests.containsKey(requestKey);
+    }
+
+    // 같은 컴포넌트에 여러 요청이 겹칠 수 있으므로 진행 중인 요청 수를 세어 커서를 관리합니다.
+    private static void beginBusy(JComponent target) {
+        if (target == null) return;
+        Integer count = (Integer) target.getClientProperty(BUSY_COUNT_KEY);
+        int next = (count != null ? count : 0) + 1;
+        target.putClientProperty(BUSY_COUNT_KEY, next);
+        if (next == 1) {
+            target.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        }
+    }
+
+    private static void endBusy(JComponent target) {
+        if (target == null) return;
+        Integer count = (Integer) target.getClientProperty(BUSY_COUNT_KEY);
+        int next = Math.max(0, (count != null ? count : 0) - 1);
+        target.putClientProperty(BUSY_COUNT_KEY, next);
+        if (next == 0) {
+            target.setCursor(Cursor.getDefaultCursor());
+        }
+    }
+
+    private static class IoThreadFactory implements java.util.concurrent.ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "hr-db-io-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package main;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 근무 기록 행별 기여분(부족/연장/휴일/야간 분, 결근 주차)을 보관하고 합계를 유지합니다.
+ * 행 하나가 바뀌면 그 행의 기여분만 빼고 다시 더하므로, 급여 계산 시 전체 기록을 다시 훑지 않아도 됩니다.
+ * 행 번호는 근태 화면의 근무 기록표 행 번호와 같게 유지합니다. 스레드 안전하지 않습니다.
+ */
+public class AttendanceAggregate {
+
+    private static final WeekFields WEEK_FIELDS = WeekFields.of(Locale.KOREA); // 한국 기준 주차 계산
+    private static final int NO_WEEK = -1;
+
+    /** 한 행의 기여분입니다. 형식 오류가 있는 행은 valid가 false이고 합계에 포함되지 않습니다. */
+    private static final class DayContribution {
+        final boolean valid;
+        final long shortfallMinutes;
+        final long overtimeMinutes;
+        final long holidayMinutes;
+        final long nightMinutes;
+        final int absenceWeek;
+        final boolean unpaidHoliday;
+        final boolean absence;
+
+        DayContribution(boolean valid, long shortfallMinutes, long overtimeMinutes, long holidayMinutes, long nightMinutes,
+                        int absenceWeek, boolean unpaidHoliday, boolean absence) {
+            this.valid = valid;
+            this.shortfallMinutes = shortfallMinutes;
+            this.overtimeMinutes = overtimeMinutes;
+            this.holidayMinutes = holidayMinutes;
+            this.nightMinutes = nightMinutes;
+            this.absenceWeek = absenceWeek;
+            this.unpaidHoliday = unpaidHoliday;
+            this.absence = absence;
+        }
+    }
+
+    private static final DayContribution INVALID = new DayContribution(false, 0, 0, 0, 0, NO_WEEK, false, false);
+
+    private final Set<LocalDate> publicHolidays;
+    private final int nightStart;
+    private final int nightEnd;
+    private final List<DayContribution> rows = new ArrayList<>();
+    private final int[] absenceCountByWeek = new int[54]; // 주차(1~53)별 평일 결근 일수
+
+    private long totalShortfallMinutes;
+    private long totalOvertimeMinutes;
+    private long totalHolidayMinutes;
+    private long totalNightMinutes;
+    private int weeksWithAbsence;
+    private int unpaidHolidayDays;
+    private int absenceDays;
+    private int invalidRows;
+
+    /**
+     * @param publicHolidays 평일 판정에 사용할 공휴일 집합
+     * @param settings 야간근로 시간대를 읽을 설정
+     */
+    public AttendanceAggregate(Set<LocalDate> publicHolidays, AppSettings settings) {
+        this.publicHolidays = publicHolidays;
+        this.nightStart = ShiftIntervals.minuteOfDay(settings.getNightWorkStart());
+        this.nightEnd = ShiftIntervals.minuteOfDay(settings.getNightWorkEnd());
+    }
+
+    /**
+     * 근무 기록 목록 전체로 합계를 만듭니다.
+     */
+    public static AttendanceAggregate of(List<WorkRecord> records, Set<LocalDate> publicHolidays, AppSettings settings) {
+        AttendanceAggregate aggregate = new AttendanceAggregate(publicHolidays, settings);
+        for (WorkRecord record : records) {
+            aggregate.insert(aggregate.size(), record);
+        }
+        return aggregate;
+    }
+
+    public Set<LocalDate> getPublicHolidays() {
+        return publicHolidays;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * 지정한 위치에 행을 추가합니다.
+     * @param record 근무 기록, 형식 오류가 있는 행이면 null
+     */
+    public void insert(int row, WorkRecord record) {
+        DayContribution contribution = contributionOf(record);
+        rows.add(row, contribution);
+        add(contribution, 1);
+    }
+
+    /**
+     * 행의 기여분을 새 기록으로 바꿉니다.
+     * @param record 근무 기록, 형식 오류가 있는 행이면 null
+     */
+    public void set(int row, WorkRecord record) {
+        DayContribution contribution = contributionOf(record);
+        add(rows.set(row, contribution), -1);
+        add(contribution, 1);
+    }
+
+    public void remove(int row) {
+        add(rows.remove(row), -1);
+    }
+
+    public void clear() {
+        rows.clear();
+        Arrays.fill(absenceCountByWeek, 0);
+        totalShortfallMinutes = 0;
+        totalOvertimeMinutes = 0;
+        totalHolidayMinutes = 0;
+        totalNightMinutes = 0;
+        weeksWithAbsence = 0;
+        unpaidHolidayDays = 0;
+        absenceDays = 0;
+        invalidRows = 0;
+    }
+
+    /**
+     * 형식 오류가 있는 첫 번째 행 번호를 반환합니다. 없으면 -1입니다.
+     */
+    public int firstInvalidRow() {
+        if (invalidRows == 0) return -1;
+        for (int i = 0; i < rows.size(); i++) {
+            if (!rows.get(i).valid) return i;
+        }
+        return -1;
+    }
+
+    public long getTotalShortfallMinutes() { return totalShortfallMinutes; }
+    public long getTotalOvertimeMinutes() { return totalOvertimeMinutes; }
+    public long getTotalHolidayMinutes() { return totalHolidayMinutes; }
+    public long getTotalNightMinutes() { return totalNightMinutes; }
+    public int getWeeksWithAbsence() { return weeksWithAbsence; }
+    public int getUnpaidHolidayDays() { return unpaidHolidayDays; }
+    public int getAbsenceDays() { return absenceDays; }
+
+    private void add(DayContribution c, int sign) {
+        if (!c.valid) {
+            invalidRows += sign;
+            return;
+        }
+        totalShortfallMinutes += sign * c.shortfallMinutes;
+        totalOvertimeMinutes += sign * c.overtimeMinutes;
+        totalHolidayMinutes += sign * c.holidayMinutes;
+        totalNightMinutes += sign * c.nightMinutes;
+        if (c.unpaidHoliday) unpaidHolidayDays += sign;
+        if (c.absence) absenceDays += sign;
+        if (c.absenceWeek != NO_WEEK) {
+            int before = absenceCountByWeek[c.absenceWeek];
+            int after = before + sign;
+            absenceCountByWeek[c.absenceWeek] = after;
+            if (before == 0 && after > 0) weeksWithAbsence++;
+            if (before > 0 && after == 0) weeksWithAbsence--;
+        }
+    }
+
+    // SalaryCalculatorService의 근무 부족분, 주휴수당 차감, 추가 수당 규칙을 행 하나에 적용합니다.
+    private DayContribution contributionOf(WorkRecord record) {
+        if (record == null) return INVALID;
+        AttendancePage.WorkStatus status = record.getStatus();
+        DayOfWeek dow = record.getDate().getDayOfWeek();
+        boolean isCalendarWeekday = dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !publicHolidays.contains(record.getDate());
+        boolean unpaid = status == AttendancePage.WorkStatus.UNPAID_HOLIDAY;
+        boolean absent = status == AttendancePage.WorkStatus.ABSENCE;
+
+        long shortfall = isCalendarWeekday && (absent || unpaid) ? 8 * 60 : 0;
+        int absenceWeek = isCalendarWeekday && absent ? record.getDate().get(WEEK_FIELDS.weekOfWeekBasedYear()) : NO_WEEK;
+
+        long overtime = 0, holiday = 0, night = 0;
+        if (!absent && !unpaid && record.getNetWorkMinutes() > 0) {
+            // 휴일에 걸친 시간은 휴일근무, 나머지 중 8시간 초과분은 연장근무로 계산
+            holiday = record.holidayMinutes(publicHolidays);
+            overtime = ShiftIntervals.overtimeMinutes(record.getNetWorkMinutes() - holiday);
+            night = ShiftIntervals.nightMinutes(record.getStartTime(), record.getEndTime(), nightStart, nightEnd);
+        }
+        return new DayContribution(true, shortfall, overtime, holiday, night, absenceWeek, unpaid, absent);
+    }
+}
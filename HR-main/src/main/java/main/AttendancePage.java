@@ -2,28 +2,31 @@ package main;
 
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableColumn;
 import java.awt.*;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.SQLException;
 import java.text.DecimalFormat;
 import java.time.DayOfWeek;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class AttendancePage extends JPanel {
     private final PayrollManager payrollManager;
@@ -31,8 +34,13 @@ public class AttendancePage extends JPanel {
     private final JPanel mainPanel;
     private final SummaryPage summaryPage;
     private final SalaryCalculatorService salaryCalculatorService;
+    private final WorkRecordRepository workRecordRepository;
+    private final AsyncPayrollRepository asyncRepository;
+    private String defaultStartTime = "09:00";
+    private String defaultEndTime = "18:00";
 
-    private JComboBox<String> employeeSearchComboBox;
+    private JComboBox<Employee> employeeSearchComboBox;
+    private EmployeeComboBoxModel employeeComboBoxModel;
     private JTable workLogTable;
     private DefaultTableModel tableModel;
 
@@ -42,10 +50,10 @@ public class AttendancePage extends JPanel {
 
     private CalendarPanel calendarPanel;
     private JLabel totalWorkDaysLabel, calendarWeekdaysLabel, actualWorkWeekdaysLabel, absentWeekdaysLabel;
-    private JButton applyToDbButton, clearWorkLogButton, addSelectedDaysButton, syncCalendarButton, processUnpaidLeaveButton;
+    private JButton applyToDbButton, clearWorkLogButton, addSelectedDaysButton, syncCalendarButton, processUnpaidLeaveButton, importPunchLogButton;
     private JTextField salaryPercentageField, adHocBonusField;
     private JButton applySalaryPercentageButton, applyAdHocBonusButton;
-    private JButton loadButton, backButton, calculateButton, deleteWorkLogEntryButton;
+    private JButton loadButton, backButton, calculateButton, deleteWorkLogEntryButton, saveWorkLogButton;
 
     private BigDecimal currentSalaryPercentage = new BigDecimal("100.0");
     private BigDecimal adHocBonusForCurrentCalculation = BigDecimal.ZERO;
@@ -55,6 +63,13 @@ public class AttendancePage extends JPanel {
     private Payroll currentContractPayrollData;
     private CalculationResult lastCalculationResult;
 
+    // 근무 기록표 행별 기여분 합계. 표가 바뀌면 바뀐 행만 다시 반영합니다.
+    private AttendanceAggregate attendanceAggregate;
+    private static final DateTimeFormatter ROW_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter ROW_TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int LIVE_RECALC_DELAY_MILLIS = 150;
+    private final Timer liveRecalcTimer = new Timer(LIVE_RECALC_DELAY_MILLIS, e -> recalculateLive());
+
     private final float FONT_SCALE_FACTOR = 1.5f;
     private java.awt.Font enlargedFont;
     private java.awt.Font enlargedFontBold;
@@ -84,6 +99,11 @@ public class AttendancePage extends JPanel {
         this.payrollManager = payrollManager;
         this.summaryPage = summaryPage;
         this.salaryCalculatorService = new SalaryCalculatorService(payrollManager);
+        this.workRecordRepository = new WorkRecordRepository(payrollManager);
+        this.asyncRepository = new AsyncPayrollRepository(payrollManager);
+        applySettings(payrollManager.getSettings());
+        // 설정 페이지에서 기본 출퇴근 시각이 바뀌면 다음 표 생성부터 바로 반영합니다.
+        payrollManager.addSettingsListener(settings -> SwingUtilities.invokeLater(() -> applySettings(settings)));
 
         java.awt.Font baseFont = new JLabel().getFont();
         float newBaseSize = baseFont.getSize() * FONT_SCALE_FACTOR;
@@ -105,9 +125,10 @@ public class AttendancePage extends JPanel {
         JLabel employeeSelectLabel = new JLabel("직원 선택:");
         employeeSelectLabel.setFont(enlargedFont);
         employeeSearchPanel.add(employeeSelectLabel);
-        employeeSearchComboBox = new JComboBox<>();
+        employeeComboBoxModel = new EmployeeComboBoxModel(payrollManager.getEmployeeDirectory(), asyncRepository);
+        employeeSearchComboBox = new JComboBox<>(employeeComboBoxModel);
+        employeeSearchComboBox.setRenderer(employeeComboBoxModel.createRenderer());
         employeeSearchComboBox.setFont(enlargedFont);
-        refreshEmployeeComboBox();
         employeeSearchPanel.add(employeeSearchComboBox);
 
         loadButton = new JButton("직원 정보 불러오기");
@@ -116,6 +137,9 @@ public class AttendancePage extends JPanel {
         topPanel.add(employeeSearchPanel, BorderLayout.CENTER);
 
         JPanel topRightButtonsPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, (int) (5 * FONT_SCALE_FACTOR), (int) (5 * FONT_SCALE_FACTOR)));
+        importPunchLogButton = new JButton("출퇴근 기록 가져오기");
+        importPunchLogButton.setFont(enlargedFont);
+        topRightButtonsPanel.add(importPunchLogButton);
         processUnpaidLeaveButton = new JButton("휴직 처리");
         processUnpaidLeaveButton.setFont(enlargedFont);
         topRightButtonsPanel.add(processUnpaidLeaveButton);
@@ -193,7 +217,7 @@ public class AttendancePage extends JPanel {
         workLogTable.getTableHeader().setFont(enlargedFontBold);
         workLogTable.setRowHeight((int) (workLogTable.getRowHeight() * FONT_SCALE_FACTOR));
         workLogTable.setSurrendersFocusOnKeystroke(true);
-        new TableClipboardAdapter(workLogTable);
+        new TableClipboardAdapter(workLogTable, this::newPastedWorkLogRow); // 마지막 행을 넘는 붙여넣기는 행을 추가합니다.
 
         workLogTable.setShowGrid(true);
         workLogTable.setGridColor(new Color(220, 220, 220));
@@ -293,6 +317,9 @@ public class AttendancePage extends JPanel {
         deleteWorkLogEntryButton = new JButton("선택 기록 삭제");
         deleteWorkLogEntryButton.setFont(enlargedFont);
         tableControlPanel.add(deleteWorkLogEntryButton);
+        saveWorkLogButton = new JButton("근무기록 저장");
+        saveWorkLogButton.setFont(enlargedFont);
+        tableControlPanel.add(saveWorkLogButton);
         rightPanel.add(tableControlPanel, BorderLayout.SOUTH);
 
         contentPanel.add(rightPanel, BorderLayout.CENTER);
@@ -366,9 +393,25 @@ public class AttendancePage extends JPanel {
         addSelectedDaysButton.addActionListener(e -> addSelectedCalendarDaysToTable());
         deleteWorkLogEntryButton.addActionListener(e -> deleteWorkRecord());
         clearWorkLogButton.addActionListener(e -> clearWorkLogTableAction());
+
+        // 표를 고치거나 지급률/상여금을 입력하는 동안 결과를 바로 갱신합니다. 입력이 잠시 멈춘 뒤 한 번만 계산합니다.
+        liveRecalcTimer.setRepeats(false);
+        tableModel.addTableModelListener(this::onWorkLogTableChanged);
+        salaryPercentageField.getDocument().addDocumentListener(new DocumentListener() {
+            public void changedUpdate(DocumentEvent e) { onSalaryPercentageTyped(); }
+            public void removeUpdate(DocumentEvent e) { onSalaryPercentageTyped(); }
+            public void insertUpdate(DocumentEvent e) { onSalaryPercentageTyped(); }
+        });
+        adHocBonusField.getDocument().addDocumentListener(new DocumentListener() {
+            public void changedUpdate(DocumentEvent e) { onAdHocBonusTyped(); }
+            public void removeUpdate(DocumentEvent e) { onAdHocBonusTyped(); }
+            public void insertUpdate(DocumentEvent e) { onAdHocBonusTyped(); }
+        });
+        saveWorkLogButton.addActionListener(e -> saveWorkLogToDB());
         calculateButton.addActionListener(e -> runSalaryCalculation());
         applyToDbButton.addActionListener(e -> saveProcessedPayrollDataToDB());
         processUnpaidLeaveButton.addActionListener(e -> processUnpaidLeaveAction());
+        importPunchLogButton.addActionListener(e -> importPunchLog());
 
         applySalaryPercentageButton.addActionListener(e -> {
             try {
@@ -409,57 +452,150 @@ public class AttendancePage extends JPanel {
             JOptionPane.showMessageDialog(this, "먼저 직원을 선택하고 정보를 불러와주세요.", "경고", JOptionPane.WARNING_MESSAGE);
             return;
         }
+        liveRecalcTimer.stop();
         applyToDbButton.setEnabled(false);
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        List<WorkRecord> recordsToCalculate = new ArrayList<>();
-
-        for (int i = 0; i < tableModel.getRowCount(); i++) {
-            String dateStr = (String) tableModel.getValueAt(i, 0);
-            String startTimeStr = (String) tableModel.getValueAt(i, 1);
-            String endTimeStr = (String) tableModel.getValueAt(i, 2);
-            Object statusObj = tableModel.getValueAt(i, 3);
-            WorkStatus status;
-            if (statusObj instanceof WorkStatus) {
-                status = (WorkStatus) statusObj;
-            } else {
-                JOptionPane.showMessageDialog(this, (i + 1) + "행 상태값 오류", "오류", JOptionPane.ERROR_MESSAGE);
-                return;
-            }
-
+        AttendanceAggregate attendance = currentAttendanceAggregate();
+        int invalidRow = attendance.firstInvalidRow();
+        if (invalidRow >= 0) {
             try {
-                LocalDate date = LocalDate.parse(dateStr, dateFormatter);
-                if (startTimeStr == null || startTimeStr.trim().isEmpty() || endTimeStr == null || endTimeStr.trim().isEmpty() || status == WorkStatus.UNPAID_HOLIDAY || status == WorkStatus.ABSENCE) {
-                    recordsToCalculate.add(new WorkRecord(date, null, null, status, calendarPanel.isPublicHoliday(date), 0));
-                    continue;
-                }
-                LocalTime startTime = LocalTime.parse(startTimeStr, timeFormatter);
-                LocalTime endTime = LocalTime.parse(endTimeStr, timeFormatter);
-                Duration duration = Duration.between(startTime, endTime);
-                if (endTime.isBefore(startTime)) duration = duration.plusDays(1);
-                long grossWorkMinutesPerDay = duration.toMinutes();
-
-                long breakMinutesPerDay = (grossWorkMinutesPerDay / (4 * 60)) * 30;
-                if (grossWorkMinutesPerDay >= 8 * 60) breakMinutesPerDay = Math.max(breakMinutesPerDay, 60);
-
-                long netWorkMinutesPerDay = Math.max(0, grossWorkMinutesPerDay - breakMinutesPerDay);
-                boolean isOriginallyPublicHoliday = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY || calendarPanel.isPublicHoliday(date);
-                recordsToCalculate.add(new WorkRecord(date, startTime, endTime, status, isOriginallyPublicHoliday, netWorkMinutesPerDay));
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, String.format("%d행 날짜/시간 형식 오류: %s", i + 1, ex.getMessage()), "입력 오류", JOptionPane.ERROR_MESSAGE);
-                return;
+                parseWorkLogRow(invalidRow);
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(this, ex.getMessage(), "입력 오류", JOptionPane.ERROR_MESSAGE);
             }
+            return;
         }
+        calculateFromAggregate(attendance);
+    }
 
+    private void calculateFromAggregate(AttendanceAggregate attendance) {
         this.lastCalculationResult = salaryCalculatorService.calculateSalary(
-                recordsToCalculate, currentContractPayrollData, currentEmployee, calendarPanel.getCurrentYearMonth(),
-                this.currentSalaryPercentage, adHocBonusForCurrentCalculation, adHocBonusApplied, calendarPanel.getPublicHolidays()
+                attendance, currentContractPayrollData, currentEmployee, calendarPanel.getCurrentYearMonth(),
+                this.currentSalaryPercentage, adHocBonusForCurrentCalculation, adHocBonusApplied, payrollManager.getSettings()
         );
 
         printFinalResults(currentContractPayrollData, lastCalculationResult);
         applyToDbButton.setEnabled(true);
     }
 
+    /**
+     * 입력 중 자동 계산입니다. 형식 오류가 있는 행이 있으면 대화상자 없이 저장만 막고, 고쳐지면 다시 계산합니다.
+     */
+    private void recalculateLive() {
+        if (!isLiveRecalculationActive()) return;
+        AttendanceAggregate attendance = currentAttendanceAggregate();
+        if (attendance.firstInvalidRow() >= 0) {
+            applyToDbButton.setEnabled(false);
+            return;
+        }
+        calculateFromAggregate(attendance);
+    }
+
+    // 한 번 계산한 뒤부터만 입력에 따라 자동으로 다시 계산합니다.
+    private boolean isLiveRecalculationActive() {
+        return currentEmployee != null && currentContractPayrollData != null && lastCalculationResult != null;
+    }
+
+    private void scheduleLiveRecalculation() {
+        if (isLiveRecalculationActive()) {
+            liveRecalcTimer.restart();
+        }
+    }
+
+    private void onSalaryPercentageTyped() {
+        try {
+            BigDecimal percentage = new BigDecimal(salaryPercentageField.getText().trim());
+            if (percentage.compareTo(BigDecimal.ZERO) >= 0 && percentage.compareTo(currentSalaryPercentage) != 0) {
+                this.currentSalaryPercentage = percentage;
+                scheduleLiveRecalculation();
+            }
+        } catch (NumberFormatException ignored) {
+            // 입력 중인 값은 '적용' 버튼을 누를 때 검사합니다.
+        }
+    }
+
+    // 상여금은 '적용' 버튼으로 한 번 적용한 뒤에만 금액 변경을 바로 반영합니다.
+    private void onAdHocBonusTyped() {
+        if (!adHocBonusApplied) return;
+        try {
+            BigDecimal bonus = new BigDecimal(adHocBonusField.getText().trim().replace(",", ""));
+            if (bonus.compareTo(adHocBonusForCurrentCalculation) != 0) {
+                this.adHocBonusForCurrentCalculation = bonus;
+                scheduleLiveRecalculation();
+            }
+        } catch (NumberFormatException ignored) {
+            // 입력 중인 값은 '적용' 버튼을 누를 때 검사합니다.
+        }
+    }
+
+    private void onWorkLogTableChanged(TableModelEvent e) {
+        if (attendanceAggregate == null || attendanceAggregate.getPublicHolidays() != calendarPanel.getPublicHolidays()
+                || e.getFirstRow() == TableModelEvent.HEADER_ROW || e.getLastRow() == Integer.MAX_VALUE) {
+            attendanceAggregate = null; // 다음 계산 때 전체를 다시 만듭니다.
+        } else if (e.getType() == TableModelEvent.INSERT) {
+            for (int row = e.getFirstRow(); row <= e.getLastRow(); row++) {
+                attendanceAggregate.insert(row, parseWorkLogRowQuietly(row));
+            }
+        } else if (e.getType() == TableModelEvent.DELETE) {
+            for (int row = e.getLastRow(); row >= e.getFirstRow(); row--) {
+                attendanceAggregate.remove(row);
+            }
+        } else {
+            for (int row = e.getFirstRow(); row <= e.getLastRow(); row++) {
+                attendanceAggregate.set(row, parseWorkLogRowQuietly(row));
+            }
+        }
+        scheduleLiveRecalculation();
+    }
+
+    private AttendanceAggregate currentAttendanceAggregate() {
+        if (attendanceAggregate == null || attendanceAggregate.getPublicHolidays() != calendarPanel.getPublicHolidays()
+                || attendanceAggregate.size() != tableModel.getRowCount()) {
+            AttendanceAggregate rebuilt = new AttendanceAggregate(calendarPanel.getPublicHolidays(), payrollManager.getSettings());
+            for (int row = 0; row < tableModel.getRowCount(); row++) {
+                rebuilt.insert(row, parseWorkLogRowQuietly(row));
+            }
+            attendanceAggregate = rebuilt;
+        }
+        return attendanceAggregate;
+    }
+
+    private WorkRecord parseWorkLogRowQuietly(int row) {
+        try {
+            return parseWorkLogRow(row);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 근무 기록표의 한 행을 급여 계산용 WorkRecord로 변환합니다.
+     * @throws IllegalArgumentException 상태값이나 날짜/시간 형식이 잘못된 경우 (메시지는 사용자에게 그대로 표시)
+     */
+    private WorkRecord parseWorkLogRow(int row) {
+        String dateStr = (String) tableModel.getValueAt(row, 0);
+        String startTimeStr = (String) tableModel.getValueAt(row, 1);
+        String endTimeStr = (String) tableModel.getValueAt(row, 2);
+        Object statusObj = tableModel.getValueAt(row, 3);
+        if (!(statusObj instanceof WorkStatus)) {
+            throw new IllegalArgumentException((row + 1) + "행 상태값 오류");
+        }
+        WorkStatus status = (WorkStatus) statusObj;
+
+        try {
+            LocalDate date = LocalDate.parse(dateStr, ROW_DATE_FORMATTER);
+            if (startTimeStr == null || startTimeStr.trim().isEmpty() || endTimeStr == null || endTimeStr.trim().isEmpty() || status == WorkStatus.UNPAID_HOLIDAY || status == WorkStatus.ABSENCE) {
+                return new WorkRecord(date, null, null, status, calendarPanel.isPublicHoliday(date), 0);
+            }
+            LocalTime startTime = LocalTime.parse(startTimeStr, ROW_TIME_FORMATTER);
+            LocalTime endTime = LocalTime.parse(endTimeStr, ROW_TIME_FORMATTER);
+            long netWorkMinutesPerDay = WorkRecord.calculateNetWorkMinutes(startTime, endTime);
+            boolean isOriginallyPublicHoliday = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY || calendarPanel.isPublicHoliday(date);
+            return new WorkRecord(date, startTime, endTime, status, isOriginallyPublicHoliday, netWorkMinutesPerDay);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(String.format("%d행 날짜/시간 형식 오류: %s", row + 1, ex.getMessage()), ex);
+        }
+    }
+
     private void printFinalResults(Payroll originalContract, CalculationResult result) {
         if (result == null) return;
         DecimalFormat df = new DecimalFormat("#,###");
@@ -494,8 +630,7 @@ public class AttendancePage extends JPanel {
         }
         sbOriginal.append("  -------------------------------------\n");
         sbOriginal.append(String.format("  원본 계약 총액(일할):%10s 원\n", df.format(originalProratedTotal.setScale(0, RoundingMode.HALF_UP))));
-        originalContractInfoArea.setText(sbOriginal.toString());
-        originalContractInfoArea.setCaretPosition(0);
+        setTextIfChanged(originalContractInfoArea, sbOriginal.toString());
 
         StringBuilder sbAdjustments = new StringBuilder();
         BigDecimal attendanceRatio = result.getAttendanceBasedPaymentRatio();
@@ -516,8 +651,7 @@ public class AttendancePage extends JPanel {
         if (result.getHolidayPremium().compareTo(BigDecimal.ZERO) > 0) {
             sbAdjustments.append(String.format("  (+) 추가 휴일수당 : %10s 원\n", df.format(result.getHolidayPremium().setScale(0, RoundingMode.HALF_UP))));
         }
-        adjustmentsInfoArea.setText(sbAdjustments.toString());
-        adjustmentsInfoArea.setCaretPosition(0);
+        setTextIfChanged(adjustmentsInfoArea, sbAdjustments.toString());
 
         StringBuilder sbFinal = new StringBuilder();
         sbFinal.append(String.format("===== 최종 지급 내역 (적용률: %.1f%%) =====\n", this.currentSalaryPercentage));
@@ -549,56 +683,66 @@ public class AttendancePage extends JPanel {
         sbFinal.append("======================================\n");
         sbFinal.append(String.format("  >> 최종 지급액(세전): %10s 원\n", df.format(finalTotalPay.setScale(0, RoundingMode.HALF_UP))));
         sbFinal.append("======================================\n");
-        finalPayoutInfoArea.setText(sbFinal.toString());
-        finalPayoutInfoArea.setCaretPosition(0);
+        setTextIfChanged(finalPayoutInfoArea, sbFinal.toString());
     }
 
-    public void refreshEmployeeComboBox() {
-        String selectedEmployeeName = (String) employeeSearchComboBox.getSelectedItem();
-        employeeSearchComboBox.removeAllItems();
-        try {
-            List<Employee> employees = payrollManager.getAllEmployees();
-            if (employees.isEmpty()) {
-                employeeSearchComboBox.addItem("등록된 직원이 없습니다.");
-            } else {
-                employees.sort(Comparator.comparing(Employee::getName));
-                for (Employee emp : employees) {
-                    employeeSearchComboBox.addItem(emp.getName());
-                }
-            }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "직원 목록 로드 오류: " + e.getMessage(), "DB 오류", JOptionPane.ERROR_MESSAGE);
-        }
-
-        if (selectedEmployeeName != null) {
-            employeeSearchComboBox.setSelectedItem(selectedEmployeeName);
-        }
+    // 내용이 같으면 다시 그리지 않습니다. 입력 중 자동 계산에서 바뀌지 않은 영역이 깜박이지 않게 합니다.
+    private static void setTextIfChanged(JTextArea area, String text) {
+        if (text.equals(area.getText())) return;
+        area.setText(text);
+        area.setCaretPosition(0);
     }
 
     private void loadEmployeeData() {
-        String selectedName = (String) employeeSearchComboBox.getSelectedItem();
-        if (selectedName == null || selectedName.equals("등록된 직원이 없습니다.")) {
+        Employee selected = employeeComboBoxModel.getSelectedEmployee();
+        if (selected == null) {
+            asyncRepository.cancel("employeeData");
             clearAllData();
             return;
         }
 
-        Optional<Employee> empOpt = payrollManager.getEmployeeByName(selectedName);
-        if (empOpt.isPresent()) {
-            this.currentEmployee = empOpt.get();
-            Optional<Payroll> payrollOpt = payrollManager.getContractualPayroll(currentEmployee.getId());
-            if (payrollOpt.isPresent()) {
-                this.currentContractPayrollData = payrollOpt.get();
-                populateTableFromCalendar(true);
-                runSalaryCalculation();
-                applyToDbButton.setEnabled(true);
-            } else {
-                JOptionPane.showMessageDialog(this, "선택된 직원의 계약 급여 정보가 없습니다.\n'3. 직원 정보' 페이지에서 급여 정보를 입력해주세요.", "정보 없음", JOptionPane.WARNING_MESSAGE);
-                clearAllData();
+        YearMonth period = calendarPanel.getCurrentYearMonth();
+        applyToDbButton.setEnabled(false);
+        asyncRepository.load("employeeData", pm -> {
+            Optional<Employee> empOpt = pm.getEmployeeDirectory().findById(selected.getId());
+            if (!empOpt.isPresent()) {
+                return new EmployeeLoadResult(null, null, Collections.emptyList());
             }
-        } else {
+            Employee employee = empOpt.get();
+            Payroll contract = pm.getContractualPayroll(employee.getId()).orElse(null);
+            List<WorkLogEntry> storedEntries = Collections.emptyList();
+            if (contract != null) {
+                try {
+                    storedEntries = workRecordRepository.findMonth(employee.getId(), period);
+                } catch (SQLException e) {
+                    // 기록 없음으로 보고 달력 기본값을 채우면 저장할 때 실제 기록을 덮어쓰므로 오류로 알립니다.
+                    throw new IllegalStateException("근무 기록을 불러오지 못했습니다: " + e.getMessage(), e);
+                }
+            }
+            return new EmployeeLoadResult(employee, contract, storedEntries);
+        }, this, this::applyEmployeeData);
+    }
+
+    private void applyEmployeeData(EmployeeLoadResult data) {
+        if (data.employee == null) {
             JOptionPane.showMessageDialog(this, "직원 정보를 찾을 수 없습니다.", "오류", JOptionPane.ERROR_MESSAGE);
             clearAllData();
+            return;
+        }
+        this.currentEmployee = data.employee;
+        if (data.contract == null) {
+            JOptionPane.showMessageDialog(this, "선택된 직원의 계약 급여 정보가 없습니다.\n'3. 직원 정보' 페이지에서 급여 정보를 입력해주세요.", "정보 없음", JOptionPane.WARNING_MESSAGE);
+            clearAllData();
+            return;
+        }
+        this.currentContractPayrollData = data.contract;
+        if (data.storedEntries.isEmpty()) {
+            populateTableFromCalendar(true);
+        } else {
+            populateTableFromWorkLog(data.storedEntries);
         }
+        runSalaryCalculation();
+        applyToDbButton.setEnabled(true);
     }
 
     private void updateWorkdayInfoLabels(int selectedDays) {
@@ -621,29 +765,10 @@ public class AttendancePage extends JPanel {
 
     private void updateDetailedWorkdayLabels() {
         if (calendarPanel == null) return; // Null check to prevent initialization order issues
-        List<Map<String, Object>> datesInfo = calendarPanel.getSelectedDatesWithStatus();
-        long calendarWeekdays = 0;
-        long actualWorkWeekdays = 0;
-        long absentWeekdays = 0;
-
-        for (Map<String, Object> info : datesInfo) {
-            LocalDate date = (LocalDate) info.get("date");
-            DayOfWeek dow = date.getDayOfWeek();
-            boolean isHoliday = (boolean) info.get("isPublicHoliday");
-            boolean isSelected = (boolean) info.get("isSelected");
-
-            if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !isHoliday) {
-                calendarWeekdays++;
-                if (isSelected) {
-                    actualWorkWeekdays++;
-                } else {
-                    absentWeekdays++;
-                }
-            }
-        }
-        calendarWeekdaysLabel.setText(String.format("달력 평일: %d일", calendarWeekdays));
-        actualWorkWeekdaysLabel.setText(String.format("실근무 평일: %d일", actualWorkWeekdays));
-        absentWeekdaysLabel.setText(String.format("결근/무급 평일: %d일", absentWeekdays));
+        MonthAttendanceState monthState = calendarPanel.getMonthState();
+        calendarWeekdaysLabel.setText(String.format("달력 평일: %d일", monthState.weekdayCount()));
+        actualWorkWeekdaysLabel.setText(String.format("실근무 평일: %d일", monthState.selectedWeekdayCount()));
+        absentWeekdaysLabel.setText(String.format("결근/무급 평일: %d일", monthState.unselectedWeekdayCount()));
     }
 
     private void clearAllData() {
@@ -670,17 +795,13 @@ public class AttendancePage extends JPanel {
         }
 
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        Map<String, String> settings = payrollManager.loadSettings();
-        String defaultStartTime = settings.getOrDefault("defaultStartTime", "09:00");
-        String defaultEndTime = settings.getOrDefault("defaultEndTime", "18:00");
 
-        List<Map<String, Object>> datesInfo = calendarPanel.getSelectedDatesWithStatus();
-        datesInfo.sort(Comparator.comparing(m -> (LocalDate) m.get("date")));
+        MonthAttendanceState monthState = calendarPanel.getMonthState();
 
-        for (Map<String, Object> info : datesInfo) {
-            LocalDate date = (LocalDate) info.get("date");
-            boolean isSelected = (boolean) info.get("isSelected");
-            DayOfWeek dayOfWeek = date.getDayOfWeek();
+        for (int day = 1; day <= monthState.lengthOfMonth(); day++) {
+            LocalDate date = monthState.dateOf(day);
+            boolean isSelected = monthState.isSelected(day);
+            boolean isRestDay = monthState.isRestDay(day);
 
             String dateStr = date.format(dateFormatter);
             String startTimeStr = "";
@@ -688,7 +809,7 @@ public class AttendancePage extends JPanel {
             WorkStatus status = WorkStatus.ABSENCE;
 
             if (isSelected) {
-                if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY || (boolean) info.get("isPublicHoliday")) {
+                if (isRestDay) {
                     status = WorkStatus.PAID_HOLIDAY;
                 } else {
                     status = WorkStatus.NORMAL;
@@ -696,7 +817,7 @@ public class AttendancePage extends JPanel {
                     endTimeStr = defaultEndTime;
                 }
             } else {
-                if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !(boolean) info.get("isPublicHoliday")) {
+                if (!isRestDay) {
                     status = WorkStatus.ABSENCE;
                 } else {
                     status = WorkStatus.UNPAID_HOLIDAY;
@@ -707,6 +828,113 @@ public class AttendancePage extends JPanel {
         }
     }
 
+    private void applySettings(AppSettings settings) {
+        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+        defaultStartTime = settings.getDefaultStartTime().format(timeFormatter);
+        defaultEndTime = settings.getDefaultEndTime().format(timeFormatter);
+        attendanceAggregate = null; // 야간 시간대가 바뀌었을 수 있으므로 다음 계산 때 다시 집계합니다.
+        scheduleLiveRecalculation();
+    }
+
+    private void populateTableFromWorkLog(List<WorkLogEntry> entries) {
+        tableModel.setRowCount(0);
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+        for (WorkLogEntry entry : entries) {
+            tableModel.addRow(new Object[]{
+                    entry.getWorkDate().format(dateFormatter),
+                    entry.getStartTime() != null ? entry.getStartTime().format(timeFormatter) : "",
+                    entry.getEndTime() != null ? entry.getEndTime().format(timeFormatter) : "",
+                    entry.getStatus()
+            });
+        }
+    }
+
+    /**
+     * 근무 기록표의 내용을 현재 달력 월의 근무 기록으로 DB에 저장합니다. 저장은 I/O 스레드에서 합니다.
+     */
+    private void saveWorkLogToDB() {
+        List<WorkLogEntry> entries = collectWorkLogEntries();
+        if (entries == null) {
+            return;
+        }
+        int employeeId = currentEmployee.getId();
+        YearMonth period = calendarPanel.getCurrentYearMonth();
+        asyncRepository.execute(pm -> {
+            saveWorkLog(employeeId, period, entries);
+            return null;
+        }, this, ignored -> JOptionPane.showMessageDialog(this, "근무 기록이 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE),
+                dbWriteControls());
+    }
+
+    // I/O 스레드에서 호출합니다. 실패하면 execute()가 오류 대화상자를 띄우도록 예외를 던집니다.
+    private void saveWorkLog(int employeeId, YearMonth period, List<WorkLogEntry> entries) {
+        if (!workRecordRepository.saveMonth(employeeId, period, entries)) {
+            throw new IllegalStateException("근무 기록 저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    // 근무 기록과 급여를 저장하는 동안 다시 누를 수 없게 할 버튼들
+    private JComponent[] dbWriteControls() {
+        return new JComponent[]{saveWorkLogButton, applyToDbButton, loadButton, importPunchLogButton};
+    }
+
+    /**
+     * 근무 기록표의 내용을 저장할 근무 기록으로 바꿉니다.
+     * @return 근무 기록 목록, 직원이 없거나 형식 오류가 있으면 메시지를 표시하고 null
+     */
+    private List<WorkLogEntry> collectWorkLogEntries() {
+        if (currentEmployee == null) {
+            JOptionPane.showMessageDialog(this, "먼저 직원을 선택하고 정보를 불러와주세요.", "경고", JOptionPane.WARNING_MESSAGE);
+            return null;
+        }
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+        List<WorkLogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < tableModel.getRowCount(); i++) {
+            try {
+                LocalDate date = LocalDate.parse((String) tableModel.getValueAt(i, 0), dateFormatter);
+                String startTimeStr = (String) tableModel.getValueAt(i, 1);
+                String endTimeStr = (String) tableModel.getValueAt(i, 2);
+                LocalTime startTime = startTimeStr == null || startTimeStr.trim().isEmpty() ? null : LocalTime.parse(startTimeStr.trim(), timeFormatter);
+                LocalTime endTime = endTimeStr == null || endTimeStr.trim().isEmpty() ? null : LocalTime.parse(endTimeStr.trim(), timeFormatter);
+                Object statusObj = tableModel.getValueAt(i, 3);
+                if (!(statusObj instanceof WorkStatus)) {
+                    JOptionPane.showMessageDialog(this, (i + 1) + "행 상태값 오류", "오류", JOptionPane.ERROR_MESSAGE);
+                    return null;
+                }
+                entries.add(new WorkLogEntry(currentEmployee.getId(), date, startTime, endTime, (WorkStatus) statusObj));
+            } catch (DateTimeParseException ex) {
+                JOptionPane.showMessageDialog(this, String.format("%d행 날짜/시간 형식 오류: %s", i + 1, ex.getMessage()), "입력 오류", JOptionPane.ERROR_MESSAGE);
+                return null;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 붙여넣기로 추가되는 근무 기록 행: 기록표의 마지막 날짜 다음 날(비어 있으면 달력 월의 1일), 정상 근무.
+     * 달력 월의 마지막 날을 넘으면 더 추가하지 않습니다.
+     */
+    private Object[] newPastedWorkLogRow(DefaultTableModel model) {
+        YearMonth period = calendarPanel.getCurrentYearMonth();
+        LocalDate next = period.atDay(1);
+        for (int i = 0; i < model.getRowCount(); i++) {
+            Object value = model.getValueAt(i, 0);
+            if (!(value instanceof String)) continue;
+            try {
+                LocalDate date = LocalDate.parse((String) value);
+                if (!date.isBefore(next)) next = date.plusDays(1);
+            } catch (DateTimeParseException e) {
+                // 날짜가 잘못된 행은 저장할 때 알려 줍니다.
+            }
+        }
+        if (next.isAfter(period.atEndOfMonth())) {
+            return null;
+        }
+        return new Object[]{next.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")), "", "", WorkStatus.NORMAL};
+    }
+
     private void addSelectedCalendarDaysToTable() {
         Set<LocalDate> existingDates = new HashSet<>();
         for (int i = 0; i < tableModel.getRowCount(); i++) {
@@ -714,16 +942,9 @@ public class AttendancePage extends JPanel {
         }
 
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        Map<String, String> settings = payrollManager.loadSettings();
-        String defaultStartTime = settings.getOrDefault("defaultStartTime", "09:00");
-        String defaultEndTime = settings.getOrDefault("defaultEndTime", "18:00");
-
-        List<Map<String, Object>> datesInfo = calendarPanel.getSelectedDatesWithStatus();
-        datesInfo.stream()
-                .filter(info -> (boolean) info.get("isSelected"))
-                .map(info -> (LocalDate) info.get("date"))
+
+        calendarPanel.getMonthState().selectedDates().stream()
                 .filter(date -> !existingDates.contains(date))
-                .sorted()
                 .forEach(date -> {
                     tableModel.addRow(new Object[]{
                             date.format(dateFormatter), defaultStartTime, defaultEndTime, WorkStatus.NORMAL
@@ -731,6 +952,77 @@ public class AttendancePage extends JPanel {
                 });
     }
 
+    /**
+     * 출입카드 단말기의 출퇴근 태그 CSV를 전 직원 근무 기록으로 가져옵니다.
+     */
+    private void importPunchLog() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("출퇴근 기록 CSV 선택");
+        fileChooser.setFileFilter(new FileNameExtensionFilter("CSV 파일 (*.csv)", "csv"));
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        java.nio.file.Path csvFile = fileChooser.getSelectedFile().toPath();
+
+        importPunchLogButton.setEnabled(false);
+        ProgressMonitor progressMonitor = new ProgressMonitor(this, "출퇴근 기록을 가져오는 중입니다...", "", 0, 100);
+        progressMonitor.setMillisToDecideToPopup(300);
+        // 취소 버튼은 EDT에서 확인하고, 가져오기 작업은 이 값을 읽기 중과 저장 배치 사이에 확인합니다.
+        AtomicBoolean cancelRequested = new AtomicBoolean();
+        SwingWorker<PunchImportReport, Void> worker = new SwingWorker<PunchImportReport, Void>() {
+            @Override
+            protected PunchImportReport doInBackground() throws Exception {
+                return new PunchLogImporter(payrollManager).importFile(csvFile,
+                        (completed, total) -> setProgress(total == 0 ? 100 : completed * 100 / total), cancelRequested::get);
+            }
+
+            @Override
+            protected void done() {
+                progressMonitor.close();
+                importPunchLogButton.setEnabled(true);
+                try {
+                    PunchImportReport report = get();
+                    if (report.isCancelled()) {
+                        JOptionPane.showMessageDialog(AttendancePage.this, "출퇴근 기록 가져오기를 취소했습니다. 저장된 기록은 없습니다.",
+                                "출퇴근 기록 가져오기", JOptionPane.INFORMATION_MESSAGE);
+                        return;
+                    }
+                    StringBuilder message = new StringBuilder(report.toString());
+                    List<String> issues = report.getIssues();
+                    for (int i = 0; i < Math.min(issues.size(), 20); i++) {
+                        message.append("\n  - ").append(issues.get(i));
+                    }
+                    if (issues.size() > 20) {
+                        message.append("\n  ... 외 ").append(issues.size() - 20).append("건");
+                    }
+                    boolean clean = report.isSaved() && report.getMalformedLines() == 0
+                            && report.getUnmatchedIn() == 0 && report.getUnmatchedOut() == 0 && report.getUnknownEmployeeLines() == 0;
+                    JOptionPane.showMessageDialog(AttendancePage.this, message.toString(), "출퇴근 기록 가져오기 결과",
+                            clean ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+                    if (report.isSaved() && currentEmployee != null) {
+                        loadEmployeeData();
+                    }
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(AttendancePage.this, "출퇴근 기록을 가져오는 중 오류가 발생했습니다: " + cause.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                    cause.printStackTrace();
+                }
+            }
+        };
+        worker.addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                if (progressMonitor.isCanceled()) {
+                    cancelRequested.set(true);
+                    return;
+                }
+                int progress = (Integer) evt.getNewValue();
+                progressMonitor.setProgress(progress);
+                progressMonitor.setNote(progress + "% 완료");
+            }
+        });
+        worker.execute();
+    }
+
     private void deleteWorkRecord() {
         int[] selectedRows = workLogTable.getSelectedRows();
         if (selectedRows.length == 0) {
@@ -762,37 +1054,29 @@ public class AttendancePage extends JPanel {
             if (status == WorkStatus.ABSENCE) absenceDaysCount++;
         }
 
-        Payroll finalPayroll = new Payroll();
-        CalculationResult res = lastCalculationResult;
-
-        finalPayroll.setMonthlyBasicSalary(res.getFinalAdjustedBasicPay());
-        finalPayroll.setFixedOvertimeAllowance(res.getFinalAdjustedFixedOvertimeAllowance());
-        finalPayroll.setAdditionalOvertimePremium(res.getFinalAdjustedAdditionalOvertimePremium());
-        finalPayroll.setBonus(res.getFinalAdjustedBonus());
-        finalPayroll.setOtherAllowance(res.getFinalAdjustedOtherAllowance());
-        finalPayroll.setMealAllowance(res.getFinalAdjustedMealAllowance());
-        finalPayroll.setVehicleMaintenanceFee(res.getFinalAdjustedVehicleMaintenanceFee());
-        finalPayroll.setResearchDevelopmentExpense(res.getFinalAdjustedResearchDevelopmentExpense());
-        finalPayroll.setChildcareAllowance(res.getFinalAdjustedChildcareAllowance());
-
-        finalPayroll.setUnpaidDays((int) unpaidDaysCount);
-        finalPayroll.setUnauthorizedAbsenceDays((int) absenceDaysCount);
-
-        try {
-            payrollManager.finalizeMonthlyPayAndDeductions(
-                    currentEmployee.getId(),
-                    calendarPanel.getCurrentYearMonth(),
-                    finalPayroll,
-                    new BigDecimal("0.007"),
-                    1
-            );
-
-            JOptionPane.showMessageDialog(this, "급여 정보가 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
-            applyToDbButton.setEnabled(false);
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "DB 저장 중 오류 발생: " + e.getMessage(), "DB 오류", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
+        List<WorkLogEntry> entries = collectWorkLogEntries();
+        if (entries == null) {
+            return;
         }
+
+        Payroll finalPayroll = SalaryCalculatorService.buildMonthlyPayroll(lastCalculationResult, (int) unpaidDaysCount, (int) absenceDaysCount);
+        int employeeId = currentEmployee.getId();
+        finalPayroll.setEmployeeId(employeeId);
+        YearMonth period = calendarPanel.getCurrentYearMonth();
+        int dependents = currentEmployee.getDependents();
+
+        asyncRepository.execute(pm -> {
+            saveWorkLog(employeeId, period, entries);
+            return pm.finalizeMonth(period, Collections.singletonList(finalPayroll),
+                    pm.getSettings().getIndustrialAccidentRate(), dependents);
+        }, this, report -> {
+            if (report.isCommitted()) {
+                JOptionPane.showMessageDialog(this, "급여 정보가 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                applyToDbButton.setEnabled(false);
+            } else {
+                JOptionPane.showMessageDialog(this, "급여 정보 저장 실패: " + report.getErrorMessage(), "DB 오류", JOptionPane.ERROR_MESSAGE);
+            }
+        }, dbWriteControls());
     }
 
     private void processUnpaidLeaveAction() {
@@ -810,11 +1094,9 @@ public class AttendancePage extends JPanel {
         }
 
         tableModel.setRowCount(0);
-        List<Map<String, Object>> datesInfo = calendarPanel.getSelectedDatesWithStatus();
-        datesInfo.sort(Comparator.comparing(m -> (LocalDate) m.get("date")));
-
-        for (Map<String, Object> info : datesInfo) {
-            LocalDate date = (LocalDate) info.get("date");
+        MonthAttendanceState monthState = calendarPanel.getMonthState();
+        for (int day = 1; day <= monthState.lengthOfMonth(); day++) {
+            LocalDate date = monthState.dateOf(day);
             tableModel.addRow(new Object[]{date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")), "", "", WorkStatus.UNPAID_HOLIDAY});
         }
 
@@ -859,4 +1141,19 @@ public class AttendancePage extends JPanel {
             return c;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 직원 불러오기 결과 (I/O 스레드에서 EDT로 전달)
+     */
+    private static class EmployeeLoadResult {
+        final Employee employee;
+        final Payroll contract;
+        final List<WorkLogEntry> storedEntries;
+
+        EmployeeLoadResult(Employee employee, Payroll contract, List<WorkLogEntry> storedEntries) {
+            this.employee = employee;
+            this.contract = contract;
+            this.storedEntries = storedEntries;
+        }
+    }
+}
@@ -5,12 +5,9 @@ import java.awt.*;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.Month;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -20,13 +17,13 @@ public class CalendarPanel extends JPanel {
     private final JPanel calendarGrid;
     private final List<JCheckBox> dayCheckBoxes = new ArrayList<>();
     private final Consumer<Integer> onDayCountChange;
-    private final Set<LocalDate> publicHolidays = new HashSet<>();
+    private MonthAttendanceState monthState;
     private boolean monthChanged = false;
+    private final Set<Integer> warnedYears = new HashSet<>(); // 음력 공휴일 안내는 연도마다 한 번만 띄웁니다.
 
     public CalendarPanel(Consumer<Integer> onDayCountChange) {
         this.onDayCountChange = onDayCountChange;
         currentYearMonth = YearMonth.now();
-        initializePublicHolidays(currentYearMonth.getYear());
         setLayout(new BorderLayout(5, 5));
         setBorder(BorderFactory.createTitledBorder("달력"));
 
@@ -48,14 +45,12 @@ public class CalendarPanel extends JPanel {
         prevButton.addActionListener(e -> {
             currentYearMonth = currentYearMonth.minusMonths(1);
             this.monthChanged = true;
-            initializePublicHolidays(currentYearMonth.getYear());
             updateCalendar();
         });
 
         nextButton.addActionListener(e -> {
             currentYearMonth = currentYearMonth.plusMonths(1);
             this.monthChanged = true;
-            initializePublicHolidays(currentYearMonth.getYear());
             updateCalendar();
         });
 
@@ -64,47 +59,15 @@ public class CalendarPanel extends JPanel {
         SwingUtilities.invokeLater(this::updateCalendar);
     }
 
-    /**
-     * 지정된 연도의 대한민국 공휴일 정보를 초기화합니다.
-     * 2025년 기준 공휴일 및 대체공휴일이 적용되었습니다.
-     * @param year 공휴일을 초기화할 연도
-     */
-    private void initializePublicHolidays(int year) {
-        publicHolidays.clear();
-        // 2025년 기준 공휴일 정보
-        publicHolidays.add(LocalDate.of(year, Month.JANUARY, 1)); // 신정
-        publicHolidays.add(LocalDate.of(year, Month.JANUARY, 28)); // 설날
-        publicHolidays.add(LocalDate.of(year, Month.JANUARY, 29)); // 설날
-        publicHolidays.add(LocalDate.of(year, Month.JANUARY, 30)); // 설날
-        publicHolidays.add(LocalDate.of(year, Month.MARCH, 1)); // 삼일절
-        // 2025년 3.1절은 토요일이므로 대체공휴일 없음. 법령상 토요일은 대체공휴일 적용대상이 아님.
-        // 어린이날은 토요일과 겹치면 대체공휴일이 발생하지만, 3.1절/설날/추석은 일요일과 겹칠때만 발생.
-        publicHolidays.add(LocalDate.of(year, Month.MAY, 5)); // 어린이날
-        publicHolidays.add(LocalDate.of(year, Month.MAY, 6)); // 부처님 오신 날 (2023년부터 대체공휴일 적용 대상 포함)
-        publicHolidays.add(LocalDate.of(year, Month.JUNE, 6)); // 현충일
-        publicHolidays.add(LocalDate.of(year, Month.AUGUST, 15)); // 광복절
-        publicHolidays.add(LocalDate.of(year, Month.OCTOBER, 3)); // 개천절
-        publicHolidays.add(LocalDate.of(year, Month.OCTOBER, 6)); // 추석
-        publicHolidays.add(LocalDate.of(year, Month.OCTOBER, 7)); // 추석
-        publicHolidays.add(LocalDate.of(year, Month.OCTOBER, 8)); // 추석
-        publicHolidays.add(LocalDate.of(year, Month.OCTOBER, 9)); // 한글날
-        publicHolidays.add(LocalDate.of(year, Month.DECEMBER, 25)); // 크리스마스
-
-        // 2025년 특정 대체 공휴일 (예시: 어린이날이 일요일인 경우)
-        // 법령에 따라 동적으로 계산하는 로직이 더 정확하지만, 여기서는 주요 공휴일 기준으로 작성
-        LocalDate childrensDay = LocalDate.of(year, 5, 5);
-        if (childrensDay.getDayOfWeek() == DayOfWeek.SUNDAY || childrensDay.getDayOfWeek() == DayOfWeek.SATURDAY) {
-            publicHolidays.add(childrensDay.plusDays(childrensDay.getDayOfWeek() == DayOfWeek.SUNDAY ? 1 : 2));
-        }
-    }
-
-
     public boolean isPublicHoliday(LocalDate date) {
-        return publicHolidays.contains(date);
+        return HolidayCalendarService.isHoliday(date);
     }
 
+    /**
+     * 현재 표시 중인 연도의 공휴일 집합입니다. 변경할 수 없습니다.
+     */
     public Set<LocalDate> getPublicHolidays() {
-        return this.publicHolidays;
+        return HolidayCalendarService.holidaysOf(currentYearMonth.getYear());
     }
 
     private void addDayOfWeekLabels() {
@@ -124,6 +87,7 @@ public class CalendarPanel extends JPanel {
             calendarGrid.remove(components[i]);
         }
         dayCheckBoxes.clear();
+        monthState = MonthAttendanceState.withWeekdaysSelected(currentYearMonth);
 
         LocalDate firstDayOfMonth = currentYearMonth.atDay(1);
         int dayOfWeekValue = firstDayOfMonth.getDayOfWeek().getValue() % 7;
@@ -132,50 +96,49 @@ public class CalendarPanel extends JPanel {
         }
 
         for (int day = 1; day <= currentYearMonth.lengthOfMonth(); day++) {
-            LocalDate date = currentYearMonth.atDay(day);
+            final int dayOfMonth = day;
             JCheckBox dayCheckBox = new JCheckBox(String.valueOf(day));
             dayCheckBox.setHorizontalAlignment(SwingConstants.CENTER);
             dayCheckBox.setOpaque(false);
-            dayCheckBox.addActionListener(e -> onDayCountChange.accept(getSelectedDatesWithStatus().size()));
-            DayOfWeek dayOfWeek = date.getDayOfWeek();
-            boolean isPubHoliday = isPublicHoliday(date);
-            if (dayOfWeek == DayOfWeek.SUNDAY || isPubHoliday) {
+            dayCheckBox.addActionListener(e -> {
+                monthState = monthState.withSelected(dayOfMonth, dayCheckBox.isSelected());
+                onDayCountChange.accept(monthState.selectedCount());
+            });
+            DayOfWeek dayOfWeek = monthState.dayOfWeek(day);
+            if (dayOfWeek == DayOfWeek.SUNDAY || monthState.isPublicHoliday(day)) {
                 dayCheckBox.setForeground(Color.RED);
-                dayCheckBox.setSelected(false);
             } else if (dayOfWeek == DayOfWeek.SATURDAY) {
                 dayCheckBox.setForeground(Color.BLUE);
-                dayCheckBox.setSelected(false);
             } else {
                 dayCheckBox.setForeground(Color.BLACK);
-                dayCheckBox.setSelected(true);
             }
+            dayCheckBox.setSelected(monthState.isSelected(day));
             dayCheckBoxes.add(dayCheckBox);
             calendarGrid.add(dayCheckBox);
         }
 
         revalidate();
         repaint();
-        onDayCountChange.accept(getSelectedDatesWithStatus().size());
+        onDayCountChange.accept(monthState.selectedCount());
+        warnIfLunarHolidaysMissing(currentYearMonth.getYear());
     }
 
-    public List<Map<String, Object>> getSelectedDatesWithStatus() {
-        List<Map<String, Object>> selectedDatesInfo = new ArrayList<>();
-        for (JCheckBox checkBox : dayCheckBoxes) {
-            if (checkBox.getText().isEmpty()) continue;
-            try {
-                int dayOfMonth = Integer.parseInt(checkBox.getText());
-                LocalDate date = currentYearMonth.atDay(dayOfMonth);
-                Map<String, Object> dateInfo = new HashMap<>();
-                dateInfo.put("date", date);
-                dateInfo.put("isSelected", checkBox.isSelected());
-                dateInfo.put("isPublicHoliday", isPublicHoliday(date));
-                dateInfo.put("dayOfWeek", date.getDayOfWeek());
-                selectedDatesInfo.add(dateInfo);
-            } catch (NumberFormatException e) {
-                // Ignore non-numeric checkboxes
-            }
+    private void warnIfLunarHolidaysMissing(int year) {
+        if (HolidayCalendarService.hasLunarHolidays(year) || !warnedYears.add(year)) return;
+        JOptionPane.showMessageDialog(this,
+                year + "년은 음력 공휴일(설날, 부처님 오신 날, 추석) 정보가 없어 양력 공휴일만 달력에 표시됩니다.\n" +
+                        "해당 날짜는 직접 확인해 근무 기록을 수정해주세요.",
+                "공휴일 정보 없음", JOptionPane.WARNING_MESSAGE);
+    }
+
+    /**
+     * 현재 월의 선택 상태입니다. 체크박스를 누를 때마다 새 값으로 바뀌며, 반환된 값은 변경되지 않습니다.
+     */
+    public MonthAttendanceState getMonthState() {
+        if (monthState == null) { // updateCalendar 실행 전
+            monthState = MonthAttendanceState.withWeekdaysSelected(currentYearMonth);
         }
-        return selectedDatesInfo;
+        return monthState;
     }
 
     public YearMonth getCurrentYearMonth() {
@@ -191,27 +154,6 @@ public class CalendarPanel extends JPanel {
     }
 
     public boolean areAllWeekdaysSelected() {
-        for (int day = 1; day <= currentYearMonth.lengthOfMonth(); day++) {
-            LocalDate date = currentYearMonth.atDay(day);
-            DayOfWeek dayOfWeek = date.getDayOfWeek();
-            boolean isPubHoliday = isPublicHoliday(date);
-
-            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !isPubHoliday) {
-                boolean foundAndSelected = false;
-                for (JCheckBox cb : dayCheckBoxes) {
-                    if (cb.getText().equals(String.valueOf(day))) {
-                        if (!cb.isSelected()) {
-                            return false;
-                        }
-                        foundAndSelected = true;
-                        break;
-                    }
-                }
-                if (!foundAndSelected && !dayCheckBoxes.isEmpty()) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return getMonthState().areAllWeekdaysSelected();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,316 @@
+package main;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * H2 데이터베이스용 고정 크기 커넥션 풀입니다.
+ * 빌려준 커넥션의 close()는 물리 연결을 닫지 않고 풀로 반납하므로
+ * 기존의 try-with-resources 코드를 그대로 사용할 수 있습니다.
+ */
+public class ConnectionPool {
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final int minIdle;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long validationIntervalMillis;
+
+    // 가장 최근에 반납된 커넥션을 먼저 재사용(LIFO)하여 오래 쉰 커넥션이 뒤쪽에 남도록 합니다.
+    private final LinkedBlockingDeque<PooledEntry> idleConnections = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed = false;
+
+    // 지표
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger physicalCount = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalBorrowWaitNanos = new AtomicLong();
+    private final AtomicLong maxBorrowWaitNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong validationFailureCount = new AtomicLong();
+
+    public ConnectionPool(String url, String user, String password, int maxSize) {
+        this(url, user, password, maxSize, 1, 30_000L, 300_000L, 5_000L);
+    }
+
+    public ConnectionPool(String url, String user, String password, int maxSize, int minIdle,
+                          long borrowTimeoutMillis, long idleTimeoutMillis, long validationIntervalMillis) {
+        if (maxSize < 1) throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다.");
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.minIdle = Math.max(0, Math.min(minIdle, maxSize));
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validationIntervalMillis = validationIntervalMillis;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hr-db-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1_000L, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 풀에서 커넥션을 빌립니다. 모든 커넥션이 사용 중이면 borrowTimeout 만큼 대기합니다.
+     * @return close() 시 풀로 반납되는 커넥션
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) throw new SQLException("커넥션 풀이 이미 종료되었습니다.");
+
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTimeoutException("커넥션 대기 시간(" + borrowTimeoutMillis + "ms)을 초과했습니다. 사용 중: " + activeCount.get() + "/" + maxSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트되었습니다.", e);
+        }
+
+        try {
+            PooledEntry entry = takeValidIdleEntry();
+            if (entry == null) {
+                entry = new PooledEntry(DriverManager.getConnection(url, user, password));
+                physicalCount.incrementAndGet();
+                createdCount.incrementAndGet();
+            }
+            recordBorrowWait(System.nanoTime() - waitStart);
+            activeCount.incrementAndGet();
+            return entry.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private PooledEntry takeValidIdleEntry() {
+        PooledEntry entry;
+        while ((entry = idleConnections.pollFirst()) != null) {
+            long idleMillis = System.currentTimeMillis() - entry.lastReturnedAt;
+            if (idleMillis < validationIntervalMillis || isValid(entry.physical)) {
+                return entry;
+            }
+            validationFailureCount.incrementAndGet();
+            discard(entry);
+        }
+        return null;
+    }
+
+    private boolean isValid(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void recordBorrowWait(long waitNanos) {
+        borrowCount.incrementAndGet();
+        totalBorrowWaitNanos.addAndGet(waitNanos);
+        maxBorrowWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    // 빌려간 커넥션이 close()될 때 호출됩니다.
+    private void release(PooledEntry entry) {
+        activeCount.decrementAndGet();
+        try {
+            if (closed || entry.physical.isClosed()) {
+                discard(entry);
+                return;
+            }
+            // 트랜잭션을 끝내지 않고 반납된 경우 다음 사용자에게 넘어가지 않도록 정리합니다.
+            if (!entry.physical.getAutoCommit()) {
+                entry.physical.rollback();
+                entry.physical.setAutoCommit(true);
+            }
+            if (entry.physical.isReadOnly()) {
+                entry.physical.setReadOnly(false);
+            }
+            entry.lastReturnedAt = System.currentTimeMillis();
+            idleConnections.offerFirst(entry);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            discard(entry);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(PooledEntry entry) {
+        physicalCount.decrementAndGet();
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 유휴 시간이 idleTimeout을 넘은 커넥션을 minIdle 개수만 남기고 정리합니다.
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        PooledEntry oldest;
+        while (idleConnections.size() > minIdle && (oldest = idleConnections.peekLast()) != null) {
+            if (now - oldest.lastReturnedAt < idleTimeoutMillis) break;
+            if (idleConnections.removeLastOccurrence(oldest)) {
+                evictedCount.incrementAndGet();
+                discard(oldest);
+            }
+        }
+    }
+
+    /**
+     * 풀을 종료하고 유휴 커넥션을 모두 닫습니다. 사용 중인 커넥션은 반납 시점에 닫힙니다.
+     */
+    public void shutdown() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledEntry entry;
+        while ((entry = idleConnections.pollFirst()) != null) {
+            discard(entry);
+        }
+    }
+
+    public PoolStats getStats() {
+        long borrows = borrowCount.get();
+        return new PoolStats(maxSize, activeCount.get(), idleConnections.size(), permits.getQueueLength(),
+                borrows, borrows == 0 ? 0 : totalBorrowWaitNanos.get() / borrows, maxBorrowWaitNanos.get(),
+                timeoutCount.get(), createdCount.get(), evictedCount.get(), validationFailureCount.get());
+    }
+
+    /**
+     * 물리 커넥션과 마지막 반납 시각을 함께 보관합니다.
+     */
+    private final class PooledEntry {
+        final Connection physical;
+        volatile long lastReturnedAt = System.currentTimeMillis();
+
+        PooledEntry(Connection physical) {
+            this.physical = physical;
+        }
+
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+    }
+
+    /**
+     * 한 번의 대여를 나타내는 프록시 핸들러입니다. close() 이후의 호출은 거부합니다.
+     */
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private boolean returned = false;
+
+        LeaseHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + entry.physical + "]";
+                default:
+                    if (returned) throw new SQLException("이미 풀로 반납된 커넥션입니다.");
+                    try {
+                        return method.invoke(entry.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+
+    /**
+     * 풀 상태의 스냅샷입니다.
+     */
+    public static class PoolStats {
+        private final int maxSize;
+        private final int activeConnections;
+        private final int idleConnections;
+        private final int waitingThreads;
+        private final long borrowCount;
+        private final long averageBorrowWaitNanos;
+        private final long maxBorrowWaitNanos;
+        private final long timeoutCount;
+        private final long createdCount;
+        private final long evictedCount;
+        private final long validationFailureCount;
+
+        PoolStats(int maxSize, int activeConnections, int idleConnections, int waitingThreads,
+                  long borrowCount, long averageBorrowWaitNanos, long maxBorrowWaitNanos,
+                  long timeoutCount, long createdCount, long evictedCount, long validationFailureCount) {
+            this.maxSize = maxSize;
+            this.activeConnections = activeConnections;
+            this.idleConnections = idleConnections;
+            this.waitingThreads = waitingThreads;
+            this.borrowCount = borrowCount;
+            this.averageBorrowWaitNanos = averageBorrowWaitNanos;
+            this.maxBorrowWaitNanos = maxBorrowWaitNanos;
+            this.timeoutCount = timeoutCount;
+            this.createdCount = createdCount;
+            this.evictedCount = evictedCount;
+            this.validationFailureCount = validationFailureCount;
+        }
+
+        public int getMaxSize() { return maxSize; }
+        public int getActiveConnections() { return activeConnections; }
+        public int getIdleConnections() { return idleConnections; }
+        public int getWaitingThreads() { return waitingThreads; }
+        public long getBorrowCount() { return borrowCount; }
+        public long getAverageBorrowWaitNanos() { return averageBorrowWaitNanos; }
+        public long getMaxBorrowWaitNanos() { return maxBorrowWaitNanos; }
+        public long getTimeoutCount() { return timeoutCount; }
+        public long getCreatedCount() { return createdCount; }
+        public long getEvictedCount() { return evictedCount; }
+        public long getValidationFailureCount() { return validationFailureCount; }
+
+        @Override
+        public String toString() {
+            return String.format("활성 %d / 유휴 %d / 최대 %d, 대기 스레드 %d, 대여 %d회 (평균 대기 %.3fms, 최대 %.3fms), 타임아웃 %d, 생성 %d, 정리 %d, 검증 실패 %d",
+                    activeConnections, idleConnections, maxSize, waitingThreads, borrowCount,
+                    averageBorrowWaitNanos / 1_000_000.0, maxBorrowWaitNanos / 1_000_000.0,
+                    timeoutCount, createdCount, evictedCount, validationFailureCount);
+        }
+    }
+}
@@ -2,44 +2,57 @@ package main;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.YearMonth;
 
 public class DeductionCalculator {
 
-    // [수정] 모든 요율을 오차 없는 BigDecimal 상수로 정의
-    private static final BigDecimal NATIONAL_PENSION_RATE = new BigDecimal("0.045");
-    private static final BigDecimal HEALTH_INSURANCE_RATE = new BigDecimal("0.03545");
-    private static final BigDecimal LONG_TERM_CARE_RATE_OF_HEALTH_INS = new BigDecimal("0.1295");
-    private static final BigDecimal EMPLOYMENT_INSURANCE_RATE = new BigDecimal("0.009");
-
-    private static final BigDecimal NATIONAL_PENSION_MIN_BASE = new BigDecimal("370000");
-    private static final BigDecimal NATIONAL_PENSION_MAX_BASE = new BigDecimal("5900000");
-
-    public static DeductionResult calculate(BigDecimal monthlyGrossSalary, BigDecimal industrialAccidentRate, int dependents) {
+    private static final BigDecimal LOCAL_INCOME_TAX_RATE = new BigDecimal("0.1");
+
+    // 간이세액표가 없을 때의 단순화 소득세: 월급여(인적공제 차감 후) 구간 하한과 세율
+    private static final BigDecimal[] SIMPLIFIED_TAX_THRESHOLDS = {
+            new BigDecimal("2500000"), new BigDecimal("3000000"), new BigDecimal("4000000"),
+            new BigDecimal("5000000"), new BigDecimal("6000000")};
+    private static final BigDecimal[] SIMPLIFIED_TAX_RATES = {
+            new BigDecimal("0.02"), new BigDecimal("0.05"), new BigDecimal("0.08"),
+            new BigDecimal("0.10"), new BigDecimal("0.15")};
+    // 본인 외 공제대상가족 1명당 인적공제 연 150만원의 월 환산액
+    private static final BigDecimal MONTHLY_DEDUCTION_PER_DEPENDENT = new BigDecimal("125000");
+
+    private static volatile boolean missingTaxTableWarned;
+
+    /**
+     * 급여 귀속월에 유효한 보험 요율과 간이세액표로 공제액을 계산합니다.
+     * @param period 급여 귀속 연월, 요율과 세액표를 고르는 기준
+     * @param rateSchedule 보험 요율표 (PayrollManager.getInsuranceRateSchedule())
+     */
+    public static DeductionResult calculate(BigDecimal monthlyGrossSalary, BigDecimal industrialAccidentRate, int dependents,
+                                            YearMonth period, InsuranceRateSchedule rateSchedule) {
         DeductionResult result = new DeductionResult();
+        InsuranceRateSchedule.Rates rates = rateSchedule.ratesFor(period);
 
         // 1. 국민연금 계산
-        BigDecimal pensionBase = monthlyGrossSalary.max(NATIONAL_PENSION_MIN_BASE).min(NATIONAL_PENSION_MAX_BASE);
-        result.nationalPensionEmployee = floorTo10(pensionBase.multiply(NATIONAL_PENSION_RATE));
+        BigDecimal pensionBase = monthlyGrossSalary.max(rates.getPensionMinBase()).min(rates.getPensionMaxBase());
+        result.nationalPensionEmployee = floorTo10(pensionBase.multiply(rates.getNationalPensionRate()));
         result.nationalPensionEmployer = result.nationalPensionEmployee;
 
         // 2. 건강보험 계산
-        result.healthInsuranceEmployee = floorTo10(monthlyGrossSalary.multiply(HEALTH_INSURANCE_RATE));
+        result.healthInsuranceEmployee = floorTo10(monthlyGrossSalary.multiply(rates.getHealthInsuranceRate()));
         result.healthInsuranceEmployer = result.healthInsuranceEmployee;
 
         // 3. 장기요양보험 계산
-        result.longTermCareInsuranceEmployee = floorTo10(result.healthInsuranceEmployee.multiply(LONG_TERM_CARE_RATE_OF_HEALTH_INS));
+        result.longTermCareInsuranceEmployee = floorTo10(result.healthInsuranceEmployee.multiply(rates.getLongTermCareRateOfHealthInsurance()));
         result.longTermCareInsuranceEmployer = result.longTermCareInsuranceEmployee;
 
         // 4. 고용보험 계산
-        result.employmentInsuranceEmployee = floorTo10(monthlyGrossSalary.multiply(EMPLOYMENT_INSURANCE_RATE));
+        result.employmentInsuranceEmployee = floorTo10(monthlyGrossSalary.multiply(rates.getEmploymentInsuranceRate()));
         result.employmentInsuranceEmployer = result.employmentInsuranceEmployee;
 
         // 5. 산재보험 계산 (사업주 100% 부담)
         result.industrialAccidentInsuranceEmployer = floorTo10(monthlyGrossSalary.multiply(industrialAccidentRate));
 
         // 6. 근로소득세 계산
-        result.incomeTax = calculateIncomeTax(monthlyGrossSalary, dependents);
-        result.localIncomeTax = floorTo10(result.incomeTax.multiply(new BigDecimal("0.1")));
+        result.incomeTax = calculateIncomeTax(monthlyGrossSalary, dependents, period.getYear());
+        result.localIncomeTax = floorTo10(result.incomeTax.multiply(LOCAL_INCOME_TAX_RATE));
 
         // 7. 합계 계산
         result.totalEmployeeDeduction = result.nationalPensionEmployee
@@ -66,13 +79,30 @@ public class DeductionCalculator {
         return value.divide(BigDecimal.TEN, 0, RoundingMode.FLOOR).multiply(BigDecimal.TEN);
     }
 
-    // 근로소득세 간이세액표 단순화 구현
-    private static BigDecimal calculateIncomeTax(BigDecimal salary, int dependents) {
-        if (salary.compareTo(new BigDecimal("2500000")) < 0) return BigDecimal.ZERO;
-        if (salary.compareTo(new BigDecimal("3000000")) < 0) return floorTo10(salary.multiply(new BigDecimal("0.02")));
-        if (salary.compareTo(new BigDecimal("4000000")) < 0) return floorTo10(salary.multiply(new BigDecimal("0.05")));
-        if (salary.compareTo(new BigDecimal("5000000")) < 0) return floorTo10(salary.multiply(new BigDecimal("0.08")));
-        if (salary.compareTo(new BigDecimal("6000000")) < 0) return floorTo10(salary.multiply(new BigDecimal("0.10")));
-        return floorTo10(salary.multiply(new BigDecimal("0.15")));
+    // 근로소득세: 간이세액표(공제대상가족 수 기준) 조회, 원 미만은 버리고 조회합니다.
+    // 국세청 간이세액표를 넣어 두지 않았으면 기존 단순화 계산을 사용합니다.
+    private static BigDecimal calculateIncomeTax(BigDecimal salary, int dependents, int year) {
+        IncomeTaxTable table = IncomeTaxTable.forYear(year);
+        if (table == null) {
+            if (!missingTaxTableWarned) {
+                missingTaxTableWarned = true;
+                System.err.println("근로소득 간이세액표(/tax/index.txt)가 없어 단순화한 소득세 계산을 사용합니다.");
+            }
+            return calculateSimplifiedIncomeTax(salary, dependents);
+        }
+        long monthlySalary = salary.setScale(0, RoundingMode.FLOOR).longValue();
+        return BigDecimal.valueOf(table.monthlyTax(monthlySalary, dependents));
+    }
+
+    // 근로소득세 간이세액표 단순화 구현: 본인 외 공제대상가족마다 월 125,000원을 뺀 금액에 구간 세율을 적용합니다.
+    static BigDecimal calculateSimplifiedIncomeTax(BigDecimal salary, int dependents) {
+        int additionalDependents = Math.max(1, Math.min(IncomeTaxTable.MAX_DEPENDENTS, dependents)) - 1;
+        BigDecimal taxable = salary.subtract(MONTHLY_DEDUCTION_PER_DEPENDENT.multiply(BigDecimal.valueOf(additionalDependents)));
+        for (int i = SIMPLIFIED_TAX_THRESHOLDS.length - 1; i >= 0; i--) {
+            if (taxable.compareTo(SIMPLIFIED_TAX_THRESHOLDS[i]) >= 0) {
+                return floorTo10(taxable.multiply(SIMPLIFIED_TAX_RATES[i]));
+            }
+        }
+        return BigDecimal.ZERO;
     }
 }
\ No newline at end of file
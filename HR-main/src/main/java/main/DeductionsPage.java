@@ -8,17 +8,18 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.List;
+import java.util.Collections;
 import java.util.Optional;
-import java.util.Comparator;
 
 public class DeductionsPage extends JPanel {
 
     private final PayrollManager payrollManager;
+    private final AsyncPayrollRepository asyncRepository;
     private Employee currentEmployee;
     private Payroll currentPayroll;
 
-    private JComboBox<String> employeeComboBox;
+    private JComboBox<Employee> employeeComboBox;
+    private EmployeeComboBoxModel employeeComboBoxModel;
     private JComboBox<Integer> yearComboBox;
     private JComboBox<String> monthComboBox;
     private JButton loadButton;
@@ -53,6 +54,7 @@ public class DeductionsPage extends JPanel {
 
     public DeductionsPage(PayrollManager payrollManager) {
         this.payrollManager = payrollManager;
+        this.asyncRepository = new AsyncPayrollRepository(payrollManager);
         setLayout(new BorderLayout(10, 10));
         setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
@@ -60,13 +62,14 @@ public class DeductionsPage extends JPanel {
         add(createCenterPanel(), BorderLayout.CENTER);
 
         addListeners();
-        refreshEmployeeComboBox();
     }
 
     private JPanel createTopPanel() {
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         panel.add(new JLabel("직원 선택:"));
-        employeeComboBox = new JComboBox<>();
+        employeeComboBoxModel = new EmployeeComboBoxModel(payrollManager.getEmployeeDirectory(), asyncRepository);
+        employeeComboBox = new JComboBox<>(employeeComboBoxModel);
+        employeeComboBox.setRenderer(employeeComboBoxModel.createRenderer());
         panel.add(employeeComboBox);
 
         panel.add(Box.createHorizontalStrut(15));
@@ -168,30 +171,28 @@ public class DeductionsPage extends JPanel {
     }
 
     private void loadPayrollData() {
-        String selectedName = (String) employeeComboBox.getSelectedItem();
+        Employee selected = employeeComboBoxModel.getSelectedEmployee();
         int year = (int) yearComboBox.getSelectedItem();
         int month = Integer.parseInt((String) monthComboBox.getSelectedItem());
 
-        if (selectedName == null || selectedName.equals("등록된 직원이 없습니다.")) {
-            return;
+        if (selected != null) {
+            saveButton.setEnabled(false);
+            asyncRepository.load("payroll", pm -> pm.getPayrollsForPeriod(year, month).stream()
+                    .filter(p -> p.getEmployeeId() == selected.getId())
+                    .findFirst(), this, payrollOpt -> applyPayrollData(selected, payrollOpt));
         }
+    }
 
-        Optional<Employee> empOpt = payrollManager.getEmployeeByName(selectedName);
-        if (empOpt.isPresent()) {
-            currentEmployee = empOpt.get();
-            List<Payroll> payrolls = payrollManager.getPayrollsForPeriod(year, month);
-            Optional<Payroll> payrollOpt = payrolls.stream()
-                    .filter(p -> p.getEmployeeId() == currentEmployee.getId())
-                    .findFirst();
-
-            if (payrollOpt.isPresent()) {
-                currentPayroll = payrollOpt.get();
-                populateData(currentPayroll);
-                saveButton.setEnabled(true);
-            } else {
-                clearData();
-                JOptionPane.showMessageDialog(this, "해당 월에 확정된 급여 정보가 없습니다.\n먼저 '2. 근태/급여 계산'에서 급여 계산 및 저장을 완료해주세요.", "정보 없음", JOptionPane.WARNING_MESSAGE);
-            }
+    private void applyPayrollData(Employee employee, Optional<Payroll> payrollOpt) {
+        currentEmployee = employee;
+        if (payrollOpt.isPresent()) {
+            currentPayroll = payrollOpt.get();
+            populateData(currentPayroll);
+            txtDependents.setText(String.valueOf(employee.getDependents()));
+            saveButton.setEnabled(true);
+        } else {
+            clearData();
+            JOptionPane.showMessageDialog(this, "해당 월에 확정된 급여 정보가 없습니다.\n먼저 '2. 근태/급여 계산'에서 급여 계산 및 저장을 완료해주세요.", "정보 없음", JOptionPane.WARNING_MESSAGE);
         }
     }
 
@@ -205,8 +206,11 @@ public class DeductionsPage extends JPanel {
             IndustrialAccidentRate selectedRate = (IndustrialAccidentRate) rateComboBox.getSelectedItem();
             BigDecimal accidentRate = (selectedRate != null) ? selectedRate.rate : BigDecimal.ZERO;
             int dependents = Integer.parseInt(txtDependents.getText());
+            int year = (int) yearComboBox.getSelectedItem();
+            int month = Integer.parseInt((String) monthComboBox.getSelectedItem());
 
-            this.lastDeductionResult = DeductionCalculator.calculate(grossPay, accidentRate, dependents);
+            this.lastDeductionResult = DeductionCalculator.calculate(grossPay, accidentRate, dependents,
+                    YearMonth.of(year, month), payrollManager.getInsuranceRateSchedule());
             displayDeductionResult(this.lastDeductionResult);
 
         } catch (NumberFormatException e) {
@@ -231,12 +235,16 @@ public class DeductionsPage extends JPanel {
         int year = (int) yearComboBox.getSelectedItem();
         int month = Integer.parseInt((String) monthComboBox.getSelectedItem());
 
-        payrollManager.finalizeMonthlyPayAndDeductions(
-                currentEmployee.getId(), YearMonth.of(year, month),
-                currentPayroll, accidentRate, dependents
-        );
-
-        JOptionPane.showMessageDialog(this, "공제액 정보가 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+        Payroll payroll = currentPayroll;
+        payroll.setEmployeeId(currentEmployee.getId());
+        asyncRepository.execute(pm -> pm.finalizeMonth(YearMonth.of(year, month), Collections.singletonList(payroll),
+                accidentRate, dependents), this, report -> {
+            if (report.isCommitted()) {
+                JOptionPane.showMessageDialog(this, "공제액 정보가 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(this, "급여 정보 저장 실패: " + report.getErrorMessage(), "DB 오류", JOptionPane.ERROR_MESSAGE);
+            }
+        }, saveButton, calculateButton, loadButton);
     }
 
     private void populateData(Payroll payroll) {
@@ -298,19 +306,4 @@ public class DeductionsPage extends JPanel {
         lblNetPayValue.setText("0 원");
         saveButton.setEnabled(false);
     }
-
-    public void refreshEmployeeComboBox() {
-        employeeComboBox.removeAllItems();
-        try {
-            List<Employee> employees = payrollManager.getAllEmployees();
-            if (employees.isEmpty()) {
-                employeeComboBox.addItem("등록된 직원이 없습니다.");
-            } else {
-                employees.sort(Comparator.comparing(Employee::getName));
-                employees.forEach(employee -> employeeComboBox.addItem(employee.getName()));
-            }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "직원 목록 로드 오류: " + e.getMessage(), "데이터베이스 오류", JOptionPane.ERROR_MESSAGE);
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package main;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 진단 폴더(~/.HR_Payroll_App_Data/diagnostics)의 로그 파일 하나에 덧붙여 씁니다.
+ * 파일이 1MB를 넘으면 이름.1.log ~ .5.log로 밀어냅니다. EdtWatchdog와 QueryMetrics가 사용합니다.
+ */
+class DiagnosticsLog {
+
+    static final Path DEFAULT_DIRECTORY = Paths.get(PayrollManager.DB_FOLDER_PATH, "diagnostics");
+    private static final long MAX_LOG_BYTES = 1024 * 1024;
+    private static final int MAX_LOG_FILES = 5;
+
+    private final Path directory;
+    private final String name;
+
+    /**
+     * @param directory 로그를 둘 폴더 (없으면 만듭니다)
+     * @param name 확장자를 뺀 파일 이름 (예: edt-stalls)
+     */
+    DiagnosticsLog(Path directory, String name) {
+        this.directory = directory;
+        this.name = name;
+    }
+
+    Path file() {
+        return directory.resolve(name + ".log");
+    }
+
+    /**
+     * text를 그대로 덧붙입니다. 실패하면 스택만 출력하고 넘어갑니다.
+     */
+    synchronized void append(String text) {
+        try {
+            Files.createDirectories(directory);
+            Path logFile = file();
+            if (Files.exists(logFile) && Files.size(logFile) > MAX_LOG_BYTES) {
+                roll(logFile);
+            }
+            Files.write(logFile, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 이름.log -> .1.log -> ... -> .5.log (가장 오래된 것은 지움)
+    private void roll(Path logFile) throws IOException {
+        Files.deleteIfExists(directory.resolve(name + "." + MAX_LOG_FILES + ".log"));
+        for (int i = MAX_LOG_FILES - 1; i >= 1; i--) {
+            Path source = directory.resolve(name + "." + i + ".log");
+            if (Files.exists(source)) {
+                Files.move(source, directory.resolve(name + "." + (i + 1) + ".log"), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(logFile, directory.resolve(name + ".1.log"), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,204 @@
+package main;
+
+import java.awt.EventQueue;
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Swing 이벤트 디스패치 스레드(EDT)가 멈추는 것을 감지해 진단 파일에 남깁니다.
+ *
+ * <p>감시 스레드가 EDT에 짧은 작업(ping)을 넣고, ping이 hr.edtStallMillis(기본 200ms, 0이면 끔) 안에
+ * 실행되지 않으면 그 순간의 EDT 스택과 보고 있던 화면(PayrollApp.showCard의 카드 이름)을 잡아 둡니다.
+ * EDT가 풀리면 멈춘 시간과 함께 ~/.HR_Payroll_App_Data/diagnostics/edt-stalls.log에 씁니다.
+ * 5초(임계값이 더 길면 임계값)가 지나도 풀리지 않으면 그때의 스택으로 한 번 더 기록하므로,
+ * 끝내 응답하지 않는 경우에도 보고가 남습니다.
+ * 멈춘 시간은 ping을 넣은 시각부터 재므로 확인 주기(임계값의 1/4)만큼 짧게 나올 수 있습니다.
+ * 로그 파일은 1MB를 넘으면 edt-stalls.1.log ~ .5.log로 밀어냅니다.
+ */
+public class EdtWatchdog {
+
+    static final long STALL_MILLIS = Long.getLong("hr.edtStallMillis", 200L);
+    private static final long MIN_HANG_REPORT_MILLIS = 5_000L;
+    private static final int MAX_STACK_DEPTH = 80;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private final DiagnosticsLog log;
+    private final long stallNanos;
+    private final long hangReportNanos;    // 멈춤 감지 뒤에만 진행 중 보고를 하도록 stallNanos 이상으로 둡니다.
+    private final ScheduledExecutorService scheduler;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private volatile String currentPage = "-";
+    private volatile Thread edtThread;
+    private volatile long pingPostedAt;       // 응답을 기다리는 ping을 넣은 시각 (nanoTime), 0이면 없음
+    private volatile long lastPingLatencyNanos;
+
+    // 아래는 감시 스레드에서만 사용합니다.
+    private LocalDateTime stallDetectedAt;
+    private String stallPage;
+    private String stallThreadDump;
+    private boolean hangReported;
+
+    /**
+     * @param logDirectory 진단 파일을 둘 폴더 (없으면 만듭니다)
+     * @param stallMillis 이보다 오래 EDT가 응답하지 않으면 기록합니다.
+     */
+    public EdtWatchdog(Path logDirectory, long stallMillis) {
+        this.log = new DiagnosticsLog(logDirectory, "edt-stalls");
+        this.stallNanos = TimeUnit.MILLISECONDS.toNanos(stallMillis);
+        this.hangReportNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(MIN_HANG_REPORT_MILLIS, stallMillis));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hr-edt-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 앱 데이터 폴더에 기록하는 감시를 시작합니다.
+     * @return 시작한 감시, hr.edtStallMillis가 0 이하면 null
+     */
+    public static EdtWatchdog startDefault() {
+        if (STALL_MILLIS <= 0) return null;
+        EdtWatchdog watchdog = new EdtWatchdog(DiagnosticsLog.DEFAULT_DIRECTORY, STALL_MILLIS);
+        watchdog.start();
+        return watchdog;
+    }
+
+    public void start() {
+        long period = Math.max(10L, TimeUnit.NANOSECONDS.toMillis(stallNanos) / 4);
+        scheduler.scheduleWithFixedDelay(this::check, 0L, period, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 지금 보이는 화면을 알립니다. 멈춤 보고에 함께 기록됩니다.
+     */
+    public void setCurrentPage(String page) {
+        currentPage = page;
+    }
+
+    private void check() {
+        try {
+            long posted = pingPostedAt;
+            if (posted == 0) {
+                if (stallDetectedAt != null) {
+                    writeReport("EDT 멈춤", lastPingLatencyNanos, stallThreadDump);
+                    stallDetectedAt = null;
+                    hangReported = false;
+                }
+                postPing();
+                return;
+            }
+            long waited = System.nanoTime() - posted;
+            if (waited >= stallNanos && stallDetectedAt == null) {
+                // 멈춘 순간의 스택을 잡아 두고, 기록은 EDT가 풀려 전체 시간을 알게 된 뒤에 합니다.
+                stallDetectedAt = LocalDateTime.now();
+                stallPage = currentPage;
+                stallThreadDump = dumpEdt();
+            }
+            if (waited >= hangReportNanos && !hangReported) {
+                hangReported = true;
+                writeReport("EDT 응답 없음 (진행 중)", waited, dumpEdt());
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace(); // 감시 스레드가 예외로 멈추지 않도록 합니다.
+        }
+    }
+
+    private void postPing() {
+        long posted = System.nanoTime();
+        pingPostedAt = posted;
+        EventQueue.invokeLater(() -> {
+            edtThread = Thread.currentThread(); // 예외 뒤에 EDT가 새로 만들어질 수 있어 매번 갱신합니다.
+            lastPingLatencyNanos = System.nanoTime() - posted;
+            pingPostedAt = 0;
+        });
+    }
+
+    // EDT 스택과 잠금 정보. EDT가 다른 스레드의 잠금을 기다리면 그 스레드의 스택도 함께 적습니다.
+    private String dumpEdt() {
+        Thread edt = edtThread;
+        if (edt == null) return "  (EDT를 아직 찾지 못했습니다)" + System.lineSeparator();
+        ThreadInfo info = threadInfo(edt.getId());
+        if (info == null) return "  (EDT 스택을 읽지 못했습니다)" + System.lineSeparator();
+        StringBuilder sb = new StringBuilder();
+        appendThread(sb, info);
+        if (info.getLockOwnerId() >= 0) {
+            ThreadInfo owner = threadInfo(info.getLockOwnerId());
+            if (owner != null) {
+                sb.append("  -- 잠금을 가진 스레드 --").append(System.lineSeparator());
+                appendThread(sb, owner);
+            }
+        }
+        return sb.toString();
+    }
+
+    private ThreadInfo threadInfo(long threadId) {
+        ThreadInfo[] infos = threadMXBean.getThreadInfo(new long[]{threadId},
+                threadMXBean.isObjectMonitorUsageSupported(), threadMXBean.isSynchronizerUsageSupported());
+        return infos.length > 0 ? infos[0] : null;
+    }
+
+    private static void appendThread(StringBuilder sb, ThreadInfo info) {
+        String nl = System.lineSeparator();
+        sb.append("  \"").append(info.getThreadName()).append("\" ").append(info.getThreadState());
+        if (info.getLockName() != null) {
+            sb.append(", 대기 중인 잠금 ").append(info.getLockName());
+            if (info.getLockOwnerName() != null) sb.append(" (소유: ").append(info.getLockOwnerName()).append(')');
+        }
+        sb.append(nl);
+        StackTraceElement[] stack = info.getStackTrace();
+        StackTraceElement blocking = blockingFrame(stack);
+        if (blocking != null) {
+            sb.append("  차단 위치: ").append(blocking).append(nl);
+        }
+        MonitorInfo[] monitors = info.getLockedMonitors();
+        for (int i = 0; i < stack.length && i < MAX_STACK_DEPTH; i++) {
+            sb.append("    at ").append(stack[i]).append(nl);
+            for (MonitorInfo monitor : monitors) {
+                if (monitor.getLockedStackDepth() == i) {
+                    sb.append("      - 잠금 보유 ").append(monitor).append(nl);
+                }
+            }
+        }
+        if (stack.length > MAX_STACK_DEPTH) {
+            sb.append("    ... ").append(stack.length - MAX_STACK_DEPTH).append("개 프레임 생략").append(nl);
+        }
+        for (LockInfo synchronizer : info.getLockedSynchronizers()) {
+            sb.append("  - 보유 동기화 객체 ").append(synchronizer).append(nl);
+        }
+    }
+
+    // 스택 맨 위에서 가장 가까운 앱 코드 (DB 호출이나 내보내기 메서드). 커넥션·지표 래퍼는 건너뜁니다.
+    private static StackTraceElement blockingFrame(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            if (className.startsWith("main.") && !className.startsWith("main.QueryMetrics")
+                    && !className.startsWith("main.ConnectionPool") && !className.startsWith("main.EdtWatchdog")) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    private void writeReport(String title, long elapsedNanos, String threadDump) {
+        String nl = System.lineSeparator();
+        String report = "=== " + title + " " + stallDetectedAt.format(TIME_FORMAT)
+                + String.format(", %,dms, 화면: %s ===", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), stallPage) + nl
+                + threadDump + nl;
+        System.err.printf("[%s] %,dms, 화면: %s -> %s%n", title, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), stallPage, log.file());
+        log.append(report);
+    }
+}
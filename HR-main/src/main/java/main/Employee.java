@@ -15,6 +15,7 @@ public class Employee {
     private String department;
     private String workLocation;
     private String siteLocation;
+    private int dependents = 1; // 근로소득세 공제대상가족 수 (본인 포함)
 
     public Employee(String name, String residentRegistrationNumber, String phoneNumber,
                     BigDecimal annualSalary, String address, LocalDate hireDate, LocalDate salaryChangeDate, String department,
@@ -59,6 +60,7 @@ public class Employee {
     public String getDepartment() { return department; }
     public String getWorkLocation() { return workLocation; }
     public String getSiteLocation() { return siteLocation; }
+    public int getDependents() { return dependents; }
 
     // Setters
     public void setId(int id) { this.id = id; }
@@ -72,4 +74,9 @@ public class Employee {
     public void setDepartment(String department) { this.department = department; }
     public void setWorkLocation(String workLocation) { this.workLocation = workLocation; }
     public void setSiteLocation(String siteLocation) { this.siteLocation = siteLocation; }
+    public void setDependents(int dependents) { this.dependents = dependents; }
+
+    // 콤보박스의 키보드 검색이 이름으로 동작하도록 이름을 반환합니다.
+    @Override
+    public String toString() { return name; }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package main;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.JList;
+import javax.swing.ListCellRenderer;
+import javax.swing.SwingUtilities;
+import java.awt.Component;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * EmployeeDirectory의 직원 목록을 보여 주는 콤보박스 모델입니다.
+ *
+ * <p>목록은 모든 화면이 같은 캐시를 쓰고, 선택 항목만 콤보박스마다 따로 가집니다(모델 하나를 여러 콤보박스에
+ * 붙이면 한 화면의 선택이 다른 화면까지 바뀌기 때문입니다). 직원 목록이 바뀌면 I/O 스레드에서 다시 읽어
+ * 반영하며, 선택은 이름이 아니라 직원 ID로 유지합니다. EDT에서만 사용합니다.
+ */
+public class EmployeeComboBoxModel extends AbstractListModel<Employee> implements ComboBoxModel<Employee> {
+
+    private static final String EMPTY_TEXT = "등록된 직원이 없습니다.";
+
+    private final EmployeeDirectory directory;
+    private final AsyncPayrollRepository asyncRepository;
+    private List<Employee> employees = Collections.emptyList();
+    private Set<String> duplicateNames = Collections.emptySet();
+    private Employee selectedEmployee;
+    private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+
+    public EmployeeComboBoxModel(EmployeeDirectory directory, AsyncPayrollRepository asyncRepository) {
+        this.directory = directory;
+        this.asyncRepository = asyncRepository;
+        // 여러 직원을 연달아 저장해도 다시 읽기는 한 번만 예약합니다.
+        directory.addChangeListener(() -> {
+            if (reloadScheduled.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(() -> {
+                    reloadScheduled.set(false);
+                    reload();
+                });
+            }
+        });
+        reload();
+    }
+
+    /**
+     * 직원 목록을 I/O 스레드에서 읽어 반영합니다. 캐시가 유효하면 DB를 조회하지 않습니다.
+     */
+    public void reload() {
+        asyncRepository.load("employeeDirectory", pm -> directory.getAll(), null, this::setEmployees);
+    }
+
+    private void setEmployees(List<Employee> loaded) {
+        int oldSize = employees.size();
+        Integer selectedId = selectedEmployee != null ? selectedEmployee.getId() : null;
+        employees = loaded;
+
+        Set<String> seen = new HashSet<>();
+        Set<String> duplicates = new HashSet<>();
+        for (Employee employee : loaded) {
+            if (!seen.add(employee.getName())) duplicates.add(employee.getName());
+        }
+        duplicateNames = duplicates;
+
+        selectedEmployee = null;
+        for (Employee employee : loaded) {
+            if (selectedId != null && employee.getId() == selectedId) {
+                selectedEmployee = employee;
+                break;
+            }
+        }
+        if (selectedEmployee == null && !loaded.isEmpty()) {
+            selectedEmployee = loaded.get(0);
+        }
+        if (oldSize > loaded.size()) {
+            fireIntervalRemoved(this, loaded.size(), oldSize - 1);
+        }
+        fireContentsChanged(this, -1, Math.max(loaded.size(), 1) - 1);
+    }
+
+    /**
+     * 선택된 직원, 없으면 null
+     */
+    public Employee getSelectedEmployee() {
+        return selectedEmployee;
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedEmployee;
+    }
+
+    @Override
+    public void setSelectedItem(Object item) {
+        Employee employee = item instanceof Employee ? (Employee) item : null;
+        if (employee != selectedEmployee) {
+            selectedEmployee = employee;
+            fireContentsChanged(this, -1, -1);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return employees.size();
+    }
+
+    @Override
+    public Employee getElementAt(int index) {
+        return employees.get(index);
+    }
+
+    /**
+     * 직원 이름을 표시하고, 동명이인은 부서를 함께 표시합니다. 직원이 없으면 안내 문구를 표시합니다.
+     */
+    public ListCellRenderer<Object> createRenderer() {
+        return new Renderer();
+    }
+
+    private class Renderer extends DefaultListCellRenderer {
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+            String text;
+            if (value instanceof Employee) {
+                Employee employee = (Employee) value;
+                text = duplicateNames.contains(employee.getName()) && employee.getDepartment() != null
+                        ? employee.getName() + " (" + employee.getDepartment() + ")"
+                        : employee.getName();
+            } else {
+                text = employees.isEmpty() ? EMPTY_TEXT : "";
+            }
+            return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+        }
+    }
+}
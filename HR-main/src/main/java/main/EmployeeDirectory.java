@@ -0,0 +1,119 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 직원 목록의 메모리 캐시입니다. ID로 찾을 수 있고 이름·부서별 색인을 함께 유지합니다.
+ *
+ * <p>PayrollManager에서 직원이 추가·수정·삭제되면 무효화되고, 다음 조회 때 DB에서 한 번만 다시 읽습니다.
+ * 화면을 전환할 때마다 직원 목록을 다시 조회하지 않도록 모든 화면이 PayrollManager.getEmployeeDirectory()로
+ * 같은 인스턴스를 사용합니다. 스레드 안전하며, 반환하는 목록은 변경할 수 없습니다.
+ */
+public class EmployeeDirectory {
+
+    // 한 번 읽은 직원 목록과 색인. 만든 뒤에는 바뀌지 않습니다.
+    private static final class Snapshot {
+        final List<Employee> employees;
+        final Map<Integer, Employee> byId = new HashMap<>();
+        final Map<String, List<Employee>> byName = new HashMap<>();
+        final Map<String, List<Employee>> byDepartment = new HashMap<>();
+
+        Snapshot(List<Employee> loaded) {
+            employees = Collections.unmodifiableList(new ArrayList<>(loaded)); // getAllEmployees()가 이름순으로 반환
+            for (Employee employee : employees) {
+                byId.put(employee.getId(), employee);
+                byName.computeIfAbsent(employee.getName(), k -> new ArrayList<>(1)).add(employee);
+                if (employee.getDepartment() != null) {
+                    byDepartment.computeIfAbsent(employee.getDepartment(), k -> new ArrayList<>()).add(employee);
+                }
+            }
+        }
+    }
+
+    private final PayrollManager payrollManager;
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Object loadLock = new Object();
+    private volatile Snapshot snapshot;
+
+    public EmployeeDirectory(PayrollManager payrollManager) {
+        this.payrollManager = payrollManager;
+        payrollManager.addEmployeeListener(employeeId -> invalidate());
+    }
+
+    /**
+     * 이름순 전체 직원 목록입니다. 캐시가 비어 있으면 DB에서 읽으므로 EDT에서는 호출하지 마세요.
+     */
+    public List<Employee> getAll() {
+        return snapshot().employees;
+    }
+
+    public Optional<Employee> findById(int employeeId) {
+        return Optional.ofNullable(snapshot().byId.get(employeeId));
+    }
+
+    /**
+     * 이름이 같은 직원 목록입니다. 이름은 고유하지 않으므로 여러 명일 수 있습니다.
+     */
+    public List<Employee> findByName(String name) {
+        return Collections.unmodifiableList(snapshot().byName.getOrDefault(name, Collections.emptyList()));
+    }
+
+    public List<Employee> findByDepartment(String department) {
+        return Collections.unmodifiableList(snapshot().byDepartment.getOrDefault(department, Collections.emptyList()));
+    }
+
+    public int size() {
+        return snapshot().employees.size();
+    }
+
+    /**
+     * 캐시를 비우고 변경 리스너에게 알립니다. 다음 조회 때 DB에서 다시 읽습니다.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+        for (Runnable listener : changeListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * 직원 목록이 바뀌어 캐시가 무효화될 때 호출될 리스너를 등록합니다.
+     * 리스너는 직원을 변경한 스레드에서 실행됩니다.
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(Runnable listener) {
+        changeListeners.remove(listener);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (loadLock) {
+            current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            long loadedGeneration = generation.get();
+            Snapshot loaded = new Snapshot(payrollManager.getAllEmployees());
+            // 읽는 도중 무효화되었으면 이번 결과는 호출자에게만 돌려주고 캐시에는 남기지 않습니다.
+            if (generation.get() == loadedGeneration) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+}
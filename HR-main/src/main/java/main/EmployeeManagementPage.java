@@ -45,9 +45,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -64,6 +64,7 @@ public class EmployeeManagementPage extends JPanel {
     private JTextField bonusField, otherAllowanceField, mealAllowanceField, vehicleMaintenanceFeeField;
     private JTextField researchDevelopmentExpenseField, childcareAllowanceField, totalMonthlyPayField;
     private JTextField workLocationField, siteLocationField;
+    private JTextField dependentsField;
 
     private JTextField searchField;
     private JButton searchButton, addButton, updateButton, deleteButton, clearButton, backButton;
@@ -77,6 +78,8 @@ public class EmployeeManagementPage extends JPanel {
     private TableRowSorter<TableModel> sorter;
     private int selectedEmployeeDbId = -1;
     private List<Employee> displayedEmployeesInTableOrder;
+    private Map<Integer, Payroll> displayedContractsByEmployeeId;
+    private final AsyncPayrollRepository asyncRepository;
     private Set<Integer> modifiedRowModelIndices;
 
     private boolean isFormModified = false;
@@ -115,6 +118,7 @@ public class EmployeeManagementPage extends JPanel {
 
     public EmployeeManagementPage(PayrollManager payrollManager, PayrollApp payrollApp, Runnable returnToSummaryPage) {
         this.payrollManager = payrollManager;
+        this.asyncRepository = new AsyncPayrollRepository(payrollManager);
         this.payrollApp = payrollApp;
         this.returnToSummaryPage = returnToSummaryPage;
 
@@ -125,6 +129,7 @@ public class EmployeeManagementPage extends JPanel {
         totalsRowFont = enlargedFontBold;
 
         this.displayedEmployeesInTableOrder = new ArrayList<>();
+        this.displayedContractsByEmployeeId = new HashMap<>();
         this.modifiedRowModelIndices = new HashSet<>();
         setLayout(new BorderLayout(scale(10), scale(10)));
         initComponents();
@@ -374,7 +379,18 @@ public class EmployeeManagementPage extends JPanel {
         gbcEmp.gridx = 1; gbcEmp.gridy = 6; gbcEmp.gridwidth = 3; employeeInfoPanel.add(siteLocationField, gbcEmp);
         gbcEmp.gridwidth = 1;
 
-        gbcEmp.gridy = 7; gbcEmp.weighty = 1.0; gbcEmp.fill = GridBagConstraints.BOTH;
+        JLabel dependentsLabel = new JLabel("공제대상가족:");
+        dependentsLabel.setFont(enlargedFont);
+        dependentsLabel.setToolTipText("근로소득세 간이세액표의 공제대상가족 수 (본인 포함)");
+        gbcEmp.anchor = GridBagConstraints.WEST; gbcEmp.fill = GridBagConstraints.NONE; gbcEmp.weightx = 0.0;
+        gbcEmp.gridx = 0; gbcEmp.gridy = 7; employeeInfoPanel.add(dependentsLabel, gbcEmp);
+
+        dependentsField = new JTextField("1", scale(4));
+        dependentsField.setFont(enlargedFont);
+        gbcEmp.anchor = GridBagConstraints.WEST; gbcEmp.fill = GridBagConstraints.HORIZONTAL; gbcEmp.weightx = 1.0;
+        gbcEmp.gridx = 1; gbcEmp.gridy = 7; employeeInfoPanel.add(dependentsField, gbcEmp);
+
+        gbcEmp.gridy = 8; gbcEmp.weighty = 1.0; gbcEmp.fill = GridBagConstraints.BOTH;
         employeeInfoPanel.add(new JLabel(), gbcEmp);
 
         topFormPanel.add(employeeInfoPanel);
@@ -715,7 +731,9 @@ public class EmployeeManagementPage extends JPanel {
             return;
         }
 
-        int successCount = 0;
+        // 화면 값은 EDT에서 읽어 두고, DB 저장만 I/O 스레드에서 합니다.
+        List<Employee> employeesToSave = new ArrayList<>();
+        List<Payroll> payrollsToSave = new ArrayList<>();
         Set<String> failedNames = new HashSet<>();
 
         for (int empId : employeeIdsToUpdate) {
@@ -741,33 +759,47 @@ public class EmployeeManagementPage extends JPanel {
                     payrollToSave.setMonthlyBasicSalary(basicPay);
                     payrollToSave.setFixedOvertimeAllowance(fixedOvertime);
                 }
-
-                if (payrollManager.updateEmployee(empToSave, payrollToSave)) {
-                    successCount++;
-                } else {
-                    failedNames.add(empToSave.getName());
-                }
+                employeesToSave.add(empToSave);
+                payrollsToSave.add(payrollToSave);
             } catch (Exception ex) {
                 ex.printStackTrace();
-                payrollManager.getAllEmployees().stream()
-                        .filter(e -> e.getId() == empId).findFirst()
-                        .ifPresent(e -> failedNames.add(e.getName() + " (" + ex.getMessage() + ")"));
+                Payroll failedContract = displayedContractsByEmployeeId.get(empId);
+                if (failedContract != null) {
+                    failedNames.add(failedContract.getEmployee().getName() + " (" + ex.getMessage() + ")");
+                }
             }
         }
 
-        if (failedNames.isEmpty()) {
-            JOptionPane.showMessageDialog(this, successCount + "명의 직원 정보가 성공적으로 수정되었습니다.", "수정 완료", JOptionPane.INFORMATION_MESSAGE);
-        } else {
-            JOptionPane.showMessageDialog(this,
-                    "성공: " + successCount + "건\n실패: " + failedNames.size() + "건 (직원: " + String.join(", ", failedNames) + ")",
-                    "부분 성공", JOptionPane.ERROR_MESSAGE);
-        }
+        asyncRepository.execute(pm -> {
+            List<String> notSaved = new ArrayList<>();
+            for (int i = 0; i < employeesToSave.size(); i++) {
+                if (!pm.updateEmployee(employeesToSave.get(i), payrollsToSave.get(i))) {
+                    notSaved.add(employeesToSave.get(i).getName());
+                }
+            }
+            return notSaved;
+        }, this, notSaved -> {
+            int successCount = employeesToSave.size() - notSaved.size();
+            failedNames.addAll(notSaved);
+            if (failedNames.isEmpty()) {
+                JOptionPane.showMessageDialog(this, successCount + "명의 직원 정보가 성공적으로 수정되었습니다.", "수정 완료", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(this,
+                        "성공: " + successCount + "건\n실패: " + failedNames.size() + "건 (직원: " + String.join(", ", failedNames) + ")",
+                        "부분 성공", JOptionPane.ERROR_MESSAGE);
+            }
 
-        modifiedRowModelIndices.clear();
-        isFormModified = false;
-        updateButton.setEnabled(false);
-        updateButton.setText("수정사항 저장");
-        loadEmployeeTable(searchField.getText());
+            modifiedRowModelIndices.clear();
+            isFormModified = false;
+            updateButton.setEnabled(false);
+            updateButton.setText("수정사항 저장");
+            loadEmployeeTable(searchField.getText());
+        }, employeeEditControls());
+    }
+
+    // 직원 정보를 저장하는 동안 다시 누를 수 없게 할 버튼들
+    private JComponent[] employeeEditControls() {
+        return new JComponent[]{addButton, updateButton, deleteButton};
     }
 
     private int findModelRowByEmployeeId(int empId) {
@@ -782,53 +814,59 @@ public class EmployeeManagementPage extends JPanel {
     // ... 이하 나머지 코드는 이전과 동일 ...
 
     public void loadEmployeeTable(String searchTerm) {
+        // 직원과 계약 정보를 한 번의 조인 쿼리로 불러옵니다. (계약 정보가 없는 직원은 표시하지 않습니다)
+        asyncRepository.load("employeeTable", pm -> pm.getAllContractualPayrolls().stream()
+                .filter(p -> {
+                    Employee e = p.getEmployee();
+                    return searchTerm.isEmpty() || e.getName().contains(searchTerm)
+                            || (e.getDepartment() != null && e.getDepartment().contains(searchTerm));
+                })
+                .sorted(Comparator.comparing(p -> p.getEmployee().getName()))
+                .collect(Collectors.toList()), this, this::renderEmployeeTable);
+    }
+
+    private void renderEmployeeTable(List<Payroll> contracts) {
         isUpdatingFromTable = true;
         tableModel.setRowCount(0);
         displayedEmployeesInTableOrder.clear();
+        displayedContractsByEmployeeId.clear();
         modifiedRowModelIndices.clear();
 
-        List<Employee> employees = payrollManager.getAllEmployees().stream()
-                .filter(e -> searchTerm.isEmpty() || e.getName().contains(searchTerm) || e.getDepartment().contains(searchTerm))
-                .sorted(Comparator.comparing(Employee::getName))
-                .collect(Collectors.toList());
-
         BigDecimal[] totals = new BigDecimal[tableModel.getColumnCount()];
         for (int i = 0; i < totals.length; i++) {
             totals[i] = BigDecimal.ZERO;
         }
 
         int rowNum = 1;
-        for (Employee emp : employees) {
+        for (Payroll payroll : contracts) {
+            Employee emp = payroll.getEmployee();
             displayedEmployeesInTableOrder.add(emp);
-            Optional<Payroll> payrollOpt = payrollManager.getContractualPayroll(emp.getId());
-            if (payrollOpt.isPresent()) {
-                Payroll payroll = payrollOpt.get();
-                Object[] rowData = {
-                        rowNum++,
-                        emp.getHireDate() != null ? emp.getHireDate().format(dateFormatter) : "",
-                        emp.getName(),
-                        emp.getDepartment(),
-                        emp.getResidentRegistrationNumber(),
-                        emp.getPhoneNumber(),
-                        emp.getAddress(),
-                        emp.getAnnualSalary(),
-                        payroll.getMonthlyBasicSalary(),
-                        payroll.getFixedOvertimeAllowance(),
-                        payroll.getAdditionalOvertimePremium(),
-                        payroll.getBonus(),
-                        payroll.getOtherAllowance(),
-                        payroll.getMealAllowance(),
-                        payroll.getVehicleMaintenanceFee(),
-                        payroll.getResearchDevelopmentExpense(),
-                        payroll.getChildcareAllowance(),
-                        payroll.getGrossPay()
-                };
-                tableModel.addRow(rowData);
-
-                for(int idx : sumColumnIndices) {
-                    if(rowData[idx] instanceof BigDecimal) {
-                        totals[idx] = totals[idx].add((BigDecimal)rowData[idx]);
-                    }
+            displayedContractsByEmployeeId.put(emp.getId(), payroll);
+            Object[] rowData = {
+                    rowNum++,
+                    emp.getHireDate() != null ? emp.getHireDate().format(dateFormatter) : "",
+                    emp.getName(),
+                    emp.getDepartment(),
+                    emp.getResidentRegistrationNumber(),
+                    emp.getPhoneNumber(),
+                    emp.getAddress(),
+                    emp.getAnnualSalary(),
+                    payroll.getMonthlyBasicSalary(),
+                    payroll.getFixedOvertimeAllowance(),
+                    payroll.getAdditionalOvertimePremium(),
+                    payroll.getBonus(),
+                    payroll.getOtherAllowance(),
+                    payroll.getMealAllowance(),
+                    payroll.getVehicleMaintenanceFee(),
+                    payroll.getResearchDevelopmentExpense(),
+                    payroll.getChildcareAllowance(),
+                    payroll.getGrossPay()
+            };
+            tableModel.addRow(rowData);
+
+            for(int idx : sumColumnIndices) {
+                if(rowData[idx] instanceof BigDecimal) {
+                    totals[idx] = totals[idx].add((BigDecimal)rowData[idx]);
                 }
             }
         }
@@ -851,11 +889,11 @@ public class EmployeeManagementPage extends JPanel {
                     int modelRow = employeeTable.convertRowIndexToModel(selectedViewRow);
                     if(modelRow >= 0 && modelRow < displayedEmployeesInTableOrder.size()){
                         Employee emp = displayedEmployeesInTableOrder.get(modelRow);
-                        Optional<Payroll> payrollOpt = payrollManager.getContractualPayroll(emp.getId());
-                        payrollOpt.ifPresent(p -> {
+                        Payroll contract = displayedContractsByEmployeeId.get(emp.getId());
+                        if (contract != null) {
                             selectedEmployeeDbId = emp.getId();
-                            populateForm(emp, p);
-                        });
+                            populateForm(emp, contract);
+                        }
                     } else {
                         clearForm();
                     }
@@ -865,10 +903,14 @@ public class EmployeeManagementPage extends JPanel {
 
         tableModel.addTableModelListener(e -> {
             if (e.getType() == TableModelEvent.UPDATE && !isUpdatingFromForm && !isUpdatingFromTable) {
-                int modelRow = e.getFirstRow();
-                if (modelRow >= displayedEmployeesInTableOrder.size()) return;
+                // 붙여넣기는 여러 행을 한 이벤트로 알리므로 범위 전체를 수정 행으로 기록합니다.
+                int firstRow = e.getFirstRow();
+                int lastRow = Math.min(e.getLastRow(), displayedEmployeesInTableOrder.size() - 1);
+                if (firstRow < 0 || firstRow > lastRow) return;
 
-                modifiedRowModelIndices.add(modelRow);
+                for (int modelRow = firstRow; modelRow <= lastRow; modelRow++) {
+                    modifiedRowModelIndices.add(modelRow);
+                }
                 updateButton.setEnabled(true);
             }
         });
@@ -918,14 +960,15 @@ public class EmployeeManagementPage extends JPanel {
             if(c instanceof JTextField) ((JTextField) c).setText("");
         }
         departmentComboBox.setSelectedIndex(0);
+        dependentsField.setText("1");
 
         for(Component c : ((JPanel)annualSalaryField.getParent()).getComponents()){
             if(c instanceof JTextField) ((JTextField) c).setText("");
         }
 
-        Map<String, String> settings = payrollManager.loadSettings();
-        mealAllowanceField.setText(formatNumber(new BigDecimal(settings.getOrDefault("defaultMealAllowance", "200000"))));
-        childcareAllowanceField.setText(formatNumber(new BigDecimal(settings.getOrDefault("defaultChildcareAllowance", "0"))));
+        AppSettings settings = payrollManager.getSettings();
+        mealAllowanceField.setText(formatNumber(settings.getDefaultMealAllowance()));
+        childcareAllowanceField.setText(formatNumber(settings.getDefaultChildcareAllowance()));
 
         isProgrammaticChange = false;
         recalculateSalaryComponents();
@@ -947,6 +990,7 @@ public class EmployeeManagementPage extends JPanel {
         addressField.setText(emp.getAddress());
         workLocationField.setText(emp.getWorkLocation());
         siteLocationField.setText(emp.getSiteLocation());
+        dependentsField.setText(String.valueOf(emp.getDependents()));
 
         annualSalaryField.setText(formatNumber(emp.getAnnualSalary()));
         monthlyBasicSalaryField.setText(formatNumber(payroll.getMonthlyBasicSalary()));
@@ -979,13 +1023,15 @@ public class EmployeeManagementPage extends JPanel {
         Employee emp = getEmployeeFromForm();
         Payroll payroll = getPayrollFromForm();
 
-        if(payrollManager.addEmployee(emp, payroll)) {
-            JOptionPane.showMessageDialog(this, "직원 정보가 성공적으로 등록되었습니다.", "등록 완료", JOptionPane.INFORMATION_MESSAGE);
-            loadEmployeeTable("");
-            clearForm();
-        } else {
-            JOptionPane.showMessageDialog(this, "직원 등록에 실패했습니다. (주민번호 중복 등)", "등록 실패", JOptionPane.ERROR_MESSAGE);
-        }
+        asyncRepository.execute(pm -> pm.addEmployee(emp, payroll), this, added -> {
+            if (added) {
+                JOptionPane.showMessageDialog(this, "직원 정보가 성공적으로 등록되었습니다.", "등록 완료", JOptionPane.INFORMATION_MESSAGE);
+                loadEmployeeTable("");
+                clearForm();
+            } else {
+                JOptionPane.showMessageDialog(this, "직원 등록에 실패했습니다. (주민번호 중복 등)", "등록 실패", JOptionPane.ERROR_MESSAGE);
+            }
+        }, employeeEditControls());
     }
 
     private void deleteSelectedEmployee() {
@@ -995,13 +1041,16 @@ public class EmployeeManagementPage extends JPanel {
         }
         int confirm = JOptionPane.showConfirmDialog(this, "'" + nameField.getText() + "' 직원의 모든 정보를 삭제하시겠습니까?", "삭제 확인", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
         if(confirm == JOptionPane.YES_OPTION) {
-            if(payrollManager.deleteEmployee(selectedEmployeeDbId)) {
-                JOptionPane.showMessageDialog(this, "직원 정보가 삭제되었습니다.", "삭제 완료", JOptionPane.INFORMATION_MESSAGE);
-                loadEmployeeTable("");
-                clearForm();
-            } else {
-                JOptionPane.showMessageDialog(this, "직원 정보 삭제에 실패했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
-            }
+            int employeeId = selectedEmployeeDbId;
+            asyncRepository.execute(pm -> pm.deleteEmployee(employeeId), this, deleted -> {
+                if (deleted) {
+                    JOptionPane.showMessageDialog(this, "직원 정보가 삭제되었습니다.", "삭제 완료", JOptionPane.INFORMATION_MESSAGE);
+                    loadEmployeeTable("");
+                    clearForm();
+                } else {
+                    JOptionPane.showMessageDialog(this, "직원 정보 삭제에 실패했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+                }
+            }, employeeEditControls());
         }
     }
 
@@ -1033,6 +1082,7 @@ public class EmployeeManagementPage extends JPanel {
                 workLocationField.getText(),
                 siteLocationField.getText()
         );
+        try { emp.setDependents(Math.max(1, Integer.parseInt(dependentsField.getText().trim()))); } catch (NumberFormatException e) {}
         if(selectedEmployeeDbId != -1) emp.setId(selectedEmployeeDbId);
         return emp;
     }
@@ -1075,6 +1125,7 @@ public class EmployeeManagementPage extends JPanel {
                 originalEmp.getSiteLocation()
         );
         emp.setId(originalEmp.getId());
+        emp.setDependents(originalEmp.getDependents());
         return emp;
     }
 
@@ -10,7 +10,6 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
 
 public class EmploymentContractPage extends JPanel {
 
@@ -343,9 +342,9 @@ public class EmploymentContractPage extends JPanel {
         this.contractualPayroll = contractualPayroll;
         isProgrammaticChange = true;
 
-        Map<String, String> settings = payrollApp.getPayrollManager().loadSettings();
-        String companyName = settings.getOrDefault("companyName", "[주식회사 OO회사]");
-        String defaultPayday = settings.getOrDefault("defaultPayday", "매월 25일");
+        AppSettings settings = payrollApp.getPayrollManager().getSettings();
+        String companyName = settings.getCompanyName();
+        String defaultPayday = settings.getDefaultPayday();
 
         lblCompanyName.setText(companyName);
         txtWagePaymentDate.setText(defaultPayday);
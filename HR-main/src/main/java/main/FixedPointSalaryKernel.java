@@ -0,0 +1,363 @@
+package main;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.WeekFields;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SalaryCalculatorService.calculateSalary와 같은 급여 계산을 BigDecimal 없이 long 고정소수점으로 수행하는 커널입니다.
+ * 금액과 비율은 모두 1e-8 단위(CALC_SCALE = 8)의 long으로 표현합니다. 곱셈의 중간값은 Math.multiplyHigh로
+ * 128비트까지 계산하므로 넘치지 않습니다. 표현할 수 있는 금액은 약 ±920억 원이며, 범위를 넘으면 ArithmeticException을 던집니다.
+ *
+ * <p>비례배분율, 시급, 분급, 지급률처럼 BigDecimal 계산이 HALF_UP으로 반올림하는 나눗셈은 같은 자리에서 반올림하므로 값이 같습니다.
+ * 그러나 BigDecimal 계산이 자릿수를 늘려 정확하게 들고 가는 곱(비례배분 금액, 부족분 공제, 연장·휴일·야간 가산 수당,
+ * 지급률 적용)은 long에 담기 위해 1e-8 단위로 반올림하므로, 최종 금액이 항목마다 몇 단위(1e-8원) 어긋날 수 있습니다.
+ * 그 차이로 원 단위 반올림이 달라질 수 있는 경우(0.5원 경계 근처)는 Result.isNearRoundingBoundary()로 알려 주므로,
+ * 원 단위까지 같은 결과가 필요하면 그 직원만 BigDecimal로 다시 계산하세요.
+ *
+ * 전 직원 일괄 계산이나 모의 계산처럼 같은 계산을 반복할 때 사용합니다.
+ * 인스턴스는 설정 스냅샷 하나에 묶이며 여러 스레드에서 동시에 사용할 수 있습니다. Result는 스레드마다 따로 사용해야 합니다.
+ */
+public final class FixedPointSalaryKernel {
+
+    /** 고정소수점 1 (1e-8 단위) */
+    public static final long SCALE = 100_000_000L;
+    private static final long ATTENDANCE_RATIO_SCALE = 10_000L; // 출근 비율은 소수점 4자리
+    private static final WeekFields WEEK_FIELDS = WeekFields.of(Locale.KOREA);
+
+    public static final int BASIC_PAY = 0;
+    public static final int FIXED_OVERTIME_ALLOWANCE = 1;
+    public static final int BONUS = 2;
+    public static final int OTHER_ALLOWANCE = 3;
+    public static final int MEAL_ALLOWANCE = 4;
+    public static final int VEHICLE_MAINTENANCE_FEE = 5;
+    public static final int RESEARCH_DEVELOPMENT_EXPENSE = 6;
+    public static final int CHILDCARE_ALLOWANCE = 7;
+    public static final int ADDITIONAL_OVERTIME_PREMIUM = 8;
+    private static final String[] FIELD_NAMES = {
+            "기본급", "고정연장수당", "상여금", "기타수당", "식대", "차량유지비", "연구개발비", "육아수당", "추가수당"
+    };
+
+    /**
+     * 직원 한 명의 계약 금액을 고정소수점으로 바꿔 둔 값입니다. 모의 계산에서는 한 번 만들어 반복 사용합니다.
+     */
+    public static final class ContractTerms {
+        final long basic;
+        final long fixedOvertime;
+        final long bonus;
+        final long other;
+        final long meal;
+        final long vehicle;
+        final long research;
+        final long childcare;
+        final long annualSalary;
+        final LocalDate hireDate;
+
+        public ContractTerms(Payroll contract, Employee employee) {
+            this.basic = toUnits(contract.getMonthlyBasicSalary());
+            this.fixedOvertime = toUnits(contract.getFixedOvertimeAllowance());
+            this.bonus = toUnits(contract.getBonus());
+            this.other = toUnits(contract.getOtherAllowance());
+            this.meal = toUnits(contract.getMealAllowance());
+            this.vehicle = toUnits(contract.getVehicleMaintenanceFee());
+            this.research = toUnits(contract.getResearchDevelopmentExpense());
+            this.childcare = toUnits(contract.getChildcareAllowance());
+            this.annualSalary = toUnits(employee.getAnnualSalary());
+            this.hireDate = employee.getHireDate();
+        }
+    }
+
+    /**
+     * 계산 결과입니다. 금액은 모두 1e-8 단위이며, 같은 인스턴스를 여러 번 재사용할 수 있습니다.
+     */
+    public static final class Result {
+        private final long[] finalAmounts = new long[FIELD_NAMES.length];
+        private long hireProrationRatio;
+        private long attendanceBasedPaymentRatio; // 1e-4 단위
+        private long shortfallDeduction;
+        private long weeklyAbsencePenalty;
+        private long overtimePremium;
+        private long holidayPremium;
+        private long nightPremium;
+        private long paidPremiumMinutes;
+        private long totalShortfallMinutes;
+        private boolean nearRoundingBoundary;
+
+        /** 최종 지급 항목 금액 (1e-8 단위) */
+        public long getFinalAmount(int field) { return finalAmounts[field]; }
+
+        /** 최종 지급 항목 금액을 원 단위로 반올림한 값 */
+        public long getFinalWon(int field) { return toWon(finalAmounts[field]); }
+
+        /** 지급 항목 합계 (1e-8 단위), Payroll.getGrossPay()와 같은 값 */
+        public long getGrossAmount() {
+            long sum = 0;
+            for (long amount : finalAmounts) sum = Math.addExact(sum, amount);
+            return sum;
+        }
+
+        public long getPaidPremiumMinutes() { return paidPremiumMinutes; }
+        public long getTotalShortfallMinutes() { return totalShortfallMinutes; }
+
+        /**
+         * 최종 지급 항목 중 하나라도 0.5원 경계에 반올림 오차 한도 이내로 가까우면 true입니다.
+         * 이때는 원 단위 금액이 BigDecimal 계산과 1원 다를 수 있습니다.
+         */
+        public boolean isNearRoundingBoundary() { return nearRoundingBoundary; }
+
+        /**
+         * 기존 화면과 저장 로직에서 쓸 수 있도록 CalculationResult로 변환합니다.
+         */
+        public CalculationResult toCalculationResult() {
+            CalculationResult result = new CalculationResult();
+            result.setHireProrationRatio(BigDecimal.valueOf(hireProrationRatio, 8));
+            result.setAttendanceBasedPaymentRatio(BigDecimal.valueOf(attendanceBasedPaymentRatio, 4));
+            result.setTotalShortfallMinutes(totalShortfallMinutes);
+            result.setTotalShortfallMonetaryDeduction(BigDecimal.valueOf(shortfallDeduction, 8));
+            result.setWeeklyAbsencePenalty(BigDecimal.valueOf(weeklyAbsencePenalty, 8));
+            result.setPaidPremiumMinutes(paidPremiumMinutes);
+            result.setOvertimePremium(BigDecimal.valueOf(overtimePremium, 8));
+            result.setHolidayPremium(BigDecimal.valueOf(holidayPremium, 8));
+            result.setNightPremium(BigDecimal.valueOf(nightPremium, 8));
+            result.setFinalAdjustedBasicPay(BigDecimal.valueOf(finalAmounts[BASIC_PAY], 8));
+            result.setFinalAdjustedFixedOvertimeAllowance(BigDecimal.valueOf(finalAmounts[FIXED_OVERTIME_ALLOWANCE], 8));
+            result.setFinalAdjustedBonus(BigDecimal.valueOf(finalAmounts[BONUS], 8));
+            result.setFinalAdjustedOtherAllowance(BigDecimal.valueOf(finalAmounts[OTHER_ALLOWANCE], 8));
+            result.setFinalAdjustedMealAllowance(BigDecimal.valueOf(finalAmounts[MEAL_ALLOWANCE], 8));
+            result.setFinalAdjustedVehicleMaintenanceFee(BigDecimal.valueOf(finalAmounts[VEHICLE_MAINTENANCE_FEE], 8));
+            result.setFinalAdjustedResearchDevelopmentExpense(BigDecimal.valueOf(finalAmounts[RESEARCH_DEVELOPMENT_EXPENSE], 8));
+            result.setFinalAdjustedChildcareAllowance(BigDecimal.valueOf(finalAmounts[CHILDCARE_ALLOWANCE], 8));
+            result.setFinalAdjustedAdditionalOvertimePremium(BigDecimal.valueOf(finalAmounts[ADDITIONAL_OVERTIME_PREMIUM], 8));
+            return result;
+        }
+    }
+
+    private final long standardTotalHoursForRateCalc;
+    private final long nominalFixedOvertimeHours;
+    private final boolean applyOvertime;
+    private final boolean applyNightWork;
+    private final boolean applyHolidayWork;
+    private final int nightStart; // 야간근로 시간대 (0시부터의 분)
+    private final int nightEnd;
+
+    public FixedPointSalaryKernel(AppSettings settings) {
+        this.standardTotalHoursForRateCalc = toUnits(settings.getStandardWorkHours().add(settings.getFixedOvertimeHours()));
+        this.nominalFixedOvertimeHours = toUnits(settings.getNominalFixedOvertimeHours());
+        this.applyOvertime = settings.isApplyOvertime();
+        this.applyNightWork = settings.isApplyNightWork();
+        this.applyHolidayWork = settings.isApplyHolidayWork();
+        this.nightStart = ShiftIntervals.minuteOfDay(settings.getNightWorkStart());
+        this.nightEnd = ShiftIntervals.minuteOfDay(settings.getNightWorkEnd());
+    }
+
+    /**
+     * SalaryCalculatorService.calculateSalary와 같은 규칙으로 계산해 out에 채웁니다.
+     * @param salaryPercentage 지급률 (1e-8 단위, 100% = 100 * SCALE)
+     * @param adHocBonus 추가 상여 (1e-8 단위)
+     */
+    public void calculate(List<WorkRecord> records, ContractTerms terms, YearMonth period, long salaryPercentage,
+                          long adHocBonus, boolean adHocBonusApplied, Set<LocalDate> publicHolidays, Result out) {
+        // --- 1. 입사일 비례배분 (일할계산) ---
+        long hireProrationRatio = SCALE;
+        LocalDate hireDate = terms.hireDate;
+        if (hireDate != null && hireDate.getYear() == period.getYear() && hireDate.getMonth() == period.getMonth() && hireDate.getDayOfMonth() != 1) {
+            int totalDaysInMonth = period.lengthOfMonth();
+            long daysFromHireDateToEndOfMonth = (long) totalDaysInMonth - hireDate.getDayOfMonth() + 1;
+            hireProrationRatio = mulDiv(daysFromHireDateToEndOfMonth, SCALE, totalDaysInMonth);
+        }
+        out.hireProrationRatio = hireProrationRatio;
+
+        long proratedBasic = mulDiv(terms.basic, hireProrationRatio, SCALE);
+        long proratedFixedOvertime = mulDiv(terms.fixedOvertime, hireProrationRatio, SCALE);
+        long proratedBonus = mulDiv(terms.bonus, hireProrationRatio, SCALE);
+        long proratedOther = mulDiv(terms.other, hireProrationRatio, SCALE);
+        long proratedMeal = mulDiv(terms.meal, hireProrationRatio, SCALE);
+        long proratedVehicle = mulDiv(terms.vehicle, hireProrationRatio, SCALE);
+        long proratedResearch = mulDiv(terms.research, hireProrationRatio, SCALE);
+        long proratedChildcare = mulDiv(terms.childcare, hireProrationRatio, SCALE);
+
+        // --- 2. 통상 시급 계산 ---
+        // 시급 = round8(연봉/12) * 비례배분율 / 기준시간 : 곱셈은 정확하므로 나눗셈 한 번에서만 반올림합니다.
+        long monthlyEquivalent = mulDiv(terms.annualSalary, 1, 12);
+        long hourlyRate = standardTotalHoursForRateCalc > 0
+                ? mulDiv(monthlyEquivalent, hireProrationRatio, standardTotalHoursForRateCalc) : 0;
+        long minuteRate = mulDiv(hourlyRate, 100, 60); // 1e-10 단위 (CALC_SCALE + 2)
+
+        // --- 3~5. 근무 기록 집계 ---
+        long totalShortfallMinutes = 0;
+        long weeksWithAbsence = 0; // 주차 번호(1~53) 비트마스크
+        long totalOvertimeMinutes = 0, totalHolidayMinutes = 0, totalNightMinutes = 0;
+        for (int i = 0; i < records.size(); i++) {
+            WorkRecord record = records.get(i);
+            LocalDate date = record.getDate();
+            DayOfWeek dow = date.getDayOfWeek();
+            AttendancePage.WorkStatus status = record.getStatus();
+            boolean isCalendarWeekday = dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !publicHolidays.contains(date);
+            if (isCalendarWeekday && (status == AttendancePage.WorkStatus.ABSENCE || status == AttendancePage.WorkStatus.UNPAID_HOLIDAY)) {
+                totalShortfallMinutes += 8 * 60;
+            }
+            if (isCalendarWeekday && status == AttendancePage.WorkStatus.ABSENCE) {
+                weeksWithAbsence |= 1L << date.get(WEEK_FIELDS.weekOfWeekBasedYear());
+            }
+            if (status == AttendancePage.WorkStatus.ABSENCE || status == AttendancePage.WorkStatus.UNPAID_HOLIDAY || record.getNetWorkMinutes() <= 0) continue;
+
+            long holidayMinutes = record.holidayMinutes(publicHolidays);
+            totalHolidayMinutes += holidayMinutes;
+            totalOvertimeMinutes += ShiftIntervals.overtimeMinutes(record.getNetWorkMinutes() - holidayMinutes);
+            totalNightMinutes += ShiftIntervals.nightMinutes(record.getStartTime(), record.getEndTime(), nightStart, nightEnd);
+        }
+        out.totalShortfallMinutes = totalShortfallMinutes;
+
+        long shortfallDeduction = mulDiv(minuteRate, totalShortfallMinutes, 100);
+        long weeklyAbsencePenalty = Math.multiplyExact(Math.multiplyExact(hourlyRate, 8), Long.bitCount(weeksWithAbsence));
+        out.shortfallDeduction = shortfallDeduction;
+        out.weeklyAbsencePenalty = weeklyAbsencePenalty;
+
+        // 가산 수당은 모두 시급 * round8(분/60) * 0.5 입니다.
+        long overtimePremium = 0, holidayPremium = 0, nightPremium = 0;
+        out.paidPremiumMinutes = 0;
+        if (applyOvertime) {
+            long fixedOtThresholdMinutes = Math.multiplyExact(nominalFixedOvertimeHours, 60);
+            long eligibleMinutes = Math.multiplyExact(totalOvertimeMinutes + totalHolidayMinutes, SCALE);
+            if (eligibleMinutes > fixedOtThresholdMinutes) {
+                long extraMinutes = eligibleMinutes - fixedOtThresholdMinutes;
+                out.paidPremiumMinutes = extraMinutes / SCALE;
+                overtimePremium = mulDiv(hourlyRate, mulDiv(extraMinutes, 1, 60), 2 * SCALE);
+            }
+        }
+        if (applyHolidayWork) {
+            holidayPremium = mulDiv(hourlyRate, mulDiv(totalHolidayMinutes, SCALE, 60), 2 * SCALE);
+        }
+        if (applyNightWork) {
+            nightPremium = mulDiv(hourlyRate, mulDiv(totalNightMinutes, SCALE, 60), 2 * SCALE);
+        }
+        out.overtimePremium = overtimePremium;
+        out.holidayPremium = holidayPremium;
+        out.nightPremium = nightPremium;
+
+        // --- 6. 지급률 및 최종 금액 계산 ---
+        long totalDeduction = Math.addExact(shortfallDeduction, weeklyAbsencePenalty);
+        long percMultiplier = mulDiv(salaryPercentage, 1, 100);
+
+        long[] amounts = out.finalAmounts;
+        amounts[BASIC_PAY] = applyPercentage(proratedBasic - totalDeduction, percMultiplier);
+        amounts[FIXED_OVERTIME_ALLOWANCE] = applyPercentage(proratedFixedOvertime, percMultiplier);
+        amounts[BONUS] = applyPercentage(proratedBonus + (adHocBonusApplied ? adHocBonus : 0), percMultiplier);
+        amounts[OTHER_ALLOWANCE] = applyPercentage(proratedOther, percMultiplier);
+        amounts[MEAL_ALLOWANCE] = applyPercentage(proratedMeal, percMultiplier);
+        amounts[VEHICLE_MAINTENANCE_FEE] = applyPercentage(proratedVehicle, percMultiplier);
+        amounts[RESEARCH_DEVELOPMENT_EXPENSE] = applyPercentage(proratedResearch, percMultiplier);
+        amounts[CHILDCARE_ALLOWANCE] = applyPercentage(proratedChildcare, percMultiplier);
+        amounts[ADDITIONAL_OVERTIME_PREMIUM] = applyPercentage(overtimePremium + holidayPremium + nightPremium, percMultiplier);
+
+        // 지급률을 곱하기 전 오차는 항목당 최대 1.5단위(가산 수당 세 개의 반올림)이고, 지급률을 곱한 뒤 0.5단위가 더해집니다.
+        long roundingTolerance = mulDiv(Math.abs(percMultiplier), 3, 2 * SCALE) + 2;
+        boolean nearBoundary = false;
+        for (long amount : amounts) {
+            if (Math.abs(Math.floorMod(amount, SCALE) - SCALE / 2) <= roundingTolerance) {
+                nearBoundary = true;
+                break;
+            }
+        }
+        out.nearRoundingBoundary = nearBoundary;
+
+        long sumProratedItems = proratedBasic + proratedFixedOvertime + proratedBonus + proratedOther
+                + proratedMeal + proratedVehicle + proratedResearch + proratedChildcare;
+        out.attendanceBasedPaymentRatio = sumProratedItems > 0
+                ? mulDiv(sumProratedItems - totalDeduction, ATTENDANCE_RATIO_SCALE, sumProratedItems)
+                : ATTENDANCE_RATIO_SCALE;
+    }
+
+    /**
+     * BigDecimal 계산 결과와 원 단위로 비교합니다.
+     * @return 차이가 나는 항목 설명, 모두 같으면 null
+     */
+    public static String compare(CalculationResult expected, Result actual) {
+        BigDecimal[] expectedAmounts = {
+                expected.getFinalAdjustedBasicPay(), expected.getFinalAdjustedFixedOvertimeAllowance(),
+                expected.getFinalAdjustedBonus(), expected.getFinalAdjustedOtherAllowance(),
+                expected.getFinalAdjustedMealAllowance(), expected.getFinalAdjustedVehicleMaintenanceFee(),
+                expected.getFinalAdjustedResearchDevelopmentExpense(), expected.getFinalAdjustedChildcareAllowance(),
+                expected.getFinalAdjustedAdditionalOvertimePremium()
+        };
+        StringBuilder diff = null;
+        for (int field = 0; field < expectedAmounts.length; field++) {
+            long expectedWon = expectedAmounts[field].setScale(0, RoundingMode.HALF_UP).longValueExact();
+            long actualWon = actual.getFinalWon(field);
+            if (expectedWon != actualWon) {
+                if (diff == null) diff = new StringBuilder();
+                else diff.append(", ");
+                diff.append(String.format("%s %,d원 ≠ %,d원", FIELD_NAMES[field], expectedWon, actualWon));
+            }
+        }
+        return diff != null ? diff.toString() : null;
+    }
+
+    /** BigDecimal 값을 1e-8 단위 long으로 바꿉니다. null은 0입니다. */
+    public static long toUnits(BigDecimal value) {
+        if (value == null) return 0;
+        return value.setScale(8, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** 1e-8 단위 금액을 원 단위로 반올림(HALF_UP)합니다. */
+    public static long toWon(long units) {
+        return mulDiv(units, 1, SCALE);
+    }
+
+    // 지급률을 곱하고 음수는 0으로 맞춥니다.
+    private static long applyPercentage(long amount, long percMultiplier) {
+        return Math.max(0, mulDiv(amount, percMultiplier, SCALE));
+    }
+
+    /**
+     * a * b / d를 HALF_UP으로 반올림해 계산합니다. (d > 0)
+     * 곱셈 결과가 64비트를 넘으면 128비트 나눗셈으로 계산합니다.
+     */
+    static long mulDiv(long a, long b, long d) {
+        if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+            throw new ArithmeticException("고정소수점 범위를 벗어났습니다.");
+        }
+        boolean negative = (a < 0) != (b < 0);
+        long x = Math.abs(a);
+        long y = Math.abs(b);
+        long hi = Math.multiplyHigh(x, y);
+        long lo = x * y;
+        long quotient;
+        if (hi == 0 && lo >= 0) {
+            quotient = lo / d;
+            long remainder = lo - quotient * d;
+            if (remainder >= d - remainder) quotient++;
+        } else {
+            quotient = divideRounded128(hi, lo, d);
+        }
+        return negative ? -quotient : quotient;
+    }
+
+    // (hi:lo) / d, 부호 없는 128비트 나눗셈 후 HALF_UP 반올림
+    private static long divideRounded128(long hi, long lo, long d) {
+        if (Long.compareUnsigned(hi, d) >= 0) {
+            throw new ArithmeticException("고정소수점 범위를 벗어났습니다.");
+        }
+        long remainder = hi;
+        long quotient = 0;
+        for (int bit = 63; bit >= 0; bit--) {
+            remainder = (remainder << 1) | ((lo >>> bit) & 1L);
+            quotient <<= 1;
+            if (Long.compareUnsigned(remainder, d) >= 0) {
+                remainder -= d;
+                quotient |= 1L;
+            }
+        }
+        if (remainder >= d - remainder) quotient++;
+        if (quotient < 0) {
+            throw new ArithmeticException("고정소수점 범위를 벗어났습니다.");
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,275 @@
+package main;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대한민국 공휴일 달력입니다. 연도별 공휴일(음력 명절, 대체공휴일, 임시공휴일 포함)을 한 번만 계산해
+ * 일 단위 BitSet과 영업일 누적 합계 배열로 캐시하고, 달력 화면, 급여 계산, 일괄 계산이 함께 사용합니다.
+ * 공휴일 여부와 기간 내 영업일 수는 배열 조회만으로 답합니다.
+ *
+ * 음력 공휴일(설날, 부처님 오신 날, 추석)은 2020~2030년의 양력 날짜표를 사용합니다.
+ * 표에 없는 연도는 양력 공휴일만 계산하므로(hasLunarHolidays가 false), 범위를 늘릴 때는 LUNAR_HOLIDAYS에 행을 추가합니다.
+ */
+public final class HolidayCalendarService {
+
+    private static final int FIRST_LUNAR_YEAR = 2020;
+    // {설날, 부처님 오신 날, 추석} 양력 날짜 (월 * 100 + 일)
+    private static final int[][] LUNAR_HOLIDAYS = {
+            {125, 430, 1001},  // 2020
+            {212, 519, 921},   // 2021
+            {201, 508, 910},   // 2022
+            {122, 527, 929},   // 2023
+            {210, 515, 917},   // 2024
+            {129, 505, 1006},  // 2025
+            {217, 524, 925},   // 2026
+            {207, 513, 915},   // 2027
+            {127, 502, 1003},  // 2028
+            {213, 520, 922},   // 2029
+            {203, 509, 912}    // 2030
+    };
+
+    // 선거일, 임시공휴일 등 규칙으로 계산할 수 없는 공휴일
+    private static final LocalDate[] TEMPORARY_HOLIDAYS = {
+            LocalDate.of(2020, 4, 15), LocalDate.of(2020, 8, 17),
+            LocalDate.of(2022, 3, 9), LocalDate.of(2022, 6, 1),
+            LocalDate.of(2023, 10, 2),
+            LocalDate.of(2024, 4, 10), LocalDate.of(2024, 10, 1),
+            LocalDate.of(2025, 1, 27), LocalDate.of(2025, 6, 3),
+            LocalDate.of(2026, 6, 3), LocalDate.of(2028, 4, 12)
+    };
+
+    // 대체공휴일 적용 시작일 (관공서의 공휴일에 관한 규정 개정)
+    private static final LocalDate NATIONAL_DAY_SUBSTITUTE_FROM = LocalDate.of(2021, 8, 4);
+    private static final LocalDate BUDDHA_CHRISTMAS_SUBSTITUTE_FROM = LocalDate.of(2023, 5, 4);
+
+    private enum SubstituteRule {
+        NONE,
+        /** 설날, 추석 연휴: 일요일 또는 다른 공휴일과 겹칠 때 */
+        SUNDAY_OR_OVERLAP,
+        /** 국경일, 어린이날, 부처님 오신 날, 성탄절: 토/일요일 또는 다른 공휴일과 겹칠 때 */
+        WEEKEND_OR_OVERLAP
+    }
+
+    private static final ConcurrentHashMap<Integer, YearCalendar> CACHE = new ConcurrentHashMap<>();
+
+    private HolidayCalendarService() {
+    }
+
+    /**
+     * 공휴일(대체/임시공휴일 포함) 여부입니다. 주말 여부와는 별개입니다.
+     */
+    public static boolean isHoliday(LocalDate date) {
+        return forYear(date.getYear()).holidays.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 주말도 공휴일도 아닌 영업일인지 여부입니다.
+     */
+    public static boolean isBusinessDay(LocalDate date) {
+        DayOfWeek dow = date.getDayOfWeek();
+        return dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !isHoliday(date);
+    }
+
+    /**
+     * 시작일부터 종료일까지(양 끝 포함) 영업일 수를 반환합니다. 종료일이 시작일보다 앞서면 0입니다.
+     */
+    public static int countBusinessDays(LocalDate startInclusive, LocalDate endInclusive) {
+        if (endInclusive.isBefore(startInclusive)) return 0;
+        int count = 0;
+        for (int year = startInclusive.getYear(); year <= endInclusive.getYear(); year++) {
+            YearCalendar calendar = forYear(year);
+            int from = year == startInclusive.getYear() ? startInclusive.getDayOfYear() - 1 : 0;
+            int to = year == endInclusive.getYear() ? endInclusive.getDayOfYear() : calendar.length;
+            count += calendar.businessDayPrefix[to] - calendar.businessDayPrefix[from];
+        }
+        return count;
+    }
+
+    /**
+     * 해당 연도의 음력 공휴일(설날, 부처님 오신 날, 추석) 날짜표가 있는지 여부입니다.
+     * false면 그 해의 공휴일과 영업일 수는 양력 공휴일만으로 계산되므로, 화면에서 사용자에게 알려야 합니다.
+     */
+    public static boolean hasLunarHolidays(int year) {
+        int lunarIndex = year - FIRST_LUNAR_YEAR;
+        return lunarIndex >= 0 && lunarIndex < LUNAR_HOLIDAYS.length;
+    }
+
+    /**
+     * 해당 연도의 공휴일을 변경할 수 없는 집합으로 반환합니다. contains()는 BitSet 조회입니다.
+     */
+    public static Set<LocalDate> holidaysOf(int year) {
+        return forYear(year).view;
+    }
+
+    private static YearCalendar forYear(int year) {
+        return CACHE.computeIfAbsent(year, YearCalendar::new);
+    }
+
+    /**
+     * 한 해의 공휴일 BitSet(인덱스 = dayOfYear - 1)과 영업일 누적 합계입니다. 생성 후 변경되지 않습니다.
+     */
+    private static final class YearCalendar {
+        final int year;
+        final int length;
+        final BitSet holidays;
+        final int[] businessDayPrefix; // [i] = 1월 1일부터 i일 동안의 영업일 수
+        final Set<LocalDate> view;
+
+        YearCalendar(int year) {
+            this.year = year;
+            this.length = Year.of(year).length();
+            this.holidays = computeHolidays(year, length);
+            this.businessDayPrefix = new int[length + 1];
+            LocalDate date = LocalDate.of(year, 1, 1);
+            for (int i = 0; i < length; i++, date = date.plusDays(1)) {
+                DayOfWeek dow = date.getDayOfWeek();
+                boolean business = dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !holidays.get(i);
+                businessDayPrefix[i + 1] = businessDayPrefix[i] + (business ? 1 : 0);
+            }
+            this.view = new HolidaySetView(this);
+        }
+    }
+
+    /**
+     * 해당 연도의 공휴일을 계산합니다. 대체공휴일은 날짜 순서대로, 이미 정해진 공휴일과 주말을 피해 다음 평일에 지정합니다.
+     */
+    private static BitSet computeHolidays(int year, int length) {
+        List<LocalDate[]> groups = new ArrayList<>();
+        List<SubstituteRule> rules = new ArrayList<>();
+        addGroup(groups, rules, SubstituteRule.NONE, LocalDate.of(year, Month.JANUARY, 1)); // 신정
+        addGroup(groups, rules, weekendRuleFrom(NATIONAL_DAY_SUBSTITUTE_FROM, year, 3, 1), LocalDate.of(year, Month.MARCH, 1)); // 삼일절
+        addGroup(groups, rules, SubstituteRule.WEEKEND_OR_OVERLAP, LocalDate.of(year, Month.MAY, 5)); // 어린이날
+        addGroup(groups, rules, SubstituteRule.NONE, LocalDate.of(year, Month.JUNE, 6)); // 현충일
+        addGroup(groups, rules, weekendRuleFrom(NATIONAL_DAY_SUBSTITUTE_FROM, year, 8, 15), LocalDate.of(year, Month.AUGUST, 15)); // 광복절
+        addGroup(groups, rules, weekendRuleFrom(NATIONAL_DAY_SUBSTITUTE_FROM, year, 10, 3), LocalDate.of(year, Month.OCTOBER, 3)); // 개천절
+        addGroup(groups, rules, weekendRuleFrom(NATIONAL_DAY_SUBSTITUTE_FROM, year, 10, 9), LocalDate.of(year, Month.OCTOBER, 9)); // 한글날
+        addGroup(groups, rules, weekendRuleFrom(BUDDHA_CHRISTMAS_SUBSTITUTE_FROM, year, 12, 25), LocalDate.of(year, Month.DECEMBER, 25)); // 성탄절
+
+        if (hasLunarHolidays(year)) {
+            int lunarIndex = year - FIRST_LUNAR_YEAR;
+            LocalDate seollal = monthDay(year, LUNAR_HOLIDAYS[lunarIndex][0]);
+            LocalDate buddha = monthDay(year, LUNAR_HOLIDAYS[lunarIndex][1]);
+            LocalDate chuseok = monthDay(year, LUNAR_HOLIDAYS[lunarIndex][2]);
+            addGroup(groups, rules, SubstituteRule.SUNDAY_OR_OVERLAP, seollal.minusDays(1), seollal, seollal.plusDays(1)); // 설날 연휴
+            addGroup(groups, rules, weekendRuleFrom(BUDDHA_CHRISTMAS_SUBSTITUTE_FROM, year, buddha.getMonthValue(), buddha.getDayOfMonth()), buddha); // 부처님 오신 날
+            addGroup(groups, rules, SubstituteRule.SUNDAY_OR_OVERLAP, chuseok.minusDays(1), chuseok, chuseok.plusDays(1)); // 추석 연휴
+        }
+
+        BitSet holidays = new BitSet(length);
+        int[] occurrences = new int[length];
+        for (LocalDate[] group : groups) {
+            for (LocalDate date : group) {
+                holidays.set(date.getDayOfYear() - 1);
+                occurrences[date.getDayOfYear() - 1]++;
+            }
+        }
+        for (LocalDate date : TEMPORARY_HOLIDAYS) {
+            if (date.getYear() == year) holidays.set(date.getDayOfYear() - 1);
+        }
+
+        // 대체공휴일: 시작일 순서대로 처리하고, 겹침으로 생기는 대체공휴일은 겹친 날 하루에 한 번만 지정합니다.
+        Integer[] order = new Integer[groups.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> groups.get(a)[0].compareTo(groups.get(b)[0]));
+        BitSet overlapUsed = new BitSet(length);
+        for (int index : order) {
+            SubstituteRule rule = rules.get(index);
+            if (rule == SubstituteRule.NONE) continue;
+            LocalDate[] group = groups.get(index);
+            int substitutes = 0;
+            for (LocalDate date : group) {
+                int day = date.getDayOfYear() - 1;
+                DayOfWeek dow = date.getDayOfWeek();
+                boolean weekend = dow == DayOfWeek.SUNDAY || (rule == SubstituteRule.WEEKEND_OR_OVERLAP && dow == DayOfWeek.SATURDAY);
+                if (weekend) {
+                    substitutes++;
+                } else if (occurrences[day] > 1 && !overlapUsed.get(day)) {
+                    overlapUsed.set(day);
+                    substitutes++;
+                }
+            }
+            LocalDate candidate = group[group.length - 1].plusDays(1);
+            while (substitutes > 0 && candidate.getYear() == year) {
+                DayOfWeek dow = candidate.getDayOfWeek();
+                int day = candidate.getDayOfYear() - 1;
+                if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !holidays.get(day)) {
+                    holidays.set(day);
+                    substitutes--;
+                }
+                candidate = candidate.plusDays(1);
+            }
+        }
+        return holidays;
+    }
+
+    // 대체공휴일 규정 시행일 이후의 공휴일만 토/일요일 대체 대상입니다.
+    private static SubstituteRule weekendRuleFrom(LocalDate effectiveFrom, int year, int month, int day) {
+        return LocalDate.of(year, month, day).isBefore(effectiveFrom) ? SubstituteRule.NONE : SubstituteRule.WEEKEND_OR_OVERLAP;
+    }
+
+    private static void addGroup(List<LocalDate[]> groups, List<SubstituteRule> rules, SubstituteRule rule, LocalDate... dates) {
+        groups.add(dates);
+        rules.add(rule);
+    }
+
+    private static LocalDate monthDay(int year, int monthDay) {
+        return LocalDate.of(year, monthDay / 100, monthDay % 100);
+    }
+
+    /**
+     * 한 해의 공휴일 BitSet을 LocalDate 집합처럼 보여주는 읽기 전용 뷰입니다.
+     */
+    private static final class HolidaySetView extends AbstractSet<LocalDate> {
+        private final YearCalendar calendar;
+        private final int size;
+
+        HolidaySetView(YearCalendar calendar) {
+            this.calendar = calendar;
+            this.size = calendar.holidays.cardinality();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof LocalDate)) return false;
+            LocalDate date = (LocalDate) o;
+            return date.getYear() == calendar.year && calendar.holidays.get(date.getDayOfYear() - 1);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<LocalDate> iterator() {
+            return new Iterator<LocalDate>() {
+                private int next = calendar.holidays.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public LocalDate next() {
+                    if (next < 0) throw new NoSuchElementException();
+                    LocalDate date = LocalDate.ofYearDay(calendar.year, next + 1);
+                    next = calendar.holidays.nextSetBit(next + 1);
+                    return date;
+                }
+            };
+        }
+    }
+}
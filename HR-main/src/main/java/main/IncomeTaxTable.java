@@ -0,0 +1,186 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 근로소득 간이세액표입니다. 적용 연도별 리소스(/tax/income_tax_{연도}.csv)를 한 번만 읽어
+ * 월급여 구간 하한 배열과 (구간 × 공제대상가족 수) 세액 배열로 보관하고, 조회는 이진 탐색으로 합니다.
+ * 사용 가능한 연도는 /tax/index.txt에 적혀 있으며, 해당 연도 표가 없으면 그 이전 가장 최근 표를 사용합니다.
+ * 리소스에는 국세청이 고시한 표를 그대로 옮긴 것만 넣습니다 (CSV 형식은 index.txt 참고).
+ */
+public final class IncomeTaxTable {
+
+    public static final int MAX_DEPENDENTS = 11;
+    private static final String RESOURCE_DIR = "/tax/";
+    private static final long TEN_MILLION = 10_000_000L;
+
+    private static final Map<Integer, IncomeTaxTable> TABLES = new ConcurrentHashMap<>();
+    private static volatile int[] availableYears;
+
+    private final int effectiveYear;
+    private final long[] bandLowerBounds;  // 원, 이상
+    private final long[] bandUpperBounds;  // 원, 미만
+    private final long[] bandTaxes;        // [구간 * MAX_DEPENDENTS + (가족 수 - 1)]
+    private final long[] tenMillionTaxes;  // 월급여 1천만원의 가족 수별 세액
+    private final long[][] overTenMillionRules; // {시작(원), 끝(원, 0=상한 없음), 가산 세액, 적용 비율(%), 세율(%)}
+
+    private IncomeTaxTable(int effectiveYear, long[] bandLowerBounds, long[] bandUpperBounds, long[] bandTaxes,
+                           long[] tenMillionTaxes, long[][] overTenMillionRules) {
+        this.effectiveYear = effectiveYear;
+        this.bandLowerBounds = bandLowerBounds;
+        this.bandUpperBounds = bandUpperBounds;
+        this.bandTaxes = bandTaxes;
+        this.tenMillionTaxes = tenMillionTaxes;
+        this.overTenMillionRules = overTenMillionRules;
+    }
+
+    /**
+     * 지정한 연도에 적용할 세액표를 반환합니다. 같은 연도의 표는 한 번만 읽습니다.
+     * @return 적용할 세액표, 넣어 둔 표가 하나도 없으면 null
+     */
+    public static IncomeTaxTable forYear(int year) {
+        int[] years = getAvailableYears();
+        if (years.length == 0) return null;
+        int chosen = years[0];
+        for (int available : years) {
+            if (available <= year) chosen = available;
+        }
+        return TABLES.computeIfAbsent(chosen, IncomeTaxTable::load);
+    }
+
+    public int getEffectiveYear() {
+        return effectiveYear;
+    }
+
+    /**
+     * 월급여(원)와 공제대상가족 수(본인 포함)에 해당하는 월 근로소득세(원)를 반환합니다.
+     * 가족 수는 1~11명 범위로 맞춥니다.
+     */
+    public long monthlyTax(long monthlySalary, int dependents) {
+        int column = Math.max(1, Math.min(MAX_DEPENDENTS, dependents)) - 1;
+        if (monthlySalary > TEN_MILLION) {
+            return taxOverTenMillion(monthlySalary, column);
+        }
+        if (monthlySalary == TEN_MILLION) {
+            return tenMillionTaxes[column];
+        }
+        int index = Arrays.binarySearch(bandLowerBounds, monthlySalary);
+        if (index < 0) {
+            index = -index - 2; // 하한이 월급여 이하인 마지막 구간
+        }
+        if (index < 0 || monthlySalary >= bandUpperBounds[index]) {
+            return 0; // 표의 첫 구간보다 적은 급여
+        }
+        return bandTaxes[index * MAX_DEPENDENTS + column];
+    }
+
+    private long taxOverTenMillion(long monthlySalary, int column) {
+        for (long[] rule : overTenMillionRules) {
+            long from = rule[0];
+            long to = rule[1];
+            if (monthlySalary > from && (to == 0 || monthlySalary <= to)) {
+                long excessTax = (monthlySalary - from) * rule[3] * rule[4] / 10_000;
+                return (tenMillionTaxes[column] + rule[2] + excessTax) / 10 * 10;
+            }
+        }
+        return tenMillionTaxes[column];
+    }
+
+    private static int[] getAvailableYears() {
+        int[] years = availableYears;
+        if (years == null) {
+            List<Integer> list = new ArrayList<>();
+            try (BufferedReader reader = open(RESOURCE_DIR + "index.txt")) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) list.add(Integer.parseInt(line));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("간이세액표 목록을 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+            years = list.stream().mapToInt(Integer::intValue).sorted().toArray();
+            availableYears = years;
+        }
+        return years;
+    }
+
+    private static IncomeTaxTable load(int year) {
+        String resource = RESOURCE_DIR + "income_tax_" + year + ".csv";
+        try (BufferedReader reader = open(resource)) {
+            return parse(year, reader, resource);
+        } catch (IOException e) {
+            throw new IllegalStateException("간이세액표 " + resource + "를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * index.txt에 적힌 형식의 CSV를 읽어 세액표를 만듭니다. 리소스 대신 옮겨 적은 표를 검증할 때도 사용합니다.
+     * @param source 오류 메시지에 표시할 이름
+     */
+    static IncomeTaxTable parse(int year, BufferedReader reader, String source) {
+        List<long[]> bands = new ArrayList<>();
+        List<long[]> rules = new ArrayList<>();
+        long[] tenMillionTaxes = null;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] cols = line.split(",");
+                if ("base".equals(cols[0])) {
+                    tenMillionTaxes = parseLongs(cols, 2, MAX_DEPENDENTS);
+                } else if ("over".equals(cols[0])) {
+                    long[] rule = parseLongs(cols, 1, 5);
+                    rule[0] *= 1000;
+                    rule[1] *= 1000;
+                    rules.add(rule);
+                } else {
+                    bands.add(parseLongs(cols, 0, 2 + MAX_DEPENDENTS));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("간이세액표 " + source + "를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        if (bands.isEmpty() || tenMillionTaxes == null) {
+            throw new IllegalStateException("간이세액표 " + source + "에 세액 구간이 없습니다.");
+        }
+
+        int size = bands.size();
+        long[] lowerBounds = new long[size];
+        long[] upperBounds = new long[size];
+        long[] taxes = new long[size * MAX_DEPENDENTS];
+        for (int i = 0; i < size; i++) {
+            long[] band = bands.get(i);
+            lowerBounds[i] = band[0] * 1000; // 표는 천원 단위
+            upperBounds[i] = band[1] * 1000;
+            System.arraycopy(band, 2, taxes, i * MAX_DEPENDENTS, MAX_DEPENDENTS);
+        }
+        return new IncomeTaxTable(year, lowerBounds, upperBounds, taxes, tenMillionTaxes, rules.toArray(new long[0][]));
+    }
+
+    private static long[] parseLongs(String[] cols, int offset, int count) {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = Long.parseLong(cols[offset + i].trim());
+        }
+        return values;
+    }
+
+    private static BufferedReader open(String resource) throws IOException {
+        InputStream in = IncomeTaxTable.class.getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("리소스가 없습니다: " + resource);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package main;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 4대보험 요율과 국민연금 기준소득월액 상/하한을 시행일별로 보관하는 요율표입니다.
+ * 시행일(epoch day) 배열을 정렬해 두고 이진 탐색으로 해당 날짜에 유효한 요율을 찾습니다.
+ * 불변 객체이므로 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public final class InsuranceRateSchedule {
+
+    /**
+     * 한 시행일부터 적용되는 요율입니다. 요율은 소수(0.045 = 4.5%)이며 근로자 부담분 기준입니다.
+     */
+    public static final class Rates {
+        private final LocalDate effectiveFrom;
+        private final BigDecimal nationalPensionRate;
+        private final BigDecimal healthInsuranceRate;
+        private final BigDecimal longTermCareRateOfHealthInsurance;
+        private final BigDecimal employmentInsuranceRate;
+        private final BigDecimal pensionMinBase;
+        private final BigDecimal pensionMaxBase;
+
+        public Rates(LocalDate effectiveFrom, BigDecimal nationalPensionRate, BigDecimal healthInsuranceRate,
+                     BigDecimal longTermCareRateOfHealthInsurance, BigDecimal employmentInsuranceRate,
+                     BigDecimal pensionMinBase, BigDecimal pensionMaxBase) {
+            this.effectiveFrom = effectiveFrom;
+            this.nationalPensionRate = nationalPensionRate;
+            this.healthInsuranceRate = healthInsuranceRate;
+            this.longTermCareRateOfHealthInsurance = longTermCareRateOfHealthInsurance;
+            this.employmentInsuranceRate = employmentInsuranceRate;
+            this.pensionMinBase = pensionMinBase;
+            this.pensionMaxBase = pensionMaxBase;
+        }
+
+        public LocalDate getEffectiveFrom() { return effectiveFrom; }
+        public BigDecimal getNationalPensionRate() { return nationalPensionRate; }
+        public BigDecimal getHealthInsuranceRate() { return healthInsuranceRate; }
+        public BigDecimal getLongTermCareRateOfHealthInsurance() { return longTermCareRateOfHealthInsurance; }
+        public BigDecimal getEmploymentInsuranceRate() { return employmentInsuranceRate; }
+        public BigDecimal getPensionMinBase() { return pensionMinBase; }
+        public BigDecimal getPensionMaxBase() { return pensionMaxBase; }
+    }
+
+    private final long[] effectiveDays;
+    private final Rates[] rates;
+
+    /**
+     * @param rateList 시행일별 요율, 비어 있으면 안 됩니다. 시행일 순서는 상관없습니다.
+     */
+    public InsuranceRateSchedule(List<Rates> rateList) {
+        if (rateList.isEmpty()) {
+            throw new IllegalArgumentException("보험 요율이 하나 이상 있어야 합니다.");
+        }
+        Rates[] sorted = rateList.toArray(new Rates[0]);
+        Arrays.sort(sorted, Comparator.comparing(Rates::getEffectiveFrom));
+        this.rates = sorted;
+        this.effectiveDays = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            effectiveDays[i] = sorted[i].getEffectiveFrom().toEpochDay();
+        }
+    }
+
+    /**
+     * 해당 날짜에 유효한 요율을 반환합니다. 가장 이른 시행일보다 앞선 날짜에는 가장 이른 요율을 적용합니다.
+     */
+    public Rates ratesFor(LocalDate date) {
+        int index = Arrays.binarySearch(effectiveDays, date.toEpochDay());
+        if (index < 0) {
+            index = -index - 2; // 시행일이 date 이전인 마지막 요율
+        }
+        return rates[Math.max(0, index)];
+    }
+
+    /**
+     * 급여 귀속월의 1일 기준으로 유효한 요율을 반환합니다.
+     */
+    public Rates ratesFor(YearMonth period) {
+        return ratesFor(period.atDay(1));
+    }
+
+    public List<Rates> getAll() {
+        return Collections.unmodifiableList(Arrays.asList(rates));
+    }
+
+    /**
+     * DB를 읽을 수 없을 때 사용하는 기본 요율표입니다. 스키마 마이그레이션 3·4의 초기 데이터와 같습니다.
+     */
+    public static InsuranceRateSchedule defaults() {
+        List<Rates> list = new ArrayList<>();
+        list.add(rates("2023-01-01", "0.045", "0.03545", "0.1281", "0.009", "350000", "5530000"));
+        list.add(rates("2023-07-01", "0.045", "0.03545", "0.1281", "0.009", "370000", "5900000"));
+        list.add(rates("2024-01-01", "0.045", "0.03545", "0.1295", "0.009", "370000", "5900000"));
+        list.add(rates("2024-07-01", "0.045", "0.03545", "0.1295", "0.009", "390000", "6170000"));
+        list.add(rates("2025-07-01", "0.045", "0.03545", "0.1295", "0.009", "400000", "6370000"));
+        list.add(rates("2026-01-01", "0.0475", "0.03595", "0.1314", "0.009", "400000", "6370000"));
+        return new InsuranceRateSchedule(list);
+    }
+
+    private static Rates rates(String effectiveFrom, String pension, String health, String longTermCare,
+                               String employment, String pensionMin, String pensionMax) {
+        return new Rates(LocalDate.parse(effectiveFrom), new BigDecimal(pension), new BigDecimal(health),
+                new BigDecimal(longTermCare), new BigDecimal(employment), new BigDecimal(pensionMin), new BigDecimal(pensionMax));
+    }
+}
@@ -0,0 +1,155 @@
+package main;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 달의 달력 선택 상태입니다. 선택일, 공휴일, 주말을 일자별 비트(1일 = 0번 비트)로 보관하므로
+ * 일수 계산은 Integer.bitCount 한 번으로 끝납니다. 불변 객체이며 Swing 컴포넌트 없이도 만들 수 있습니다.
+ */
+public final class MonthAttendanceState {
+
+    private final YearMonth period;
+    private final int selectedMask;
+    private final int holidayMask;
+    private final int weekendMask;
+    private final int monthMask;
+
+    private MonthAttendanceState(YearMonth period, int selectedMask, int holidayMask, int weekendMask) {
+        this.period = period;
+        this.monthMask = (int) ((1L << period.lengthOfMonth()) - 1);
+        this.selectedMask = selectedMask & monthMask;
+        this.holidayMask = holidayMask;
+        this.weekendMask = weekendMask;
+    }
+
+    /**
+     * 지정한 월의 상태를 만듭니다. 공휴일과 주말은 HolidayCalendarService 기준으로 채웁니다.
+     * @param selectedMask 선택일 비트 (1일 = 0번 비트)
+     */
+    public static MonthAttendanceState of(YearMonth period, int selectedMask) {
+        int holidays = 0;
+        int weekends = 0;
+        int length = period.lengthOfMonth();
+        int dow = period.atDay(1).getDayOfWeek().getValue(); // 월=1 ... 일=7
+        for (int i = 0; i < length; i++) {
+            if (dow >= 6) weekends |= 1 << i;
+            if (HolidayCalendarService.isHoliday(period.atDay(i + 1))) holidays |= 1 << i;
+            dow = dow == 7 ? 1 : dow + 1;
+        }
+        return new MonthAttendanceState(period, selectedMask, holidays, weekends);
+    }
+
+    /**
+     * 달력 기본값(평일만 선택)으로 상태를 만듭니다.
+     */
+    public static MonthAttendanceState withWeekdaysSelected(YearMonth period) {
+        MonthAttendanceState empty = of(period, 0);
+        return empty.withSelectedMask(empty.weekdayMask());
+    }
+
+    public MonthAttendanceState withSelectedMask(int mask) {
+        return new MonthAttendanceState(period, mask, holidayMask, weekendMask);
+    }
+
+    public MonthAttendanceState withSelected(int dayOfMonth, boolean selected) {
+        int bit = bit(dayOfMonth);
+        return withSelectedMask(selected ? selectedMask | bit : selectedMask & ~bit);
+    }
+
+    public YearMonth getPeriod() {
+        return period;
+    }
+
+    public int lengthOfMonth() {
+        return period.lengthOfMonth();
+    }
+
+    public LocalDate dateOf(int dayOfMonth) {
+        return period.atDay(dayOfMonth);
+    }
+
+    public DayOfWeek dayOfWeek(int dayOfMonth) {
+        return period.atDay(dayOfMonth).getDayOfWeek();
+    }
+
+    public boolean isSelected(int dayOfMonth) {
+        return (selectedMask & bit(dayOfMonth)) != 0;
+    }
+
+    public boolean isPublicHoliday(int dayOfMonth) {
+        return (holidayMask & bit(dayOfMonth)) != 0;
+    }
+
+    public boolean isWeekend(int dayOfMonth) {
+        return (weekendMask & bit(dayOfMonth)) != 0;
+    }
+
+    /**
+     * 토/일요일 또는 공휴일이면 true입니다.
+     */
+    public boolean isRestDay(int dayOfMonth) {
+        return ((holidayMask | weekendMask) & bit(dayOfMonth)) != 0;
+    }
+
+    public int getSelectedMask() {
+        return selectedMask;
+    }
+
+    public int getHolidayMask() {
+        return holidayMask;
+    }
+
+    public int getWeekendMask() {
+        return weekendMask;
+    }
+
+    /** 주말도 공휴일도 아닌 날의 비트입니다. */
+    public int weekdayMask() {
+        return ~(holidayMask | weekendMask) & monthMask;
+    }
+
+    public int selectedCount() {
+        return Integer.bitCount(selectedMask);
+    }
+
+    /** 달력상 평일 수 */
+    public int weekdayCount() {
+        return Integer.bitCount(weekdayMask());
+    }
+
+    /** 선택된 평일 수 (실근무 평일) */
+    public int selectedWeekdayCount() {
+        return Integer.bitCount(selectedMask & weekdayMask());
+    }
+
+    /** 선택되지 않은 평일 수 (결근/무급 평일) */
+    public int unselectedWeekdayCount() {
+        return Integer.bitCount(~selectedMask & weekdayMask());
+    }
+
+    public boolean areAllWeekdaysSelected() {
+        return (weekdayMask() & ~selectedMask) == 0;
+    }
+
+    /**
+     * 선택된 날짜를 날짜 순으로 반환합니다.
+     */
+    public List<LocalDate> selectedDates() {
+        List<LocalDate> dates = new ArrayList<>(selectedCount());
+        for (int bits = selectedMask; bits != 0; bits &= bits - 1) {
+            dates.add(period.atDay(Integer.numberOfTrailingZeros(bits) + 1));
+        }
+        return dates;
+    }
+
+    private int bit(int dayOfMonth) {
+        if (dayOfMonth < 1 || dayOfMonth > period.lengthOfMonth()) {
+            throw new IllegalArgumentException("잘못된 일자입니다: " + dayOfMonth);
+        }
+        return 1 << (dayOfMonth - 1);
+    }
+}
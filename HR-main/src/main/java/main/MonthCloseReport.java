@@ -0,0 +1,117 @@
+package main;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PayrollManager.finalizeMonth()의 실행 결과입니다.
+ * 전체 커밋 여부와 함께 직원별 처리 결과를 담습니다.
+ */
+public class MonthCloseReport {
+
+    public enum RowStatus {
+        WRITTEN("저장됨"),
+        INVALID("입력 오류"),
+        FAILED("저장 실패"),
+        ROLLED_BACK("롤백됨");
+
+        private final String displayName;
+
+        RowStatus(String displayName) {
+            this.displayName = displayName;
+        }
+
+        @Override
+        public String toString() {
+            return displayName;
+        }
+    }
+
+    public static class RowResult {
+        private final int employeeId;
+        private final String employeeName;
+        private RowStatus status;
+        private String message;
+
+        RowResult(int employeeId, String employeeName) {
+            this.employeeId = employeeId;
+            this.employeeName = employeeName;
+            this.status = RowStatus.ROLLED_BACK;
+        }
+
+        void mark(RowStatus status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+
+        public int getEmployeeId() { return employeeId; }
+        public String getEmployeeName() { return employeeName; }
+        public RowStatus getStatus() { return status; }
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            String who = employeeName != null ? employeeName + "(" + employeeId + ")" : String.valueOf(employeeId);
+            return who + ": " + status + (message != null ? " - " + message : "");
+        }
+    }
+
+    private final YearMonth period;
+    private final List<RowResult> rows = new ArrayList<>();
+    private boolean committed;
+    private int batchCount;
+    private long elapsedMillis;
+    private String errorMessage;
+
+    MonthCloseReport(YearMonth period) {
+        this.period = period;
+    }
+
+    RowResult addRow(int employeeId, String employeeName) {
+        RowResult row = new RowResult(employeeId, employeeName);
+        rows.add(row);
+        return row;
+    }
+
+    void setCommitted(boolean committed) { this.committed = committed; }
+    void setBatchCount(int batchCount) { this.batchCount = batchCount; }
+    void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+    void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public YearMonth getPeriod() { return period; }
+    public List<RowResult> getRows() { return Collections.unmodifiableList(rows); }
+    public boolean isCommitted() { return committed; }
+    public int getBatchCount() { return batchCount; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public String getErrorMessage() { return errorMessage; }
+
+    /**
+     * 실패(입력 오류, 저장 실패) 상태인 행만 반환합니다.
+     */
+    public List<RowResult> getFailedRows() {
+        List<RowResult> failed = new ArrayList<>();
+        for (RowResult row : rows) {
+            if (row.status == RowStatus.INVALID || row.status == RowStatus.FAILED) {
+                failed.add(row);
+            }
+        }
+        return failed;
+    }
+
+    public int getWrittenCount() {
+        int count = 0;
+        for (RowResult row : rows) {
+            if (row.status == RowStatus.WRITTEN) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s 급여 마감: %s, %d명 중 %d명 저장, 배치 %d회, %dms%s",
+                period, committed ? "커밋" : "롤백", rows.size(), getWrittenCount(), batchCount, elapsedMillis,
+                errorMessage != null ? " (" + errorMessage + ")" : "");
+    }
+}
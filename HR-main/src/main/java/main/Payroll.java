@@ -86,6 +86,26 @@ public class Payroll {
                 .add(industrialAccidentInsuranceEmployer != null ? industrialAccidentInsuranceEmployer : BigDecimal.ZERO);
     }
 
+    /**
+     * 공제 계산 결과를 이 급여 객체의 공제/실지급액 항목에 반영합니다.
+     * @param d DeductionCalculator의 계산 결과
+     */
+    public void applyDeductions(DeductionResult d) {
+        this.nationalPensionEmployee = d.nationalPensionEmployee;
+        this.healthInsuranceEmployee = d.healthInsuranceEmployee;
+        this.longTermCareInsuranceEmployee = d.longTermCareInsuranceEmployee;
+        this.employmentInsuranceEmployee = d.employmentInsuranceEmployee;
+        this.incomeTax = d.incomeTax;
+        this.localIncomeTax = d.localIncomeTax;
+        this.totalEmployeeDeduction = d.totalEmployeeDeduction;
+        this.nationalPensionEmployer = d.nationalPensionEmployer;
+        this.healthInsuranceEmployer = d.healthInsuranceEmployer;
+        this.longTermCareInsuranceEmployer = d.longTermCareInsuranceEmployer;
+        this.employmentInsuranceEmployer = d.employmentInsuranceEmployer;
+        this.industrialAccidentInsuranceEmployer = d.industrialAccidentInsuranceEmployer;
+        this.netPay = d.netPay;
+    }
+
     // Getters and Setters
     public int getId() { return id; }
     public void setId(int id) { this.id = id; }
@@ -5,6 +5,8 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,6 +26,7 @@ public class PayrollApp extends JFrame {
     private DeductionsPage deductionsPage; // DeductionsPage 멤버 변수
 
     private PayrollManager payrollManager;
+    private EdtWatchdog edtWatchdog;
     private Employee lastSelectedEmployeeForContract;
     private Payroll lastContractualPayrollForContract;
 
@@ -59,6 +62,14 @@ public class PayrollApp extends JFrame {
         setLayout(new BorderLayout());
         setUIFont(new javax.swing.plaf.FontUIResource(GLOBAL_FONT));
         payrollManager = new PayrollManager();
+        edtWatchdog = EdtWatchdog.startDefault();
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                if (edtWatchdog != null) edtWatchdog.stop();
+                payrollManager.shutdown();
+            }
+        });
 
         JPanel sidebarPanel = createSidebarPanel();
         add(sidebarPanel, BorderLayout.WEST);
@@ -158,6 +169,7 @@ public class PayrollApp extends JFrame {
                         "표시할 직원 정보가 없습니다.\n3페이지에서 직원을 선택하고 '근로계약서 작성' 버튼을 이용하시거나,\n이대로 빈 계약서 양식을 여시겠습니까?",
                         "직원 선택 필요", JOptionPane.YES_NO_OPTION, JOptionPane.INFORMATION_MESSAGE);
                 if (option == JOptionPane.YES_OPTION) {
+                    setCurrentPage("EmploymentContract");
                     employmentContractPage.displayPageForEmployee(null, null);
                     cardLayout.show(cardPanel, "EmploymentContract");
                 }
@@ -266,23 +278,14 @@ public class PayrollApp extends JFrame {
     }
 
     public void showCard(String cardName) {
+        setCurrentPage(cardName);
         cardLayout.show(cardPanel, cardName);
         if (cardName.equals("Summary")) {
             if (summaryPage != null) summaryPage.refreshTableData();
-        } else if (cardName.equals("Attendance")) {
-            if (attendancePage != null) attendancePage.refreshEmployeeComboBox();
         } else if (cardName.equals("EmployeeManagement")) {
             if (employeeManagementPage != null) {
                 employeeManagementPage.loadEmployeeTable("");
             }
-        } else if (cardName.equals("Deductions")) {
-            if (deductionsPage != null) {
-                deductionsPage.refreshEmployeeComboBox();
-            }
-        } else if (cardName.equals("AnnualLeave")) {
-            if (annualLeavePage != null) {
-                annualLeavePage.refreshEmployeeComboBox();
-            }
         } else if (cardName.equals("Settings")) {
             // No specific action needed on show
         }
@@ -293,6 +296,7 @@ public class PayrollApp extends JFrame {
         this.lastContractualPayrollForContract = contractualPayroll;
 
         if (employmentContractPage != null) {
+            setCurrentPage("EmploymentContract");
             employmentContractPage.displayPageForEmployee(employee, contractualPayroll);
             cardLayout.show(cardPanel, "EmploymentContract");
         } else {
@@ -300,6 +304,11 @@ public class PayrollApp extends JFrame {
         }
     }
 
+    // EDT 멈춤 보고에 남길 화면 이름
+    private void setCurrentPage(String cardName) {
+        if (edtWatchdog != null) edtWatchdog.setCurrentPage(cardName);
+    }
+
     public PayrollManager getPayrollManager() {
         return this.payrollManager;
     }
@@ -0,0 +1,258 @@
+package main;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.List;
+
+/**
+ * 월 급여대장을 엑셀(xlsx)로 내보냅니다.
+ * SXSSF 스트리밍 워크북으로 일정 행 수만 메모리에 두고 나머지는 임시 파일로 흘려보내므로,
+ * 수만 행의 급여대장도 힙 사용량이 일정합니다.
+ * 급여 목록을 한 번만 순회하며 두 시트(상세급여대장, 사업자 부담분)의 행과 합계, 열 너비를 함께 계산합니다.
+ */
+public class PayrollLedgerExcelExporter {
+
+    /** 메모리에 유지할 행 수 (이보다 오래된 행은 디스크로 내려갑니다) */
+    private static final int ROW_ACCESS_WINDOW = 200;
+    /** 엑셀 열 너비 상한 (문자 수) */
+    private static final int MAX_COLUMN_CHARS = 80;
+
+    private static final String[] LEDGER_HEADERS = {
+            "No.", "성명", "부서", "기본급", "고정연장수당", "추가수당", "상여금", "기타수당", "식대", "차량유지비", "연구개발비", "육아수당", "지급총액",
+            "국민연금", "건강보험", "장기요양", "고용보험", "소득세", "지방소득세", "공제총액", "실지급액"
+    };
+    private static final String[] EMPLOYER_HEADERS = {"직원명", "국민연금", "건강보험", "장기요양", "고용보험", "산재보험", "합계"};
+
+    private final DecimalFormat currencyFormat = new DecimalFormat("#,##0");
+
+    /**
+     * 급여 목록을 파일로 저장합니다. 목록은 이미 원하는 순서로 정렬되어 있어야 합니다.
+     */
+    public void export(List<Payroll> payrolls, File file) throws IOException {
+        try (OutputStream out = new FileOutputStream(file)) {
+            export(payrolls, out);
+        }
+    }
+
+    public void export(List<Payroll> payrolls, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        try {
+            writeWorkbook(workbook, payrolls);
+            workbook.write(out);
+        } finally {
+            workbook.close();
+            workbook.dispose(); // 임시 파일 삭제
+        }
+    }
+
+    private void writeWorkbook(Workbook workbook, List<Payroll> payrolls) {
+        DataFormat excelDataFormat = workbook.createDataFormat();
+        CellStyle headerStyle = createHeaderStyle(workbook);
+        CellStyle textStyle = createDataStyle(workbook, HorizontalAlignment.CENTER);
+        CellStyle currencyStyle = createNumberStyle(workbook, excelDataFormat, "#,##0");
+        CellStyle ledgerTotalStyle = createTotalStyle(workbook, excelDataFormat, IndexedColors.GREY_25_PERCENT);
+        CellStyle employerTotalStyle = createTotalStyle(workbook, excelDataFormat, IndexedColors.LIGHT_YELLOW);
+
+        SheetWriter ledger = new SheetWriter(workbook.createSheet("상세급여대장"), LEDGER_HEADERS, headerStyle);
+        SheetWriter employer = new SheetWriter(workbook.createSheet("사업자 부담분"), EMPLOYER_HEADERS, headerStyle);
+
+        int ledgerNo = 1;
+        for (Payroll p : payrolls) {
+            // --- 상세급여대장 ---
+            Row row = ledger.nextRow();
+            ledger.number(row, 0, ledgerNo++, textStyle);
+            ledger.text(row, 1, p.getEmployee().getName(), textStyle);
+            ledger.text(row, 2, p.getEmployee().getDepartment(), textStyle);
+
+            boolean isUnpaidLeave = p.getGrossPay().compareTo(BigDecimal.ZERO) == 0;
+            if (isUnpaidLeave) {
+                ledger.text(row, 12, "무급 휴직", textStyle);
+            } else {
+                ledger.amount(row, 3, p.getMonthlyBasicSalary(), currencyStyle);
+                ledger.amount(row, 4, p.getFixedOvertimeAllowance(), currencyStyle);
+                ledger.amount(row, 5, p.getAdditionalOvertimePremium(), currencyStyle);
+                ledger.amount(row, 6, p.getBonus(), currencyStyle);
+                ledger.amount(row, 7, p.getOtherAllowance(), currencyStyle);
+                ledger.amount(row, 8, p.getMealAllowance(), currencyStyle);
+                ledger.amount(row, 9, p.getVehicleMaintenanceFee(), currencyStyle);
+                ledger.amount(row, 10, p.getResearchDevelopmentExpense(), currencyStyle);
+                ledger.amount(row, 11, p.getChildcareAllowance(), currencyStyle);
+                ledger.amount(row, 12, p.getGrossPay(), currencyStyle);
+                ledger.amount(row, 13, p.getNationalPensionEmployee(), currencyStyle);
+                ledger.amount(row, 14, p.getHealthInsuranceEmployee(), currencyStyle);
+                ledger.amount(row, 15, p.getLongTermCareInsuranceEmployee(), currencyStyle);
+                ledger.amount(row, 16, p.getEmploymentInsuranceEmployee(), currencyStyle);
+                ledger.amount(row, 17, p.getIncomeTax(), currencyStyle);
+                ledger.amount(row, 18, p.getLocalIncomeTax(), currencyStyle);
+                ledger.amount(row, 19, p.getTotalEmployeeDeduction(), currencyStyle);
+                ledger.amount(row, 20, p.getNetPay(), currencyStyle);
+            }
+
+            // --- 사업자 부담분 (무급 휴직자 제외) ---
+            if (!isUnpaidLeave) {
+                Row employerRow = employer.nextRow();
+                employer.text(employerRow, 0, p.getEmployee().getName(), textStyle);
+                employer.amount(employerRow, 1, p.getNationalPensionEmployer(), currencyStyle);
+                employer.amount(employerRow, 2, p.getHealthInsuranceEmployer(), currencyStyle);
+                employer.amount(employerRow, 3, p.getLongTermCareInsuranceEmployer(), currencyStyle);
+                employer.amount(employerRow, 4, p.getEmploymentInsuranceEmployer(), currencyStyle);
+                employer.amount(employerRow, 5, p.getIndustrialAccidentInsuranceEmployer(), currencyStyle);
+                employer.amount(employerRow, 6, p.getTotalEmployerDeduction(), currencyStyle);
+            }
+        }
+
+        Row ledgerTotalRow = ledger.nextRow();
+        ledger.text(ledgerTotalRow, 0, "합계", ledgerTotalStyle);
+        ledger.text(ledgerTotalRow, 1, "", ledgerTotalStyle);
+        ledger.text(ledgerTotalRow, 2, "", ledgerTotalStyle);
+        ledger.writeTotals(ledgerTotalRow, 3, ledgerTotalStyle);
+        ledger.applyColumnWidths();
+
+        Row employerTotalRow = employer.nextRow();
+        employer.text(employerTotalRow, 0, "총계", employerTotalStyle);
+        employer.writeTotals(employerTotalRow, 1, employerTotalStyle);
+        employer.applyColumnWidths();
+    }
+
+    /**
+     * 시트 하나에 행을 순서대로 쓰면서 열별 합계와 최대 표시 길이를 함께 기록합니다.
+     * autoSizeColumn은 모든 셀을 폰트 메트릭으로 다시 측정하므로, 대신 쓰는 시점의 문자열 길이로 너비를 정합니다.
+     */
+    private class SheetWriter {
+        private final Sheet sheet;
+        private final BigDecimal[] totals;
+        private final int[] maxWidths;
+        private int rowNum;
+
+        SheetWriter(Sheet sheet, String[] headers, CellStyle headerStyle) {
+            this.sheet = sheet;
+            this.totals = new BigDecimal[headers.length];
+            this.maxWidths = new int[headers.length];
+            for (int i = 0; i < totals.length; i++) totals[i] = BigDecimal.ZERO;
+
+            Row headerRow = nextRow();
+            for (int i = 0; i < headers.length; i++) {
+                text(headerRow, i, headers[i], headerStyle);
+            }
+        }
+
+        Row nextRow() {
+            return sheet.createRow(rowNum++);
+        }
+
+        void text(Row row, int col, String value, CellStyle style) {
+            Cell cell = row.createCell(col);
+            cell.setCellValue(value);
+            cell.setCellStyle(style);
+            trackWidth(col, value);
+        }
+
+        void number(Row row, int col, int value, CellStyle style) {
+            Cell cell = row.createCell(col);
+            cell.setCellValue(value);
+            cell.setCellStyle(style);
+            trackWidth(col, String.valueOf(value));
+        }
+
+        void amount(Row row, int col, BigDecimal value, CellStyle style) {
+            BigDecimal amount = value != null ? value : BigDecimal.ZERO;
+            Cell cell = row.createCell(col);
+            cell.setCellValue(amount.doubleValue());
+            cell.setCellStyle(style);
+            totals[col] = totals[col].add(amount);
+            trackWidth(col, currencyFormat.format(amount.setScale(0, RoundingMode.HALF_UP)));
+        }
+
+        void writeTotals(Row row, int fromCol, CellStyle style) {
+            for (int i = fromCol; i < totals.length; i++) {
+                Cell cell = row.createCell(i);
+                cell.setCellValue(totals[i].doubleValue());
+                cell.setCellStyle(style);
+                trackWidth(i, currencyFormat.format(totals[i].setScale(0, RoundingMode.HALF_UP)));
+            }
+        }
+
+        void applyColumnWidths() {
+            for (int i = 0; i < maxWidths.length; i++) {
+                int chars = Math.min(MAX_COLUMN_CHARS, maxWidths[i] + 2);
+                sheet.setColumnWidth(i, chars * 256);
+            }
+        }
+
+        private void trackWidth(int col, String value) {
+            if (value == null) return;
+            int width = displayWidth(value);
+            if (width > maxWidths[col]) maxWidths[col] = width;
+        }
+    }
+
+    // 한글 등 전각 문자는 2칸으로 계산합니다.
+    private static int displayWidth(String value) {
+        int width = 0;
+        for (int i = 0; i < value.length(); i++) {
+            width += value.charAt(i) < 0x1100 ? 1 : 2;
+        }
+        return width;
+    }
+
+    private static CellStyle createHeaderStyle(Workbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        style.setFont(createBoldFont(workbook));
+        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        setBorders(style, BorderStyle.THIN);
+        return style;
+    }
+
+    private static CellStyle createDataStyle(Workbook workbook, HorizontalAlignment alignment) {
+        CellStyle style = workbook.createCellStyle();
+        setBorders(style, BorderStyle.DOTTED);
+        style.setAlignment(alignment);
+        return style;
+    }
+
+    private static CellStyle createNumberStyle(Workbook workbook, DataFormat format, String formatString) {
+        CellStyle style = createDataStyle(workbook, HorizontalAlignment.RIGHT);
+        style.setDataFormat(format.getFormat(formatString));
+        return style;
+    }
+
+    private static CellStyle createTotalStyle(Workbook workbook, DataFormat format, IndexedColors fillColor) {
+        CellStyle style = createNumberStyle(workbook, format, "#,##0");
+        style.setFont(createBoldFont(workbook));
+        style.setFillForegroundColor(fillColor.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return style;
+    }
+
+    private static org.apache.poi.ss.usermodel.Font createBoldFont(Workbook workbook) {
+        org.apache.poi.ss.usermodel.Font font = workbook.createFont();
+        font.setBold(true);
+        return font;
+    }
+
+    private static void setBorders(CellStyle style, BorderStyle borderStyle) {
+        style.setBorderTop(borderStyle);
+        style.setBorderBottom(borderStyle);
+        style.setBorderLeft(borderStyle);
+        style.setBorderRight(borderStyle);
+    }
+}
@@ -7,20 +7,28 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import javax.swing.JOptionPane;
 import java.io.File;
 
 public class PayrollManager {
     private static final String DB_APP_FOLDER_NAME = ".HR_Payroll_App_Data";
     private static final String DB_FILE_NAME = "payroll_hr_db";
-    private static final String DB_FOLDER_PATH = System.getProperty("user.home") + File.separator + DB_APP_FOLDER_NAME;
+    static final String DB_FOLDER_PATH = System.getProperty("user.home") + File.separator + DB_APP_FOLDER_NAME; // 앱 데이터 폴더 (진단 파일도 여기에 둡니다)
     private static final String DB_URL = "jdbc:h2:file:" + DB_FOLDER_PATH + File.separator + DB_FILE_NAME + ";AUTO_SERVER=TRUE;DB_CLOSE_DELAY=-1";
     private static final String DB_USER = "sa";
     private static final String DB_PASSWORD = "";
+    private static final int DB_POOL_MAX_SIZE = Integer.getInteger("hr.db.poolSize", 10);
+    private static final int FINALIZE_BATCH_SIZE = 500;
 
     private static final String PAYROLL_EMPLOYEE_SELECT_FIELDS =
             "p.id as payroll_id, p.employee_id, p.payment_year, p.payment_month, " +
@@ -31,8 +39,15 @@ public class PayrollManager {
                     "p.total_employee_deduction, p.national_pension_employer, p.health_insurance_employer, p.long_term_care_insurance_employer, " +
                     "p.employment_insurance_employer, p.industrial_accident_insurance_employer, p.net_pay, " +
                     "e.id as employee_db_id, e.name, e.resident_registration_number, e.phone_number, e.annual_salary, " +
-                    "e.address, e.hire_date, e.salary_change_date, e.department, e.work_location, e.site_location";
+                    "e.address, e.hire_date, e.salary_change_date, e.department, e.work_location, e.site_location, e.dependents";
 
+    private ConnectionPool connectionPool;
+    private QueryMetrics queryMetrics;
+    private final AtomicReference<AppSettings> settingsSnapshot = new AtomicReference<>();
+    private final AtomicReference<InsuranceRateSchedule> insuranceRateSnapshot = new AtomicReference<>();
+    private final List<Consumer<AppSettings>> settingsListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Integer>> employeeListeners = new CopyOnWriteArrayList<>();
+    private final EmployeeDirectory employeeDirectory = new EmployeeDirectory(this);
 
     public PayrollManager() {
         try {
@@ -43,79 +58,125 @@ public class PayrollManager {
                     System.exit(1);
                 }
             }
-            Class.forName("org.h2.Driver");
-            try (Connection conn = getConnection()) {
-                setupDatabase();
-            }
+            openDatabase(DB_URL, DB_USER, DB_PASSWORD);
         } catch (Exception e) {
             e.printStackTrace();
             JOptionPane.showMessageDialog(null, "데이터베이스 초기화 중 심각한 오류가 발생했습니다: " + e.getMessage(), "DB 오류", JOptionPane.ERROR_MESSAGE);
         }
     }
 
-    private Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-    }
-
-    public void setupDatabase() {
-        try (Connection conn = getConnection(); Statement stmt = conn.createStatement()) {
-            String createEmployeesTableSQL = "CREATE TABLE IF NOT EXISTS employees (" +
-                    "id INT PRIMARY KEY AUTO_INCREMENT, " +
-                    "name VARCHAR(100) NOT NULL, " +
-                    "resident_registration_number VARCHAR(20) UNIQUE NOT NULL, " +
-                    "phone_number VARCHAR(20), " +
-                    "annual_salary DECIMAL(19, 4) NOT NULL, " +
-                    "address VARCHAR(255) DEFAULT NULL, " +
-                    "hire_date DATE DEFAULT NULL, " +
-                    "salary_change_date DATE DEFAULT NULL, " +
-                    "department VARCHAR(50) DEFAULT NULL, " +
-                    "work_location VARCHAR(255) DEFAULT NULL, " +
-                    "site_location VARCHAR(255) DEFAULT NULL);";
-            stmt.executeUpdate(createEmployeesTableSQL);
-
-            String createPayrollsTableSQL = "CREATE TABLE IF NOT EXISTS payrolls (" +
-                    "id INT PRIMARY KEY AUTO_INCREMENT, employee_id INT NOT NULL, " +
-                    "payment_year INT, payment_month INT, " +
-                    "monthly_basic_salary DECIMAL(19, 4) DEFAULT 0, " +
-                    "bonus DECIMAL(19, 4) DEFAULT 0, " +
-                    "fixed_overtime_allowance DECIMAL(19, 4) DEFAULT 0, " +
-                    "additional_overtime_premium DECIMAL(19, 4) DEFAULT 0, " +
-                    "other_allowance DECIMAL(19, 4) DEFAULT 0, " +
-                    "meal_allowance DECIMAL(19, 4) DEFAULT 0, " +
-                    "vehicle_maintenance_fee DECIMAL(19, 4) DEFAULT 0, " +
-                    "research_development_expense DECIMAL(19, 4) DEFAULT 0, " +
-                    "childcare_allowance DECIMAL(19, 4) DEFAULT 0, " +
-                    "unpaid_days INT DEFAULT 0, unauthorized_absence_days INT DEFAULT 0, " +
-                    "national_pension_employee DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "health_insurance_employee DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "long_term_care_insurance_employee DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "employment_insurance_employee DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "income_tax DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "local_income_tax DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "total_employee_deduction DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "national_pension_employer DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "health_insurance_employer DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "long_term_care_insurance_employer DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "employment_insurance_employer DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "industrial_accident_insurance_employer DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "net_pay DECIMAL(19, 4) DEFAULT 0.0, " +
-                    "FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE, " +
-                    "CONSTRAINT uk_employee_period UNIQUE (employee_id, payment_year, payment_month)" +
-                    ");";
-            stmt.executeUpdate(createPayrollsTableSQL);
-            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS work_records (id INT PRIMARY KEY AUTO_INCREMENT, employee_id INT NOT NULL, work_date DATE NOT NULL, start_time TIME NULL, end_time TIME NULL, work_status VARCHAR(20) NOT NULL, FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE, CONSTRAINT uk_employee_work_date UNIQUE (employee_id, work_date));");
-            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS app_settings (setting_key VARCHAR(255) PRIMARY KEY, setting_value VARCHAR(255) NOT NULL);");
-            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS annual_leaves (id INT PRIMARY KEY AUTO_INCREMENT, employee_id INT NOT NULL, leave_year INT NOT NULL, total_generated_days DECIMAL(10,2) DEFAULT 0.0, adjustment_days DECIMAL(10,2) DEFAULT 0.0, notes VARCHAR(255), FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE, CONSTRAINT uk_employee_leave_year UNIQUE (employee_id, leave_year));");
-            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS leave_usage_records (id INT PRIMARY KEY AUTO_INCREMENT, employee_id INT NOT NULL, leave_date DATE NOT NULL, leave_type VARCHAR(50) NOT NULL, deduct_days DECIMAL(10,2) DEFAULT 1.0, FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE, CONSTRAINT uk_employee_leave_date UNIQUE (employee_id, leave_date));");
+    /**
+     * 앱 데이터 폴더 대신 지정한 DB(임시 파일, 인메모리 등)에 연결합니다. 벤치마크나 데이터 생성 도구에서 사용합니다.
+     * 스키마는 연결하면서 최신 버전으로 맞춥니다.
+     * @throws SQLException 연결 또는 마이그레이션에 실패한 경우
+     */
+    public PayrollManager(String url, String user, String password) throws SQLException {
+        try {
+            openDatabase(url, user, password);
         } catch (SQLException e) {
-            e.printStackTrace();
+            shutdown();
+            throw e;
+        }
+    }
+
+    private void openDatabase(String url, String user, String password) throws SQLException {
+        try {
+            Class.forName("org.h2.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("H2 드라이버를 찾을 수 없습니다.", e);
+        }
+        connectionPool = new ConnectionPool(url, user, password, DB_POOL_MAX_SIZE);
+        if (QueryMetrics.ENABLED) {
+            queryMetrics = new QueryMetrics(connectionPool::getStats);
+        }
+        setupDatabase();
+    }
+
+    Connection getConnection() throws SQLException {
+        if (connectionPool == null) {
+            throw new SQLException("커넥션 풀이 초기화되지 않았습니다.");
+        }
+        if (queryMetrics == null) {
+            return connectionPool.getConnection();
+        }
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = connectionPool.getConnection();
+        } catch (SQLException e) {
+            queryMetrics.recordAcquireFailure();
+            throw e;
+        }
+        return queryMetrics.wrap(connection, System.nanoTime() - start);
+    }
+
+    /**
+     * SQL별 실행 시간·행 수·오류 수와 커넥션 대여 시간 집계입니다.
+     * @return 집계, -Dhr.db.metrics=true로 켜지 않았으면 null
+     */
+    public QueryMetrics getQueryMetrics() {
+        return queryMetrics;
+    }
+
+    /**
+     * 커넥션 풀의 현재 상태(대기 시간, 활성/유휴 커넥션 수 등)를 반환합니다.
+     * @return 풀 상태 스냅샷, 풀이 없으면 null
+     */
+    public ConnectionPool.PoolStats getConnectionPoolStats() {
+        return connectionPool != null ? connectionPool.getStats() : null;
+    }
+
+    /**
+     * 프로그램 종료 시 풀에 남아 있는 커넥션을 모두 닫습니다.
+     */
+    public void shutdown() {
+        if (queryMetrics != null) {
+            queryMetrics.close();
+        }
+        if (connectionPool != null) {
+            connectionPool.shutdown();
+        }
+    }
+
+    /**
+     * 스키마 마이그레이션을 실행해 DB를 최신 버전으로 맞춥니다.
+     */
+    public void setupDatabase() throws SQLException {
+        try (Connection conn = getConnection()) {
+            new SchemaMigrator().migrate(conn);
+        }
+    }
+
+    /**
+     * 모든 화면이 함께 쓰는 직원 목록 캐시입니다.
+     */
+    public EmployeeDirectory getEmployeeDirectory() {
+        return employeeDirectory;
+    }
+
+    /**
+     * 직원이 추가·수정·삭제된 뒤 호출될 리스너를 등록합니다. 인자는 변경된 직원 ID입니다.
+     * 리스너는 변경을 수행한 스레드에서 실행됩니다.
+     */
+    public void addEmployeeListener(Consumer<Integer> listener) {
+        employeeListeners.add(listener);
+    }
+
+    public void removeEmployeeListener(Consumer<Integer> listener) {
+        employeeListeners.remove(listener);
+    }
+
+    private void fireEmployeeChanged(int employeeId) {
+        for (Consumer<Integer> listener : employeeListeners) {
+            listener.accept(employeeId);
         }
     }
 
     public boolean addEmployee(Employee employee, Payroll payroll) {
-        String employeeSql = "INSERT INTO employees (name, resident_registration_number, phone_number, annual_salary, address, hire_date, salary_change_date, department, work_location, site_location) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String employeeSql = "INSERT INTO employees (name, resident_registration_number, phone_number, annual_salary, address, hire_date, salary_change_date, department, work_location, site_location, dependents) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
         String payrollSql = "INSERT INTO payrolls (employee_id, monthly_basic_salary, fixed_overtime_allowance, bonus, other_allowance, meal_allowance, vehicle_maintenance_fee, research_development_expense, childcare_allowance) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
+        int employeeId;
         try (Connection conn = getConnection()) {
             conn.setAutoCommit(false);
 
@@ -130,11 +191,12 @@ public class PayrollManager {
                 empPstmt.setString(8, employee.getDepartment());
                 empPstmt.setString(9, employee.getWorkLocation());
                 empPstmt.setString(10, employee.getSiteLocation());
+                empPstmt.setInt(11, employee.getDependents());
                 empPstmt.executeUpdate();
 
                 try (ResultSet generatedKeys = empPstmt.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
-                        int employeeId = generatedKeys.getInt(1);
+                        employeeId = generatedKeys.getInt(1);
                         try (PreparedStatement payrollPstmt = conn.prepareStatement(payrollSql)) {
                             payrollPstmt.setInt(1, employeeId);
                             payrollPstmt.setBigDecimal(2, payroll.getMonthlyBasicSalary());
@@ -153,15 +215,16 @@ public class PayrollManager {
                 }
             }
             conn.commit();
-            return true;
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
+        fireEmployeeChanged(employeeId);
+        return true;
     }
 
     public boolean updateEmployee(Employee employee, Payroll payroll) {
-        String employeeSql = "UPDATE employees SET name=?, resident_registration_number=?, phone_number=?, annual_salary=?, address=?, hire_date=?, salary_change_date=?, department=?, work_location=?, site_location=? WHERE id=?";
+        String employeeSql = "UPDATE employees SET name=?, resident_registration_number=?, phone_number=?, annual_salary=?, address=?, hire_date=?, salary_change_date=?, department=?, work_location=?, site_location=?, dependents=? WHERE id=?";
         String payrollSql = "UPDATE payrolls SET monthly_basic_salary=?, fixed_overtime_allowance=?, bonus=?, other_allowance=?, meal_allowance=?, vehicle_maintenance_fee=?, research_development_expense=?, childcare_allowance=? WHERE employee_id=? AND payment_year IS NULL AND payment_month IS NULL";
         String checkPayrollSql = "SELECT 1 FROM payrolls WHERE employee_id=? AND payment_year IS NULL AND payment_month IS NULL";
         String insertPayrollSql = "INSERT INTO payrolls (employee_id, monthly_basic_salary, fixed_overtime_allowance, bonus, other_allowance, meal_allowance, vehicle_maintenance_fee, research_development_expense, childcare_allowance) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
@@ -180,7 +243,8 @@ public class PayrollManager {
                 empPstmt.setString(8, employee.getDepartment());
                 empPstmt.setString(9, employee.getWorkLocation());
                 empPstmt.setString(10, employee.getSiteLocation());
-                empPstmt.setInt(11, employee.getId());
+                empPstmt.setInt(11, employee.getDependents());
+                empPstmt.setInt(12, employee.getId());
                 empPstmt.executeUpdate();
             }
 
@@ -216,29 +280,33 @@ public class PayrollManager {
                 }
             }
             conn.commit();
-            return true;
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
+        fireEmployeeChanged(employee.getId());
+        return true;
     }
 
     public boolean deleteEmployee(int employeeId) {
         String sql = "DELETE FROM employees WHERE id = ?";
         try (Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, employeeId);
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
+            if (pstmt.executeUpdate() == 0) {
+                return false;
+            }
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
+        fireEmployeeChanged(employeeId);
+        return true;
     }
 
     public List<Employee> getAllEmployees() {
         List<Employee> employees = new ArrayList<>();
         // [수정] SELECT * 대신 별칭을 사용하도록 명시적 컬럼 지정
-        String sql = "SELECT id as employee_db_id, name, resident_registration_number, phone_number, annual_salary, address, hire_date, salary_change_date, department, work_location, site_location FROM employees ORDER BY name";
+        String sql = "SELECT id as employee_db_id, name, resident_registration_number, phone_number, annual_salary, address, hire_date, salary_change_date, department, work_location, site_location, dependents FROM employees ORDER BY name";
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
@@ -251,20 +319,32 @@ public class PayrollManager {
         return employees;
     }
 
-    public Optional<Employee> getEmployeeByName(String name) {
-        // [수정] SELECT * 대신 별칭을 사용하도록 명시적 컬럼 지정
-        String sql = "SELECT id as employee_db_id, name, resident_registration_number, phone_number, annual_salary, address, hire_date, salary_change_date, department, work_location, site_location FROM employees WHERE name = ?";
-        try (Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, name);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapRowToEmployee(rs));
-                }
+    /**
+     * 등록된 모든 직원 ID입니다. 외부 자료를 가져올 때 존재하지 않는 직원을 걸러내는 데 사용합니다.
+     */
+    public Set<Integer> getAllEmployeeIds() {
+        Set<Integer> ids = new HashSet<>();
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM employees")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return Optional.empty();
+        return ids;
+    }
+
+    public int getEmployeeCount() {
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM employees")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return 0;
+        }
     }
 
     public Optional<Payroll> getContractualPayroll(int employeeId) {
@@ -282,6 +362,25 @@ public class PayrollManager {
         return Optional.empty();
     }
 
+    /**
+     * 모든 직원의 계약 급여 정보를 직원 정보와 함께 한 번의 조인 쿼리로 조회합니다.
+     * @return 직원명 순으로 정렬된 계약 급여 목록 (각 항목의 getEmployee()에 직원 정보 포함)
+     */
+    public List<Payroll> getAllContractualPayrolls() {
+        List<Payroll> payrolls = new ArrayList<>();
+        String sql = "SELECT " + PAYROLL_EMPLOYEE_SELECT_FIELDS + " FROM payrolls p JOIN employees e ON p.employee_id = e.id WHERE p.payment_year IS NULL AND p.payment_month IS NULL ORDER BY e.name";
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                payrolls.add(mapRowToPayroll(rs));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return payrolls;
+    }
+
     public List<Payroll> getPayrollsForPeriod(int year, int month) {
         List<Payroll> payrolls = new ArrayList<>();
         String sql = "SELECT " + PAYROLL_EMPLOYEE_SELECT_FIELDS + " FROM payrolls p JOIN employees e ON p.employee_id = e.id WHERE p.payment_year = ? AND p.payment_month = ? ORDER BY e.name";
@@ -314,43 +413,118 @@ public class PayrollManager {
 
     public void finalizeMonthlyPayAndDeductions(int employeeId, YearMonth period,
                                                 Payroll payroll, BigDecimal industrialAccidentRate, int dependents) {
-        DeductionResult result = DeductionCalculator.calculate(payroll.getGrossPay(), industrialAccidentRate, dependents);
+        payroll.setEmployeeId(employeeId);
+        MonthCloseReport report = finalizeMonth(period, Collections.singletonList(payroll), industrialAccidentRate, dependents);
+        if (!report.isCommitted()) {
+            JOptionPane.showMessageDialog(null, "급여 정보 저장 실패: " + report.getErrorMessage(), "DB 오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * 여러 직원의 월 급여에 공제액을 계산해 반영한 뒤 한 번에 마감합니다.
+     * @param period 급여 귀속 연월
+     * @param payrolls employeeId가 설정된 월 급여 목록
+     * @param industrialAccidentRate 산재보험 요율
+     * @param dependents 부양가족 수
+     * @return 직원별 처리 결과
+     */
+    public MonthCloseReport finalizeMonth(YearMonth period, List<Payroll> payrolls,
+                                          BigDecimal industrialAccidentRate, int dependents) {
+        for (Payroll payroll : payrolls) {
+            payroll.applyDeductions(DeductionCalculator.calculate(payroll.getGrossPay(), industrialAccidentRate, dependents,
+                    period, getInsuranceRateSchedule()));
+        }
+        return finalizeMonth(period, payrolls);
+    }
 
-        String sqlSelect = "SELECT id FROM payrolls WHERE employee_id = ? AND payment_year = ? AND payment_month = ?";
-        String sqlUpdate = "UPDATE payrolls SET monthly_basic_salary=?, bonus=?, fixed_overtime_allowance=?, additional_overtime_premium=?, other_allowance=?, meal_allowance=?, vehicle_maintenance_fee=?, research_development_expense=?, childcare_allowance=?, unpaid_days=?, unauthorized_absence_days=?, national_pension_employee=?, health_insurance_employee=?, long_term_care_insurance_employee=?, employment_insurance_employee=?, income_tax=?, local_income_tax=?, total_employee_deduction=?, national_pension_employer=?, health_insurance_employer=?, long_term_care_insurance_employer=?, employment_insurance_employer=?, industrial_accident_insurance_employer=?, net_pay=? WHERE id = ?";
-        String sqlInsert = "INSERT INTO payrolls (employee_id, payment_year, payment_month, monthly_basic_salary, bonus, fixed_overtime_allowance, additional_overtime_premium, other_allowance, meal_allowance, vehicle_maintenance_fee, research_development_expense, childcare_allowance, unpaid_days, unauthorized_absence_days, national_pension_employee, health_insurance_employee, long_term_care_insurance_employee, employment_insurance_employee, income_tax, local_income_tax, total_employee_deduction, national_pension_employer, health_insurance_employer, long_term_care_insurance_employer, employment_insurance_employer, industrial_accident_insurance_employer, net_pay) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    /**
+     * 공제액까지 채워진 월 급여 목록을 하나의 트랜잭션에서 배치 MERGE로 저장합니다.
+     * 한 건이라도 실패하면 전체를 롤백합니다(all-or-nothing).
+     * @param period 급여 귀속 연월
+     * @param payrolls employeeId와 공제 항목이 설정된 월 급여 목록
+     * @return 직원별 처리 결과
+     */
+    public MonthCloseReport finalizeMonth(YearMonth period, List<Payroll> payrolls) {
+        long startNanos = System.nanoTime();
+        MonthCloseReport report = new MonthCloseReport(period);
+        List<MonthCloseReport.RowResult> rows = new ArrayList<>(payrolls.size());
+        boolean hasInvalidRow = false;
+        for (Payroll payroll : payrolls) {
+            MonthCloseReport.RowResult row = report.addRow(payroll.getEmployeeId(),
+                    payroll.getEmployee() != null ? payroll.getEmployee().getName() : null);
+            if (payroll.getEmployeeId() <= 0) {
+                row.mark(MonthCloseReport.RowStatus.INVALID, "직원 ID가 지정되지 않았습니다.");
+                hasInvalidRow = true;
+            }
+            rows.add(row);
+        }
+        if (hasInvalidRow) {
+            report.setErrorMessage("입력 오류가 있어 저장하지 않았습니다.");
+            report.setElapsedMillis((System.nanoTime() - startNanos) / 1_000_000);
+            return report;
+        }
 
-        try (Connection conn = getConnection()) {
-            PreparedStatement psSelect = conn.prepareStatement(sqlSelect);
-            psSelect.setInt(1, employeeId);
-            psSelect.setInt(2, period.getYear());
-            psSelect.setInt(3, period.getMonthValue());
-            ResultSet rs = psSelect.executeQuery();
+        String sqlMerge = "MERGE INTO payrolls (employee_id, payment_year, payment_month, monthly_basic_salary, bonus, fixed_overtime_allowance, additional_overtime_premium, other_allowance, meal_allowance, vehicle_maintenance_fee, research_development_expense, childcare_allowance, unpaid_days, unauthorized_absence_days, national_pension_employee, health_insurance_employee, long_term_care_insurance_employee, employment_insurance_employee, income_tax, local_income_tax, total_employee_deduction, national_pension_employer, health_insurance_employer, long_term_care_insurance_employer, employment_insurance_employer, industrial_accident_insurance_employer, net_pay) " +
+                "KEY(employee_id, payment_year, payment_month) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
-            if (rs.next()) {
-                int payrollId = rs.getInt("id");
-                try(PreparedStatement psUpdate = conn.prepareStatement(sqlUpdate)) {
-                    setAllPayrollParams(psUpdate, payroll, result);
-                    psUpdate.setInt(25, payrollId);
-                    psUpdate.executeUpdate();
-                }
-            } else {
-                try(PreparedStatement psInsert = conn.prepareStatement(sqlInsert)) {
-                    psInsert.setInt(1, employeeId);
-                    psInsert.setInt(2, period.getYear());
-                    psInsert.setInt(3, period.getMonthValue());
-                    setAllPayrollParams(psInsert, payroll, result);
-                    psInsert.executeUpdate();
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            int batchCount = 0;
+            try (PreparedStatement psMerge = conn.prepareStatement(sqlMerge)) {
+                for (int from = 0; from < payrolls.size(); from += FINALIZE_BATCH_SIZE) {
+                    int to = Math.min(from + FINALIZE_BATCH_SIZE, payrolls.size());
+                    for (int i = from; i < to; i++) {
+                        Payroll payroll = payrolls.get(i);
+                        psMerge.setInt(1, payroll.getEmployeeId());
+                        psMerge.setInt(2, period.getYear());
+                        psMerge.setInt(3, period.getMonthValue());
+                        setAllPayrollParams(psMerge, 4, payroll);
+                        psMerge.addBatch();
+                    }
+                    batchCount++;
+                    try {
+                        psMerge.executeBatch();
+                    } catch (BatchUpdateException e) {
+                        markBatchFailures(rows, from, e);
+                        throw e;
+                    }
                 }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
             }
-        } catch(SQLException e) {
+            for (MonthCloseReport.RowResult row : rows) {
+                row.mark(MonthCloseReport.RowStatus.WRITTEN, null);
+            }
+            report.setCommitted(true);
+            report.setBatchCount(batchCount);
+        } catch (SQLException e) {
             e.printStackTrace();
-            JOptionPane.showMessageDialog(null, "급여 정보 저장 실패: " + e.getMessage(), "DB 오류", JOptionPane.ERROR_MESSAGE);
+            report.setErrorMessage(e.getMessage());
         }
+        report.setElapsedMillis((System.nanoTime() - startNanos) / 1_000_000);
+        return report;
     }
 
-    private void setAllPayrollParams(PreparedStatement pstmt, Payroll p, DeductionResult d) throws SQLException {
-        int i = pstmt.getParameterMetaData().getParameterCount() > 25 ? 4 : 1;
+    // 배치 실패 시 드라이버가 알려준 행별 결과를 보고서에 옮깁니다.
+    private void markBatchFailures(List<MonthCloseReport.RowResult> rows, int offset, BatchUpdateException e) {
+        int[] counts = e.getUpdateCounts();
+        boolean marked = false;
+        for (int i = 0; counts != null && i < counts.length && offset + i < rows.size(); i++) {
+            if (counts[i] == Statement.EXECUTE_FAILED) {
+                rows.get(offset + i).mark(MonthCloseReport.RowStatus.FAILED, e.getMessage());
+                marked = true;
+            }
+        }
+        if (!marked && counts != null && offset + counts.length < rows.size()) {
+            // 드라이버가 첫 실패 지점에서 멈춘 경우 다음 행이 실패한 행입니다.
+            rows.get(offset + counts.length).mark(MonthCloseReport.RowStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private void setAllPayrollParams(PreparedStatement pstmt, int startIndex, Payroll p) throws SQLException {
+        int i = startIndex;
 
         pstmt.setBigDecimal(i++, p.getMonthlyBasicSalary());
         pstmt.setBigDecimal(i++, p.getBonus());
@@ -363,19 +537,44 @@ public class PayrollManager {
         pstmt.setBigDecimal(i++, p.getChildcareAllowance());
         pstmt.setInt(i++, p.getUnpaidDays());
         pstmt.setInt(i++, p.getUnauthorizedAbsenceDays());
-        pstmt.setBigDecimal(i++, d.nationalPensionEmployee);
-        pstmt.setBigDecimal(i++, d.healthInsuranceEmployee);
-        pstmt.setBigDecimal(i++, d.longTermCareInsuranceEmployee);
-        pstmt.setBigDecimal(i++, d.employmentInsuranceEmployee);
-        pstmt.setBigDecimal(i++, d.incomeTax);
-        pstmt.setBigDecimal(i++, d.localIncomeTax);
-        pstmt.setBigDecimal(i++, d.totalEmployeeDeduction);
-        pstmt.setBigDecimal(i++, d.nationalPensionEmployer);
-        pstmt.setBigDecimal(i++, d.healthInsuranceEmployer);
-        pstmt.setBigDecimal(i++, d.longTermCareInsuranceEmployer);
-        pstmt.setBigDecimal(i++, d.employmentInsuranceEmployer);
-        pstmt.setBigDecimal(i++, d.industrialAccidentInsuranceEmployer);
-        pstmt.setBigDecimal(i++, d.netPay);
+        pstmt.setBigDecimal(i++, p.getNationalPensionEmployee());
+        pstmt.setBigDecimal(i++, p.getHealthInsuranceEmployee());
+        pstmt.setBigDecimal(i++, p.getLongTermCareInsuranceEmployee());
+        pstmt.setBigDecimal(i++, p.getEmploymentInsuranceEmployee());
+        pstmt.setBigDecimal(i++, p.getIncomeTax());
+        pstmt.setBigDecimal(i++, p.getLocalIncomeTax());
+        pstmt.setBigDecimal(i++, p.getTotalEmployeeDeduction());
+        pstmt.setBigDecimal(i++, p.getNationalPensionEmployer());
+        pstmt.setBigDecimal(i++, p.getHealthInsuranceEmployer());
+        pstmt.setBigDecimal(i++, p.getLongTermCareInsuranceEmployer());
+        pstmt.setBigDecimal(i++, p.getEmploymentInsuranceEmployer());
+        pstmt.setBigDecimal(i++, p.getIndustrialAccidentInsuranceEmployer());
+        pstmt.setBigDecimal(i++, p.getNetPay());
+    }
+
+    /**
+     * 캐시된 설정 스냅샷을 반환합니다. 처음 호출될 때만 DB에서 읽어 옵니다.
+     * 계산 경로에서는 loadSettings() 대신 이 메서드를 사용합니다.
+     */
+    public AppSettings getSettings() {
+        AppSettings settings = settingsSnapshot.get();
+        if (settings == null) {
+            settingsSnapshot.compareAndSet(null, new AppSettings(loadSettings()));
+            settings = settingsSnapshot.get();
+        }
+        return settings;
+    }
+
+    /**
+     * 설정이 저장되어 새 스냅샷이 게시될 때 호출될 리스너를 등록합니다.
+     * 리스너는 saveSettings()를 호출한 스레드에서 실행됩니다.
+     */
+    public void addSettingsListener(Consumer<AppSettings> listener) {
+        settingsListeners.add(listener);
+    }
+
+    public void removeSettingsListener(Consumer<AppSettings> listener) {
+        settingsListeners.remove(listener);
     }
 
     public Map<String, String> loadSettings() {
@@ -391,7 +590,11 @@ public class PayrollManager {
         return settings;
     }
 
-    public void saveSettings(Map<String, String> settings) {
+    /**
+     * 설정을 저장하고, 성공하면 새 스냅샷을 게시한 뒤 리스너에게 알립니다.
+     * @return 저장 성공 여부
+     */
+    public boolean saveSettings(Map<String, String> settings) {
         String sql = "MERGE INTO app_settings (setting_key, setting_value) KEY(setting_key) VALUES (?, ?)";
         try (Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
             for (Map.Entry<String, String> entry : settings.entrySet()) {
@@ -402,7 +605,68 @@ public class PayrollManager {
             pstmt.executeBatch();
         } catch (SQLException e) {
             e.printStackTrace();
+            return false;
+        }
+
+        AppSettings updated = new AppSettings(loadSettings());
+        settingsSnapshot.set(updated);
+        for (Consumer<AppSettings> listener : settingsListeners) {
+            listener.accept(updated);
         }
+        return true;
+    }
+
+    /**
+     * 캐시된 보험 요율표를 반환합니다. 처음 호출될 때만 DB에서 읽어 옵니다.
+     */
+    public InsuranceRateSchedule getInsuranceRateSchedule() {
+        InsuranceRateSchedule schedule = insuranceRateSnapshot.get();
+        if (schedule == null) {
+            insuranceRateSnapshot.compareAndSet(null, loadInsuranceRateSchedule());
+            schedule = insuranceRateSnapshot.get();
+        }
+        return schedule;
+    }
+
+    // 요율표를 읽을 수 없거나 비어 있으면 기본 요율표를 사용합니다.
+    private InsuranceRateSchedule loadInsuranceRateSchedule() {
+        List<InsuranceRateSchedule.Rates> rates = new ArrayList<>();
+        String sql = "SELECT * FROM insurance_rates ORDER BY effective_from";
+        try (Connection conn = getConnection(); Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                rates.add(new InsuranceRateSchedule.Rates(rs.getDate("effective_from").toLocalDate(),
+                        rs.getBigDecimal("national_pension_rate"), rs.getBigDecimal("health_insurance_rate"),
+                        rs.getBigDecimal("long_term_care_rate"), rs.getBigDecimal("employment_insurance_rate"),
+                        rs.getBigDecimal("pension_min_base"), rs.getBigDecimal("pension_max_base")));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return rates.isEmpty() ? InsuranceRateSchedule.defaults() : new InsuranceRateSchedule(rates);
+    }
+
+    /**
+     * 시행일의 보험 요율을 저장(같은 시행일이 있으면 덮어쓰기)하고 캐시된 요율표를 새로 읽습니다.
+     * @return 저장 성공 여부
+     */
+    public boolean saveInsuranceRates(InsuranceRateSchedule.Rates rates) {
+        String sql = "MERGE INTO insurance_rates (effective_from, national_pension_rate, health_insurance_rate, long_term_care_rate, " +
+                "employment_insurance_rate, pension_min_base, pension_max_base) KEY(effective_from) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        try (Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setDate(1, Date.valueOf(rates.getEffectiveFrom()));
+            pstmt.setBigDecimal(2, rates.getNationalPensionRate());
+            pstmt.setBigDecimal(3, rates.getHealthInsuranceRate());
+            pstmt.setBigDecimal(4, rates.getLongTermCareRateOfHealthInsurance());
+            pstmt.setBigDecimal(5, rates.getEmploymentInsuranceRate());
+            pstmt.setBigDecimal(6, rates.getPensionMinBase());
+            pstmt.setBigDecimal(7, rates.getPensionMaxBase());
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+        insuranceRateSnapshot.set(loadInsuranceRateSchedule());
+        return true;
     }
 
     public Map<String, BigDecimal> getAnnualLeaveSummary(int employeeId, int year) {
@@ -424,10 +688,12 @@ public class PayrollManager {
             e.printStackTrace();
         }
 
-        String sqlUsage = "SELECT SUM(deduct_days) as total_used FROM leave_usage_records WHERE employee_id = ? AND EXTRACT(YEAR FROM leave_date) = ?";
+        // 연도 조건은 인덱스를 사용할 수 있도록 날짜 범위로 조회합니다.
+        String sqlUsage = "SELECT SUM(deduct_days) as total_used FROM leave_usage_records WHERE employee_id = ? AND leave_date >= ? AND leave_date < ?";
         try (Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sqlUsage)) {
             pstmt.setInt(1, employeeId);
-            pstmt.setInt(2, year);
+            pstmt.setDate(2, Date.valueOf(LocalDate.of(year, 1, 1)));
+            pstmt.setDate(3, Date.valueOf(LocalDate.of(year + 1, 1, 1)));
             ResultSet rs = pstmt.executeQuery();
             if (rs.next()) {
                 BigDecimal totalUsed = rs.getBigDecimal("total_used");
@@ -471,10 +737,11 @@ public class PayrollManager {
 
     public List<LocalDate> getLeaveUsageRecords(int employeeId, int year) {
         List<LocalDate> usedDates = new ArrayList<>();
-        String sql = "SELECT leave_date FROM leave_usage_records WHERE employee_id = ? AND EXTRACT(YEAR FROM leave_date) = ? ORDER BY leave_date";
+        String sql = "SELECT leave_date FROM leave_usage_records WHERE employee_id = ? AND leave_date >= ? AND leave_date < ? ORDER BY leave_date";
         try (Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, employeeId);
-            pstmt.setInt(2, year);
+            pstmt.setDate(2, Date.valueOf(LocalDate.of(year, 1, 1)));
+            pstmt.setDate(3, Date.valueOf(LocalDate.of(year + 1, 1, 1)));
             ResultSet rs = pstmt.executeQuery();
             while(rs.next()) {
                 usedDates.add(rs.getDate("leave_date").toLocalDate());
@@ -505,11 +772,27 @@ public class PayrollManager {
         LocalDate hireDate = employee.getHireDate();
         if (hireDate == null) return;
 
-        Map<String, String> settings = loadSettings();
-        String basis = settings.getOrDefault("annualLeaveBasis", "FISCAL");
-        BigDecimal totalGeneratedDays = BigDecimal.ZERO;
+        BigDecimal totalGeneratedDays = annualLeaveDays(hireDate, year, getSettings().isHireDateLeaveBasis());
+
+        String sql = "MERGE INTO annual_leaves (employee_id, leave_year, total_generated_days) KEY(employee_id, leave_year) VALUES (?, ?, ?)";
+        try(Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, employee.getId());
+            pstmt.setInt(2, year);
+            pstmt.setBigDecimal(3, totalGeneratedDays);
+            pstmt.executeUpdate();
+        } catch(SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 해당 연도에 발생하는 연차 일수를 계산합니다.
+     * @param hireDateBasis true면 입사일 기준, false면 회계연도 기준
+     */
+    static BigDecimal annualLeaveDays(LocalDate hireDate, int year, boolean hireDateBasis) {
+        BigDecimal totalGeneratedDays;
 
-        if ("HIRE_DATE".equals(basis)) {
+        if (hireDateBasis) {
             long yearsOfService = ChronoUnit.YEARS.between(hireDate, LocalDate.of(year, 1, 1));
             if (yearsOfService < 1) {
                 long monthsOfService = ChronoUnit.MONTHS.between(hireDate, LocalDate.of(year, 12, 31).plusDays(1));
@@ -532,23 +815,14 @@ public class PayrollManager {
                 totalGeneratedDays = baseLeaveDays.add(additionalLeaveDays).min(new BigDecimal("25"));
             }
         }
-
-        String sql = "MERGE INTO annual_leaves (employee_id, leave_year, total_generated_days) KEY(employee_id, leave_year) VALUES (?, ?, ?)";
-        try(Connection conn = getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, employee.getId());
-            pstmt.setInt(2, year);
-            pstmt.setBigDecimal(3, totalGeneratedDays);
-            pstmt.executeUpdate();
-        } catch(SQLException e) {
-            e.printStackTrace();
-        }
+        return totalGeneratedDays;
     }
 
     private Employee mapRowToEmployee(ResultSet rs) throws SQLException {
         Date hireDate = rs.getDate("hire_date");
         Date salaryChangeDate = rs.getDate("salary_change_date");
 
-        return new Employee(
+        Employee employee = new Employee(
                 rs.getInt("employee_db_id"),
                 rs.getString("name"),
                 rs.getString("resident_registration_number"),
@@ -561,6 +835,8 @@ public class PayrollManager {
                 rs.getString("work_location"),
                 rs.getString("site_location")
         );
+        employee.setDependents(rs.getInt("dependents"));
+        return employee;
     }
 
     private Payroll mapRowToPayroll(ResultSet rs) throws SQLException {
@@ -0,0 +1,311 @@
+package main;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 전 직원의 월 급여를 병렬로 계산하고 한 번의 배치 마감으로 저장하는 엔진입니다.
+ * 계약 정보와 설정은 한 번에 읽어 오고, 직원별 계산(SalaryCalculatorService + DeductionCalculator)만
+ * 작업 스레드 풀에서 병렬로 수행합니다. 계산 커널은 BigDecimal과 long 고정소수점(FixedPointSalaryKernel) 중에서 고를 수 있습니다.
+ */
+public class PayrollRunEngine {
+
+    /**
+     * 진행 상황을 전달받는 리스너입니다. run()을 호출한 스레드에서 호출됩니다.
+     */
+    public interface ProgressListener {
+        void onProgress(int completed, int total);
+    }
+
+    /**
+     * 직원별 근무 기록을 제공합니다. 여러 작업 스레드에서 동시에 호출될 수 있습니다.
+     */
+    public interface AttendanceSource {
+        List<WorkRecord> recordsFor(Employee employee);
+    }
+
+    /**
+     * 직원별 급여 계산에 사용할 계산 커널입니다.
+     */
+    public enum Kernel {
+        /** SalaryCalculatorService의 BigDecimal 계산 (기본값) */
+        BIG_DECIMAL,
+        /** FixedPointSalaryKernel의 long 고정소수점 계산. 0.5원 경계 근처이거나 long 범위를 넘는 직원만 BigDecimal로 다시 계산합니다. */
+        FIXED_POINT,
+        /** 두 커널을 모두 실행해 원 단위 차이를 보고서에 기록하고, 저장은 BigDecimal 결과로 합니다. */
+        VERIFY
+    }
+
+    private final PayrollManager payrollManager;
+    private final SalaryCalculatorService salaryCalculatorService;
+    private final int parallelism;
+    private final Kernel kernel;
+
+    public PayrollRunEngine(PayrollManager payrollManager) {
+        this(payrollManager, Runtime.getRuntime().availableProcessors());
+    }
+
+    public PayrollRunEngine(PayrollManager payrollManager, int parallelism) {
+        this(payrollManager, parallelism, Kernel.BIG_DECIMAL);
+    }
+
+    public PayrollRunEngine(PayrollManager payrollManager, int parallelism, Kernel kernel) {
+        this.payrollManager = payrollManager;
+        this.salaryCalculatorService = new SalaryCalculatorService(payrollManager);
+        this.parallelism = Math.max(1, parallelism);
+        this.kernel = kernel;
+    }
+
+    /**
+     * 지정한 월의 급여를 전 직원에 대해 계산하고 마감합니다.
+     * 저장된 근무 기록(work_records)을 한 번에 불러와 사용하고,
+     * 기록이 없는 직원은 달력 기본값(평일 정상 근무, 주말/공휴일 무급휴일)으로 계산합니다.
+     * 산재보험 요율은 설정(AppSettings)의 값을, 공제대상가족 수는 직원별 값을 사용합니다.
+     * @throws SQLException 근무 기록을 불러오지 못한 경우. 이때는 아무것도 계산·저장하지 않습니다.
+     */
+    public PayrollRunReport run(YearMonth period, ProgressListener listener) throws SQLException {
+        return run(period, null, listener, null);
+    }
+
+    /**
+     * 지정한 근무 기록 공급자로 전 직원의 급여를 계산하고 마감합니다.
+     * 계산에 실패한 직원은 보고서에 기록되고 나머지 직원은 그대로 저장됩니다.
+     * 계산 중 취소 요청이 있으면 저장하지 않고 isCancelled()가 true인 보고서를 돌려줍니다.
+     * 마감(저장)을 시작한 뒤에는 취소하지 않습니다.
+     * @param attendanceSource 근무 기록 공급자, null이면 저장된 근무 기록(없는 직원은 달력 기본값) 사용
+     * @param cancelRequested 취소 요청 여부, null 가능
+     * @throws SQLException 저장된 근무 기록을 불러오지 못한 경우
+     */
+    public PayrollRunReport run(YearMonth period, AttendanceSource attendanceSource, ProgressListener listener,
+                                BooleanSupplier cancelRequested) throws SQLException {
+        long wallStart = System.nanoTime();
+        PayrollRunReport report = new PayrollRunReport(period);
+
+        // --- 1. 일괄 조회 ---
+        List<Payroll> contracts = payrollManager.getAllContractualPayrolls();
+        AppSettings settings = payrollManager.getSettings();
+        BigDecimal industrialAccidentRate = settings.getIndustrialAccidentRate();
+        Set<LocalDate> publicHolidays = HolidayCalendarService.holidaysOf(period.getYear());
+        BigDecimal fullPercentage = new BigDecimal("100.0");
+        InsuranceRateSchedule rateSchedule = payrollManager.getInsuranceRateSchedule();
+        FixedPointSalaryKernel fixedPointKernel = kernel != Kernel.BIG_DECIMAL ? new FixedPointSalaryKernel(settings) : null;
+        if (attendanceSource == null) {
+            attendanceSource = createStoredOrDefaultSource(period, publicHolidays, settings);
+        }
+        final AttendanceSource source = attendanceSource;
+
+        List<Payroll> targets = new ArrayList<>(contracts.size());
+        int skipped = 0;
+        for (Payroll contract : contracts) {
+            LocalDate hireDate = contract.getEmployee().getHireDate();
+            if (hireDate != null && hireDate.isAfter(period.atEndOfMonth())) {
+                skipped++; // 해당 월 이후 입사자는 계산 대상이 아닙니다.
+                continue;
+            }
+            targets.add(contract);
+        }
+        report.setTotalEmployees(contracts.size());
+        report.setSkippedCount(skipped);
+
+        // --- 2. 병렬 계산 ---
+        long calcStart = System.nanoTime();
+        Payroll[] results = new Payroll[targets.size()];
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+        try {
+            CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < targets.size(); i++) {
+                final int index = i;
+                completionService.submit(() -> {
+                    Payroll contract = targets.get(index);
+                    try {
+                        results[index] = calculateOne(contract, period, source, publicHolidays,
+                                settings, fixedPointKernel, fullPercentage, industrialAccidentRate, rateSchedule, report);
+                    } catch (RuntimeException e) {
+                        synchronized (report) {
+                            report.addFailure(contract.getEmployeeId(), contract.getEmployee().getName(),
+                                    e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+                        }
+                    }
+                    return index;
+                });
+            }
+            for (int completed = 1; completed <= targets.size(); completed++) {
+                completionService.take().get();
+                if (listener != null) listener.onProgress(completed, targets.size());
+                if (cancelRequested != null && cancelRequested.getAsBoolean()) {
+                    return cancelled(report, executor, completed, wallStart);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cancelled(report, executor, 0, wallStart);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("급여 계산 작업이 예기치 않게 종료되었습니다.", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        report.setCalculationMillis((System.nanoTime() - calcStart) / 1_000_000);
+
+        // --- 3. 배치 마감 ---
+        List<Payroll> calculated = new ArrayList<>(results.length);
+        for (Payroll payroll : results) {
+            if (payroll != null) calculated.add(payroll);
+        }
+        report.setCalculatedCount(calculated.size());
+
+        long writeStart = System.nanoTime();
+        if (!calculated.isEmpty()) {
+            report.setCloseReport(payrollManager.finalizeMonth(period, calculated));
+        }
+        report.setWriteMillis((System.nanoTime() - writeStart) / 1_000_000);
+        report.setWallMillis((System.nanoTime() - wallStart) / 1_000_000);
+        return report;
+    }
+
+    // 계산을 중단하고 저장하지 않은 보고서를 돌려줍니다. 보고서의 합계는 최종 결과가 아닙니다.
+    private static PayrollRunReport cancelled(PayrollRunReport report, ExecutorService executor, int completed, long wallStart) {
+        executor.shutdownNow();
+        report.setCancelled(true);
+        report.setCalculatedCount(completed);
+        report.setWallMillis((System.nanoTime() - wallStart) / 1_000_000);
+        return report;
+    }
+
+    private Payroll calculateOne(Payroll contract, YearMonth period, AttendanceSource attendanceSource,
+                                 Set<LocalDate> publicHolidays, AppSettings settings, FixedPointSalaryKernel fixedPointKernel,
+                                 BigDecimal percentage, BigDecimal industrialAccidentRate,
+                                 InsuranceRateSchedule rateSchedule, PayrollRunReport report) {
+        Employee employee = contract.getEmployee();
+        List<WorkRecord> records = attendanceSource.recordsFor(employee);
+
+        CalculationResult result = null;
+        if (kernel != Kernel.FIXED_POINT) {
+            result = salaryCalculatorService.calculateSalary(records, contract, employee, period,
+                    percentage, BigDecimal.ZERO, false, publicHolidays, settings);
+        }
+        if (kernel == Kernel.FIXED_POINT) {
+            FixedPointSalaryKernel.Result fixedResult;
+            try {
+                fixedResult = calculateFixedPoint(fixedPointKernel, records, contract, employee, period, percentage, publicHolidays);
+            } catch (ArithmeticException e) {
+                fixedResult = null; // 고정소수점 범위를 넘는 금액은 BigDecimal로 계산합니다.
+            }
+            if (fixedResult == null || fixedResult.isNearRoundingBoundary()) {
+                // long 범위를 넘었거나 원 단위 반올림이 BigDecimal 계산과 달라질 수 있는 직원만 BigDecimal로 다시 계산합니다.
+                result = salaryCalculatorService.calculateSalary(records, contract, employee, period,
+                        percentage, BigDecimal.ZERO, false, publicHolidays, settings);
+            } else {
+                result = fixedResult.toCalculationResult();
+            }
+        } else if (kernel == Kernel.VERIFY) {
+            FixedPointSalaryKernel.Result fixedResult;
+            try {
+                fixedResult = calculateFixedPoint(fixedPointKernel, records, contract, employee, period, percentage, publicHolidays);
+            } catch (ArithmeticException e) {
+                // 고정소수점 범위를 넘은 것도 커널 차이로 기록하고, 저장은 BigDecimal 결과로 계속합니다.
+                fixedResult = null;
+                synchronized (report) {
+                    report.addKernelMismatch(employee.getId(), employee.getName(), "고정소수점 계산 실패: " + e.getMessage());
+                }
+            }
+            if (fixedResult != null) {
+                String difference = FixedPointSalaryKernel.compare(result, fixedResult);
+                if (difference != null) {
+                    synchronized (report) {
+                        report.addKernelMismatch(employee.getId(), employee.getName(), difference);
+                    }
+                }
+            }
+        }
+
+        int unpaidDays = 0;
+        int absenceDays = 0;
+        for (WorkRecord record : records) {
+            if (record.getStatus() == AttendancePage.WorkStatus.UNPAID_HOLIDAY) unpaidDays++;
+            if (record.getStatus() == AttendancePage.WorkStatus.ABSENCE) absenceDays++;
+        }
+
+        Payroll monthly = SalaryCalculatorService.buildMonthlyPayroll(result, unpaidDays, absenceDays);
+        monthly.setEmployeeId(employee.getId());
+        monthly.setEmployee(employee);
+        monthly.applyDeductions(DeductionCalculator.calculate(monthly.getGrossPay(), industrialAccidentRate, employee.getDependents(),
+                period, rateSchedule));
+        return monthly;
+    }
+
+    private static FixedPointSalaryKernel.Result calculateFixedPoint(FixedPointSalaryKernel fixedPointKernel, List<WorkRecord> records,
+                                                                     Payroll contract, Employee employee, YearMonth period,
+                                                                     BigDecimal percentage, Set<LocalDate> publicHolidays) {
+        FixedPointSalaryKernel.Result fixedResult = new FixedPointSalaryKernel.Result();
+        fixedPointKernel.calculate(records, new FixedPointSalaryKernel.ContractTerms(contract, employee), period,
+                FixedPointSalaryKernel.toUnits(percentage), 0, false, publicHolidays, fixedResult);
+        return fixedResult;
+    }
+
+    private AttendanceSource createStoredOrDefaultSource(YearMonth period, Set<LocalDate> publicHolidays, AppSettings settings)
+            throws SQLException {
+        List<WorkRecord> defaultRecords = createDefaultMonthRecords(period, publicHolidays, settings);
+        Map<Integer, List<WorkLogEntry>> storedEntries = new WorkRecordRepository(payrollManager).loadMonthForAllEmployees(period);
+        return employee -> {
+            List<WorkLogEntry> entries = storedEntries.get(employee.getId());
+            if (entries == null || entries.isEmpty()) {
+                return defaultRecords;
+            }
+            List<WorkRecord> records = new ArrayList<>(entries.size());
+            for (WorkLogEntry entry : entries) {
+                records.add(WorkRecord.fromLogEntry(entry, publicHolidays));
+            }
+            return records;
+        };
+    }
+
+    /**
+     * 근태 화면에서 달력을 그대로 적용했을 때와 같은 기본 근무 기록을 만듭니다.
+     * 평일은 기본 출퇴근 시각의 정상 근무, 주말과 공휴일은 무급휴일입니다.
+     */
+    static List<WorkRecord> createDefaultMonthRecords(YearMonth period, Set<LocalDate> publicHolidays, AppSettings settings) {
+        LocalTime defaultStart = settings.getDefaultStartTime();
+        LocalTime defaultEnd = settings.getDefaultEndTime();
+        long netMinutes = WorkRecord.calculateNetWorkMinutes(defaultStart, defaultEnd);
+
+        List<WorkRecord> records = new ArrayList<>(period.lengthOfMonth());
+        for (int day = 1; day <= period.lengthOfMonth(); day++) {
+            LocalDate date = period.atDay(day);
+            DayOfWeek dow = date.getDayOfWeek();
+            boolean isHoliday = publicHolidays.contains(date);
+            if (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY || isHoliday) {
+                records.add(new WorkRecord(date, null, null, AttendancePage.WorkStatus.UNPAID_HOLIDAY, isHoliday, 0));
+            } else {
+                records.add(new WorkRecord(date, defaultStart, defaultEnd, AttendancePage.WorkStatus.NORMAL, false, netMinutes));
+            }
+        }
+        return Collections.unmodifiableList(records);
+    }
+
+    private static class WorkerThreadFactory implements java.util.concurrent.ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "payroll-run-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package main;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PayrollRunEngine의 전사 급여 일괄 계산 결과입니다.
+ */
+public class PayrollRunReport {
+
+    /**
+     * 계산 단계에서 실패한 직원 한 명의 정보입니다.
+     */
+    public static class Failure {
+        private final int employeeId;
+        private final String employeeName;
+        private final String message;
+
+        Failure(int employeeId, String employeeName, String message) {
+            this.employeeId = employeeId;
+            this.employeeName = employeeName;
+            this.message = message;
+        }
+
+        public int getEmployeeId() { return employeeId; }
+        public String getEmployeeName() { return employeeName; }
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            return employeeName + "(" + employeeId + "): " + message;
+        }
+    }
+
+    private final YearMonth period;
+    private final List<Failure> failures = new ArrayList<>();
+    private final List<Failure> kernelMismatches = new ArrayList<>();
+    private int totalEmployees;
+    private int calculatedCount;
+    private int skippedCount;
+    private long calculationMillis;
+    private long writeMillis;
+    private long wallMillis;
+    private MonthCloseReport closeReport;
+    private boolean cancelled;
+
+    PayrollRunReport(YearMonth period) {
+        this.period = period;
+    }
+
+    void addFailure(int employeeId, String employeeName, String message) {
+        failures.add(new Failure(employeeId, employeeName, message));
+    }
+
+    void addKernelMismatch(int employeeId, String employeeName, String message) {
+        kernelMismatches.add(new Failure(employeeId, employeeName, message));
+    }
+
+    void setTotalEmployees(int totalEmployees) { this.totalEmployees = totalEmployees; }
+    void setCalculatedCount(int calculatedCount) { this.calculatedCount = calculatedCount; }
+    void setSkippedCount(int skippedCount) { this.skippedCount = skippedCount; }
+    void setCalculationMillis(long calculationMillis) { this.calculationMillis = calculationMillis; }
+    void setWriteMillis(long writeMillis) { this.writeMillis = writeMillis; }
+    void setWallMillis(long wallMillis) { this.wallMillis = wallMillis; }
+    void setCloseReport(MonthCloseReport closeReport) { this.closeReport = closeReport; }
+    void setCancelled(boolean cancelled) { this.cancelled = cancelled; }
+
+    public YearMonth getPeriod() { return period; }
+    public List<Failure> getFailures() { return Collections.unmodifiableList(failures); }
+    /** 커널 검증(VERIFY) 모드에서 BigDecimal 계산과 원 단위로 차이가 난 직원 목록 */
+    public List<Failure> getKernelMismatches() { return Collections.unmodifiableList(kernelMismatches); }
+    public int getTotalEmployees() { return totalEmployees; }
+    public int getCalculatedCount() { return calculatedCount; }
+    public int getSkippedCount() { return skippedCount; }
+    public long getCalculationMillis() { return calculationMillis; }
+    public long getWriteMillis() { return writeMillis; }
+    public long getWallMillis() { return wallMillis; }
+    public MonthCloseReport getCloseReport() { return closeReport; }
+
+    /**
+     * 계산 도중 취소되어 아무것도 저장하지 않았는지 여부입니다. 이때 계산 인원과 실패 목록은 중간 값입니다.
+     */
+    public boolean isCancelled() { return cancelled; }
+
+    /**
+     * 계산 실패 없이 DB 마감까지 커밋되었는지 여부입니다.
+     */
+    public boolean isSuccessful() {
+        return !cancelled && failures.isEmpty() && closeReport != null && closeReport.isCommitted();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d년 %02d월 급여 일괄 계산%n", period.getYear(), period.getMonthValue()));
+        if (cancelled) {
+            sb.append(String.format("  취소됨: 대상 %d명 중 %d명까지 계산하고 중단했으며 저장한 급여는 없습니다.%n",
+                    totalEmployees - skippedCount, calculatedCount));
+            return sb.toString();
+        }
+        sb.append(String.format("  대상 %d명, 계산 %d명, 제외 %d명, 실패 %d명%n", totalEmployees, calculatedCount, skippedCount, failures.size()));
+        sb.append(String.format("  계산 %,dms, 저장 %,dms, 전체 %,dms%n", calculationMillis, writeMillis, wallMillis));
+        if (!kernelMismatches.isEmpty()) {
+            sb.append(String.format("  계산 커널 검증 불일치 %d명%n", kernelMismatches.size()));
+        }
+        if (closeReport != null) {
+            sb.append("  ").append(closeReport).append(String.format("%n"));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,209 @@
+package main;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.UnitValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.DecimalFormat;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 급여명세서 PDF를 만듭니다.
+ * 한글 폰트 파일은 프로그램 전체에서 한 번만 읽고, 파싱한 FontProgram은 스레드마다 하나씩 만들어 재사용합니다.
+ * (iText의 FontProgram은 내부 파서 상태를 공유하므로 스레드 간에 공유하지 않습니다)
+ * 인스턴스는 여러 작업 스레드에서 동시에 사용할 수 있습니다.
+ */
+public class PayslipPdfRenderer {
+
+    private static final String FONT_RESOURCE = "/fonts/NotoSansKR-Regular.ttf";
+    private static final String FONT_FILE_PATH = "src/main/resources/fonts/NotoSansKR-Regular.ttf";
+    /** PdfFontFactory.createFont(경로, 임베딩 전략)과 같은 기본 인코딩 */
+    private static final String FONT_ENCODING = "";
+
+    private static volatile byte[] fontBytes;
+
+    private final ThreadLocal<FontProgram> fontProgram = ThreadLocal.withInitial(() -> {
+        try {
+            return FontProgramFactory.createFont(getFontBytes(), false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    });
+
+    /**
+     * 급여명세서 PDF 한 건을 만들어 바이트 배열로 반환합니다.
+     */
+    public byte[] render(Payroll payroll, YearMonth period) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(32 * 1024);
+        render(payroll, period, baos);
+        return baos.toByteArray();
+    }
+
+    public void render(Payroll payroll, YearMonth period, OutputStream out) throws IOException {
+        PdfFont koreanFont;
+        try {
+            koreanFont = PdfFontFactory.createFont(fontProgram.get(), FONT_ENCODING, PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        PdfWriter writer = new PdfWriter(out);
+        PdfDocument pdfDoc = new PdfDocument(writer);
+        Document document = new Document(pdfDoc, PageSize.A4);
+        document.setMargins(50, 50, 50, 50);
+        document.setFont(koreanFont).setFontSize(10);
+        DecimalFormat df = new DecimalFormat("#,###");
+
+        document.add(new Paragraph(String.format("%d년 %02d월 급여명세서", period.getYear(), period.getMonthValue()))
+                .setFontSize(20).setBold().setTextAlignment(TextAlignment.CENTER));
+        document.add(new Paragraph("\n"));
+
+        // 사용자 정보 테이블
+        Table infoTable = new Table(UnitValue.createPercentArray(new float[]{1, 2, 1, 2}));
+        infoTable.setWidth(UnitValue.createPercentValue(100));
+        infoTable.addCell(createPdfCell("성명:", true));
+        infoTable.addCell(createPdfCell(payroll.getEmployee().getName(), false));
+        infoTable.addCell(createPdfCell("부서:", true));
+        infoTable.addCell(createPdfCell(payroll.getEmployee().getDepartment(), false));
+        document.add(infoTable);
+
+        // 입사일, 근무일수, 계산방식 등 추가 정보 테이블
+        Table detailsTable = new Table(UnitValue.createPercentArray(new float[]{1, 5}));
+        detailsTable.setWidth(UnitValue.createPercentValue(100)).setMarginTop(5);
+
+        LocalDate hireDate = payroll.getEmployee().getHireDate();
+        detailsTable.addCell(createPdfCell("입사일:", true));
+        detailsTable.addCell(createPdfCell(hireDate != null ? hireDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) : "-", false));
+
+        long totalWeekdays = 0;
+        for (int i = 1; i <= period.lengthOfMonth(); i++) {
+            DayOfWeek dow = period.atDay(i).getDayOfWeek();
+            if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY) {
+                totalWeekdays++;
+            }
+        }
+        int absenceDays = payroll.getUnauthorizedAbsenceDays() + payroll.getUnpaidDays();
+        detailsTable.addCell(createPdfCell("근무 정보:", true));
+        detailsTable.addCell(createPdfCell(String.format("총 평일 %d일, 실근무 %d일 (결근/무급 %d일)", totalWeekdays, totalWeekdays - absenceDays, absenceDays), false));
+
+        detailsTable.addCell(createPdfCell("급여 산정:", true));
+        detailsTable.addCell(createPdfCell("월 총 근로시간 224시간 기준 (기본 209시간 + 고정연장 15시간)", false));
+        document.add(detailsTable);
+        document.add(new Paragraph("\n"));
+
+        // 지급/공제 테이블
+        Table mainTable = new Table(UnitValue.createPercentArray(new float[]{50, 50}));
+        mainTable.setWidth(UnitValue.createPercentValue(100));
+        mainTable.addHeaderCell(new com.itextpdf.layout.element.Cell().add(new Paragraph("지급 내역")).setBold().setFontSize(12));
+        mainTable.addHeaderCell(new com.itextpdf.layout.element.Cell().add(new Paragraph("공제 내역")).setBold().setFontSize(12));
+
+        Table earningsTable = new Table(UnitValue.createPercentArray(new float[]{50, 50}));
+        addEarningItem(earningsTable, "기본급", payroll.getMonthlyBasicSalary(), df);
+        addEarningItem(earningsTable, "고정연장수당", payroll.getFixedOvertimeAllowance(), df);
+        addEarningItem(earningsTable, "추가수당", payroll.getAdditionalOvertimePremium(), df);
+        addEarningItem(earningsTable, "상여금", payroll.getBonus(), df);
+        addEarningItem(earningsTable, "기타수당", payroll.getOtherAllowance(), df);
+        addEarningItem(earningsTable, "식대", payroll.getMealAllowance(), df);
+        addEarningItem(earningsTable, "차량유지비", payroll.getVehicleMaintenanceFee(), df);
+        addEarningItem(earningsTable, "연구개발비", payroll.getResearchDevelopmentExpense(), df);
+        addEarningItem(earningsTable, "육아수당", payroll.getChildcareAllowance(), df);
+        earningsTable.addCell(createPdfCell("총 지급액", true));
+        earningsTable.addCell(createPdfCell(df.format(payroll.getGrossPay()), true, TextAlignment.RIGHT));
+
+        mainTable.addCell(new com.itextpdf.layout.element.Cell().add(earningsTable).setBorder(null));
+
+        Table deductionsTable = new Table(UnitValue.createPercentArray(new float[]{50, 50}));
+        addEarningItem(deductionsTable, "국민연금", payroll.getNationalPensionEmployee(), df);
+        addEarningItem(deductionsTable, "건강보험", payroll.getHealthInsuranceEmployee(), df);
+        addEarningItem(deductionsTable, "장기요양보험", payroll.getLongTermCareInsuranceEmployee(), df);
+        addEarningItem(deductionsTable, "고용보험", payroll.getEmploymentInsuranceEmployee(), df);
+        addEarningItem(deductionsTable, "소득세", payroll.getIncomeTax(), df);
+        addEarningItem(deductionsTable, "지방소득세", payroll.getLocalIncomeTax(), df);
+        deductionsTable.addCell(createPdfCell("공제 총액", true));
+        deductionsTable.addCell(createPdfCell(df.format(payroll.getTotalEmployeeDeduction()), true, TextAlignment.RIGHT));
+
+        mainTable.addCell(new com.itextpdf.layout.element.Cell().add(deductionsTable).setBorder(null));
+
+        document.add(mainTable);
+        document.add(new Paragraph("\n"));
+        document.add(new Paragraph("실 지급액: " + df.format(payroll.getNetPay()) + " 원")
+                .setFontSize(14).setBold().setTextAlignment(TextAlignment.RIGHT));
+        document.close();
+    }
+
+    /**
+     * 한글 폰트 파일을 읽어 둡니다. 클래스패스(/fonts)를 먼저 찾고, 없으면 개발 환경의 리소스 경로를 사용합니다.
+     * hr.payslip.font 시스템 속성으로 다른 폰트 파일을 지정할 수 있습니다.
+     */
+    static byte[] getFontBytes() throws IOException {
+        byte[] bytes = fontBytes;
+        if (bytes == null) {
+            synchronized (PayslipPdfRenderer.class) {
+                bytes = fontBytes;
+                if (bytes == null) {
+                    bytes = readFontBytes();
+                    fontBytes = bytes;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static byte[] readFontBytes() throws IOException {
+        String overridePath = System.getProperty("hr.payslip.font");
+        if (overridePath != null) {
+            return Files.readAllBytes(Paths.get(overridePath));
+        }
+        try (InputStream in = PayslipPdfRenderer.class.getResourceAsStream(FONT_RESOURCE)) {
+            if (in != null) {
+                return in.readAllBytes();
+            }
+        }
+        Path fontPath = Paths.get(FONT_FILE_PATH);
+        if (!Files.exists(fontPath)) {
+            throw new IOException("한글 폰트 파일을 찾을 수 없습니다: " + FONT_FILE_PATH);
+        }
+        return Files.readAllBytes(fontPath);
+    }
+
+    private void addEarningItem(Table table, String title, BigDecimal value, DecimalFormat df) {
+        if (value != null && value.compareTo(BigDecimal.ZERO) != 0) {
+            table.addCell(createPdfCell(title, false));
+            table.addCell(createPdfCell(df.format(value), false, TextAlignment.RIGHT));
+        }
+    }
+
+    private com.itextpdf.layout.element.Cell createPdfCell(String content, boolean isBold, TextAlignment alignment) {
+        com.itextpdf.layout.element.Cell cell = new com.itextpdf.layout.element.Cell().add(new Paragraph(content));
+        if (isBold) cell.setBold();
+        cell.setTextAlignment(alignment);
+        cell.setBorder(null);
+        cell.setPadding(2);
+        return cell;
+    }
+
+    private com.itextpdf.layout.element.Cell createPdfCell(String content, boolean isBold) {
+        return createPdfCell(content, isBold, TextAlignment.LEFT);
+    }
+}
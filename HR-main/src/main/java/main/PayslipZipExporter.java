@@ -0,0 +1,157 @@
+package main;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 여러 직원의 급여명세서 PDF를 작업 스레드 풀에서 병렬로 만들고,
+ * 완성된 문서를 크기가 제한된 큐를 통해 하나의 ZIP 스트림으로 흘려보냅니다.
+ * ZIP 쓰기가 밀리면 작업 스레드가 큐에서 대기하므로, 메모리에는 큐 크기만큼의 PDF만 남습니다.
+ */
+public class PayslipZipExporter {
+
+    private static final class RenderedPayslip {
+        final String entryName;
+        final byte[] pdf;
+        final long crc;
+        final Exception error;
+
+        RenderedPayslip(String entryName, byte[] pdf, long crc, Exception error) {
+            this.entryName = entryName;
+            this.pdf = pdf;
+            this.crc = crc;
+            this.error = error;
+        }
+    }
+
+    private final PayslipPdfRenderer renderer;
+    private final int parallelism;
+    private final boolean storedEntries;
+
+    /**
+     * @param storedEntries true면 압축하지 않는 STORED 항목으로 저장 (PDF는 이미 압축되어 있어 크기 차이가 작습니다)
+     */
+    public PayslipZipExporter(PayslipPdfRenderer renderer, int parallelism, boolean storedEntries) {
+        this.renderer = renderer;
+        this.parallelism = Math.max(1, parallelism);
+        this.storedEntries = storedEntries;
+    }
+
+    public PayslipZipExporter(boolean storedEntries) {
+        this(new PayslipPdfRenderer(), Runtime.getRuntime().availableProcessors(), storedEntries);
+    }
+
+    /**
+     * 지급액이 있는 직원의 급여명세서를 ZIP으로 씁니다. 스트림은 닫지 않습니다.
+     * 한 건이라도 실패하면 나머지 작업을 중단하고 예외를 던집니다.
+     * 항목을 하나 쓸 때마다 취소 요청을 확인하며, 취소되면 나머지 작업을 중단하고 CancellationException을 던집니다.
+     * 이때 스트림에는 일부만 쓰였으므로 호출한 쪽에서 파일을 지워야 합니다.
+     * @param cancelRequested 취소 요청 여부, null 가능
+     * @return ZIP에 기록한 명세서 수
+     */
+    public int export(List<Payroll> payrolls, YearMonth period, OutputStream out,
+                      PayrollRunEngine.ProgressListener listener, BooleanSupplier cancelRequested) throws IOException {
+        int total = 0;
+        for (Payroll payroll : payrolls) {
+            if (payroll.getGrossPay().compareTo(BigDecimal.ZERO) != 0) total++;
+        }
+
+        BlockingQueue<RenderedPayslip> queue = new ArrayBlockingQueue<>(parallelism * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+        try {
+            for (Payroll payroll : payrolls) {
+                if (payroll.getGrossPay().compareTo(BigDecimal.ZERO) == 0) continue;
+                executor.execute(() -> {
+                    String entryName = String.format("%s_급여명세서.pdf", payroll.getEmployee().getName());
+                    RenderedPayslip rendered;
+                    try {
+                        byte[] pdf = renderer.render(payroll, period);
+                        long crc = 0;
+                        if (storedEntries) {
+                            CRC32 crc32 = new CRC32();
+                            crc32.update(pdf, 0, pdf.length);
+                            crc = crc32.getValue();
+                        }
+                        rendered = new RenderedPayslip(entryName, pdf, crc, null);
+                    } catch (Exception e) {
+                        rendered = new RenderedPayslip(entryName, null, 0, e);
+                    }
+                    try {
+                        queue.put(rendered);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            executor.shutdown();
+
+            ZipOutputStream zos = new ZipOutputStream(out);
+            Set<String> usedNames = new HashSet<>();
+            for (int written = 1; written <= total; written++) {
+                if (cancelRequested != null && cancelRequested.getAsBoolean()) {
+                    throw new CancellationException("급여명세서 ZIP 내보내기가 취소되었습니다.");
+                }
+                RenderedPayslip rendered = queue.take();
+                if (rendered.error != null) {
+                    throw new IOException(rendered.entryName + " 생성 실패: " + rendered.error.getMessage(), rendered.error);
+                }
+                ZipEntry entry = new ZipEntry(uniqueName(rendered.entryName, usedNames));
+                if (storedEntries) {
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(rendered.pdf.length);
+                    entry.setCompressedSize(rendered.pdf.length);
+                    entry.setCrc(rendered.crc);
+                }
+                zos.putNextEntry(entry);
+                zos.write(rendered.pdf);
+                zos.closeEntry();
+                if (listener != null) listener.onProgress(written, total);
+            }
+            zos.finish();
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("급여명세서 생성이 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 동명이인은 "이름_급여명세서 (2).pdf" 형식으로 구분합니다.
+    private static String uniqueName(String name, Set<String> usedNames) {
+        if (usedNames.add(name)) return name;
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String ext = dot > 0 ? name.substring(dot) : "";
+        for (int n = 2; ; n++) {
+            String candidate = base + " (" + n + ")" + ext;
+            if (usedNames.add(candidate)) return candidate;
+        }
+    }
+
+    private static class WorkerThreadFactory implements java.util.concurrent.ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "payslip-render-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
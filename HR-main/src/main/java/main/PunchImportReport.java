@@ -0,0 +1,93 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * PunchLogImporter의 출퇴근 기록 가져오기 결과입니다.
+ */
+public class PunchImportReport {
+
+    /** 보관할 문제 행 예시의 최대 개수. 파일이 커도 보고서 크기가 일정하도록 제한합니다. */
+    static final int MAX_ISSUES = 200;
+    private static final int MAX_UNKNOWN_IDS = 100;
+
+    private final List<String> issues = new ArrayList<>();
+    private final Set<Integer> unknownEmployeeIds = new TreeSet<>();
+    private long linesRead;
+    private long punches;
+    private long malformedLines;
+    private long unknownEmployeeLines;
+    private long duplicatePunches;
+    private long unmatchedIn;
+    private long unmatchedOut;
+    private long pairedShifts;
+    private int dailyRecords;
+    private boolean saved;
+    private boolean cancelled;
+    private long readMillis;
+    private long writeMillis;
+
+    void addIssue(long lineNumber, String message) {
+        if (issues.size() < MAX_ISSUES) {
+            issues.add(lineNumber > 0 ? lineNumber + "행: " + message : message);
+        }
+    }
+
+    void addUnknownEmployee(int employeeId) {
+        unknownEmployeeLines++;
+        if (unknownEmployeeIds.size() < MAX_UNKNOWN_IDS) {
+            unknownEmployeeIds.add(employeeId);
+        }
+    }
+
+    void incrementLinesRead() { linesRead++; }
+    void incrementPunches() { punches++; }
+    void incrementMalformedLines() { malformedLines++; }
+    void incrementDuplicatePunches() { duplicatePunches++; }
+    void incrementUnmatchedIn() { unmatchedIn++; }
+    void incrementUnmatchedOut() { unmatchedOut++; }
+    void incrementPairedShifts() { pairedShifts++; }
+    void setDailyRecords(int dailyRecords) { this.dailyRecords = dailyRecords; }
+    void setSaved(boolean saved) { this.saved = saved; }
+    void setCancelled(boolean cancelled) { this.cancelled = cancelled; }
+    void setReadMillis(long readMillis) { this.readMillis = readMillis; }
+    void setWriteMillis(long writeMillis) { this.writeMillis = writeMillis; }
+
+    /** 문제 행 예시 (최대 MAX_ISSUES개) */
+    public List<String> getIssues() { return Collections.unmodifiableList(issues); }
+    /** 등록되지 않은 직원 ID (최대 100개) */
+    public Set<Integer> getUnknownEmployeeIds() { return Collections.unmodifiableSet(unknownEmployeeIds); }
+    public long getLinesRead() { return linesRead; }
+    public long getPunches() { return punches; }
+    public long getMalformedLines() { return malformedLines; }
+    public long getUnknownEmployeeLines() { return unknownEmployeeLines; }
+    public long getDuplicatePunches() { return duplicatePunches; }
+    public long getUnmatchedIn() { return unmatchedIn; }
+    public long getUnmatchedOut() { return unmatchedOut; }
+    public long getPairedShifts() { return pairedShifts; }
+    public int getDailyRecords() { return dailyRecords; }
+    public boolean isSaved() { return saved; }
+    /** 사용자가 취소해 아무것도 저장하지 않았으면 true */
+    public boolean isCancelled() { return cancelled; }
+    public long getReadMillis() { return readMillis; }
+    public long getWriteMillis() { return writeMillis; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("출퇴근 기록 가져오기 %s%n",
+                cancelled ? "취소 (저장한 기록 없음)" : saved ? "완료" : "실패 (DB에 저장하지 못했습니다)"));
+        sb.append(String.format("  읽은 행 %,d, 출퇴근 기록 %,d건, 형식 오류 %,d행, 중복 태그 %,d건%n", linesRead, punches, malformedLines, duplicatePunches));
+        sb.append(String.format("  근무 %,d건 짝지음, 일별 근무 기록 %,d건 저장%n", pairedShifts, dailyRecords));
+        sb.append(String.format("  짝 없는 출근 %,d건, 짝 없는 퇴근 %,d건%n", unmatchedIn, unmatchedOut));
+        if (unknownEmployeeLines > 0) {
+            sb.append(String.format("  미등록 직원 %,d행 (ID: %s)%n", unknownEmployeeLines, unknownEmployeeIds));
+        }
+        sb.append(String.format("  읽기 %,dms, 저장 %,dms%n", readMillis, writeMillis));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,264 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 출입카드 단말기에서 내보낸 출퇴근 태그 CSV를 읽어 직원별·일별 근무 기록(work_records)으로 저장합니다.
+ *
+ * <p>한 행은 {@code 직원ID,일시,구분[,기타...]} 형식입니다. 일시는 {@code yyyy-MM-dd HH:mm[:ss]}
+ * (또는 'T' 구분), 구분은 IN/OUT 또는 출근/퇴근입니다. 첫 행이 숫자로 시작하지 않으면 머리글로 보고 건너뜁니다.
+ *
+ * <p>파일은 한 줄씩 흘려 읽고 행을 보관하지 않으므로, 메모리는 행 수가 아니라 (직원 수 × 일수)에 비례합니다.
+ * 직원별 태그는 시간 순서라고 가정합니다(단말기 내보내기 형식). 출근 태그는 다음 퇴근 태그와 짝을 짓고,
+ * 근무는 출근한 날짜의 기록이 됩니다. 하루에 여러 번 출퇴근하면 첫 출근부터 마지막 퇴근까지를 그날의 근무로 봅니다.
+ */
+public class PunchLogImporter {
+
+    /** 같은 방향으로 이 시간(분) 안에 다시 찍힌 태그는 중복으로 보고 무시합니다. */
+    static final int DUPLICATE_TAP_MINUTES = 2;
+    /** 출근부터 퇴근까지 이보다 길면 짝을 짓지 않습니다(퇴근 태그 누락으로 봅니다). */
+    static final int MAX_SHIFT_MINUTES = 24 * 60;
+    private static final int BATCH_SIZE = 1000;
+    private static final int READ_PERCENT = 80; // 진행률 중 파일 읽기 몫, 나머지는 저장
+    private static final int READ_BUFFER_CHARS = 1 << 16;
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final PayrollManager payrollManager;
+    private final WorkRecordRepository workRecordRepository;
+
+    public PunchLogImporter(PayrollManager payrollManager) {
+        this.payrollManager = payrollManager;
+        this.workRecordRepository = new WorkRecordRepository(payrollManager);
+    }
+
+    // 한 직원의 짝지을 상태와 일별 근무 구간
+    private static final class EmployeePunches {
+        long openIn = NONE;       // 짝을 기다리는 출근 (epoch 분)
+        long openInLine;
+        long lastOut = NONE;      // 마지막 퇴근 (중복 태그 판정용)
+        final Map<Long, long[]> days = new HashMap<>(); // epoch day -> {첫 출근, 마지막 퇴근} (epoch 분)
+    }
+
+    /**
+     * CSV 파일을 읽어 근무 기록을 저장합니다. 같은 직원·날짜의 기존 기록은 덮어쓰고, 파일에 없는 날짜는 그대로 둡니다.
+     * 읽는 중과 저장 배치 사이에 취소 요청을 확인하며, 취소되면 저장한 배치를 롤백하고 isCancelled()가 true인 보고서를 돌려줍니다.
+     * @param listener 진행률 (완료 % / 100, 읽기 0~80%, 저장 80~99%), null 가능
+     * @param cancelRequested 취소 요청 여부, null 가능
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public PunchImportReport importFile(Path csvFile, PayrollRunEngine.ProgressListener listener,
+                                        BooleanSupplier cancelRequested) throws IOException {
+        PunchImportReport report = new PunchImportReport();
+        long readStart = System.nanoTime();
+        Set<Integer> knownEmployeeIds = payrollManager.getAllEmployeeIds();
+        Map<Integer, EmployeePunches> states = new HashMap<>();
+
+        long totalKb = Math.max(1, Files.size(csvFile) / 1024);
+        long charsRead = 0;
+        long lastReportedKb = -1;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(csvFile), StandardCharsets.UTF_8), READ_BUFFER_CHARS)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                charsRead += line.length() + 1;
+                if (charsRead / 1024 != lastReportedKb) {
+                    lastReportedKb = charsRead / 1024;
+                    if (listener != null) listener.onProgress((int) (Math.min(lastReportedKb, totalKb) * READ_PERCENT / totalKb), 100);
+                    if (cancelRequested != null && cancelRequested.getAsBoolean()) {
+                        report.setCancelled(true);
+                        return report;
+                    }
+                }
+                if (lineNumber == 1) {
+                    line = stripBom(line);
+                    if (!line.isEmpty() && !Character.isDigit(line.charAt(0))) continue; // 머리글
+                }
+                if (line.isEmpty()) continue;
+                report.incrementLinesRead();
+                processLine(line, lineNumber, knownEmployeeIds, states, report);
+            }
+        }
+
+        List<WorkLogEntry> entries = new ArrayList<>();
+        for (Map.Entry<Integer, EmployeePunches> state : states.entrySet()) {
+            EmployeePunches punches = state.getValue();
+            if (punches.openIn != NONE) {
+                report.incrementUnmatchedIn();
+                report.addIssue(punches.openInLine, "직원 " + state.getKey() + "의 출근에 대응하는 퇴근이 없습니다.");
+            }
+            for (Map.Entry<Long, long[]> day : punches.days.entrySet()) {
+                entries.add(toEntry(state.getKey(), day.getKey(), day.getValue()));
+            }
+        }
+        report.setDailyRecords(entries.size());
+        report.setReadMillis((System.nanoTime() - readStart) / 1_000_000);
+
+        long writeStart = System.nanoTime();
+        try {
+            report.setSaved(entries.isEmpty() || workRecordRepository.upsertAll(entries, BATCH_SIZE,
+                    listener == null ? null : (written, total) -> listener.onProgress(
+                            READ_PERCENT + (99 - READ_PERCENT) * written / Math.max(1, total), 100),
+                    cancelRequested));
+        } catch (CancellationException e) {
+            report.setCancelled(true); // 저장한 배치는 롤백되었습니다.
+        }
+        report.setWriteMillis((System.nanoTime() - writeStart) / 1_000_000);
+        return report;
+    }
+
+    private void processLine(String line, long lineNumber, Set<Integer> knownEmployeeIds,
+                             Map<Integer, EmployeePunches> states, PunchImportReport report) {
+        int firstComma = line.indexOf(',');
+        int secondComma = firstComma < 0 ? -1 : line.indexOf(',', firstComma + 1);
+        if (secondComma < 0) {
+            malformed(report, lineNumber, "열이 부족합니다.");
+            return;
+        }
+        int thirdComma = line.indexOf(',', secondComma + 1);
+        String direction = line.substring(secondComma + 1, thirdComma < 0 ? line.length() : thirdComma).trim();
+
+        int employeeId;
+        long minute;
+        try {
+            employeeId = Integer.parseInt(line.substring(0, firstComma).trim());
+            minute = parseEpochMinute(line.substring(firstComma + 1, secondComma).trim());
+        } catch (NumberFormatException | DateTimeException e) {
+            malformed(report, lineNumber, "직원 ID 또는 일시 형식이 잘못되었습니다.");
+            return;
+        }
+        boolean in;
+        if ("IN".equalsIgnoreCase(direction) || "출근".equals(direction)) {
+            in = true;
+        } else if ("OUT".equalsIgnoreCase(direction) || "퇴근".equals(direction)) {
+            in = false;
+        } else {
+            malformed(report, lineNumber, "구분은 IN/OUT(출근/퇴근)이어야 합니다: " + direction);
+            return;
+        }
+        if (!knownEmployeeIds.contains(employeeId)) {
+            report.addUnknownEmployee(employeeId);
+            return;
+        }
+        report.incrementPunches();
+        EmployeePunches state = states.computeIfAbsent(employeeId, id -> new EmployeePunches());
+        if (in) {
+            punchIn(state, employeeId, minute, lineNumber, report);
+        } else {
+            punchOut(state, employeeId, minute, lineNumber, report);
+        }
+    }
+
+    private static void punchIn(EmployeePunches state, int employeeId, long minute, long lineNumber, PunchImportReport report) {
+        if (state.openIn != NONE) {
+            if (minute - state.openIn <= DUPLICATE_TAP_MINUTES && minute >= state.openIn) {
+                report.incrementDuplicatePunches();
+                return;
+            }
+            report.incrementUnmatchedIn();
+            report.addIssue(state.openInLine, "직원 " + employeeId + "의 출근에 대응하는 퇴근이 없습니다.");
+        }
+        state.openIn = minute;
+        state.openInLine = lineNumber;
+    }
+
+    private static void punchOut(EmployeePunches state, int employeeId, long minute, long lineNumber, PunchImportReport report) {
+        if (state.openIn == NONE) {
+            if (state.lastOut != NONE && minute >= state.lastOut && minute - state.lastOut <= DUPLICATE_TAP_MINUTES) {
+                report.incrementDuplicatePunches();
+                return;
+            }
+            report.incrementUnmatchedOut();
+            report.addIssue(lineNumber, "직원 " + employeeId + "의 퇴근에 대응하는 출근이 없습니다.");
+            return;
+        }
+        long duration = minute - state.openIn;
+        if (duration <= 0 || duration > MAX_SHIFT_MINUTES) {
+            // 순서가 뒤바뀌었거나 퇴근 태그가 빠진 경우: 두 태그 모두 짝이 없는 것으로 봅니다.
+            report.incrementUnmatchedIn();
+            report.incrementUnmatchedOut();
+            report.addIssue(lineNumber, "직원 " + employeeId + "의 퇴근 시각이 출근(" + state.openInLine + "행)과 맞지 않습니다.");
+            state.openIn = NONE;
+            return;
+        }
+        long day = Math.floorDiv(state.openIn, ShiftIntervals.MINUTES_PER_DAY);
+        long[] window = state.days.get(day);
+        if (window == null) {
+            state.days.put(day, new long[]{state.openIn, minute});
+        } else {
+            window[0] = Math.min(window[0], state.openIn);
+            window[1] = Math.max(window[1], minute);
+        }
+        report.incrementPairedShifts();
+        state.openIn = NONE;
+        state.lastOut = minute;
+    }
+
+    private static WorkLogEntry toEntry(int employeeId, long epochDay, long[] window) {
+        long dayStart = epochDay * ShiftIntervals.MINUTES_PER_DAY;
+        int startMinute = (int) (window[0] - dayStart);
+        // WorkRecord는 시각만 보관하므로 하루를 넘는 구간은 23시간 59분으로 줄입니다.
+        long endMinute = Math.min(window[1] - dayStart, startMinute + ShiftIntervals.MINUTES_PER_DAY - 1L);
+        LocalTime start = LocalTime.of(startMinute / 60, startMinute % 60);
+        int endOfDay = (int) (endMinute % ShiftIntervals.MINUTES_PER_DAY);
+        LocalTime end = LocalTime.of(endOfDay / 60, endOfDay % 60);
+        return new WorkLogEntry(employeeId, LocalDate.ofEpochDay(epochDay), start, end, AttendancePage.WorkStatus.NORMAL);
+    }
+
+    private static void malformed(PunchImportReport report, long lineNumber, String message) {
+        report.incrementMalformedLines();
+        report.addIssue(lineNumber, message);
+    }
+
+    /**
+     * {@code yyyy-MM-dd HH:mm[:ss]}를 epoch 분으로 바꿉니다. 흔한 고정 길이 형식은 문자를 직접 읽고,
+     * 그 밖의 형식은 LocalDateTime.parse로 처리합니다. 초는 버립니다.
+     * @throws NumberFormatException 숫자가 아니거나 시각 범위를 벗어난 경우
+     * @throws DateTimeException 날짜가 잘못된 경우
+     */
+    static long parseEpochMinute(String text) {
+        if (text.length() >= 16 && text.charAt(4) == '-' && text.charAt(7) == '-'
+                && (text.charAt(10) == ' ' || text.charAt(10) == 'T') && text.charAt(13) == ':') {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 2);
+            int day = digits(text, 8, 2);
+            int hour = digits(text, 11, 2);
+            int minute = digits(text, 14, 2);
+            if (hour > 23 || minute > 59) throw new NumberFormatException(text);
+            return LocalDate.of(year, month, day).toEpochDay() * ShiftIntervals.MINUTES_PER_DAY + hour * 60 + minute;
+        }
+        LocalDateTime dateTime = LocalDateTime.parse(text.replace(' ', 'T'));
+        return dateTime.toLocalDate().toEpochDay() * ShiftIntervals.MINUTES_PER_DAY + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    private static int digits(String text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') throw new NumberFormatException(text);
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
@@ -0,0 +1,628 @@
+package main;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.awt.Component;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * PayrollManager가 빌려주는 커넥션과 그 커넥션으로 만든 문장(Statement)을 감싸 SQL별 실행 시간 분포,
+ * 처리 행 수, 오류 수와 커넥션 대여 시간을 집계합니다.
+ *
+ * <p>기본으로는 꺼져 있고 -Dhr.db.metrics=true로 켭니다. 켜면 집계는 JMX(main:type=QueryMetrics)로 볼 수 있고,
+ * hr.db.metricsLogSeconds초(기본 300, 0이면 끔)마다 요약을, hr.db.slowQueryMillis(기본 200)ms 이상 걸린 문장은
+ * SQL과 호출한 화면을 ~/.HR_Payroll_App_Data/diagnostics/db-metrics.log에 남깁니다. 파일 쓰기는 지표 스레드가
+ * 맡으므로 느린 쿼리를 실행한 스레드(EDT일 수도 있음)를 더 붙잡지 않습니다.
+ * 호출한 화면은 호출 스택에서 찾고, I/O 스레드에서 실행되는 조회는 AsyncPayrollRepository가 요청한 화면을 넘겨 줍니다.
+ */
+public class QueryMetrics implements QueryMetricsMXBean {
+
+    static final boolean ENABLED = Boolean.getBoolean("hr.db.metrics");
+    private static final long SLOW_QUERY_MILLIS = Long.getLong("hr.db.slowQueryMillis", 200L);
+    private static final long LOG_INTERVAL_SECONDS = Long.getLong("hr.db.metricsLogSeconds", 300L);
+    // 값을 직접 넣은 SQL이 많아도 집계 크기가 일정하도록 서로 다른 SQL 수를 제한합니다.
+    private static final int MAX_DISTINCT_STATEMENTS = 500;
+    private static final int MAX_RECENT_SLOW_QUERIES = 20;
+    private static final int SUMMARY_TOP_STATEMENTS = 10;
+    private static final String OTHER_STATEMENTS = "(기타 SQL)";
+    private static final String UNKNOWN_STATEMENT = "(SQL 없음)";
+    // 히스토그램 구간 상한 (마이크로초). 마지막 구간은 상한이 없습니다.
+    private static final long[] BUCKET_BOUNDS_MICROS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000,
+            50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000};
+    private static final Set<String> DATA_ACCESS_CLASSES = new HashSet<>(Arrays.asList(
+            "main.QueryMetrics", "main.ConnectionPool", "main.PayrollManager", "main.WorkRecordRepository",
+            "main.AsyncPayrollRepository", "main.EmployeeDirectory", "main.SchemaMigrator", "main.DatabaseManager"));
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+    private static final AtomicInteger INSTANCE_SEQUENCE = new AtomicInteger();
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Supplier<ConnectionPool.PoolStats> poolStats;
+    private final Map<String, StatementCounters> statements = new ConcurrentHashMap<>();
+    private final Map<String, StatementCounters> countersBySqlText = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> statementsByCaller = new ConcurrentHashMap<>();
+    private final Histogram acquireTimes = new Histogram();
+    private final LongAdder acquireErrors = new LongAdder();
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder rowCount = new LongAdder();
+    private final LongAdder slowQueryCount = new LongAdder();
+    private final Deque<String> recentSlowQueries = new ArrayDeque<>();
+    private volatile long slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(SLOW_QUERY_MILLIS);
+    private final ObjectName objectName;
+    private final DiagnosticsLog log = new DiagnosticsLog(DiagnosticsLog.DEFAULT_DIRECTORY, "db-metrics");
+    private final ScheduledExecutorService logWriter;
+    private long lastLoggedStatementCount;
+
+    /**
+     * 집계를 시작하고 JMX에 등록합니다. 다 쓴 뒤에는 close()를 호출하세요.
+     * @param poolStats 요약에 함께 표시할 커넥션 풀 상태
+     */
+    public QueryMetrics(Supplier<ConnectionPool.PoolStats> poolStats) {
+        this.poolStats = poolStats;
+        this.objectName = registerMBean();
+        logWriter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hr-db-metrics");
+            t.setDaemon(true);
+            return t;
+        });
+        if (LOG_INTERVAL_SECONDS > 0) {
+            logWriter.scheduleWithFixedDelay(this::logSummary, LOG_INTERVAL_SECONDS, LOG_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private ObjectName registerMBean() {
+        // 테스트·벤치마크처럼 한 JVM에 PayrollManager가 여럿이면 두 번째부터 번호를 붙입니다.
+        int sequence = INSTANCE_SEQUENCE.incrementAndGet();
+        try {
+            ObjectName name = new ObjectName("main:type=QueryMetrics" + (sequence > 1 ? ",id=" + sequence : ""));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            return name;
+        } catch (JMException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * JMX 등록을 해제하고 주기 요약을 멈춥니다. 아직 쓰지 않은 느린 쿼리 기록은 마저 씁니다.
+     */
+    public void close() {
+        logWriter.shutdown();
+        if (objectName != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.unregisterMBean(objectName);
+            } catch (InstanceNotFoundException e) {
+                // 이미 해제됨
+            } catch (JMException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * 풀에서 빌린 커넥션을 감쌉니다. 감싼 커넥션으로 만든 문장의 실행이 집계됩니다.
+     * @param acquireNanos 커넥션을 빌리는 데 걸린 시간
+     */
+    public Connection wrap(Connection connection, long acquireNanos) {
+        acquireTimes.record(acquireNanos);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    public void recordAcquireFailure() {
+        acquireErrors.increment();
+    }
+
+    /**
+     * caller를 호출한 화면으로 기록하며 task를 실행합니다. 다른 스레드로 넘긴 작업에서 원래 화면을 유지할 때 씁니다.
+     * @param caller currentCaller()로 얻은 값, null이면 그냥 실행합니다.
+     */
+    static <T> T callAs(String caller, Supplier<T> task) {
+        if (caller == null) return task.get();
+        String previous = CALLER.get();
+        CALLER.set(caller);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) CALLER.remove(); else CALLER.set(previous);
+        }
+    }
+
+    /**
+     * 현재 스레드의 호출 화면을 찾습니다. 스택에 화면(Component) 클래스가 있으면 그 이름, 없으면 callAs로
+     * 넘겨받은 화면, 그것도 없으면 DB 계층 밖의 첫 클래스 이름입니다. 집계를 끈 경우 null입니다.
+     */
+    static String currentCaller() {
+        if (!ENABLED) return null;
+        String[] found = new String[1];
+        String component = STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(type -> type.getName().startsWith("main.") && !DATA_ACCESS_CLASSES.contains(type.getNestHost().getName()))
+                .peek(type -> { if (found[0] == null) found[0] = displayName(type.getNestHost()); })
+                // 화면 안의 익명 클래스·람다(SwingWorker 등)는 바깥 화면 이름으로 봅니다.
+                .map(type -> Component.class.isAssignableFrom(type.getNestHost()) ? type.getNestHost() : type)
+                .filter(Component.class::isAssignableFrom)
+                .map(QueryMetrics::displayName)
+                .findFirst()
+                .orElse(null));
+        if (component != null) return component;
+        String context = CALLER.get();
+        if (context != null) return context;
+        return found[0] != null ? found[0] : Thread.currentThread().getName();
+    }
+
+    // 익명 클래스도 이름이 남도록 패키지만 뗍니다 (예: AttendancePage, SummaryPage$2).
+    private static String displayName(Class<?> type) {
+        return type.getName().substring(type.getName().lastIndexOf('.') + 1);
+    }
+
+    // DB 계층에서 SQL을 실행한 메서드 (예: PayrollManager.getAllEmployees:212)
+    private static String dataAccessLocation() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("main.")
+                        && !frame.getDeclaringClass().getNestHost().equals(QueryMetrics.class)
+                        && !frame.getDeclaringClass().getNestHost().equals(ConnectionPool.class))
+                .findFirst()
+                .map(frame -> displayName(frame.getDeclaringClass()) + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("알 수 없음"));
+    }
+
+    private StatementCounters counters(String sql) {
+        if (sql == null) return statements.computeIfAbsent(UNKNOWN_STATEMENT, StatementCounters::new);
+        // 같은 SQL 문자열은 공백 정리 없이 바로 찾습니다 (문장을 준비할 때마다 호출되므로).
+        StatementCounters counters = countersBySqlText.get(sql);
+        if (counters != null) return counters;
+        String key = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        counters = statements.get(key);
+        if (counters == null) {
+            counters = statements.computeIfAbsent(statements.size() >= MAX_DISTINCT_STATEMENTS ? OTHER_STATEMENTS : key, StatementCounters::new);
+        }
+        if (countersBySqlText.size() < MAX_DISTINCT_STATEMENTS * 2) {
+            countersBySqlText.put(sql, counters);
+        }
+        return counters;
+    }
+
+    private void record(StatementCounters counters, long elapsedNanos, long rows, boolean failed, String caller) {
+        counters.latency.record(elapsedNanos);
+        counters.rows.add(rows);
+        statementCount.increment();
+        rowCount.add(rows);
+        if (failed) {
+            counters.errors.increment();
+            errorCount.increment();
+        }
+        statementsByCaller.computeIfAbsent(caller, k -> new LongAdder()).increment();
+        if (elapsedNanos >= slowQueryNanos) {
+            reportSlowQuery(counters.sql, elapsedNanos, caller, failed);
+        }
+    }
+
+    private void reportSlowQuery(String sql, long elapsedNanos, String caller, boolean failed) {
+        slowQueryCount.increment();
+        String message = String.format("%s %.1fms%s, 화면: %s, 위치: %s, 스레드: %s%n    %s",
+                LocalDateTime.now().format(TIME_FORMAT), elapsedNanos / 1_000_000.0, failed ? " (오류)" : "",
+                caller, dataAccessLocation(), Thread.currentThread().getName(), sql);
+        logWriter.execute(() -> log.append("[느린 쿼리] " + message + System.lineSeparator()));
+        synchronized (recentSlowQueries) {
+            if (recentSlowQueries.size() == MAX_RECENT_SLOW_QUERIES) recentSlowQueries.removeFirst();
+            recentSlowQueries.addLast(message);
+        }
+    }
+
+    private void logSummary() {
+        long count = statementCount.sum();
+        if (count == lastLoggedStatementCount) return; // 그동안 실행된 문장이 없으면 남기지 않습니다.
+        lastLoggedStatementCount = count;
+        log.append(LocalDateTime.now().format(TIME_FORMAT) + " " + getSummary());
+    }
+
+    // 실행 결과에서 처리 행 수를 구합니다. 조회 결과의 행은 ResultSet을 읽을 때 셉니다.
+    private static long rowsOf(Object result) {
+        if (result instanceof Integer) return Math.max(0, (Integer) result);
+        if (result instanceof Long) return Math.max(0, (Long) result);
+        long rows = 0;
+        if (result instanceof int[]) {
+            for (int n : (int[]) result) rows += Math.max(0, n);
+        } else if (result instanceof long[]) {
+            for (long n : (long[]) result) rows += Math.max(0, n);
+        }
+        return rows;
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private String caller; // 커넥션 하나는 한 메서드가 빌려 쓰므로 호출 화면은 처음 실행할 때 한 번만 찾습니다.
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        String caller() {
+            if (caller == null) caller = currentCaller();
+            return caller;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "MeteredConnection[" + connection + "]";
+                default:
+                    Object result = invokeTarget(connection, method, args);
+                    if (result instanceof Statement) {
+                        // createStatement, prepareStatement, prepareCall
+                        StatementCounters prepared = method.getName().startsWith("prepare") ? counters((String) args[0]) : null;
+                        return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{method.getReturnType()},
+                                new StatementHandler((Statement) result, prepared, this, (Connection) proxy));
+                    }
+                    return result;
+            }
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final StatementCounters prepared; // PreparedStatement면 SQL이 정해져 있습니다.
+        private final ConnectionHandler owner;
+        private final Connection connectionProxy;  // getConnection()은 감싼 커넥션을 돌려줍니다.
+        private String batchSql;                  // 일반 Statement의 addBatch(sql) 중 첫 SQL
+        private StatementCounters lastExecuted;
+
+        StatementHandler(Statement statement, StatementCounters prepared, ConnectionHandler owner, Connection connectionProxy) {
+            this.statement = statement;
+            this.prepared = prepared;
+            this.owner = owner;
+            this.connectionProxy = connectionProxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connectionProxy;
+                case "addBatch":
+                    if (prepared == null && args != null && batchSql == null) batchSql = (String) args[0];
+                    return invokeTarget(statement, method, args);
+                case "clearBatch":
+                    batchSql = null;
+                    return invokeTarget(statement, method, args);
+                case "getResultSet": {
+                    Object result = invokeTarget(statement, method, args);
+                    return result instanceof ResultSet && lastExecuted != null
+                            ? wrapResultSet((ResultSet) result, lastExecuted, (Statement) proxy) : result;
+                }
+                default:
+                    if (!name.startsWith("execute")) {
+                        return invokeTarget(statement, method, args);
+                    }
+                    return execute((Statement) proxy, method, args);
+            }
+        }
+
+        private Object execute(Statement proxy, Method method, Object[] args) throws Throwable {
+            StatementCounters counters = prepared;
+            if (counters == null) {
+                counters = counters(args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : batchSql);
+            }
+            boolean batch = method.getName().endsWith("Batch");
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(statement, method, args);
+            } catch (Throwable t) {
+                record(counters, System.nanoTime() - start, 0, true, owner.caller());
+                if (batch) batchSql = null;
+                throw t;
+            }
+            record(counters, System.nanoTime() - start, rowsOf(result), false, owner.caller());
+            lastExecuted = counters;
+            if (batch) batchSql = null;
+            return result instanceof ResultSet ? wrapResultSet((ResultSet) result, counters, proxy) : result;
+        }
+    }
+
+    // getStatement()는 감싼 문장을 돌려주므로 결과에서 커넥션을 얻어 실행한 문장도 집계됩니다.
+    private ResultSet wrapResultSet(ResultSet resultSet, StatementCounters counters, Statement statementProxy) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "getStatement":
+                            return statementProxy;
+                        case "next": {
+                            boolean hasRow = resultSet.next();
+                            if (hasRow) {
+                                counters.rows.increment();
+                                rowCount.increment();
+                            }
+                            return hasRow;
+                        }
+                        default:
+                            return invokeTarget(resultSet, method, args);
+                    }
+                });
+    }
+
+    // 구간별 개수를 세는 지연 시간 히스토그램
+    private static final class Histogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MICROS.length + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            long micros = nanos / 1_000;
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MICROS.length && micros >= BUCKET_BOUNDS_MICROS[bucket]) bucket++;
+            buckets.incrementAndGet(bucket);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        double totalMillis() {
+            return totalNanos.sum() / 1_000_000.0;
+        }
+
+        double meanMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / n;
+        }
+
+        double maxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+
+        // 백분위가 속한 구간의 상한 (마지막 구간이면 최댓값)
+        double percentileMillis(double quantile) {
+            long[] counts = new long[buckets.length()];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            if (total == 0) return 0;
+            long rank = (long) Math.ceil(quantile * total);
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return i < BUCKET_BOUNDS_MICROS.length ? Math.min(BUCKET_BOUNDS_MICROS[i] / 1_000.0, maxMillis()) : maxMillis();
+                }
+            }
+            return maxMillis();
+        }
+
+        void reset() {
+            for (int i = 0; i < buckets.length(); i++) buckets.set(i, 0);
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+        }
+    }
+
+    private static final class StatementCounters {
+        final String sql;
+        final Histogram latency = new Histogram();
+        final LongAdder rows = new LongAdder();
+        final LongAdder errors = new LongAdder();
+
+        StatementCounters(String sql) {
+            this.sql = sql;
+        }
+
+        StatementStats snapshot() {
+            return new StatementStats(sql, latency.count(), errors.sum(), rows.sum(), latency.totalMillis(),
+                    latency.meanMillis(), latency.percentileMillis(0.5), latency.percentileMillis(0.95),
+                    latency.percentileMillis(0.99), latency.maxMillis());
+        }
+    }
+
+    /**
+     * SQL 한 종류의 집계 스냅샷입니다.
+     */
+    public static class StatementStats {
+        private final String sql;
+        private final long executions;
+        private final long errors;
+        private final long rows;
+        private final double totalMillis;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+
+        StatementStats(String sql, long executions, long errors, long rows, double totalMillis, double meanMillis,
+                       double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+            this.sql = sql;
+            this.executions = executions;
+            this.errors = errors;
+            this.rows = rows;
+            this.totalMillis = totalMillis;
+            this.meanMillis = meanMillis;
+            this.p50Millis = p50Millis;
+            this.p95Millis = p95Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+        }
+
+        public String getSql() { return sql; }
+        public long getExecutions() { return executions; }
+        public long getErrors() { return errors; }
+        public long getRows() { return rows; }
+        public double getTotalMillis() { return totalMillis; }
+        public double getMeanMillis() { return meanMillis; }
+        public double getP50Millis() { return p50Millis; }
+        public double getP95Millis() { return p95Millis; }
+        public double getP99Millis() { return p99Millis; }
+        public double getMaxMillis() { return maxMillis; }
+
+        @Override
+        public String toString() {
+            String text = sql.length() > 120 ? sql.substring(0, 117) + "..." : sql;
+            return String.format("총 %,.1fms, %,d회, 평균 %.2fms, p95 %.1fms, 최대 %.1fms, 행 %,d, 오류 %d: %s",
+                    totalMillis, executions, meanMillis, p95Millis, maxMillis, rows, errors, text);
+        }
+    }
+
+    @Override
+    public long getStatementCount() { return statementCount.sum(); }
+
+    @Override
+    public long getErrorCount() { return errorCount.sum(); }
+
+    @Override
+    public long getRowCount() { return rowCount.sum(); }
+
+    @Override
+    public long getSlowQueryCount() { return slowQueryCount.sum(); }
+
+    @Override
+    public long getSlowQueryThresholdMillis() { return TimeUnit.NANOSECONDS.toMillis(slowQueryNanos); }
+
+    @Override
+    public void setSlowQueryThresholdMillis(long millis) { slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis)); }
+
+    @Override
+    public long getConnectionAcquireCount() { return acquireTimes.count(); }
+
+    @Override
+    public long getConnectionAcquireErrorCount() { return acquireErrors.sum(); }
+
+    @Override
+    public double getConnectionAcquireMeanMillis() { return acquireTimes.meanMillis(); }
+
+    @Override
+    public double getConnectionAcquireP99Millis() { return acquireTimes.percentileMillis(0.99); }
+
+    @Override
+    public double getConnectionAcquireMaxMillis() { return acquireTimes.maxMillis(); }
+
+    @Override
+    public List<StatementStats> getStatements() {
+        List<StatementStats> snapshots = new ArrayList<>(statements.size());
+        for (StatementCounters counters : statements.values()) {
+            if (counters.latency.count() > 0) snapshots.add(counters.snapshot()); // 준비만 하고 실행하지 않은 SQL은 뺍니다.
+        }
+        snapshots.sort(Comparator.comparingDouble(StatementStats::getTotalMillis).reversed());
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, Long> getStatementsByCaller() {
+        Map<String, Long> counts = new TreeMap<>();
+        statementsByCaller.forEach((caller, count) -> counts.put(caller, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public List<String> getRecentSlowQueries() {
+        synchronized (recentSlowQueries) {
+            return new ArrayList<>(recentSlowQueries);
+        }
+    }
+
+    @Override
+    public ConnectionPool.PoolStats getPool() {
+        return poolStats.get();
+    }
+
+    @Override
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("[DB 지표] 문장 %,d회 (오류 %,d, 느린 쿼리 %,d), 행 %,d%n",
+                getStatementCount(), getErrorCount(), getSlowQueryCount(), getRowCount()));
+        sb.append(String.format("  커넥션 대여 %,d회, 평균 %.3fms, p99 %.1fms, 최대 %.1fms, 실패 %,d%n",
+                getConnectionAcquireCount(), getConnectionAcquireMeanMillis(), getConnectionAcquireP99Millis(),
+                getConnectionAcquireMaxMillis(), getConnectionAcquireErrorCount()));
+        ConnectionPool.PoolStats pool = getPool();
+        if (pool != null) {
+            sb.append("  풀: ").append(pool).append(System.lineSeparator());
+        }
+        List<StatementStats> top = getStatements();
+        for (StatementStats stats : top.subList(0, Math.min(SUMMARY_TOP_STATEMENTS, top.size()))) {
+            sb.append("  ").append(stats).append(System.lineSeparator());
+        }
+        Map<String, Long> byCaller = getStatementsByCaller();
+        if (!byCaller.isEmpty()) {
+            sb.append("  화면별 문장 수: ").append(byCaller).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        statements.clear();
+        countersBySqlText.clear();
+        statementsByCaller.clear();
+        acquireTimes.reset();
+        acquireErrors.reset();
+        statementCount.reset();
+        errorCount.reset();
+        rowCount.reset();
+        slowQueryCount.reset();
+        synchronized (recentSlowQueries) {
+            recentSlowQueries.clear();
+        }
+    }
+}
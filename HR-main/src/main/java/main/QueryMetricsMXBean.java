@@ -0,0 +1,49 @@
+package main;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * QueryMetrics의 JMX 인터페이스입니다. JConsole 등에서 main:type=QueryMetrics로 조회합니다.
+ * 시간 단위는 밀리초이고, 백분위 값은 히스토그램 구간의 상한입니다.
+ */
+public interface QueryMetricsMXBean {
+
+    long getStatementCount();
+
+    long getErrorCount();
+
+    long getRowCount();
+
+    long getSlowQueryCount();
+
+    long getSlowQueryThresholdMillis();
+
+    void setSlowQueryThresholdMillis(long millis);
+
+    long getConnectionAcquireCount();
+
+    long getConnectionAcquireErrorCount();
+
+    double getConnectionAcquireMeanMillis();
+
+    double getConnectionAcquireP99Millis();
+
+    double getConnectionAcquireMaxMillis();
+
+    /** 실행된 SQL별 집계, 총 실행 시간이 긴 순서 */
+    List<QueryMetrics.StatementStats> getStatements();
+
+    /** 호출한 화면(클래스)별 실행 문장 수 */
+    Map<String, Long> getStatementsByCaller();
+
+    /** 최근 느린 쿼리 기록 (최대 20건, 오래된 순서) */
+    List<String> getRecentSlowQueries();
+
+    ConnectionPool.PoolStats getPool();
+
+    String getSummary();
+
+    /** 모든 집계를 0으로 되돌립니다. */
+    void reset();
+}
@@ -2,17 +2,9 @@ package main;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.DayOfWeek;
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.YearMonth;
-import java.time.temporal.WeekFields;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
 
 public class SalaryCalculatorService {
@@ -26,56 +18,42 @@ public class SalaryCalculatorService {
         this.payrollManager = payrollManager;
     }
 
-    private long calculateNightMinutes(LocalTime startTime, LocalTime endTime) {
-        if (startTime == null || endTime == null) return 0;
-        final LocalTime NIGHT_START_THRESHOLD = LocalTime.of(22, 0);
-        final LocalTime NIGHT_END_THRESHOLD = LocalTime.of(6, 0);
-        long totalNightMinutes = 0;
-
-        // 익일 퇴근 (퇴근 시간이 출근 시간보다 이름)
-        if (endTime.isBefore(startTime)) {
-            // 출근 시점부터 자정까지의 야간 근무
-            if (startTime.isBefore(NIGHT_START_THRESHOLD)) {
-                totalNightMinutes += Duration.between(NIGHT_START_THRESHOLD, LocalTime.MAX).toMinutes() + 1; // 22:00 ~ 23:59:59...
-            } else {
-                totalNightMinutes += Duration.between(startTime, LocalTime.MAX).toMinutes() + 1;
-            }
-            // 자정부터 퇴근 시점까지의 야간 근무
-            if (endTime.isAfter(NIGHT_END_THRESHOLD)) {
-                totalNightMinutes += Duration.between(LocalTime.MIN, NIGHT_END_THRESHOLD).toMinutes();
-            } else {
-                totalNightMinutes += Duration.between(LocalTime.MIN, endTime).toMinutes();
-            }
-        } else { // 당일 퇴근
-            // 새벽 시간대 근무 (00:00 ~ 06:00)
-            if (startTime.isBefore(NIGHT_END_THRESHOLD)) {
-                LocalTime morningNightEnd = endTime.isBefore(NIGHT_END_THRESHOLD) ? endTime : NIGHT_END_THRESHOLD;
-                totalNightMinutes += Duration.between(startTime, morningNightEnd).toMinutes();
-            }
-            // 저녁 시간대 근무 (22:00 ~ 24:00)
-            if (endTime.isAfter(NIGHT_START_THRESHOLD)) {
-                LocalTime eveningNightStart = startTime.isAfter(NIGHT_START_THRESHOLD) ? startTime : NIGHT_START_THRESHOLD;
-                totalNightMinutes += Duration.between(eveningNightStart, endTime).toMinutes();
-            }
-        }
-        return totalNightMinutes;
+    public CalculationResult calculateSalary(List<WorkRecord> records, Payroll contractData, Employee employee,
+                                             YearMonth currentPeriod, BigDecimal currentSalaryPercentage, BigDecimal adHocBonus,
+                                             boolean adHocBonusApplied, Set<LocalDate> publicHolidays) {
+        return calculateSalary(records, contractData, employee, currentPeriod, currentSalaryPercentage,
+                adHocBonus, adHocBonusApplied, publicHolidays, payrollManager.getSettings());
     }
 
+    /**
+     * 지정한 설정 스냅샷으로 급여를 계산합니다.
+     * 여러 직원을 한 번에 계산할 때 모든 직원이 같은 설정으로 계산되도록 사용합니다.
+     */
     public CalculationResult calculateSalary(List<WorkRecord> records, Payroll contractData, Employee employee,
                                              YearMonth currentPeriod, BigDecimal currentSalaryPercentage, BigDecimal adHocBonus,
-                                             boolean adHocBonusApplied, Set<LocalDate> publicHolidays) {
+                                             boolean adHocBonusApplied, Set<LocalDate> publicHolidays, AppSettings settings) {
+        return calculateSalary(AttendanceAggregate.of(records, publicHolidays, settings), contractData, employee, currentPeriod,
+                currentSalaryPercentage, adHocBonus, adHocBonusApplied, settings);
+    }
+
+    /**
+     * 미리 합산된 근태 집계로 급여를 계산합니다. 근무 기록을 다시 훑지 않으므로
+     * 지급률이나 상여금만 바뀐 경우, 또는 행 하나만 바뀐 집계로 바로 다시 계산할 때 사용합니다.
+     */
+    public CalculationResult calculateSalary(AttendanceAggregate attendance, Payroll contractData, Employee employee,
+                                             YearMonth currentPeriod, BigDecimal currentSalaryPercentage, BigDecimal adHocBonus,
+                                             boolean adHocBonusApplied, AppSettings settings) {
         CalculationResult result = new CalculationResult();
 
         // --- 0. 설정값 로드 ---
-        Map<String, String> settings = payrollManager.loadSettings();
-        BigDecimal standardHours = new BigDecimal(settings.getOrDefault("standardWorkHours", "209.0"));
-        BigDecimal fixedOvertimeHoursForCalc = new BigDecimal(settings.getOrDefault("fixedOvertimeHours", "15.0"));
+        BigDecimal standardHours = settings.getStandardWorkHours();
+        BigDecimal fixedOvertimeHoursForCalc = settings.getFixedOvertimeHours();
         BigDecimal standardTotalHoursForRateCalc = standardHours.add(fixedOvertimeHoursForCalc);
-        BigDecimal nominalFixedOvertimeHours = new BigDecimal(settings.getOrDefault("nominalFixedOvertimeHours", "10.0"));
+        BigDecimal nominalFixedOvertimeHours = settings.getNominalFixedOvertimeHours();
 
-        boolean applyOvertime = Boolean.parseBoolean(settings.getOrDefault("applyOvertime", "true"));
-        boolean applyNightWork = Boolean.parseBoolean(settings.getOrDefault("applyNightWork", "true"));
-        boolean applyHolidayWork = Boolean.parseBoolean(settings.getOrDefault("applyHolidayWork", "true"));
+        boolean applyOvertime = settings.isApplyOvertime();
+        boolean applyNightWork = settings.isApplyNightWork();
+        boolean applyHolidayWork = settings.isApplyHolidayWork();
 
         // --- 1. 입사일 비례배분 (일할계산) ---
         // [수정] double 대신 BigDecimal로 직접 계산
@@ -115,50 +93,22 @@ public class SalaryCalculatorService {
         BigDecimal minuteRate = hourlyRate.divide(new BigDecimal("60"), CALC_SCALE + 2, RoundingMode.HALF_UP);
 
         // --- 3. 근무 부족분 시간 및 금액 계산 ---
-        long totalShortfallMinutes = 0L;
-        for (WorkRecord record : records) {
-            DayOfWeek dow = record.getDate().getDayOfWeek();
-            boolean isCalendarWeekday = dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !publicHolidays.contains(record.getDate());
-            if (isCalendarWeekday && (record.getStatus() == AttendancePage.WorkStatus.ABSENCE || record.getStatus() == AttendancePage.WorkStatus.UNPAID_HOLIDAY)) {
-                totalShortfallMinutes += (8 * 60);
-            }
-        }
+        long totalShortfallMinutes = attendance.getTotalShortfallMinutes();
         result.setTotalShortfallMinutes(totalShortfallMinutes);
         BigDecimal shortfallDeduction = minuteRate.multiply(new BigDecimal(totalShortfallMinutes));
         result.setTotalShortfallMonetaryDeduction(shortfallDeduction);
 
-        // --- 4. 주휴수당 차감 ---
-        BigDecimal weeklyAbsencePenalty = BigDecimal.ZERO;
+        // --- 4. 주휴수당 차감 (평일 결근이 있는 주마다 1일분) ---
         final BigDecimal dailyAmountForPenalty = hourlyRate.multiply(new BigDecimal("8"));
-        Set<Integer> weeksWithAbsence = new HashSet<>();
-        WeekFields weekFields = WeekFields.of(Locale.KOREA); // 한국 기준 주차 계산
-        for (WorkRecord rec : records) {
-            if (rec.getStatus() == AttendancePage.WorkStatus.ABSENCE) {
-                // 주말, 공휴일 결근은 주휴수당에 영향 없음
-                if (rec.getDate().getDayOfWeek() != DayOfWeek.SATURDAY && rec.getDate().getDayOfWeek() != DayOfWeek.SUNDAY && !publicHolidays.contains(rec.getDate())) {
-                    weeksWithAbsence.add(rec.getDate().get(weekFields.weekOfWeekBasedYear()));
-                }
-            }
-        }
-        weeklyAbsencePenalty = dailyAmountForPenalty.multiply(new BigDecimal(weeksWithAbsence.size()));
+        BigDecimal weeklyAbsencePenalty = dailyAmountForPenalty.multiply(new BigDecimal(attendance.getWeeksWithAbsence()));
         result.setWeeklyAbsencePenalty(weeklyAbsencePenalty);
 
         // --- 5. 추가 수당 계산 (연장, 야간, 휴일) ---
-        long totalOvertimeMinutes = 0, totalHolidayMinutes = 0, totalNightMinutes = 0;
+        long totalOvertimeMinutes = attendance.getTotalOvertimeMinutes();
+        long totalHolidayMinutes = attendance.getTotalHolidayMinutes();
+        long totalNightMinutes = attendance.getTotalNightMinutes();
         final BigDecimal fixedOtThresholdMinutes = nominalFixedOvertimeHours.multiply(new BigDecimal("60"));
 
-        for (WorkRecord record : records) {
-            if (record.getStatus() == AttendancePage.WorkStatus.ABSENCE || record.getStatus() == AttendancePage.WorkStatus.UNPAID_HOLIDAY || record.getNetWorkMinutes() <= 0) continue;
-
-            if (record.isOriginallyPublicHoliday()) {
-                totalHolidayMinutes += record.getNetWorkMinutes();
-            } else {
-                // 평일 8시간 초과 근무분을 연장근무로 계산
-                totalOvertimeMinutes += Math.max(0, record.getNetWorkMinutes() - (8 * 60));
-            }
-            totalNightMinutes += calculateNightMinutes(record.getStartTime(), record.getEndTime());
-        }
-
         BigDecimal overtimePremium = BigDecimal.ZERO;
         BigDecimal holidayPremium = BigDecimal.ZERO;
         BigDecimal nightPremium = BigDecimal.ZERO;
@@ -215,4 +165,27 @@ public class SalaryCalculatorService {
 
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * 계산 결과를 DB에 저장할 월 급여 객체로 변환합니다.
+     * @param res 급여 계산 결과
+     * @param unpaidDays 무급휴일 일수
+     * @param absenceDays 결근 일수
+     * @return 공제 항목이 비어 있는 월 급여
+     */
+    public static Payroll buildMonthlyPayroll(CalculationResult res, int unpaidDays, int absenceDays) {
+        Payroll finalPayroll = new Payroll();
+        finalPayroll.setMonthlyBasicSalary(res.getFinalAdjustedBasicPay());
+        finalPayroll.setFixedOvertimeAllowance(res.getFinalAdjustedFixedOvertimeAllowance());
+        finalPayroll.setAdditionalOvertimePremium(res.getFinalAdjustedAdditionalOvertimePremium());
+        finalPayroll.setBonus(res.getFinalAdjustedBonus());
+        finalPayroll.setOtherAllowance(res.getFinalAdjustedOtherAllowance());
+        finalPayroll.setMealAllowance(res.getFinalAdjustedMealAllowance());
+        finalPayroll.setVehicleMaintenanceFee(res.getFinalAdjustedVehicleMaintenanceFee());
+        finalPayroll.setResearchDevelopmentExpense(res.getFinalAdjustedResearchDevelopmentExpense());
+        finalPayroll.setChildcareAllowance(res.getFinalAdjustedChildcareAllowance());
+        finalPayroll.setUnpaidDays(unpaidDays);
+        finalPayroll.setUnauthorizedAbsenceDays(absenceDays);
+        return finalPayroll;
+    }
+}
@@ -0,0 +1,198 @@
+package main;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * schema_version 테이블로 DB 스키마 버전을 관리하고, 아직 적용되지 않은 번호의 마이그레이션을
+ * 순서대로 적용합니다. 기존 H2 파일도 시작할 때 제자리에서 최신 스키마로 올라갑니다.
+ * 마이그레이션 하나는 한 트랜잭션으로 적용되며, 실패하면 롤백하고 이후 마이그레이션은 적용하지 않습니다.
+ */
+public class SchemaMigrator {
+
+    /**
+     * 번호가 붙은 마이그레이션 한 건입니다. 버전은 1부터 빈틈없이 증가해야 합니다.
+     */
+    public static class Migration {
+        private final int version;
+        private final String description;
+        private final List<String> statements;
+
+        public Migration(int version, String description, String... statements) {
+            this.version = version;
+            this.description = description;
+            List<String> list = new ArrayList<>();
+            Collections.addAll(list, statements);
+            this.statements = Collections.unmodifiableList(list);
+        }
+
+        public int getVersion() { return version; }
+        public String getDescription() { return description; }
+        public List<String> getStatements() { return statements; }
+    }
+
+    private final List<Migration> migrations;
+
+    public SchemaMigrator() {
+        this(defaultMigrations());
+    }
+
+    public SchemaMigrator(List<Migration> migrations) {
+        for (int i = 0; i < migrations.size(); i++) {
+            if (migrations.get(i).getVersion() != i + 1) {
+                throw new IllegalArgumentException("마이그레이션 버전이 순서대로 정의되지 않았습니다: " + migrations.get(i).getVersion());
+            }
+        }
+        this.migrations = migrations;
+    }
+
+    /**
+     * 현재 스키마 버전 이후의 마이그레이션을 모두 적용합니다.
+     * @return 새로 적용된 마이그레이션 수
+     */
+    public int migrate(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS schema_version (version INT PRIMARY KEY, description VARCHAR(255) NOT NULL, applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        }
+
+        int currentVersion = getCurrentVersion(conn);
+        int applied = 0;
+        boolean originalAutoCommit = conn.getAutoCommit();
+        try {
+            for (Migration migration : migrations) {
+                if (migration.getVersion() <= currentVersion) continue;
+                apply(conn, migration);
+                applied++;
+            }
+        } finally {
+            conn.setAutoCommit(originalAutoCommit);
+        }
+        return applied;
+    }
+
+    public int getCurrentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).getVersion();
+    }
+
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement();
+             PreparedStatement versionStmt = conn.prepareStatement("INSERT INTO schema_version (version, description) VALUES (?, ?)")) {
+            for (String sql : migration.getStatements()) {
+                stmt.executeUpdate(sql);
+            }
+            versionStmt.setInt(1, migration.getVersion());
+            versionStmt.setString(2, migration.getDescription());
+            versionStmt.executeUpdate();
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new SQLException("스키마 마이그레이션 " + migration.getVersion() + " (" + migration.getDescription() + ") 적용 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이 프로그램이 사용하는 전체 마이그레이션 목록입니다.
+     * H2는 DDL 실행 시 자동 커밋하므로, 모든 DDL은 다시 실행해도 안전하도록 IF NOT EXISTS로 작성합니다.
+     */
+    static List<Migration> defaultMigrations() {
+        List<Migration> list = new ArrayList<>();
+
+        list.add(new Migration(1, "기본 테이블 생성",
+                "CREATE TABLE IF NOT EXISTS employees (" +
+                        "id INT PRIMARY KEY AUTO_INCREMENT, " +
+                        "name VARCHAR(100) NOT NULL, " +
+                        "resident_registration_number VARCHAR(20) UNIQUE NOT NULL, " +
+                        "phone_number VARCHAR(20), " +
+                        "annual_salary DECIMAL(19, 4) NOT NULL, " +
+                        "address VARCHAR(255) DEFAULT NULL, " +
+                        "hire_date DATE DEFAULT NULL, " +
+                        "salary_change_date DATE DEFAULT NULL, " +
+                        "department VARCHAR(50) DEFAULT NULL, " +
+                        "work_location VARCHAR(255) DEFAULT NULL, " +
+                        "site_location VARCHAR(255) DEFAULT NULL)",
+                "CREATE TABLE IF NOT EXISTS payrolls (" +
+                        "id INT PRIMARY KEY AUTO_INCREMENT, employee_id INT NOT NULL, " +
+                        "payment_year INT, payment_month INT, " +
+                        "monthly_basic_salary DECIMAL(19, 4) DEFAULT 0, " +
+                        "bonus DECIMAL(19, 4) DEFAULT 0, " +
+                        "fixed_overtime_allowance DECIMAL(19, 4) DEFAULT 0, " +
+                        "additional_overtime_premium DECIMAL(19, 4) DEFAULT 0, " +
+                        "other_allowance DECIMAL(19, 4) DEFAULT 0, " +
+                        "meal_allowance DECIMAL(19, 4) DEFAULT 0, " +
+                        "vehicle_maintenance_fee DECIMAL(19, 4) DEFAULT 0, " +
+                        "research_development_expense DECIMAL(19, 4) DEFAULT 0, " +
+                        "childcare_allowance DECIMAL(19, 4) DEFAULT 0, " +
+                        "unpaid_days INT DEFAULT 0, unauthorized_absence_days INT DEFAULT 0, " +
+                        "national_pension_employee DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "health_insurance_employee DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "long_term_care_insurance_employee DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "employment_insurance_employee DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "income_tax DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "local_income_tax DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "total_employee_deduction DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "national_pension_employer DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "health_insurance_employer DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "long_term_care_insurance_employer DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "employment_insurance_employer DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "industrial_accident_insurance_employer DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "net_pay DECIMAL(19, 4) DEFAULT 0.0, " +
+                        "FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE, " +
+                        "CONSTRAINT uk_employee_period UNIQUE (employee_id, payment_year, payment_month))",
+                "CREATE TABLE IF NOT EXISTS work_records (id INT PRIMARY KEY AUTO_INCREMENT, employee_id INT NOT NULL, work_date DATE NOT NULL, start_time TIME NULL, end_time TIME NULL, work_status VARCHAR(20) NOT NULL, FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE, CONSTRAINT uk_employee_work_date UNIQUE (employee_id, work_date))",
+                "CREATE TABLE IF NOT EXISTS app_settings (setting_key VARCHAR(255) PRIMARY KEY, setting_value VARCHAR(255) NOT NULL)",
+                "CREATE TABLE IF NOT EXISTS annual_leaves (id INT PRIMARY KEY AUTO_INCREMENT, employee_id INT NOT NULL, leave_year INT NOT NULL, total_generated_days DECIMAL(10,2) DEFAULT 0.0, adjustment_days DECIMAL(10,2) DEFAULT 0.0, notes VARCHAR(255), FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE, CONSTRAINT uk_employee_leave_year UNIQUE (employee_id, leave_year))",
+                "CREATE TABLE IF NOT EXISTS leave_usage_records (id INT PRIMARY KEY AUTO_INCREMENT, employee_id INT NOT NULL, leave_date DATE NOT NULL, leave_type VARCHAR(50) NOT NULL, deduct_days DECIMAL(10,2) DEFAULT 1.0, FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE, CONSTRAINT uk_employee_leave_date UNIQUE (employee_id, leave_date))"
+        ));
+
+        // 월별 급여 조회(getPayrollsForPeriod, 계약 조회의 payment_year IS NULL)와
+        // 전 직원 대상 날짜 범위 조회를 위한 인덱스
+        list.add(new Migration(2, "기간/날짜 범위 인덱스 추가",
+                "CREATE INDEX IF NOT EXISTS idx_payrolls_period ON payrolls (payment_year, payment_month)",
+                "CREATE INDEX IF NOT EXISTS idx_work_records_date ON work_records (work_date)",
+                "CREATE INDEX IF NOT EXISTS idx_leave_usage_date ON leave_usage_records (leave_date)"
+        ));
+
+        // 4대보험 요율을 시행일별로 보관 (InsuranceRateSchedule)
+        list.add(new Migration(3, "보험 요율표 추가",
+                "CREATE TABLE IF NOT EXISTS insurance_rates (" +
+                        "effective_from DATE PRIMARY KEY, " +
+                        "national_pension_rate DECIMAL(10, 6) NOT NULL, " +
+                        "health_insurance_rate DECIMAL(10, 6) NOT NULL, " +
+                        "long_term_care_rate DECIMAL(10, 6) NOT NULL, " +
+                        "employment_insurance_rate DECIMAL(10, 6) NOT NULL, " +
+                        "pension_min_base DECIMAL(19, 4) NOT NULL, " +
+                        "pension_max_base DECIMAL(19, 4) NOT NULL)",
+                "MERGE INTO insurance_rates KEY(effective_from) VALUES ('2023-01-01', 0.045, 0.03545, 0.1281, 0.009, 350000, 5530000)",
+                "MERGE INTO insurance_rates KEY(effective_from) VALUES ('2023-07-01', 0.045, 0.03545, 0.1281, 0.009, 370000, 5900000)",
+                "MERGE INTO insurance_rates KEY(effective_from) VALUES ('2024-01-01', 0.045, 0.03545, 0.1295, 0.009, 370000, 5900000)",
+                "MERGE INTO insurance_rates KEY(effective_from) VALUES ('2024-07-01', 0.045, 0.03545, 0.1295, 0.009, 390000, 6170000)",
+                "MERGE INTO insurance_rates KEY(effective_from) VALUES ('2025-07-01', 0.045, 0.03545, 0.1295, 0.009, 400000, 6370000)"
+        ));
+
+        // 2026년 국민연금 4.75%, 건강보험 3.595%, 장기요양 건강보험료의 13.14%
+        list.add(new Migration(4, "2026년 보험 요율 추가",
+                "MERGE INTO insurance_rates KEY(effective_from) VALUES ('2026-01-01', 0.0475, 0.03595, 0.1314, 0.009, 400000, 6370000)"
+        ));
+
+        // 급여 일괄 계산에서 직원별 간이세액표 공제대상가족 수를 사용
+        list.add(new Migration(5, "직원 공제대상가족 수 추가",
+                "ALTER TABLE employees ADD COLUMN IF NOT EXISTS dependents INT DEFAULT 1 NOT NULL"
+        ));
+
+        return list;
+    }
+}
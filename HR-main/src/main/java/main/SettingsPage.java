@@ -4,13 +4,20 @@ import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.math.BigDecimal;
 import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class SettingsPage extends JPanel {
     private final PayrollManager payrollManager;
+    private final AsyncPayrollRepository asyncRepository;
 
     // UI Components
     private JTextField txtStandardWorkHours, txtFixedOvertimeHours;
@@ -22,16 +29,25 @@ public class SettingsPage extends JPanel {
 
     private JTextField txtDefaultMealAllowance, txtDefaultChildcareAllowance;
     private JTextField txtDefaultVehicleFee, txtDefaultRdExpense;
+    private JTextField txtIndustrialAccidentRate;
 
     private JTextField txtDefaultStartTime, txtDefaultEndTime;
+    private JTextField txtNightWorkStart, txtNightWorkEnd;
 
     private JTextField txtCompanyName, txtDefaultPayday;
 
     private JButton btnSaveSettings;
+
+    private DefaultTableModel insuranceRateTableModel;
+    private JTable insuranceRateTable;
+    private JTextField txtRateEffectiveFrom, txtPensionRate, txtHealthRate, txtLongTermCareRate, txtEmploymentRate;
+    private JTextField txtPensionMinBase, txtPensionMaxBase;
+    private JButton btnSaveInsuranceRates;
     private final DecimalFormat formatter = new DecimalFormat("#,###");
 
     public SettingsPage(PayrollManager payrollManager) {
         this.payrollManager = payrollManager;
+        this.asyncRepository = new AsyncPayrollRepository(payrollManager);
         setLayout(new BorderLayout(10, 10));
         setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
@@ -49,6 +65,7 @@ public class SettingsPage extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
 
         loadSettings();
+        loadInsuranceRates();
     }
 
     private JPanel createSettingsPanel() {
@@ -64,6 +81,8 @@ public class SettingsPage extends JPanel {
         mainPanel.add(createAnnualLeavePanel());
         mainPanel.add(Box.createVerticalStrut(15));
         mainPanel.add(createCompanyInfoPanel());
+        mainPanel.add(Box.createVerticalStrut(15));
+        mainPanel.add(createInsuranceRatePanel());
         mainPanel.add(Box.createVerticalGlue());
 
         return mainPanel;
@@ -130,6 +149,12 @@ public class SettingsPage extends JPanel {
         panel.add(chkApplyOvertime);
         panel.add(chkApplyNightWork);
         panel.add(chkApplyHolidayWork);
+        panel.add(new JLabel("야간근로 시간대:"));
+        txtNightWorkStart = new JTextField("22:00", 5);
+        panel.add(txtNightWorkStart);
+        panel.add(new JLabel("~"));
+        txtNightWorkEnd = new JTextField("06:00", 5);
+        panel.add(txtNightWorkEnd);
         panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, panel.getPreferredSize().height));
         return panel;
     }
@@ -156,6 +181,11 @@ public class SettingsPage extends JPanel {
         gbc.gridx = 2; panel.add(new JLabel("연구개발비 기본값:"), gbc);
         gbc.gridx = 3; txtDefaultRdExpense = new JTextField("0", 8); panel.add(txtDefaultRdExpense, gbc);
 
+        gbc.gridx = 0; gbc.gridy = 3; panel.add(new JLabel("산재보험 요율(%):"), gbc);
+        gbc.gridx = 1; txtIndustrialAccidentRate = new JTextField("0.7", 8); panel.add(txtIndustrialAccidentRate, gbc);
+        gbc.gridx = 2; gbc.gridwidth = 2; panel.add(new JLabel("(급여 일괄 계산과 근태 화면 급여 저장에 적용)"), gbc);
+        gbc.gridwidth = 1;
+
         panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, panel.getPreferredSize().height));
         return panel;
     }
@@ -198,6 +228,134 @@ public class SettingsPage extends JPanel {
         return panel;
     }
 
+    // 요율은 화면에서 백분율(4.5 = 4.5%)로 보여 주고 입력받으며, DB에는 소수(0.045)로 저장합니다.
+    private JPanel createInsuranceRatePanel() {
+        JPanel panel = new JPanel(new BorderLayout(5, 5));
+        panel.setBorder(createTitledBorder("4대보험 요율표 (시행일별, 근로자 부담분)"));
+
+        String[] columns = {"시행일", "국민연금(%)", "건강보험(%)", "장기요양(건강보험료 대비 %)", "고용보험(%)", "연금 기준소득 하한", "연금 기준소득 상한"};
+        insuranceRateTableModel = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) { return false; }
+        };
+        insuranceRateTable = new JTable(insuranceRateTableModel);
+        insuranceRateTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        insuranceRateTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) fillInsuranceRateFields(insuranceRateTable.getSelectedRow());
+        });
+        JScrollPane tableScroll = new JScrollPane(insuranceRateTable);
+        tableScroll.setPreferredSize(new Dimension(600, 140));
+        panel.add(tableScroll, BorderLayout.CENTER);
+
+        JPanel editPanel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        gbc.gridx = 0; gbc.gridy = 0; editPanel.add(new JLabel("시행일:"), gbc);
+        gbc.gridx = 1; txtRateEffectiveFrom = new JTextField(10); editPanel.add(txtRateEffectiveFrom, gbc);
+        gbc.gridx = 2; editPanel.add(new JLabel("(yyyy-MM-dd, 같은 시행일이 있으면 덮어씁니다)"), gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1; editPanel.add(new JLabel("국민연금(%):"), gbc);
+        gbc.gridx = 1; txtPensionRate = new JTextField(8); editPanel.add(txtPensionRate, gbc);
+        gbc.gridx = 2; editPanel.add(new JLabel("건강보험(%):"), gbc);
+        gbc.gridx = 3; txtHealthRate = new JTextField(8); editPanel.add(txtHealthRate, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 2; editPanel.add(new JLabel("장기요양(건강보험료 대비 %):"), gbc);
+        gbc.gridx = 1; txtLongTermCareRate = new JTextField(8); editPanel.add(txtLongTermCareRate, gbc);
+        gbc.gridx = 2; editPanel.add(new JLabel("고용보험(%):"), gbc);
+        gbc.gridx = 3; txtEmploymentRate = new JTextField(8); editPanel.add(txtEmploymentRate, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 3; editPanel.add(new JLabel("연금 기준소득 하한:"), gbc);
+        gbc.gridx = 1; txtPensionMinBase = new JTextField(10); editPanel.add(txtPensionMinBase, gbc);
+        gbc.gridx = 2; editPanel.add(new JLabel("연금 기준소득 상한:"), gbc);
+        gbc.gridx = 3; txtPensionMaxBase = new JTextField(10); editPanel.add(txtPensionMaxBase, gbc);
+
+        gbc.gridx = 3; gbc.gridy = 4; gbc.anchor = GridBagConstraints.EAST;
+        btnSaveInsuranceRates = new JButton("요율 저장");
+        btnSaveInsuranceRates.addActionListener(e -> saveInsuranceRates());
+        editPanel.add(btnSaveInsuranceRates, gbc);
+
+        panel.add(editPanel, BorderLayout.SOUTH);
+        panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, panel.getPreferredSize().height));
+        return panel;
+    }
+
+    private void loadInsuranceRates() {
+        asyncRepository.load("insuranceRates", pm -> pm.getInsuranceRateSchedule().getAll(), this, this::showInsuranceRates);
+    }
+
+    private void showInsuranceRates(List<InsuranceRateSchedule.Rates> rates) {
+        insuranceRateTableModel.setRowCount(0);
+        for (InsuranceRateSchedule.Rates r : rates) {
+            insuranceRateTableModel.addRow(new Object[]{
+                    r.getEffectiveFrom().toString(), toPercent(r.getNationalPensionRate()), toPercent(r.getHealthInsuranceRate()),
+                    toPercent(r.getLongTermCareRateOfHealthInsurance()), toPercent(r.getEmploymentInsuranceRate()),
+                    formatter.format(r.getPensionMinBase()), formatter.format(r.getPensionMaxBase())});
+        }
+        // 가장 최근 시행일을 편집란에 채워 새 시행일 요율을 입력하기 쉽게 합니다.
+        if (!rates.isEmpty()) {
+            insuranceRateTable.setRowSelectionInterval(rates.size() - 1, rates.size() - 1);
+        }
+    }
+
+    private void fillInsuranceRateFields(int row) {
+        if (row < 0) return;
+        txtRateEffectiveFrom.setText((String) insuranceRateTableModel.getValueAt(row, 0));
+        txtPensionRate.setText((String) insuranceRateTableModel.getValueAt(row, 1));
+        txtHealthRate.setText((String) insuranceRateTableModel.getValueAt(row, 2));
+        txtLongTermCareRate.setText((String) insuranceRateTableModel.getValueAt(row, 3));
+        txtEmploymentRate.setText((String) insuranceRateTableModel.getValueAt(row, 4));
+        txtPensionMinBase.setText((String) insuranceRateTableModel.getValueAt(row, 5));
+        txtPensionMaxBase.setText((String) insuranceRateTableModel.getValueAt(row, 6));
+    }
+
+    private void saveInsuranceRates() {
+        InsuranceRateSchedule.Rates rates;
+        try {
+            LocalDate effectiveFrom = LocalDate.parse(txtRateEffectiveFrom.getText().trim());
+            BigDecimal pension = fromPercent(txtPensionRate.getText());
+            BigDecimal health = fromPercent(txtHealthRate.getText());
+            BigDecimal longTermCare = fromPercent(txtLongTermCareRate.getText());
+            BigDecimal employment = fromPercent(txtEmploymentRate.getText());
+            BigDecimal minBase = new BigDecimal(txtPensionMinBase.getText().trim().replace(",", ""));
+            BigDecimal maxBase = new BigDecimal(txtPensionMaxBase.getText().trim().replace(",", ""));
+            if (minBase.signum() < 0 || minBase.compareTo(maxBase) > 0) {
+                JOptionPane.showMessageDialog(this, "연금 기준소득 하한은 0 이상이고 상한보다 클 수 없습니다.", "입력 오류", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            rates = new InsuranceRateSchedule.Rates(effectiveFrom, pension, health, longTermCare, employment, minBase, maxBase);
+        } catch (DateTimeParseException e) {
+            JOptionPane.showMessageDialog(this, "시행일은 yyyy-MM-dd 형식으로 입력해주세요.", "입력 오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, "요율은 0~100 사이의 백분율, 기준소득은 금액으로 입력해주세요.", "입력 오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        asyncRepository.execute(pm -> pm.saveInsuranceRates(rates), this, saved -> {
+            if (saved) {
+                JOptionPane.showMessageDialog(this, rates.getEffectiveFrom() + " 시행 보험 요율이 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                loadInsuranceRates();
+            } else {
+                JOptionPane.showMessageDialog(this, "보험 요율을 DB에 저장하지 못했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            }
+        }, btnSaveInsuranceRates);
+    }
+
+    private static String toPercent(BigDecimal rate) {
+        return rate.movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+
+    // NumberFormatException도 IllegalArgumentException이므로 호출하는 쪽에서 함께 처리합니다.
+    private static BigDecimal fromPercent(String text) {
+        BigDecimal percent = new BigDecimal(text.trim());
+        if (percent.signum() < 0 || percent.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("요율 범위 오류: " + text);
+        }
+        return percent.movePointLeft(2);
+    }
+
     private TitledBorder createTitledBorder(String title) {
         return BorderFactory.createTitledBorder(
                 BorderFactory.createEtchedBorder(), title, TitledBorder.LEFT, TitledBorder.TOP,
@@ -216,21 +374,40 @@ public class SettingsPage extends JPanel {
             settings.put("defaultChildcareAllowance", txtDefaultChildcareAllowance.getText().replace(",", ""));
             settings.put("defaultVehicleFee", txtDefaultVehicleFee.getText().replace(",", ""));
             settings.put("defaultRdExpense", txtDefaultRdExpense.getText().replace(",", ""));
+            try {
+                settings.put("industrialAccidentRate", fromPercent(txtIndustrialAccidentRate.getText()).toPlainString());
+            } catch (IllegalArgumentException e) {
+                JOptionPane.showMessageDialog(this, "산재보험 요율은 0~100 사이의 백분율로 입력해주세요.", "입력 오류", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
             settings.put("defaultStartTime", txtDefaultStartTime.getText());
             settings.put("defaultEndTime", txtDefaultEndTime.getText());
+            try {
+                settings.put("nightWorkStart", LocalTime.parse(txtNightWorkStart.getText().trim()).toString());
+                settings.put("nightWorkEnd", LocalTime.parse(txtNightWorkEnd.getText().trim()).toString());
+            } catch (DateTimeParseException e) {
+                JOptionPane.showMessageDialog(this, "야간근로 시간대는 HH:mm 형식으로 입력해주세요.", "입력 오류", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
             settings.put("annualLeaveBasis", radioFiscalYear.isSelected() ? "FISCAL" : "HIRE_DATE");
             settings.put("companyName", txtCompanyName.getText());
             settings.put("defaultPayday", txtDefaultPayday.getText());
 
-            payrollManager.saveSettings(settings);
-            JOptionPane.showMessageDialog(this, "설정이 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+            asyncRepository.execute(pm -> pm.saveSettings(settings), this, saved -> {
+                if (saved) {
+                    JOptionPane.showMessageDialog(this, "설정이 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this, "설정을 DB에 저장하지 못했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+                }
+            }, btnSaveSettings);
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this, "설정 저장 중 오류가 발생했습니다: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
         }
     }
 
     private void loadSettings() {
-        Map<String, String> settings = payrollManager.loadSettings();
+        AppSettings appSettings = payrollManager.getSettings();
+        Map<String, String> settings = appSettings.asMap();
         txtStandardWorkHours.setText(settings.getOrDefault("standardWorkHours", "209.0"));
         txtFixedOvertimeHours.setText(settings.getOrDefault("fixedOvertimeHours", "15.0"));
         chkApplyOvertime.setSelected(Boolean.parseBoolean(settings.getOrDefault("applyOvertime", "true")));
@@ -241,9 +418,12 @@ public class SettingsPage extends JPanel {
         txtDefaultChildcareAllowance.setText(formatter.format(Long.parseLong(settings.getOrDefault("defaultChildcareAllowance", "0"))));
         txtDefaultVehicleFee.setText(formatter.format(Long.parseLong(settings.getOrDefault("defaultVehicleFee", "0"))));
         txtDefaultRdExpense.setText(formatter.format(Long.parseLong(settings.getOrDefault("defaultRdExpense", "0"))));
+        txtIndustrialAccidentRate.setText(toPercent(appSettings.getIndustrialAccidentRate()));
 
         txtDefaultStartTime.setText(settings.getOrDefault("defaultStartTime", "09:00"));
         txtDefaultEndTime.setText(settings.getOrDefault("defaultEndTime", "18:00"));
+        txtNightWorkStart.setText(settings.getOrDefault("nightWorkStart", "22:00"));
+        txtNightWorkEnd.setText(settings.getOrDefault("nightWorkEnd", "06:00"));
 
         if ("HIRE_DATE".equals(settings.getOrDefault("annualLeaveBasis", "FISCAL"))) {
             radioHireDate.setSelected(true);
@@ -0,0 +1,123 @@
+package main;
+
+import java.time.LocalTime;
+
+/**
+ * 근무 구간을 분 단위 정수 구간 [시작, 종료)로 다루는 계산 모음입니다.
+ * 시각은 근무일 0시를 0으로 한 분(minute)이며, 자정을 넘는 근무는 종료가 다음 날(1440분 이후)에 있습니다.
+ * 근무 기록(WorkRecord)은 출퇴근 시각만 저장하므로 실제 근무 구간은 24시간 미만이고, 근무일과 다음 날 두 날에 걸칩니다.
+ * 야간처럼 매일 반복되는 시간대와의 겹침은 누적 함수의 차로 구하므로 비교 몇 번으로 끝나고, 객체를 만들지 않습니다.
+ */
+public final class ShiftIntervals {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    /** 근로기준법 기본 야간근로 시간대 22:00 ~ 06:00 */
+    public static final int DEFAULT_NIGHT_START = 22 * 60;
+    public static final int DEFAULT_NIGHT_END = 6 * 60;
+    /** 하루 소정근로시간(분). 이를 넘는 평일 근무분이 연장근무입니다. */
+    public static final int DAILY_REGULAR_MINUTES = 8 * 60;
+
+    private ShiftIntervals() {
+    }
+
+    public static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * 출퇴근 시각으로 근무 구간의 종료 분을 구합니다. 퇴근 시각이 출근 시각보다 이르면 익일 퇴근으로 봅니다.
+     * 시작 분은 minuteOfDay(start)입니다.
+     */
+    public static int endMinute(LocalTime start, LocalTime end) {
+        int startMinute = minuteOfDay(start);
+        int endMinute = minuteOfDay(end);
+        return endMinute < startMinute ? endMinute + MINUTES_PER_DAY : endMinute;
+    }
+
+    /**
+     * 휴게시간(분)입니다. 4시간마다 30분, 8시간 이상 근무 시 최소 60분입니다.
+     */
+    public static long breakMinutes(long grossMinutes) {
+        long breakMinutes = (grossMinutes / (4 * 60)) * 30;
+        return grossMinutes >= 8 * 60 ? Math.max(breakMinutes, 60) : breakMinutes;
+    }
+
+    /**
+     * 휴게시간을 뺀 실근무 시간(분)입니다.
+     */
+    public static long netMinutes(long startMinute, long endMinute) {
+        long gross = Math.max(0, endMinute - startMinute);
+        return Math.max(0, gross - breakMinutes(gross));
+    }
+
+    /**
+     * 실근무 시간 중 하루 소정근로시간을 넘는 분입니다.
+     */
+    public static long overtimeMinutes(long netMinutes) {
+        return Math.max(0, netMinutes - DAILY_REGULAR_MINUTES);
+    }
+
+    /**
+     * 근무 구간 [startMinute, endMinute)과 매일 반복되는 야간 시간대 [nightStart, nightEnd)의 겹침(분)입니다.
+     * 야간 시간대는 자정을 넘어도 되며(nightStart > nightEnd), 같으면 야간 시간대가 없는 것으로 봅니다.
+     */
+    public static long nightMinutes(long startMinute, long endMinute, int nightStart, int nightEnd) {
+        if (endMinute <= startMinute) return 0;
+        return nightMinutesBefore(endMinute, nightStart, nightEnd) - nightMinutesBefore(startMinute, nightStart, nightEnd);
+    }
+
+    /**
+     * 출퇴근 시각 기준 야간근무 시간(분)입니다.
+     */
+    public static long nightMinutes(LocalTime start, LocalTime end, int nightStart, int nightEnd) {
+        if (start == null || end == null) return 0;
+        return nightMinutes(minuteOfDay(start), endMinute(start, end), nightStart, nightEnd);
+    }
+
+    /**
+     * 실근무 시간 중 휴일에 속한 분입니다. 자정을 넘는 근무는 날짜별로 나누어, 휴일인 날에 걸친 시간만 셉니다.
+     * 휴게시간은 휴일이 아닌 날의 시간에서 먼저 뺀 것으로 봅니다(휴일에 걸친 시간이 실근무 시간보다 길면 실근무 시간 전체).
+     * @param netMinutes 휴게시간을 뺀 실근무 시간(분)
+     * @param holidayDays 근무일을 0번 비트, 다음 날을 1번 비트로 한 날짜별 휴일 여부
+     */
+    public static long holidayMinutes(long startMinute, long endMinute, long netMinutes, long holidayDays) {
+        return Math.min(netMinutes, minutesOnDays(startMinute, endMinute, holidayDays));
+    }
+
+    /**
+     * 근무 구간 중 휴일인 날에 속한 분입니다.
+     * @param holidayDays 근무일을 0번 비트로 한 날짜별 휴일 여부
+     */
+    public static long minutesOnDays(long startMinute, long endMinute, long holidayDays) {
+        long total = 0;
+        for (long bits = holidayDays; bits != 0; bits &= bits - 1) {
+            long dayStart = (long) Long.numberOfTrailingZeros(bits) * MINUTES_PER_DAY;
+            total += overlap(startMinute, endMinute, dayStart, dayStart + MINUTES_PER_DAY);
+        }
+        return total;
+    }
+
+    /**
+     * 두 구간 [aStart, aEnd)와 [bStart, bEnd)의 겹침(분)입니다.
+     */
+    public static long overlap(long aStart, long aEnd, long bStart, long bEnd) {
+        return Math.max(0, Math.min(aEnd, bEnd) - Math.max(aStart, bStart));
+    }
+
+    // 0분부터 minute 전까지 포함된 야간 시간(분). minute은 음수가 아니어야 합니다.
+    private static long nightMinutesBefore(long minute, int nightStart, int nightEnd) {
+        long perDay = Math.floorMod(nightEnd - nightStart, MINUTES_PER_DAY);
+        long days = minute / MINUTES_PER_DAY;
+        int minuteOfDay = (int) (minute % MINUTES_PER_DAY);
+        return days * perDay + nightMinutesInDayBefore(minuteOfDay, nightStart, nightEnd);
+    }
+
+    // 하루 안에서 0시부터 minuteOfDay 전까지의 야간 시간(분)
+    private static int nightMinutesInDayBefore(int minuteOfDay, int nightStart, int nightEnd) {
+        if (nightStart <= nightEnd) {
+            return Math.max(0, Math.min(minuteOfDay, nightEnd) - nightStart);
+        }
+        // 자정을 넘는 야간 시간대: [0, nightEnd) + [nightStart, 24:00)
+        return Math.min(minuteOfDay, nightEnd) + Math.max(0, minuteOfDay - nightStart);
+    }
+}
@@ -1,33 +1,6 @@
 package main;
 
-// iText PDF 및 ZIP 관련 import
-import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
-import com.itextpdf.kernel.geom.PageSize;
-import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.layout.Document;
-import com.itextpdf.layout.element.Paragraph;
-import com.itextpdf.layout.element.Table;
-import com.itextpdf.layout.properties.TextAlignment;
-import com.itextpdf.layout.properties.UnitValue;
-
-import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
-
-// Apache POI (엑셀) 관련 import
-import org.apache.poi.ss.usermodel.BorderStyle;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.DataFormat;
-import org.apache.poi.ss.usermodel.FillPatternType;
-import org.apache.poi.ss.usermodel.HorizontalAlignment;
-import org.apache.poi.ss.usermodel.IndexedColors;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 // 기본 Java 및 Swing 관련 import
 import javax.swing.*;
@@ -40,21 +13,27 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.FlowLayout;
 import java.awt.Font;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
 import java.text.DecimalFormat;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class SummaryPage extends JPanel {
     private final PayrollManager payrollManager;
+    private final AsyncPayrollRepository asyncRepository;
+    private final PayslipPdfRenderer payslipRenderer = new PayslipPdfRenderer();
     private JTable payrollTable;
     private DefaultTableModel tableModel;
 
@@ -65,9 +44,11 @@ public class SummaryPage extends JPanel {
     private JButton exportToExcelButton;
     private JButton exportPayslipPdfButton;
     private JButton exportAllPayslipsZipButton;
+    private JButton runMonthlyPayrollButton;
 
     private Integer lastQueriedYear = null;
     private Integer lastQueriedMonth = null;
+    private List<Payroll> displayedPayrolls = Collections.emptyList(); // 테이블 행 순서 (합계 행 제외)
     private JLabel employeeCountLabel;
 
     private final String[] columnNames = {
@@ -82,6 +63,7 @@ public class SummaryPage extends JPanel {
 
     public SummaryPage(PayrollManager payrollManager, PayrollApp payrollApp) {
         this.payrollManager = payrollManager;
+        this.asyncRepository = new AsyncPayrollRepository(payrollManager);
         setLayout(new BorderLayout(10, 10));
         setBackground(java.awt.Color.WHITE);
 
@@ -107,6 +89,7 @@ public class SummaryPage extends JPanel {
         exportToExcelButton = new JButton("엑셀로 내보내기");
         exportPayslipPdfButton = new JButton("선택직원 명세서(PDF)");
         exportAllPayslipsZipButton = new JButton("명세서 전체출력(ZIP)");
+        runMonthlyPayrollButton = new JButton("전 직원 급여 일괄 계산");
 
         java.awt.Font baseFontForEnlargement = viewButton.getFont();
         if (baseFontForEnlargement == null) baseFontForEnlargement = new JLabel().getFont();
@@ -125,6 +108,7 @@ public class SummaryPage extends JPanel {
         exportToExcelButton.setFont(enlargedFont);
         exportPayslipPdfButton.setFont(enlargedFont);
         exportAllPayslipsZipButton.setFont(enlargedFont);
+        runMonthlyPayrollButton.setFont(enlargedFont);
 
         selectionPanel.add(yearLabel);
         selectionPanel.add(yearComboBox);
@@ -135,6 +119,7 @@ public class SummaryPage extends JPanel {
         selectionPanel.add(exportToExcelButton);
         selectionPanel.add(exportPayslipPdfButton);
         selectionPanel.add(exportAllPayslipsZipButton);
+        selectionPanel.add(runMonthlyPayrollButton);
         topOuterPanel.add(selectionPanel, BorderLayout.WEST);
 
         employeeCountLabel = new JLabel("전체 0명", SwingConstants.RIGHT);
@@ -185,12 +170,8 @@ public class SummaryPage extends JPanel {
         addListeners();
 
         if (payrollManager != null) {
-            try {
-                int totalRegisteredEmployees = payrollManager.getAllEmployees().size();
-                employeeCountLabel.setText("전체 " + totalRegisteredEmployees + "명");
-            } catch (Exception e) {
-                System.err.println("SummaryPage 초기화 중 직원 수 로드 오류: " + e.getMessage());
-            }
+            asyncRepository.load("employeeCount", pm -> pm.getEmployeeDirectory().size(), this,
+                    totalRegisteredEmployees -> employeeCountLabel.setText("전체 " + totalRegisteredEmployees + "명"));
         }
     }
 
@@ -204,13 +185,93 @@ public class SummaryPage extends JPanel {
         exportToExcelButton.addActionListener(e -> exportTableToExcel());
         exportPayslipPdfButton.addActionListener(e -> exportSinglePayslipAsPdf());
         exportAllPayslipsZipButton.addActionListener(e -> exportPayslipsAsZip());
+        runMonthlyPayrollButton.addActionListener(e -> runMonthlyPayrollForAllEmployees());
+    }
+
+    private void runMonthlyPayrollForAllEmployees() {
+        int year = (Integer) yearComboBox.getSelectedItem();
+        int month = Integer.parseInt((String) monthComboBox.getSelectedItem());
+        YearMonth period = YearMonth.of(year, month);
+
+        String message = String.format("%d년 %02d월 급여를 전 직원에 대해 일괄 계산하여 저장하시겠습니까?\n" +
+                "저장된 근무 기록이 없는 직원은 달력 기본값(평일 정상 근무)으로 계산되며, 기존 해당 월 급여는 덮어씁니다.", year, month);
+        boolean lunarHolidaysMissing = !HolidayCalendarService.hasLunarHolidays(year);
+        if (lunarHolidaysMissing) {
+            message += String.format("\n\n주의: %d년은 음력 공휴일(설날, 부처님 오신 날, 추석) 정보가 없어 양력 공휴일만 반영됩니다.", year);
+        }
+        int confirm = JOptionPane.showConfirmDialog(this, message, "급여 일괄 계산 확인", JOptionPane.YES_NO_OPTION,
+                lunarHolidaysMissing ? JOptionPane.WARNING_MESSAGE : JOptionPane.QUESTION_MESSAGE);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+
+        ProgressMonitor progressMonitor = new ProgressMonitor(this, "급여 일괄 계산 중...", "", 0, 100);
+        progressMonitor.setMillisToDecideToPopup(200);
+        runMonthlyPayrollButton.setEnabled(false);
+        // 취소 버튼은 EDT에서 확인하고, 엔진은 직원 계산이 끝날 때마다 이 값을 확인합니다.
+        AtomicBoolean cancelRequested = new AtomicBoolean();
+
+        SwingWorker<PayrollRunReport, Void> worker = new SwingWorker<PayrollRunReport, Void>() {
+            @Override
+            protected PayrollRunReport doInBackground() throws SQLException {
+                PayrollRunEngine engine = new PayrollRunEngine(payrollManager);
+                return engine.run(period, null,
+                        (completed, total) -> setProgress(total == 0 ? 100 : completed * 100 / total), cancelRequested::get);
+            }
+
+            @Override
+            protected void done() {
+                progressMonitor.close();
+                runMonthlyPayrollButton.setEnabled(true);
+                try {
+                    PayrollRunReport report = get();
+                    if (report.isCancelled()) {
+                        JOptionPane.showMessageDialog(SummaryPage.this, "급여 일괄 계산을 취소했습니다. 저장된 급여는 없습니다.",
+                                "급여 일괄 계산", JOptionPane.INFORMATION_MESSAGE);
+                        return;
+                    }
+                    StringBuilder message = new StringBuilder(report.toString());
+                    List<PayrollRunReport.Failure> failures = report.getFailures();
+                    for (int i = 0; i < Math.min(failures.size(), 20); i++) {
+                        message.append("\n  - ").append(failures.get(i));
+                    }
+                    if (failures.size() > 20) {
+                        message.append("\n  ... 외 ").append(failures.size() - 20).append("명");
+                    }
+                    JOptionPane.showMessageDialog(SummaryPage.this, message.toString(), "급여 일괄 계산 결과",
+                            report.isSuccessful() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+                    lastQueriedYear = year;
+                    lastQueriedMonth = month;
+                    displayPayrollList(year, month);
+                } catch (Exception ex) {
+                    JOptionPane.showMessageDialog(SummaryPage.this, "급여 일괄 계산 중 오류 발생: " + ex.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                    ex.printStackTrace();
+                }
+            }
+        };
+        worker.addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                if (progressMonitor.isCanceled()) {
+                    cancelRequested.set(true);
+                    return;
+                }
+                int progress = (Integer) evt.getNewValue();
+                progressMonitor.setProgress(progress);
+                progressMonitor.setNote(progress + "% 완료");
+            }
+        });
+        worker.execute();
     }
 
     private void displayPayrollList(int year, int month) {
-        tableModel.setRowCount(0);
+        asyncRepository.load("payrollList",
+                pm -> new PeriodPayrollList(pm.getPayrollsForPeriod(year, month), pm.getEmployeeDirectory().size()),
+                this, data -> renderPayrollList(year, month, data.payrolls, data.totalEmployees));
+    }
 
-        List<Payroll> periodPayrolls = payrollManager.getPayrollsForPeriod(year, month);
-        int totalEmployees = payrollManager.getAllEmployees().size();
+    private void renderPayrollList(int year, int month, List<Payroll> periodPayrolls, int totalEmployees) {
+        tableModel.setRowCount(0);
+        displayedPayrolls = Collections.emptyList();
         employeeCountLabel.setText("조회된 인원: " + periodPayrolls.size() + "명 / 전체 " + totalEmployees + "명");
 
         if (periodPayrolls.isEmpty()) {
@@ -219,6 +280,7 @@ public class SummaryPage extends JPanel {
         }
 
         periodPayrolls.sort(Comparator.comparing(p -> p.getEmployee().getName()));
+        displayedPayrolls = periodPayrolls;
 
         BigDecimal[] columnTotals = new BigDecimal[columnNames.length];
         for (int i = 0; i < columnTotals.length; i++) {
@@ -282,19 +344,19 @@ public class SummaryPage extends JPanel {
             return;
         }
         String employeeName = (String) tableModel.getValueAt(modelRow, 1);
-        Optional<Employee> empOpt = payrollManager.getEmployeeByName(employeeName);
-        if (empOpt.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "직원 정보를 찾을 수 없습니다.", "오류", JOptionPane.ERROR_MESSAGE);
-            return;
-        }
+        Payroll selectedPayroll = displayedPayrolls.get(modelRow);
 
         int confirm = JOptionPane.showConfirmDialog(this, "직원 '" + employeeName + "'의 " + lastQueriedYear + "년 " + lastQueriedMonth + "월 급여 정보를 삭제하시겠습니까?", "삭제 확인", JOptionPane.YES_NO_OPTION);
         if (confirm == JOptionPane.YES_OPTION) {
-            if (payrollManager.deletePayrollForPeriod(empOpt.get().getId(), lastQueriedYear, lastQueriedMonth)) {
-                displayPayrollList(lastQueriedYear, lastQueriedMonth);
-            } else {
-                JOptionPane.showMessageDialog(this, "삭제에 실패했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
-            }
+            int year = lastQueriedYear;
+            int month = lastQueriedMonth;
+            asyncRepository.execute(pm -> pm.deletePayrollForPeriod(selectedPayroll.getEmployeeId(), year, month), this, deleted -> {
+                if (deleted) {
+                    displayPayrollList(year, month);
+                } else {
+                    JOptionPane.showMessageDialog(this, "삭제에 실패했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+                }
+            }, deleteButton, runMonthlyPayrollButton);
         }
     }
 
@@ -336,168 +398,36 @@ public class SummaryPage extends JPanel {
                 if (response == JOptionPane.NO_OPTION) return;
             }
 
-            try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-                List<Payroll> payrolls = payrollManager.getPayrollsForPeriod(lastQueriedYear, lastQueriedMonth);
-                payrolls.sort(Comparator.comparing(p -> p.getEmployee().getName()));
-
-                createDetailedPayrollLedgerSheet(workbook, payrolls); // 상세 급여대장 시트 생성
-                createEmployerContributionSheet(workbook, payrolls);  // 사업자 부담분 시트 생성
-
-                try (FileOutputStream fileOut = new FileOutputStream(fileToSave)) {
-                    workbook.write(fileOut);
+            final File targetFile = fileToSave;
+            final int year = lastQueriedYear;
+            final int month = lastQueriedMonth;
+            exportToExcelButton.setEnabled(false);
+            setCursor(java.awt.Cursor.getPredefinedCursor(java.awt.Cursor.WAIT_CURSOR));
+            SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
+                @Override
+                protected Void doInBackground() throws Exception {
+                    List<Payroll> payrolls = payrollManager.getPayrollsForPeriod(year, month);
+                    payrolls.sort(Comparator.comparing(p -> p.getEmployee().getName()));
+                    new PayrollLedgerExcelExporter().export(payrolls, targetFile);
+                    return null;
                 }
-                JOptionPane.showMessageDialog(this, "엑셀 파일이 성공적으로 저장되었습니다:\n" + fileToSave.getAbsolutePath(), "저장 완료", JOptionPane.INFORMATION_MESSAGE);
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "엑셀 파일 생성 중 예기치 않은 오류가 발생했습니다: " + ex.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
-                ex.printStackTrace();
-            }
-        }
-    }
-
-    private void createDetailedPayrollLedgerSheet(XSSFWorkbook workbook, List<Payroll> payrolls) {
-        Sheet sheet = workbook.createSheet("상세급여대장");
-        CellStyle headerStyle = createHeaderStyle(workbook);
-        DataFormat excelDataFormat = workbook.createDataFormat();
-        CellStyle textStyle = createDataStyle(workbook, HorizontalAlignment.CENTER);
-        CellStyle currencyStyle = createNumberStyle(workbook, excelDataFormat, "#,##0");
-
-        String[] headers = {
-                "No.", "성명", "부서", "기본급", "고정연장수당", "추가수당", "상여금", "기타수당", "식대", "차량유지비", "연구개발비", "육아수당", "지급총액",
-                "국민연금", "건강보험", "장기요양", "고용보험", "소득세", "지방소득세", "공제총액", "실지급액"
-        };
-
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        int rowNum = 1;
-        BigDecimal[] totals = new BigDecimal[headers.length];
-        for(int i=0; i<totals.length; i++) totals[i] = BigDecimal.ZERO;
 
-        for (Payroll p : payrolls) {
-            Row row = sheet.createRow(rowNum++);
-            createCell(row, 0, rowNum - 1, textStyle);
-            createCell(row, 1, p.getEmployee().getName(), textStyle);
-            createCell(row, 2, p.getEmployee().getDepartment(), textStyle);
-
-            if(p.getGrossPay().compareTo(BigDecimal.ZERO) == 0) {
-                createCell(row, 12, "무급 휴직", textStyle);
-            } else {
-                createNumericCell(row, 3, p.getMonthlyBasicSalary(), currencyStyle);
-                createNumericCell(row, 4, p.getFixedOvertimeAllowance(), currencyStyle);
-                createNumericCell(row, 5, p.getAdditionalOvertimePremium(), currencyStyle);
-                createNumericCell(row, 6, p.getBonus(), currencyStyle);
-                createNumericCell(row, 7, p.getOtherAllowance(), currencyStyle);
-                createNumericCell(row, 8, p.getMealAllowance(), currencyStyle);
-                createNumericCell(row, 9, p.getVehicleMaintenanceFee(), currencyStyle);
-                createNumericCell(row, 10, p.getResearchDevelopmentExpense(), currencyStyle);
-                createNumericCell(row, 11, p.getChildcareAllowance(), currencyStyle);
-                createNumericCell(row, 12, p.getGrossPay(), currencyStyle);
-                createNumericCell(row, 13, p.getNationalPensionEmployee(), currencyStyle);
-                createNumericCell(row, 14, p.getHealthInsuranceEmployee(), currencyStyle);
-                createNumericCell(row, 15, p.getLongTermCareInsuranceEmployee(), currencyStyle);
-                createNumericCell(row, 16, p.getEmploymentInsuranceEmployee(), currencyStyle);
-                createNumericCell(row, 17, p.getIncomeTax(), currencyStyle);
-                createNumericCell(row, 18, p.getLocalIncomeTax(), currencyStyle);
-                createNumericCell(row, 19, p.getTotalEmployeeDeduction(), currencyStyle);
-                createNumericCell(row, 20, p.getNetPay(), currencyStyle);
-
-                // 합계 계산
-                totals[3] = totals[3].add(p.getMonthlyBasicSalary());
-                totals[4] = totals[4].add(p.getFixedOvertimeAllowance());
-                totals[5] = totals[5].add(p.getAdditionalOvertimePremium());
-                totals[6] = totals[6].add(p.getBonus());
-                totals[7] = totals[7].add(p.getOtherAllowance());
-                totals[8] = totals[8].add(p.getMealAllowance());
-                totals[9] = totals[9].add(p.getVehicleMaintenanceFee());
-                totals[10] = totals[10].add(p.getResearchDevelopmentExpense());
-                totals[11] = totals[11].add(p.getChildcareAllowance());
-                totals[12] = totals[12].add(p.getGrossPay());
-                totals[13] = totals[13].add(p.getNationalPensionEmployee());
-                totals[14] = totals[14].add(p.getHealthInsuranceEmployee());
-                totals[15] = totals[15].add(p.getLongTermCareInsuranceEmployee());
-                totals[16] = totals[16].add(p.getEmploymentInsuranceEmployee());
-                totals[17] = totals[17].add(p.getIncomeTax());
-                totals[18] = totals[18].add(p.getLocalIncomeTax());
-                totals[19] = totals[19].add(p.getTotalEmployeeDeduction());
-                totals[20] = totals[20].add(p.getNetPay());
-            }
-        }
-
-        CellStyle totalStyle = createNumberStyle(workbook, excelDataFormat, "#,##0");
-        totalStyle.setFont(createBoldFont(workbook));
-        totalStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        totalStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-        Row totalRow = sheet.createRow(rowNum);
-        createCell(totalRow, 0, "합계", totalStyle);
-        createCell(totalRow, 1, "", totalStyle);
-        createCell(totalRow, 2, "", totalStyle);
-        for(int i=3; i<totals.length; i++) {
-            createNumericCell(totalRow, i, totals[i], totalStyle);
-        }
-
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
-    }
-
-    private void createEmployerContributionSheet(XSSFWorkbook workbook, List<Payroll> payrolls) {
-        Sheet sheet = workbook.createSheet("사업자 부담분");
-        CellStyle headerStyle = createHeaderStyle(workbook);
-        DataFormat excelDataFormat = workbook.createDataFormat();
-        CellStyle textStyle = createDataStyle(workbook, HorizontalAlignment.CENTER);
-        CellStyle currencyStyle = createNumberStyle(workbook, excelDataFormat, "#,##0");
-
-        String[] headers = {"직원명", "국민연금", "건강보험", "장기요양", "고용보험", "산재보험", "합계"};
-        Row headerRow = sheet.createRow(0);
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        int rowNum = 1;
-        BigDecimal[] totals = new BigDecimal[headers.length];
-        for(int i=0; i<totals.length; i++) totals[i] = BigDecimal.ZERO;
-
-        for (Payroll p : payrolls) {
-            if (p.getGrossPay().compareTo(BigDecimal.ZERO) == 0) continue;
-
-            Row row = sheet.createRow(rowNum++);
-            createCell(row, 0, p.getEmployee().getName(), textStyle);
-            createNumericCell(row, 1, p.getNationalPensionEmployer(), currencyStyle);
-            createNumericCell(row, 2, p.getHealthInsuranceEmployer(), currencyStyle);
-            createNumericCell(row, 3, p.getLongTermCareInsuranceEmployer(), currencyStyle);
-            createNumericCell(row, 4, p.getEmploymentInsuranceEmployer(), currencyStyle);
-            createNumericCell(row, 5, p.getIndustrialAccidentInsuranceEmployer(), currencyStyle);
-
-            BigDecimal employerTotal = p.getTotalEmployerDeduction();
-            createNumericCell(row, 6, employerTotal, currencyStyle);
-
-            totals[1] = totals[1].add(p.getNationalPensionEmployer());
-            totals[2] = totals[2].add(p.getHealthInsuranceEmployer());
-            totals[3] = totals[3].add(p.getLongTermCareInsuranceEmployer());
-            totals[4] = totals[4].add(p.getEmploymentInsuranceEmployer());
-            totals[5] = totals[5].add(p.getIndustrialAccidentInsuranceEmployer());
-            totals[6] = totals[6].add(employerTotal);
-        }
-
-        CellStyle totalStyle = createNumberStyle(workbook, excelDataFormat, "#,##0");
-        totalStyle.setFont(createBoldFont(workbook));
-        totalStyle.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex());
-        totalStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-        Row totalRow = sheet.createRow(rowNum);
-        createCell(totalRow, 0, "총계", totalStyle);
-        for (int i = 1; i < totals.length; i++) {
-            createNumericCell(totalRow, i, totals[i], totalStyle);
+                @Override
+                protected void done() {
+                    exportToExcelButton.setEnabled(true);
+                    setCursor(java.awt.Cursor.getDefaultCursor());
+                    try {
+                        get();
+                        JOptionPane.showMessageDialog(SummaryPage.this, "엑셀 파일이 성공적으로 저장되었습니다:\n" + targetFile.getAbsolutePath(), "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                    } catch (Exception ex) {
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        JOptionPane.showMessageDialog(SummaryPage.this, "엑셀 파일 생성 중 예기치 않은 오류가 발생했습니다: " + cause.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                        cause.printStackTrace();
+                    }
+                }
+            };
+            worker.execute();
         }
-
-        for (int i = 0; i < headers.length; i++) sheet.autoSizeColumn(i);
     }
 
     private void exportSinglePayslipAsPdf() {
@@ -511,14 +441,15 @@ public class SummaryPage extends JPanel {
             return;
         }
         String employeeName = (String) tableModel.getValueAt(selectedRow, 1);
-        Optional<Employee> empOpt = payrollManager.getEmployeeByName(employeeName);
-        if (empOpt.isEmpty()) return;
+        int employeeId = displayedPayrolls.get(selectedRow).getEmployeeId();
+        YearMonth period = YearMonth.of(lastQueriedYear, lastQueriedMonth);
 
-        List<Payroll> payrolls = payrollManager.getPayrollsForPeriod(lastQueriedYear, lastQueriedMonth);
-        Optional<Payroll> payrollOpt = payrolls.stream()
-                .filter(p -> p.getEmployeeId() == empOpt.get().getId())
-                .findFirst();
+        asyncRepository.execute(pm -> pm.getPayrollsForPeriod(period.getYear(), period.getMonthValue()).stream()
+                .filter(p -> p.getEmployeeId() == employeeId)
+                .findFirst(), this, payrollOpt -> saveSinglePayslipAsPdf(payrollOpt, period, employeeName), exportPayslipPdfButton);
+    }
 
+    private void saveSinglePayslipAsPdf(Optional<Payroll> payrollOpt, YearMonth period, String employeeName) {
         if (payrollOpt.isEmpty()) {
             JOptionPane.showMessageDialog(this, "선택한 직원의 해당 월 급여 데이터가 없습니다.", "오류", JOptionPane.ERROR_MESSAGE);
             return;
@@ -526,13 +457,12 @@ public class SummaryPage extends JPanel {
 
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle("급여명세서 PDF로 저장");
-        fileChooser.setSelectedFile(new File(String.format("%d년%02d월_%s_급여명세서.pdf", lastQueriedYear, lastQueriedMonth, employeeName)));
+        fileChooser.setSelectedFile(new File(String.format("%d년%02d월_%s_급여명세서.pdf", period.getYear(), period.getMonthValue(), employeeName)));
         fileChooser.setFileFilter(new FileNameExtensionFilter("PDF 문서 (*.pdf)", "pdf"));
         if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
             File pdfFile = fileChooser.getSelectedFile();
-            try (FileOutputStream fos = new FileOutputStream(pdfFile)) {
-                ByteArrayOutputStream baos = createPayslipPdfInMemory(payrollOpt.get());
-                baos.writeTo(fos);
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(pdfFile))) {
+                payslipRenderer.render(payrollOpt.get(), period, out);
                 JOptionPane.showMessageDialog(this, "급여명세서 PDF 파일이 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
             } catch (IOException e) {
                 JOptionPane.showMessageDialog(this, "PDF 파일 생성 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
@@ -546,202 +476,78 @@ public class SummaryPage extends JPanel {
             JOptionPane.showMessageDialog(this, "먼저 데이터를 조회해주세요.", "알림", JOptionPane.INFORMATION_MESSAGE);
             return;
         }
-        List<Payroll> payrolls = payrollManager.getPayrollsForPeriod(lastQueriedYear, lastQueriedMonth);
-        if (payrolls.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "내보낼 급여명세서가 없습니다.", "알림", JOptionPane.INFORMATION_MESSAGE);
-            return;
-        }
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle("급여명세서 ZIP 파일로 저장");
         fileChooser.setSelectedFile(new File(String.format("%d년%02d월_급여명세서.zip", lastQueriedYear, lastQueriedMonth)));
         fileChooser.setFileFilter(new FileNameExtensionFilter("ZIP 압축 파일 (*.zip)", "zip"));
-        if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
-            File zipFile = fileChooser.getSelectedFile();
-            try (FileOutputStream fos = new FileOutputStream(zipFile);
-                 ZipOutputStream zos = new ZipOutputStream(fos)) {
-                for (Payroll payroll : payrolls) {
-                    if (payroll.getGrossPay().compareTo(BigDecimal.ZERO) == 0) continue;
-                    ByteArrayOutputStream pdfBaos = createPayslipPdfInMemory(payroll);
-                    ZipEntry zipEntry = new ZipEntry(String.format("%s_급여명세서.pdf", payroll.getEmployee().getName()));
-                    zos.putNextEntry(zipEntry);
-                    zos.write(pdfBaos.toByteArray());
-                    zos.closeEntry();
-                }
-                JOptionPane.showMessageDialog(this, "급여명세서 ZIP 파일이 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "파일 생성 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
-                e.printStackTrace();
-            }
+        // PDF는 이미 압축되어 있으므로 다시 압축하지 않는 편이 빠르고 크기 차이도 작습니다.
+        JCheckBox storedCheckBox = new JCheckBox("압축 없이 저장(빠름)", true);
+        fileChooser.setAccessory(storedCheckBox);
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
         }
-    }
-
-    private ByteArrayOutputStream createPayslipPdfInMemory(Payroll payroll) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PdfWriter writer = new PdfWriter(baos);
-        PdfDocument pdfDoc = new PdfDocument(writer);
-        Document document = new Document(pdfDoc, PageSize.A4);
-        document.setMargins(50, 50, 50, 50);
-        String FONT_PATH = "src/main/resources/fonts/NotoSansKR-Regular.ttf";
-        PdfFont koreanFont = PdfFontFactory.createFont(FONT_PATH, PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
-        document.setFont(koreanFont).setFontSize(10);
-        DecimalFormat df = new DecimalFormat("#,###");
-
-        document.add(new Paragraph(String.format("%d년 %02d월 급여명세서", lastQueriedYear, lastQueriedMonth))
-                .setFontSize(20).setBold().setTextAlignment(TextAlignment.CENTER));
-        document.add(new Paragraph("\n"));
 
-        // 사용자 정보 테이블
-        Table infoTable = new Table(UnitValue.createPercentArray(new float[]{1, 2, 1, 2}));
-        infoTable.setWidth(UnitValue.createPercentValue(100));
-        infoTable.addCell(createPdfCell("성명:", true));
-        infoTable.addCell(createPdfCell(payroll.getEmployee().getName(), false));
-        infoTable.addCell(createPdfCell("부서:", true));
-        infoTable.addCell(createPdfCell(payroll.getEmployee().getDepartment(), false));
-        document.add(infoTable);
+        final File zipFile = fileChooser.getSelectedFile();
+        final YearMonth period = YearMonth.of(lastQueriedYear, lastQueriedMonth);
+        final boolean storedEntries = storedCheckBox.isSelected();
+        ProgressMonitor progressMonitor = new ProgressMonitor(this, "급여명세서 생성 중...", "", 0, 100);
+        progressMonitor.setMillisToDecideToPopup(200);
+        exportAllPayslipsZipButton.setEnabled(false);
+        // 취소 버튼은 EDT에서 확인하고, 내보내기는 ZIP 항목을 쓸 때마다 이 값을 확인합니다.
+        AtomicBoolean cancelRequested = new AtomicBoolean();
 
-        // [수정] 입사일, 근무일수, 계산방식 등 추가 정보 테이블
-        Table detailsTable = new Table(UnitValue.createPercentArray(new float[]{1, 5}));
-        detailsTable.setWidth(UnitValue.createPercentValue(100)).setMarginTop(5);
-
-        LocalDate hireDate = payroll.getEmployee().getHireDate();
-        detailsTable.addCell(createPdfCell("입사일:", true));
-        detailsTable.addCell(createPdfCell(hireDate != null ? hireDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) : "-", false));
-
-        YearMonth period = YearMonth.of(lastQueriedYear, lastQueriedMonth);
-        long totalWeekdays = 0;
-        for(int i=1; i<=period.lengthOfMonth(); i++) {
-            DayOfWeek dow = period.atDay(i).getDayOfWeek();
-            if(dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY) {
-                totalWeekdays++;
+        SwingWorker<Integer, Void> worker = new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() throws Exception {
+                List<Payroll> payrolls = payrollManager.getPayrollsForPeriod(period.getYear(), period.getMonthValue());
+                payrolls.sort(Comparator.comparing(p -> p.getEmployee().getName()));
+                try {
+                    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(zipFile), 64 * 1024)) {
+                        return new PayslipZipExporter(storedEntries).export(payrolls, period, out,
+                                (completed, total) -> setProgress(total == 0 ? 100 : completed * 100 / total), cancelRequested::get);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // 취소되거나 실패하면 쓰다 만 ZIP 파일을 남기지 않습니다.
+                    zipFile.delete();
+                    throw e;
+                }
             }
-        }
-        int absenceDays = payroll.getUnauthorizedAbsenceDays() + payroll.getUnpaidDays();
-        detailsTable.addCell(createPdfCell("근무 정보:", true));
-        detailsTable.addCell(createPdfCell(String.format("총 평일 %d일, 실근무 %d일 (결근/무급 %d일)", totalWeekdays, totalWeekdays - absenceDays, absenceDays), false));
-
-        detailsTable.addCell(createPdfCell("급여 산정:", true));
-        detailsTable.addCell(createPdfCell("월 총 근로시간 224시간 기준 (기본 209시간 + 고정연장 15시간)", false));
-        document.add(detailsTable);
-        document.add(new Paragraph("\n"));
-
-        // 지급/공제 테이블
-        Table mainTable = new Table(UnitValue.createPercentArray(new float[]{50, 50}));
-        mainTable.setWidth(UnitValue.createPercentValue(100));
-        mainTable.addHeaderCell(new com.itextpdf.layout.element.Cell().add(new Paragraph("지급 내역")).setBold().setFontSize(12));
-        mainTable.addHeaderCell(new com.itextpdf.layout.element.Cell().add(new Paragraph("공제 내역")).setBold().setFontSize(12));
-
-        Table earningsTable = new Table(UnitValue.createPercentArray(new float[]{50, 50}));
-        addEarningItem(earningsTable, "기본급", payroll.getMonthlyBasicSalary(), df);
-        addEarningItem(earningsTable, "고정연장수당", payroll.getFixedOvertimeAllowance(), df);
-        addEarningItem(earningsTable, "추가수당", payroll.getAdditionalOvertimePremium(), df);
-        addEarningItem(earningsTable, "상여금", payroll.getBonus(), df);
-        addEarningItem(earningsTable, "기타수당", payroll.getOtherAllowance(), df);
-        addEarningItem(earningsTable, "식대", payroll.getMealAllowance(), df);
-        addEarningItem(earningsTable, "차량유지비", payroll.getVehicleMaintenanceFee(), df);
-        addEarningItem(earningsTable, "연구개발비", payroll.getResearchDevelopmentExpense(), df);
-        addEarningItem(earningsTable, "육아수당", payroll.getChildcareAllowance(), df);
-        earningsTable.addCell(createPdfCell("총 지급액", true));
-        earningsTable.addCell(createPdfCell(df.format(payroll.getGrossPay()), true, TextAlignment.RIGHT));
-
-        mainTable.addCell(new com.itextpdf.layout.element.Cell().add(earningsTable).setBorder(null));
-
-        Table deductionsTable = new Table(UnitValue.createPercentArray(new float[]{50, 50}));
-        addEarningItem(deductionsTable, "국민연금", payroll.getNationalPensionEmployee(), df);
-        addEarningItem(deductionsTable, "건강보험", payroll.getHealthInsuranceEmployee(), df);
-        addEarningItem(deductionsTable, "장기요양보험", payroll.getLongTermCareInsuranceEmployee(), df);
-        addEarningItem(deductionsTable, "고용보험", payroll.getEmploymentInsuranceEmployee(), df);
-        addEarningItem(deductionsTable, "소득세", payroll.getIncomeTax(), df);
-        addEarningItem(deductionsTable, "지방소득세", payroll.getLocalIncomeTax(), df);
-        deductionsTable.addCell(createPdfCell("공제 총액", true));
-        deductionsTable.addCell(createPdfCell(df.format(payroll.getTotalEmployeeDeduction()), true, TextAlignment.RIGHT));
-
-        mainTable.addCell(new com.itextpdf.layout.element.Cell().add(deductionsTable).setBorder(null));
-
-        document.add(mainTable);
-        document.add(new Paragraph("\n"));
-        document.add(new Paragraph("실 지급액: " + df.format(payroll.getNetPay()) + " 원")
-                .setFontSize(14).setBold().setTextAlignment(TextAlignment.RIGHT));
-        document.close();
-
-        return baos;
-    }
-
-    private void addEarningItem(Table table, String title, BigDecimal value, DecimalFormat df) {
-        if (value != null && value.compareTo(BigDecimal.ZERO) != 0) {
-            table.addCell(createPdfCell(title, false));
-            table.addCell(createPdfCell(df.format(value), false, TextAlignment.RIGHT));
-        }
-    }
 
-    private com.itextpdf.layout.element.Cell createPdfCell(String content, boolean isBold, TextAlignment alignment) {
-        com.itextpdf.layout.element.Cell cell = new com.itextpdf.layout.element.Cell().add(new Paragraph(content));
-        if (isBold) cell.setBold();
-        cell.setTextAlignment(alignment);
-        cell.setBorder(null);
-        cell.setPadding(2);
-        return cell;
-    }
-
-    private com.itextpdf.layout.element.Cell createPdfCell(String content, boolean isBold) {
-        return createPdfCell(content, isBold, TextAlignment.LEFT);
-    }
-
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setFont(createBoldFont(workbook));
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setAlignment(HorizontalAlignment.CENTER);
-        setBorders(style, BorderStyle.THIN);
-        return style;
-    }
-
-    private CellStyle createDataStyle(XSSFWorkbook workbook, HorizontalAlignment alignment) {
-        CellStyle style = workbook.createCellStyle();
-        setBorders(style, BorderStyle.DOTTED);
-        style.setAlignment(alignment);
-        return style;
-    }
-
-    private CellStyle createNumberStyle(XSSFWorkbook workbook, DataFormat format, String formatString) {
-        CellStyle style = createDataStyle(workbook, HorizontalAlignment.RIGHT);
-        style.setDataFormat(format.getFormat(formatString));
-        return style;
-    }
-
-    private org.apache.poi.ss.usermodel.Font createBoldFont(XSSFWorkbook workbook) {
-        org.apache.poi.ss.usermodel.Font font = workbook.createFont();
-        font.setBold(true);
-        return font;
-    }
-
-    private void setBorders(CellStyle style, BorderStyle borderStyle) {
-        style.setBorderTop(borderStyle);
-        style.setBorderBottom(borderStyle);
-        style.setBorderLeft(borderStyle);
-        style.setBorderRight(borderStyle);
-    }
-
-    private void createCell(Row row, int colNum, String value, CellStyle style) {
-        Cell cell = row.createCell(colNum);
-        cell.setCellValue(value);
-        cell.setCellStyle(style);
-    }
-
-    private void createCell(Row row, int colNum, int value, CellStyle style) {
-        Cell cell = row.createCell(colNum);
-        cell.setCellValue(value);
-        cell.setCellStyle(style);
-    }
-
-    private void createNumericCell(Row row, int colNum, BigDecimal value, CellStyle style) {
-        Cell cell = row.createCell(colNum);
-        if (value != null) {
-            cell.setCellValue(value.doubleValue());
-        } else {
-            cell.setCellValue(0);
-        }
-        cell.setCellStyle(style);
+            @Override
+            protected void done() {
+                progressMonitor.close();
+                exportAllPayslipsZipButton.setEnabled(true);
+                try {
+                    int count = get();
+                    if (count == 0) {
+                        zipFile.delete();
+                        JOptionPane.showMessageDialog(SummaryPage.this, "내보낼 급여명세서가 없습니다.", "알림", JOptionPane.INFORMATION_MESSAGE);
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(SummaryPage.this, "급여명세서 " + count + "건이 ZIP 파일로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof CancellationException) {
+                        JOptionPane.showMessageDialog(SummaryPage.this, "급여명세서 ZIP 내보내기를 취소했습니다.", "알림", JOptionPane.INFORMATION_MESSAGE);
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(SummaryPage.this, "파일 생성 중 오류 발생: " + cause.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                    cause.printStackTrace();
+                }
+            }
+        };
+        worker.addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                if (progressMonitor.isCanceled()) {
+                    cancelRequested.set(true);
+                    return;
+                }
+                int progress = (Integer) evt.getNewValue();
+                progressMonitor.setProgress(progress);
+                progressMonitor.setNote(progress + "% 완료");
+            }
+        });
+        worker.execute();
     }
 
     class SummaryPageTableCellRenderer extends DefaultTableCellRenderer {
@@ -767,4 +573,17 @@ public class SummaryPage extends JPanel {
             return c;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 급여 목록 조회 결과 (I/O 스레드에서 EDT로 전달)
+     */
+    private static class PeriodPayrollList {
+        final List<Payroll> payrolls;
+        final int totalEmployees;
+
+        PeriodPayrollList(List<Payroll> payrolls, int totalEmployees) {
+            this.payrolls = payrolls;
+            this.totalEmployees = totalEmployees;
+        }
+    }
+}
@@ -0,0 +1,549 @@
+package main;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 부하·규모 테스트용 가상 데이터를 H2 DB에 채우는 도구입니다.
+ * 직원, 계약 급여, 여러 해의 월 확정 급여, 근무 기록, 연차 발생·사용 기록을 만듭니다.
+ *
+ * <p>모든 값은 시드 하나로 정해지므로 같은 옵션으로 다시 실행하면 같은 데이터가 만들어집니다.
+ * 연봉은 근속 연수에 따라 오르는 로그정규 분포, 근속은 최근 입사가 많은 지수 분포를 따르고,
+ * 월 급여의 공제액은 DeductionCalculator로 계산해 PayrollManager.finalizeMonth로 저장합니다.
+ * 나머지 테이블은 JDBC 배치 INSERT로 씁니다. 근무 기록은 (직원 수 × 일수)만큼 커지므로
+ * 마지막 몇 달만 만듭니다. 직원이 이미 있는 DB에는 쓰지 않습니다.
+ * 벤치마크 모듈의 BenchmarkDatabase도 이 생성기로 DB를 채웁니다.
+ *
+ * <p>실행: java main.SyntheticDataGenerator [--db=DB 파일 경로] [--employees=1000] [--months=36]
+ * [--work-months=3] [--last-month=yyyy-MM] [--seed=42] [--batch=1000]
+ * (기본 DB 경로 ./synthetic-data/payroll_hr_db, 기본 마지막 달은 지난달)
+ */
+class SyntheticDataGenerator {
+
+    static final int MAX_EMPLOYEES = 999_999; // 주민등록번호 뒷자리에 일련번호를 넣으므로
+    private static final int WORK_RECORD_CHUNK = 2_000; // 근무 기록을 한 번에 만들어 저장할 직원 수
+    private static final BigDecimal INDUSTRIAL_ACCIDENT_RATE = new BigDecimal("0.007");
+    private static final BigDecimal MEAL_ALLOWANCE = new BigDecimal("200000");
+    private static final BigDecimal VEHICLE_MAINTENANCE_FEE = new BigDecimal("200000");
+    private static final BigDecimal RESEARCH_DEVELOPMENT_EXPENSE = new BigDecimal("200000");
+    private static final BigDecimal CHILDCARE_ALLOWANCE = new BigDecimal("100000");
+    private static final double ANNUAL_RAISE = 0.04;
+
+    // 성씨와 비율 (대략적인 인구 비율, 합계 100)
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"};
+    private static final int[] SURNAME_WEIGHTS = {22, 15, 9, 5, 5, 3, 3, 3, 3, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 12};
+    private static final String[] GIVEN_NAME_SYLLABLES = {"민", "서", "지", "현", "준", "우", "영", "수", "은", "하", "도", "윤", "진", "재", "성", "예", "유", "태", "연", "호", "아", "희", "경", "주"};
+    private static final String[] DEPARTMENTS = {"경영지원팀", "인사팀", "재무팀", "영업팀", "마케팅팀", "개발팀", "생산팀", "품질팀"};
+    private static final int[] DEPARTMENT_WEIGHTS = {5, 3, 4, 18, 8, 20, 32, 10};
+    private static final String[] CITIES = {"서울특별시 강남구", "서울특별시 마포구", "경기도 성남시 분당구", "경기도 평택시", "인천광역시 연수구", "부산광역시 해운대구", "대전광역시 유성구"};
+    private static final String[] STREETS = {"테헤란로", "월드컵북로", "판교역로", "중앙로", "컨벤시아대로", "센텀중앙로", "대학로"};
+
+    static final class Options {
+        Path database = Paths.get("synthetic-data", "payroll_hr_db");
+        int employees = 1000;
+        int months = 36;
+        int workMonths = 3;
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        long seed = 42;
+        int batchSize = 1000;
+    }
+
+    // 생성 중인 직원 한 명. DB에 넣은 뒤 id가 채워집니다.
+    private static final class SyntheticEmployee {
+        int id;
+        String name;
+        String residentRegistrationNumber;
+        String phoneNumber;
+        BigDecimal annualSalary;
+        String address;
+        LocalDate hireDate;
+        LocalDate salaryChangeDate;
+        String department;
+        String workLocation;
+        int dependents;
+        boolean nightShift;
+        Payroll contract;
+        long[] leaveDays = new long[0]; // 근무 기록 기간의 연차 사용일 (epoch day, 오름차순)
+    }
+
+    private final PayrollManager payrollManager;
+    private final Options options;
+    private final Random random;
+    private final Map<Integer, Set<LocalDate>> holidaysByYear = new HashMap<>();
+    private final List<SyntheticEmployee> employees = new ArrayList<>();
+
+    SyntheticDataGenerator(PayrollManager payrollManager, Options options) {
+        this.payrollManager = payrollManager;
+        this.options = options;
+        this.random = new Random(options.seed);
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = parseOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: java main.SyntheticDataGenerator [--db=경로] [--employees=N] [--months=N] [--work-months=N] [--last-month=yyyy-MM] [--seed=N] [--batch=N]");
+            System.exit(2);
+            return;
+        }
+
+        PayrollManager payrollManager;
+        try {
+            payrollManager = new PayrollManager("jdbc:h2:file:" + options.database.toAbsolutePath(), "sa", "");
+        } catch (SQLException e) {
+            e.printStackTrace();
+            System.exit(1);
+            return;
+        }
+        boolean generated;
+        try {
+            generated = new SyntheticDataGenerator(payrollManager, options).generate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            generated = false;
+        } finally {
+            payrollManager.shutdown();
+        }
+        System.exit(generated ? 0 : 1);
+    }
+
+    static Options parseOptions(String[] args) {
+        Options options = new Options();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("알 수 없는 인수: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            try {
+                switch (name) {
+                    case "db": options.database = Paths.get(value); break;
+                    case "employees": options.employees = Integer.parseInt(value); break;
+                    case "months": options.months = Integer.parseInt(value); break;
+                    case "work-months": options.workMonths = Integer.parseInt(value); break;
+                    case "last-month": options.lastMonth = YearMonth.parse(value); break;
+                    case "seed": options.seed = Long.parseLong(value); break;
+                    case "batch": options.batchSize = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("알 수 없는 옵션: --" + name);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("--" + name + " 값이 잘못되었습니다: " + value);
+            }
+        }
+        if (options.employees < 1 || options.employees > MAX_EMPLOYEES) {
+            throw new IllegalArgumentException("--employees는 1 이상 " + MAX_EMPLOYEES + " 이하여야 합니다.");
+        }
+        if (options.months < 0 || options.workMonths < 0 || options.batchSize < 1) {
+            throw new IllegalArgumentException("--months, --work-months는 0 이상, --batch는 1 이상이어야 합니다.");
+        }
+        return options;
+    }
+
+    /**
+     * 모든 테이블을 채웁니다.
+     * @return 대상 DB에 직원이 이미 있어 아무것도 하지 않았으면 false
+     * @throws SQLException 저장에 실패한 경우 (이미 끝난 단계는 커밋되어 있습니다)
+     */
+    boolean generate() throws SQLException {
+        if (!payrollManager.getAllEmployeeIds().isEmpty()) {
+            System.err.println("대상 DB에 이미 직원이 있습니다. 빈 DB 경로를 지정하세요: " + options.database.toAbsolutePath());
+            return false;
+        }
+        System.out.printf("가상 데이터 생성: 직원 %,d명, 급여 %d개월, 근무 기록 %d개월 (마지막 달 %s, 시드 %d)%n",
+                options.employees, options.months, options.workMonths, options.lastMonth, options.seed);
+        long totalStart = System.nanoTime();
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= options.employees; i++) {
+            employees.add(newEmployee(i));
+        }
+        insertEmployees();
+        System.out.printf("  직원·계약 급여 %,d명 저장 %,dms%n", employees.size(), elapsedMillis(start));
+
+        start = System.nanoTime();
+        long payrollRows = insertMonthlyPayrolls();
+        System.out.printf("  월 확정 급여 %,d건 저장 %,dms%n", payrollRows, elapsedMillis(start));
+
+        start = System.nanoTime();
+        long[] leaveRows = insertAnnualLeaves();
+        System.out.printf("  연차 발생 %,d건, 연차 사용 %,d건 저장 %,dms%n", leaveRows[0], leaveRows[1], elapsedMillis(start));
+
+        start = System.nanoTime();
+        long workRows = insertWorkRecords();
+        System.out.printf("  근무 기록 %,d건 저장 %,dms%n", workRows, elapsedMillis(start));
+
+        System.out.printf("완료: %s (%,dms)%n", options.database.toAbsolutePath(), elapsedMillis(totalStart));
+        return true;
+    }
+
+    private SyntheticEmployee newEmployee(int serial) {
+        SyntheticEmployee employee = new SyntheticEmployee();
+        LocalDate reference = options.lastMonth.atEndOfMonth();
+
+        employee.name = SURNAMES[weightedIndex(SURNAME_WEIGHTS)]
+                + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)]
+                + GIVEN_NAME_SYLLABLES[random.nextInt(GIVEN_NAME_SYLLABLES.length)];
+
+        // 나이 23~60세, 20~30대가 많습니다.
+        int age = Math.min(60, 23 + (int) Math.abs(random.nextGaussian() * 12));
+        LocalDate birthDate = reference.minusYears(age).minusDays(random.nextInt(365));
+        boolean male = random.nextBoolean();
+        int genderDigit = (birthDate.getYear() >= 2000 ? 3 : 1) + (male ? 0 : 1);
+        employee.residentRegistrationNumber = String.format("%02d%02d%02d-%d%06d", birthDate.getYear() % 100,
+                birthDate.getMonthValue(), birthDate.getDayOfMonth(), genderDigit, serial);
+        employee.phoneNumber = String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+        int city = random.nextInt(CITIES.length);
+        employee.address = CITIES[city] + " " + STREETS[city] + " " + (1 + random.nextInt(300));
+
+        // 근속 개월: 평균 5년의 지수 분포, 만 22세 이전 입사는 없습니다.
+        int maxTenureMonths = (age - 22) * 12;
+        int tenureMonths = (int) Math.min(maxTenureMonths, -Math.log(1 - random.nextDouble()) * 60);
+        YearMonth hireMonth = options.lastMonth.minusMonths(tenureMonths);
+        employee.hireDate = hireMonth.atDay(1 + random.nextInt(hireMonth.lengthOfMonth()));
+
+        employee.department = DEPARTMENTS[weightedIndex(DEPARTMENT_WEIGHTS)];
+        if ("생산팀".equals(employee.department) || "품질팀".equals(employee.department)) {
+            employee.workLocation = "평택 공장";
+            employee.nightShift = random.nextInt(100) < 30;
+        } else if ("개발팀".equals(employee.department)) {
+            employee.workLocation = random.nextInt(100) < 70 ? "판교 연구소" : "본사";
+        } else {
+            employee.workLocation = random.nextInt(100) < 85 ? "본사" : "부산 지사";
+        }
+
+        // 연봉: 중앙값 3,600만원에서 근속 1년마다 4%씩 오르는 로그정규 분포, 10만원 단위
+        double years = tenureMonths / 12.0;
+        double salary = 36_000_000 * Math.pow(1 + ANNUAL_RAISE, years) * Math.exp(random.nextGaussian() * 0.2);
+        salary = Math.max(26_000_000, Math.min(150_000_000, salary));
+        employee.annualSalary = BigDecimal.valueOf(Math.round(salary / 100_000) * 100_000);
+        LocalDate lastRaise = LocalDate.of(reference.getYear(), 3, 1);
+        if (lastRaise.isAfter(reference)) lastRaise = lastRaise.minusYears(1);
+        employee.salaryChangeDate = employee.hireDate.isBefore(lastRaise.minusYears(1)) ? lastRaise : null;
+
+        employee.dependents = 1 + weightedIndex(new int[]{40, 25, 20, 15});
+        employee.contract = contractFor(employee);
+        return employee;
+    }
+
+    // 월 급여 = 연봉 / 12 를 기본급과 고정 수당으로 나눕니다.
+    private Payroll contractFor(SyntheticEmployee employee) {
+        BigDecimal monthly = employee.annualSalary.divide(BigDecimal.valueOf(12), -1, RoundingMode.DOWN);
+        BigDecimal fixedOvertime = monthly.multiply(new BigDecimal("0.1")).setScale(-4, RoundingMode.DOWN);
+        BigDecimal vehicle = random.nextInt(100) < 30 ? VEHICLE_MAINTENANCE_FEE : BigDecimal.ZERO;
+        BigDecimal research = "개발팀".equals(employee.department) ? RESEARCH_DEVELOPMENT_EXPENSE : BigDecimal.ZERO;
+        BigDecimal childcare = employee.dependents >= 3 ? CHILDCARE_ALLOWANCE : BigDecimal.ZERO;
+        BigDecimal basic = monthly.subtract(fixedOvertime).subtract(MEAL_ALLOWANCE).subtract(vehicle).subtract(research).subtract(childcare);
+        return new Payroll(null, basic.setScale(0), BigDecimal.ZERO, fixedOvertime.setScale(0), BigDecimal.ZERO,
+                MEAL_ALLOWANCE, vehicle, research, childcare);
+    }
+
+    private void insertEmployees() throws SQLException {
+        try (Connection conn = payrollManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO employees (name, resident_registration_number, phone_number, annual_salary, address, hire_date, salary_change_date, department, work_location, site_location, dependents) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                int pending = 0;
+                for (SyntheticEmployee employee : employees) {
+                    stmt.setString(1, employee.name);
+                    stmt.setString(2, employee.residentRegistrationNumber);
+                    stmt.setString(3, employee.phoneNumber);
+                    stmt.setBigDecimal(4, employee.annualSalary);
+                    stmt.setString(5, employee.address);
+                    stmt.setDate(6, Date.valueOf(employee.hireDate));
+                    stmt.setDate(7, employee.salaryChangeDate != null ? Date.valueOf(employee.salaryChangeDate) : null);
+                    stmt.setString(8, employee.department);
+                    stmt.setString(9, employee.workLocation);
+                    stmt.setString(10, employee.workLocation);
+                    stmt.setInt(11, employee.dependents);
+                    stmt.addBatch();
+                    if (++pending == options.batchSize) {
+                        stmt.executeBatch();
+                        pending = 0;
+                    }
+                }
+                stmt.executeBatch();
+            }
+            // 빈 테이블에 넣었으므로 ID 순서가 곧 넣은 순서입니다.
+            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("SELECT id FROM employees ORDER BY id")) {
+                int index = 0;
+                while (rs.next()) {
+                    SyntheticEmployee employee = employees.get(index++);
+                    employee.id = rs.getInt(1);
+                    employee.contract.setEmployeeId(employee.id);
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO payrolls (employee_id, monthly_basic_salary, fixed_overtime_allowance, bonus, other_allowance, meal_allowance, vehicle_maintenance_fee, research_development_expense, childcare_allowance) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                int pending = 0;
+                for (SyntheticEmployee employee : employees) {
+                    Payroll contract = employee.contract;
+                    stmt.setInt(1, employee.id);
+                    stmt.setBigDecimal(2, contract.getMonthlyBasicSalary());
+                    stmt.setBigDecimal(3, contract.getFixedOvertimeAllowance());
+                    stmt.setBigDecimal(4, contract.getBonus());
+                    stmt.setBigDecimal(5, contract.getOtherAllowance());
+                    stmt.setBigDecimal(6, contract.getMealAllowance());
+                    stmt.setBigDecimal(7, contract.getVehicleMaintenanceFee());
+                    stmt.setBigDecimal(8, contract.getResearchDevelopmentExpense());
+                    stmt.setBigDecimal(9, contract.getChildcareAllowance());
+                    stmt.addBatch();
+                    if (++pending == options.batchSize) {
+                        stmt.executeBatch();
+                        pending = 0;
+                    }
+                }
+                stmt.executeBatch();
+            }
+            conn.commit();
+        }
+    }
+
+    /**
+     * 지난 months개월의 월 급여를 한 달씩 마감합니다. 과거 달의 기본급은 연 4% 인상을 거꾸로 적용해 낮추고,
+     * 입사한 달은 입사 전 평일을 무급으로, 설·추석이 든 2월과 9월에는 기본급의 50%를 상여로 넣습니다.
+     */
+    private long insertMonthlyPayrolls() throws SQLException {
+        long rows = 0;
+        InsuranceRateSchedule rateSchedule = payrollManager.getInsuranceRateSchedule();
+        for (int back = options.months - 1; back >= 0; back--) {
+            YearMonth period = options.lastMonth.minusMonths(back);
+            List<Payroll> payrolls = new ArrayList<>();
+            for (SyntheticEmployee employee : employees) {
+                if (employee.hireDate.isAfter(period.atEndOfMonth())) continue;
+                Payroll payroll = monthlyPayroll(employee, period, back);
+                payroll.applyDeductions(DeductionCalculator.calculate(payroll.getGrossPay(), INDUSTRIAL_ACCIDENT_RATE,
+                        employee.dependents, period, rateSchedule));
+                payrolls.add(payroll);
+            }
+            if (payrolls.isEmpty()) continue;
+            MonthCloseReport report = payrollManager.finalizeMonth(period, payrolls);
+            if (!report.isCommitted()) {
+                throw new SQLException(period + " 급여 저장 실패: " + report.getErrorMessage());
+            }
+            rows += payrolls.size();
+        }
+        return rows;
+    }
+
+    private Payroll monthlyPayroll(SyntheticEmployee employee, YearMonth period, int monthsBack) {
+        Payroll contract = employee.contract;
+        double salaryFactor = Math.pow(1 + ANNUAL_RAISE, -(monthsBack / 12));
+        BigDecimal basic = scale(contract.getMonthlyBasicSalary(), salaryFactor);
+
+        int unpaidDays = 0;
+        if (YearMonth.from(employee.hireDate).equals(period)) {
+            for (LocalDate date = period.atDay(1); date.isBefore(employee.hireDate); date = date.plusDays(1)) {
+                if (isWorkday(date)) unpaidDays++;
+            }
+        }
+        int absenceDays = random.nextInt(100) < 2 ? 1 + random.nextInt(2) : 0;
+        int deductedDays = unpaidDays + absenceDays;
+        if (deductedDays > 0) {
+            double paidRatio = Math.max(0, 1 - deductedDays / (double) workdaysIn(period));
+            basic = scale(basic, paidRatio);
+        }
+
+        Payroll payroll = new Payroll(null, basic, BigDecimal.ZERO, scale(contract.getFixedOvertimeAllowance(), salaryFactor),
+                contract.getOtherAllowance(), contract.getMealAllowance(), contract.getVehicleMaintenanceFee(),
+                contract.getResearchDevelopmentExpense(), contract.getChildcareAllowance());
+        payroll.setEmployeeId(employee.id);
+        payroll.setPaymentYear(period.getYear());
+        payroll.setPaymentMonth(period.getMonthValue());
+        payroll.setUnpaidDays(unpaidDays);
+        payroll.setUnauthorizedAbsenceDays(absenceDays);
+        if (period.getMonthValue() == 2 || period.getMonthValue() == 9) {
+            payroll.setBonus(scale(basic, 0.5));
+        }
+        // 약 3분의 1은 고정 연장근로를 넘는 연장·야간 수당이 있습니다.
+        if (employee.nightShift || random.nextInt(100) < 30) {
+            payroll.setAdditionalOvertimePremium(BigDecimal.valueOf((5 + random.nextInt(36)) * 10_000L));
+        }
+        return payroll;
+    }
+
+    /**
+     * 급여 기간에 걸친 연도마다 연차를 발생시키고(회계연도 기준), 발생분의 30~95%를 평일에 나누어 씁니다.
+     * 마지막 달이 속한 연도는 지난 기간만큼만 씁니다.
+     * @return {연차 발생 건수, 연차 사용 건수}
+     */
+    private long[] insertAnnualLeaves() throws SQLException {
+        long grantRows = 0;
+        long usageRows = 0;
+        LocalDate periodEnd = options.lastMonth.atEndOfMonth();
+        int firstYear = options.lastMonth.minusMonths(Math.max(options.months, 1) - 1L).getYear();
+        long workRecordsFrom = options.lastMonth.minusMonths(Math.max(options.workMonths, 1) - 1L).atDay(1).toEpochDay();
+
+        try (Connection conn = payrollManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement grant = conn.prepareStatement(
+                    "INSERT INTO annual_leaves (employee_id, leave_year, total_generated_days, adjustment_days) VALUES (?, ?, ?, 0)");
+                 PreparedStatement usage = conn.prepareStatement(
+                         "INSERT INTO leave_usage_records (employee_id, leave_date, leave_type, deduct_days) VALUES (?, ?, '연차', 1.0)")) {
+                int pendingGrants = 0;
+                int pendingUsages = 0;
+                for (SyntheticEmployee employee : employees) {
+                    TreeSet<Long> recentLeaveDays = new TreeSet<>();
+                    for (int year = Math.max(firstYear, employee.hireDate.getYear()); year <= periodEnd.getYear(); year++) {
+                        BigDecimal generated = PayrollManager.annualLeaveDays(employee.hireDate, year, false);
+                        grant.setInt(1, employee.id);
+                        grant.setInt(2, year);
+                        grant.setBigDecimal(3, generated);
+                        grant.addBatch();
+                        grantRows++;
+                        if (++pendingGrants == options.batchSize) {
+                            grant.executeBatch();
+                            pendingGrants = 0;
+                        }
+
+                        LocalDate from = employee.hireDate.getYear() == year ? employee.hireDate : LocalDate.of(year, 1, 1);
+                        LocalDate to = year == periodEnd.getYear() ? periodEnd : LocalDate.of(year, 12, 31);
+                        double elapsedShare = (ChronoUnit.DAYS.between(LocalDate.of(year, 1, 1), to) + 1) / 365.0;
+                        int used = (int) (generated.doubleValue() * (0.3 + random.nextDouble() * 0.65) * Math.min(1, elapsedShare));
+                        for (long day : pickWorkdays(from, to, used)) {
+                            usage.setInt(1, employee.id);
+                            usage.setDate(2, Date.valueOf(LocalDate.ofEpochDay(day)));
+                            usage.addBatch();
+                            usageRows++;
+                            if (++pendingUsages == options.batchSize) {
+                                usage.executeBatch();
+                                pendingUsages = 0;
+                            }
+                            if (day >= workRecordsFrom) recentLeaveDays.add(day);
+                        }
+                    }
+                    employee.leaveDays = recentLeaveDays.stream().mapToLong(Long::longValue).toArray();
+                }
+                grant.executeBatch();
+                usage.executeBatch();
+            }
+            conn.commit();
+        }
+        return new long[]{grantRows, usageRows};
+    }
+
+    // from~to 사이의 서로 다른 평일을 최대 count일 고릅니다 (오름차순).
+    private long[] pickWorkdays(LocalDate from, LocalDate to, int count) {
+        long span = ChronoUnit.DAYS.between(from, to) + 1;
+        if (count <= 0 || span <= 0) return new long[0];
+        TreeSet<Long> days = new TreeSet<>();
+        for (int attempt = 0; days.size() < count && attempt < count * 4; attempt++) {
+            LocalDate date = from.plusDays((long) (random.nextDouble() * span));
+            if (isWorkday(date)) days.add(date.toEpochDay());
+        }
+        return days.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 마지막 workMonths개월의 일별 근무 기록을 만듭니다. 평일은 출근(09시 전후 출근, 18시 이후 퇴근과 연장근로),
+     * 연차 사용일은 유급휴일, 약 1.5%는 결근이고, 토요일 근무가 가끔 있습니다. 야간조는 22시~다음 날 07시입니다.
+     * 기록이 없는 휴일은 급여 계산에서 무급휴일로 채워집니다.
+     */
+    private long insertWorkRecords() throws SQLException {
+        WorkRecordRepository repository = new WorkRecordRepository(payrollManager);
+        long rows = 0;
+        for (int back = options.workMonths - 1; back >= 0; back--) {
+            YearMonth period = options.lastMonth.minusMonths(back);
+            for (int from = 0; from < employees.size(); from += WORK_RECORD_CHUNK) {
+                List<WorkLogEntry> entries = new ArrayList<>();
+                for (SyntheticEmployee employee : employees.subList(from, Math.min(from + WORK_RECORD_CHUNK, employees.size()))) {
+                    addMonthEntries(employee, period, entries);
+                }
+                if (entries.isEmpty()) continue;
+                if (!repository.upsertAll(entries, options.batchSize)) {
+                    throw new SQLException(period + " 근무 기록 저장 실패");
+                }
+                rows += entries.size();
+            }
+        }
+        return rows;
+    }
+
+    private void addMonthEntries(SyntheticEmployee employee, YearMonth period, List<WorkLogEntry> entries) {
+        LocalDate first = employee.hireDate.isAfter(period.atDay(1)) ? employee.hireDate : period.atDay(1);
+        for (LocalDate date = first; !date.isAfter(period.atEndOfMonth()); date = date.plusDays(1)) {
+            if (!isWorkday(date)) {
+                if (date.getDayOfWeek() == DayOfWeek.SATURDAY && random.nextInt(100) < 3) {
+                    entries.add(new WorkLogEntry(employee.id, date, LocalTime.of(9, 0), LocalTime.of(14, 0), AttendancePage.WorkStatus.NORMAL));
+                }
+                continue;
+            }
+            if (Arrays.binarySearch(employee.leaveDays, date.toEpochDay()) >= 0) {
+                entries.add(new WorkLogEntry(employee.id, date, null, null, AttendancePage.WorkStatus.PAID_HOLIDAY));
+            } else if (random.nextInt(1000) < 15) {
+                entries.add(new WorkLogEntry(employee.id, date, null, null, AttendancePage.WorkStatus.ABSENCE));
+            } else if (employee.nightShift) {
+                entries.add(new WorkLogEntry(employee.id, date, LocalTime.of(22, 0), LocalTime.of(7, 0), AttendancePage.WorkStatus.NORMAL));
+            } else {
+                int startMinute = clamp(9 * 60 + (int) Math.round(random.nextGaussian() * 12), 8 * 60, 10 * 60 + 30);
+                int overtime = random.nextInt(100);
+                int extraMinutes = overtime < 70 ? random.nextInt(16) : overtime < 95 ? 60 + random.nextInt(121) : 180 + random.nextInt(121);
+                int endMinute = Math.min(startMinute + 9 * 60 + extraMinutes, 23 * 60 + 59);
+                entries.add(new WorkLogEntry(employee.id, date, LocalTime.of(startMinute / 60, startMinute % 60),
+                        LocalTime.of(endMinute / 60, endMinute % 60), AttendancePage.WorkStatus.NORMAL));
+            }
+        }
+    }
+
+    private boolean isWorkday(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY
+                && !holidaysByYear.computeIfAbsent(date.getYear(), HolidayCalendarService::holidaysOf).contains(date);
+    }
+
+    private int workdaysIn(YearMonth period) {
+        int count = 0;
+        for (int day = 1; day <= period.lengthOfMonth(); day++) {
+            if (isWorkday(period.atDay(day))) count++;
+        }
+        return Math.max(count, 1);
+    }
+
+    private int weightedIndex(int[] weights) {
+        int total = 0;
+        for (int weight : weights) total += weight;
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    // 10원 단위로 내림합니다.
+    private static BigDecimal scale(BigDecimal amount, double factor) {
+        return amount.multiply(BigDecimal.valueOf(factor)).setScale(-1, RoundingMode.DOWN).setScale(0);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -7,21 +7,60 @@ import java.awt.datatransfer.StringSelection;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
 import javax.swing.JComponent;
 import javax.swing.JOptionPane;
 import javax.swing.JTable;
 import javax.swing.KeyStroke;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
 
 /**
  * JTable에 Excel과 유사한 복사, 붙여넣기, 잘라내기 기능을 제공하는 어댑터 클래스입니다.
  * JTable의 ActionMap과 InputMap에 단축키(Ctrl+C, V, X)를 등록하여 사용합니다.
+ *
+ * <p>붙여넣기는 클립보드의 TSV를 한 번만 파싱하고 열 타입(getColumnClass)에 맞게 변환한 뒤,
+ * DefaultTableModel의 데이터에 한꺼번에 반영하고 변경 이벤트를 모아서 한 번만 보냅니다
+ * (행 정렬로 모델 행이 떨어져 있으면 연속 구간마다 한 번).
  */
 public class TableClipboardAdapter implements ActionListener {
+    private static final Object INVALID = new Object();
+
+    /**
+     * 붙여넣기로 마지막 행 뒤에 추가할 행의 기본값을 만듭니다.
+     */
+    public interface RowFactory {
+        /**
+         * @param model 지금까지 붙여넣은 행이 반영된 모델
+         * @return 모델 열 순서의 기본값 배열, 더 추가할 수 없으면 null
+         */
+        Object[] newRow(DefaultTableModel model);
+    }
+
+    // 한 번의 붙여넣기/잘라내기 결과
+    private static final class ApplyResult {
+        int rejectedCells;
+        int droppedRows;
+    }
+
     private final JTable table;
     private final Clipboard systemClipboard;
+    private final RowFactory rowFactory;
 
     public TableClipboardAdapter(JTable table) {
+        this(table, null);
+    }
+
+    /**
+     * @param rowFactory null이 아니면 붙여넣을 내용이 마지막 행을 넘을 때 이 기본값으로 행을 추가합니다.
+     *                   추가된 행에는 편집 불가 열도 포함해 붙여넣은 값이 기본값 위에 들어갑니다.
+     */
+    public TableClipboardAdapter(JTable table, RowFactory rowFactory) {
         this.table = table;
+        this.rowFactory = rowFactory;
         systemClipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
 
         // Ctrl+C (복사), Ctrl+V (붙여넣기), Ctrl+X (잘라내기) 단축키를 테이블에 등록합니다.
@@ -73,19 +112,24 @@ public class TableClipboardAdapter implements ActionListener {
         systemClipboard.setContents(selection, selection);
 
         if (isCut) {
-            for (int row : selectedRows) {
-                for (int col : selectedCols) {
-                    // 날짜 열(0)은 편집 불가하므로 잘라내기에서 제외
-                    if (table.isCellEditable(row, col)) {
-                        table.setValueAt("", row, col);
-                    }
+            // Ctrl+클릭으로 떨어져 선택한 경우 사각형 안의 선택되지 않은 셀(null)은 그대로 둡니다.
+            // 날짜 열(0)처럼 편집 불가한 셀도 잘라내기에서 제외됩니다.
+            int firstCol = selectedCols[0];
+            int width = selectedCols[selectedCols.length - 1] - firstCol + 1;
+            List<String[]> rows = new ArrayList<>(selectedRows.length);
+            for (int row = selectedRows[0]; row <= selectedRows[selectedRows.length - 1]; row++) {
+                String[] blanks = new String[width];
+                for (int j = 0; j < width; j++) {
+                    if (table.isCellSelected(row, firstCol + j)) blanks[j] = "";
                 }
+                rows.add(blanks);
             }
+            applyValues(rows, selectedRows[0], firstCol, false);
         }
     }
 
     /**
-     * 시스템 클립보드의 내용을 선택된 셀에 붙여넣습니다.
+     * 시스템 클립보드의 내용을 선택된 셀부터 붙여넣습니다.
      */
     private void pasteFromClipboard() {
         int startRow = table.getSelectedRow();
@@ -96,23 +140,193 @@ public class TableClipboardAdapter implements ActionListener {
 
         try {
             String clipboardData = (String) systemClipboard.getData(DataFlavor.stringFlavor);
-            String[] lines = clipboardData.split("\n");
+            ApplyResult result = applyValues(parseTsv(clipboardData), startRow, startCol, rowFactory != null);
+            if (result.rejectedCells > 0) {
+                JOptionPane.showMessageDialog(table, result.rejectedCells + "개 셀은 열 형식과 맞지 않아 붙여넣지 않았습니다.", "붙여넣기", JOptionPane.WARNING_MESSAGE);
+            }
+            if (result.droppedRows > 0) {
+                JOptionPane.showMessageDialog(table, result.droppedRows + "개 행은 더 추가할 수 없어 붙여넣지 않았습니다.", "붙여넣기", JOptionPane.WARNING_MESSAGE);
+            }
+        } catch (Exception ex) {
+            JOptionPane.showMessageDialog(table, "붙여넣기 중 오류가 발생했습니다: " + ex.getMessage(), "붙여넣기 오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * 값 블록을 (startRow, startCol) 위치부터 반영합니다. 행/열 번호는 화면 기준이며 null 값인 셀은 건너뜁니다.
+     * @param appendRows true면 마지막 행을 넘는 값은 rowFactory로 만든 행에 반영합니다.
+     * @return 열 형식과 맞지 않아 반영하지 않은 셀 수와 추가하지 못한 행 수
+     */
+    private ApplyResult applyValues(List<String[]> rows, int startRow, int startCol, boolean appendRows) {
+        if (table.isEditing()) {
+            table.getCellEditor().stopCellEditing();
+        }
+        TableModel model = table.getModel();
+        ApplyResult result = new ApplyResult();
+        if (!(model instanceof DefaultTableModel)) {
+            result.rejectedCells = applyCellByCell(rows, startRow, startCol);
+            return result;
+        }
+        DefaultTableModel defaultModel = (DefaultTableModel) model;
+        @SuppressWarnings("unchecked")
+        Vector<Vector<Object>> data = (Vector<Vector<Object>>) (Vector<?>) defaultModel.getDataVector();
+        int columnCount = table.getColumnCount();
+        int viewRowCount = table.getRowCount();
+        int originalModelRowCount = defaultModel.getRowCount();
+        boolean[] touchedModelRows = new boolean[originalModelRowCount];
 
-            for (int i = 0; i < lines.length; i++) {
-                String[] values = lines[i].split("\t");
-                for (int j = 0; j < values.length; j++) {
-                    int row = startRow + i;
-                    int col = startCol + j;
+        for (int i = 0; i < rows.size(); i++) {
+            String[] values = rows.get(i);
+            int viewRow = startRow + i;
+            boolean appended = viewRow >= viewRowCount;
+            if (appended && !appendRows) break;
 
-                    if (row < table.getRowCount() && col < table.getColumnCount()) {
-                        if (table.isCellEditable(row, col)) {
-                            table.setValueAt(values[j], row, col);
+            Vector<Object> rowData;
+            int modelRow;
+            if (appended) {
+                Object[] defaults = rowFactory.newRow(defaultModel);
+                if (defaults == null) {
+                    result.droppedRows = rows.size() - i;
+                    break;
+                }
+                rowData = new Vector<>(defaultModel.getColumnCount());
+                for (int c = 0; c < defaultModel.getColumnCount(); c++) {
+                    rowData.add(c < defaults.length ? defaults[c] : null);
+                }
+                data.add(rowData);
+                modelRow = data.size() - 1;
+            } else {
+                modelRow = table.convertRowIndexToModel(viewRow);
+                rowData = data.get(modelRow);
+            }
+            for (int j = 0; j < values.length; j++) {
+                int viewCol = startCol + j;
+                if (viewCol >= columnCount) break;
+                if (values[j] == null) continue;
+                int modelCol = table.convertColumnIndexToModel(viewCol);
+                if (!appended && !defaultModel.isCellEditable(modelRow, modelCol)) continue;
+                Object value = convert(values[j], defaultModel.getColumnClass(modelCol));
+                if (value == INVALID) {
+                    result.rejectedCells++;
+                    continue;
+                }
+                rowData.set(modelCol, value);
+                if (!appended) touchedModelRows[modelRow] = true;
+            }
+        }
+
+        // 연속된 모델 행 구간마다 UPDATE 이벤트를 한 번씩, 추가된 행은 INSERT 이벤트 한 번으로 알립니다.
+        for (int row = 0; row < touchedModelRows.length; row++) {
+            if (!touchedModelRows[row]) continue;
+            int end = row;
+            while (end + 1 < touchedModelRows.length && touchedModelRows[end + 1]) end++;
+            defaultModel.fireTableRowsUpdated(row, end);
+            row = end;
+        }
+        if (data.size() > originalModelRowCount) {
+            defaultModel.fireTableRowsInserted(originalModelRowCount, data.size() - 1);
+        }
+        return result;
+    }
+
+    // DefaultTableModel이 아닌 모델은 셀 단위로 반영합니다.
+    private int applyCellByCell(List<String[]> rows, int startRow, int startCol) {
+        int rejected = 0;
+        for (int i = 0; i < rows.size() && startRow + i < table.getRowCount(); i++) {
+            String[] values = rows.get(i);
+            for (int j = 0; j < values.length && startCol + j < table.getColumnCount(); j++) {
+                int row = startRow + i;
+                int col = startCol + j;
+                if (values[j] == null || !table.isCellEditable(row, col)) continue;
+                Object value = convert(values[j], table.getColumnClass(col));
+                if (value == INVALID) {
+                    rejected++;
+                } else {
+                    table.setValueAt(value, row, col);
+                }
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * 문자열을 열 형식으로 변환합니다. 열거형은 표시 이름(toString) 또는 상수 이름으로 찾습니다.
+     */
+    static Object convert(String text, Class<?> type) {
+        if (type == String.class || type == Object.class) {
+            return text;
+        }
+        String trimmed = text.trim();
+        try {
+            if (type.isEnum()) {
+                for (Object constant : type.getEnumConstants()) {
+                    if (constant.toString().equals(trimmed) || ((Enum<?>) constant).name().equalsIgnoreCase(trimmed)) {
+                        return constant;
+                    }
+                }
+                return INVALID;
+            }
+            String number = trimmed.replace(",", "");
+            if (type == Integer.class) return Integer.valueOf(number);
+            if (type == Long.class) return Long.valueOf(number);
+            if (type == Double.class) return Double.valueOf(number);
+            if (type == BigDecimal.class) return new BigDecimal(number);
+            if (type == Boolean.class) return Boolean.valueOf(trimmed);
+        } catch (NumberFormatException e) {
+            return INVALID;
+        }
+        return text;
+    }
+
+    /**
+     * 탭/줄바꿈으로 구분된 클립보드 내용을 행별 값 배열로 나눕니다.
+     * CRLF 줄바꿈과, Excel이 탭·줄바꿈·따옴표가 든 셀에 붙이는 큰따옴표를 처리합니다. 마지막 빈 줄은 무시합니다.
+     */
+    static List<String[]> parseTsv(String text) {
+        List<String[]> rows = new ArrayList<>();
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '"' && cell.length() == 0) {
+                // 따옴표로 묶인 셀: 닫는 따옴표까지 읽고 "" 는 " 로 바꿉니다.
+                i++;
+                while (i < length) {
+                    char q = text.charAt(i);
+                    if (q == '"') {
+                        if (i + 1 < length && text.charAt(i + 1) == '"') {
+                            cell.append('"');
+                            i += 2;
+                            continue;
                         }
+                        i++;
+                        break;
                     }
+                    cell.append(q);
+                    i++;
                 }
+                continue;
             }
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(table, "붙여넣기 중 오류가 발생했습니다: " + ex.getMessage(), "붙여넣기 오류", JOptionPane.ERROR_MESSAGE);
+            if (c == '\t') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+                rows.add(cells.toArray(new String[0]));
+                cells.clear();
+                if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') i++;
+            } else {
+                cell.append(c);
+            }
+            i++;
+        }
+        if (cell.length() > 0 || !cells.isEmpty()) {
+            cells.add(cell.toString());
+            rows.add(cells.toArray(new String[0]));
         }
+        return rows;
     }
-}
\ No newline at end of file
+}
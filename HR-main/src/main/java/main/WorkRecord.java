@@ -1,7 +1,9 @@
 package main;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Set;
 
 /**
  * 하루의 근무 기록을 나타내는 데이터 클래스입니다.
@@ -24,6 +26,51 @@ public class WorkRecord {
         this.netWorkMinutes = netMinutes;
     }
 
+    /**
+     * 출퇴근 시각으로 휴게시간을 제외한 실근무 시간(분)을 계산합니다.
+     * 휴게시간은 4시간마다 30분, 8시간 이상 근무 시 최소 60분입니다.
+     * 퇴근 시각이 출근 시각보다 이르면 익일 퇴근으로 봅니다.
+     */
+    public static long calculateNetWorkMinutes(LocalTime startTime, LocalTime endTime) {
+        if (startTime == null || endTime == null) return 0;
+        return ShiftIntervals.netMinutes(ShiftIntervals.minuteOfDay(startTime), ShiftIntervals.endMinute(startTime, endTime));
+    }
+
+    /**
+     * 저장된 근무 기록을 급여 계산용 WorkRecord로 변환합니다.
+     * 근태 화면의 계산 규칙과 같이 결근/무급휴일이나 시간이 비어 있는 날은 근무시간 0으로 봅니다.
+     */
+    public static WorkRecord fromLogEntry(WorkLogEntry entry, Set<LocalDate> publicHolidays) {
+        LocalDate date = entry.getWorkDate();
+        AttendancePage.WorkStatus status = entry.getStatus();
+        boolean isHoliday = publicHolidays.contains(date);
+        if (entry.getStartTime() == null || entry.getEndTime() == null
+                || status == AttendancePage.WorkStatus.UNPAID_HOLIDAY || status == AttendancePage.WorkStatus.ABSENCE) {
+            return new WorkRecord(date, null, null, status, isHoliday, 0);
+        }
+        boolean isOriginallyPublicHoliday = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY || isHoliday;
+        return new WorkRecord(date, entry.getStartTime(), entry.getEndTime(), status, isOriginallyPublicHoliday,
+                calculateNetWorkMinutes(entry.getStartTime(), entry.getEndTime()));
+    }
+
+    /**
+     * 실근무 시간 중 휴일근무 분입니다. 자정을 넘는 근무는 근무일과 다음 날로 나누어 휴일(주말·공휴일)인 날에 걸친 시간만 셉니다.
+     * 근무일은 isOriginallyPublicHoliday를 따르고, 다음 날은 공휴일 집합에서 찾습니다(다음 날이 다른 해이면 공휴일 달력에서 찾습니다).
+     * 출퇴근 시각이 없으면 근무일이 휴일일 때 실근무 시간 전체입니다.
+     */
+    public long holidayMinutes(Set<LocalDate> publicHolidays) {
+        if (startTime == null || endTime == null) {
+            return isOriginallyPublicHoliday ? netWorkMinutes : 0;
+        }
+        LocalDate nextDay = date.plusDays(1);
+        boolean nextDayHoliday = nextDay.getDayOfWeek() == DayOfWeek.SATURDAY || nextDay.getDayOfWeek() == DayOfWeek.SUNDAY
+                || publicHolidays.contains(nextDay)
+                || (nextDay.getYear() != date.getYear() && HolidayCalendarService.isHoliday(nextDay));
+        long holidayDays = (isOriginallyPublicHoliday ? 1L : 0L) | (nextDayHoliday ? 2L : 0L);
+        return ShiftIntervals.holidayMinutes(ShiftIntervals.minuteOfDay(startTime), ShiftIntervals.endMinute(startTime, endTime),
+                netWorkMinutes, holidayDays);
+    }
+
     // Getters
     public LocalDate getDate() { return date; }
     public LocalTime getStartTime() { return startTime; }
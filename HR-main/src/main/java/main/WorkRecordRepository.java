@@ -0,0 +1,214 @@
+package main;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * work_records 테이블의 근무 기록을 저장하고 조회합니다.
+ * 커넥션은 PayrollManager의 커넥션 풀을 함께 사용합니다.
+ */
+public class WorkRecordRepository {
+
+    private static final String SELECT_FIELDS = "id, employee_id, work_date, start_time, end_time, work_status";
+
+    private final PayrollManager payrollManager;
+
+    public WorkRecordRepository(PayrollManager payrollManager) {
+        this.payrollManager = payrollManager;
+    }
+
+    /**
+     * 한 직원의 한 달 근무 기록을 통째로 저장합니다.
+     * 전달된 날짜는 배치 MERGE로 추가/갱신하고, 해당 월에 남아 있던 나머지 날짜는 삭제합니다.
+     * @param employeeId 직원 ID
+     * @param period 대상 월
+     * @param entries 해당 월의 근무 기록 (월 범위를 벗어난 날짜는 무시됩니다)
+     * @return 성공 여부
+     */
+    public boolean saveMonth(int employeeId, YearMonth period, List<WorkLogEntry> entries) {
+        String mergeSql = "MERGE INTO work_records (employee_id, work_date, start_time, end_time, work_status) KEY(employee_id, work_date) VALUES (?, ?, ?, ?, ?)";
+        String deleteSql = "DELETE FROM work_records WHERE employee_id = ? AND work_date BETWEEN ? AND ? AND NOT ARRAY_CONTAINS(?, work_date)";
+
+        LocalDate monthStart = period.atDay(1);
+        LocalDate monthEnd = period.atEndOfMonth();
+        List<Date> keptDates = new ArrayList<>(entries.size());
+
+        try (Connection conn = payrollManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement mergeStmt = conn.prepareStatement(mergeSql);
+                 PreparedStatement deleteStmt = conn.prepareStatement(deleteSql)) {
+                for (WorkLogEntry entry : entries) {
+                    LocalDate date = entry.getWorkDate();
+                    if (date == null || date.isBefore(monthStart) || date.isAfter(monthEnd)) continue;
+                    Date sqlDate = Date.valueOf(date);
+                    keptDates.add(sqlDate);
+                    mergeStmt.setInt(1, employeeId);
+                    mergeStmt.setDate(2, sqlDate);
+                    mergeStmt.setTime(3, entry.getStartTime() != null ? Time.valueOf(entry.getStartTime()) : null);
+                    mergeStmt.setTime(4, entry.getEndTime() != null ? Time.valueOf(entry.getEndTime()) : null);
+                    mergeStmt.setString(5, entry.getStatus().name());
+                    mergeStmt.addBatch();
+                }
+                if (!keptDates.isEmpty()) {
+                    mergeStmt.executeBatch();
+                }
+
+                deleteStmt.setInt(1, employeeId);
+                deleteStmt.setDate(2, Date.valueOf(monthStart));
+                deleteStmt.setDate(3, Date.valueOf(monthEnd));
+                deleteStmt.setArray(4, conn.createArrayOf("DATE", keptDates.toArray()));
+                deleteStmt.executeUpdate();
+
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * 여러 직원의 근무 기록을 한 트랜잭션에서 배치 MERGE로 추가/갱신합니다. 전달되지 않은 날짜는 건드리지 않습니다.
+     * @param entries 저장할 근무 기록 (직원 ID와 날짜가 있어야 합니다)
+     * @param batchSize 한 번에 실행할 배치 크기
+     * @return 성공 여부
+     */
+    public boolean upsertAll(List<WorkLogEntry> entries, int batchSize) {
+        return upsertAll(entries, batchSize, null, null);
+    }
+
+    /**
+     * upsertAll과 같지만 배치마다 진행 상황을 알리고, 배치 사이에 취소 요청을 확인합니다.
+     * 취소되면 지금까지 실행한 배치를 모두 롤백합니다.
+     * @param listener 저장한 건수 / 전체 건수, null 가능
+     * @param cancelRequested 취소 요청 여부, null 가능
+     * @throws CancellationException 취소되어 롤백한 경우
+     */
+    public boolean upsertAll(List<WorkLogEntry> entries, int batchSize, PayrollRunEngine.ProgressListener listener,
+                             BooleanSupplier cancelRequested) {
+        String mergeSql = "MERGE INTO work_records (employee_id, work_date, start_time, end_time, work_status) KEY(employee_id, work_date) VALUES (?, ?, ?, ?, ?)";
+        try (Connection conn = payrollManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement mergeStmt = conn.prepareStatement(mergeSql)) {
+                int pending = 0;
+                int written = 0;
+                for (WorkLogEntry entry : entries) {
+                    mergeStmt.setInt(1, entry.getEmployeeId());
+                    mergeStmt.setDate(2, Date.valueOf(entry.getWorkDate()));
+                    mergeStmt.setTime(3, entry.getStartTime() != null ? Time.valueOf(entry.getStartTime()) : null);
+                    mergeStmt.setTime(4, entry.getEndTime() != null ? Time.valueOf(entry.getEndTime()) : null);
+                    mergeStmt.setString(5, entry.getStatus().name());
+                    mergeStmt.addBatch();
+                    if (++pending == batchSize) {
+                        mergeStmt.executeBatch();
+                        written += pending;
+                        pending = 0;
+                        if (listener != null) listener.onProgress(written, entries.size());
+                        if (cancelRequested != null && cancelRequested.getAsBoolean()) {
+                            throw new CancellationException("근무 기록 저장이 취소되었습니다.");
+                        }
+                    }
+                }
+                if (pending > 0) {
+                    mergeStmt.executeBatch();
+                }
+                conn.commit();
+                return true;
+            } catch (SQLException | CancellationException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * 한 직원의 기간 내 근무 기록을 날짜순으로 조회합니다.
+     * @param employeeId 직원 ID
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @throws SQLException 조회에 실패한 경우 (기록이 없는 것과 구분할 수 있도록 빈 목록을 돌려주지 않습니다)
+     */
+    public List<WorkLogEntry> findByEmployeeAndRange(int employeeId, LocalDate from, LocalDate to) throws SQLException {
+        List<WorkLogEntry> entries = new ArrayList<>();
+        String sql = "SELECT " + SELECT_FIELDS + " FROM work_records WHERE employee_id = ? AND work_date BETWEEN ? AND ? ORDER BY work_date";
+        try (Connection conn = payrollManager.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, employeeId);
+            pstmt.setDate(2, Date.valueOf(from));
+            pstmt.setDate(3, Date.valueOf(to));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(mapRowToEntry(rs));
+                }
+            }
+        }
+        return entries;
+    }
+
+    public List<WorkLogEntry> findMonth(int employeeId, YearMonth period) throws SQLException {
+        return findByEmployeeAndRange(employeeId, period.atDay(1), period.atEndOfMonth());
+    }
+
+    /**
+     * 모든 직원의 한 달 근무 기록을 한 번의 쿼리로 불러옵니다.
+     * @param period 대상 월
+     * @return 직원 ID별 근무 기록 (날짜순), 기록이 없는 직원은 포함되지 않습니다
+     * @throws SQLException 조회에 실패한 경우. 빈 결과로 돌려주면 전 직원이 기록 없음(달력 기본값)으로 계산되므로 예외로 알립니다.
+     */
+    public Map<Integer, List<WorkLogEntry>> loadMonthForAllEmployees(YearMonth period) throws SQLException {
+        Map<Integer, List<WorkLogEntry>> entriesByEmployee = new HashMap<>();
+        String sql = "SELECT " + SELECT_FIELDS + " FROM work_records WHERE work_date BETWEEN ? AND ? ORDER BY employee_id, work_date";
+        try (Connection conn = payrollManager.getConnection(); PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setDate(1, Date.valueOf(period.atDay(1)));
+            pstmt.setDate(2, Date.valueOf(period.atEndOfMonth()));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                List<WorkLogEntry> current = null;
+                int currentEmployeeId = -1;
+                while (rs.next()) {
+                    WorkLogEntry entry = mapRowToEntry(rs);
+                    if (current == null || entry.getEmployeeId() != currentEmployeeId) {
+                        currentEmployeeId = entry.getEmployeeId();
+                        current = new ArrayList<>(period.lengthOfMonth());
+                        entriesByEmployee.put(currentEmployeeId, current);
+                    }
+                    current.add(entry);
+                }
+            }
+        }
+        return entriesByEmployee;
+    }
+
+    private WorkLogEntry mapRowToEntry(ResultSet rs) throws SQLException {
+        Time start = rs.getTime("start_time");
+        Time end = rs.getTime("end_time");
+        AttendancePage.WorkStatus status;
+        try {
+            status = AttendancePage.WorkStatus.valueOf(rs.getString("work_status"));
+        } catch (IllegalArgumentException e) {
+            status = AttendancePage.WorkStatus.NORMAL;
+        }
+        LocalTime startTime = start != null ? start.toLocalTime() : null;
+        LocalTime endTime = end != null ? end.toLocalTime() : null;
+        return new WorkLogEntry(rs.getInt("id"), rs.getInt("employee_id"), rs.getDate("work_date").toLocalDate(),
+                startTime, endTime, status);
+    }
+}